@@ -0,0 +1,95 @@
+package com.nasan.springaimcpserver.benchmark;
+
+import com.nasan.springaimcpserver.SpringaimcpserverApplication;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.ai.tool.ToolCallback;
+import org.springframework.ai.tool.ToolCallbackProvider;
+import org.springframework.boot.SpringApplication;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.time.LocalDate;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Araçları MCP sunucusunun kullandığı {@code ToolCallbackProvider} üzerinden ölçer: JSON argüman
+ * ayrıştırma, sarmalayıcılar (eşzamanlılık sınırı, sabit yanıtlar) ve sonuç serileştirme dahildir.
+ * Araç maliyetini ölçebilmek için yanıt önbelleği kapatılır.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ToolCallbackBenchmark {
+
+    @Param({"flight.searchByDate", "flight.searchByCity", "flight.search", "flight.findItineraries", "flight.getAirlines",
+            "hotel.searchByRating", "hotel.searchByDate", "hotel.getHotelDetails",
+            "travel.getCityInfo", "travel.getWeatherForecast", "travel.getWeatherRange", "travel.getTravelRoute", "travel.getBudgetEstimate",
+            "employee.list"})
+    public String tool;
+
+    private ConfigurableApplicationContext context;
+    private ToolCallback callback;
+    private String input;
+
+    @Setup
+    public void setUp() {
+        context = SpringApplication.run(SpringaimcpserverApplication.class,
+                "--server.port=0", "--tool-cache.enabled=false", "--logging.level.root=WARN");
+        for (ToolCallback candidate : context.getBean(ToolCallbackProvider.class).getToolCallbacks()) {
+            if (candidate.getToolDefinition().name().equals(tool)) {
+                callback = candidate;
+            }
+        }
+        if (callback == null) {
+            throw new IllegalStateException("Araç bulunamadı: " + tool);
+        }
+        input = inputs().get(tool);
+    }
+
+    @TearDown
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public String call() {
+        return callback.call(input);
+    }
+
+    private static Map<String, String> inputs() {
+        String date = LocalDate.now().plusDays(3).toString();
+        String checkOut = LocalDate.now().plusDays(6).toString();
+        return Map.ofEntries(
+                Map.entry("flight.searchByDate", "{\"date\":\"" + date + "\"}"),
+                Map.entry("flight.searchByCity", "{\"fromCity\":\"İstanbul\",\"toCity\":\"Ankara\"}"),
+                Map.entry("flight.search", "{\"fromCity\":\"istanbul\",\"toCity\":\"izmir\",\"dateFrom\":\"" + date
+                        + "\",\"dateTo\":\"" + checkOut + "\",\"limit\":20}"),
+                Map.entry("flight.findItineraries", "{\"fromCity\":\"Trabzon\",\"toCity\":\"İzmir\",\"date\":\"" + date + "\"}"),
+                Map.entry("flight.getAirlines", "{}"),
+                Map.entry("hotel.searchByRating", "{\"cityName\":\"İstanbul\",\"minRating\":4.0}"),
+                Map.entry("hotel.searchByDate", "{\"cityName\":\"Antalya\",\"checkInDate\":\"" + date
+                        + "\",\"checkOutDate\":\"" + checkOut + "\"}"),
+                Map.entry("hotel.getHotelDetails", "{\"hotelName\":\"Hilton Bursa\",\"cityName\":\"Bursa\"}"),
+                Map.entry("travel.getCityInfo", "{\"cityName\":\"antep\"}"),
+                Map.entry("travel.getWeatherForecast", "{\"cityName\":\"Bursa\",\"date\":\"" + date + "\"}"),
+                Map.entry("travel.getWeatherRange", "{\"cityNames\":[\"İstanbul\",\"Ankara\",\"İzmir\",\"Antalya\",\"Bursa\","
+                        + "\"Adana\",\"Trabzon\",\"Gaziantep\",\"Konya\",\"Kayseri\"],\"startDate\":\"" + date + "\",\"days\":14}"),
+                Map.entry("travel.getTravelRoute", "{\"fromCity\":\"Bursa\",\"toCity\":\"Ankara\"}"),
+                Map.entry("travel.getBudgetEstimate", "{\"cityName\":\"Bursa\",\"budgetType\":\"mid-range\"}"),
+                Map.entry("employee.list", "{}"));
+    }
+}
@@ -0,0 +1,220 @@
+package com.nasan.springaimcpserver.benchmark;
+
+import com.nasan.springaimcpserver.service.ClimateStore;
+import com.nasan.springaimcpserver.service.Employee;
+import com.nasan.springaimcpserver.service.EmployeeDirectory;
+import com.nasan.springaimcpserver.service.EmployeeTools;
+import com.nasan.springaimcpserver.service.FlightSearchTool;
+import com.nasan.springaimcpserver.service.HotelAvailability;
+import com.nasan.springaimcpserver.service.HotelSearchTool;
+import com.nasan.springaimcpserver.service.ReferenceData;
+import com.nasan.springaimcpserver.service.ReferenceDataManager;
+import com.nasan.springaimcpserver.service.ReferenceSnapshot;
+import com.nasan.springaimcpserver.service.TravelDataTool;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * {@code @Tool} metotlarını Spring ve MCP katmanları olmadan doğrudan ölçer; veri kümeleri uygulamadaki
+ * bean tanımlarıyla aynı şekilde üretilir; {@code source=mapped} ile referans veri anlık görüntü dosyasına yazılıp
+ * eşlenerek açılır. Çağrı başına ayırma için {@code -prof gc} ile çalıştırın.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ToolMethodBenchmark {
+
+    private static final List<String> RANGE_CITIES = List.of(
+            "İstanbul", "Ankara", "İzmir", "Antalya", "Bursa", "Adana", "Trabzon", "Gaziantep", "Konya", "Kayseri");
+    private static final String[] FIRST_NAMES = {"Ali", "Ayşe", "Mehmet", "Zeynep", "Mustafa", "Fatma", "Ahmet", "Emine",
+            "Hüseyin", "Hatice", "İbrahim", "Elif", "Can", "Merve", "Burak", "Selin", "Emre", "Ebru", "Murat", "Özlem"};
+    private static final String[] LAST_NAMES = {"Yılmaz", "Kaya", "Demir", "Şahin", "Çelik", "Yıldız", "Yıldırım", "Öztürk",
+            "Aydın", "Özdemir", "Arslan", "Doğan", "Kılıç", "Aslan", "Çetin", "Kara", "Koç", "Kurt", "Özkan", "Şimşek"};
+    private static final int EMPLOYEES = 200_000;
+
+    @Param({"heap", "mapped"})
+    public String source;
+
+    private FlightSearchTool flights;
+    private HotelSearchTool hotels;
+    private TravelDataTool travel;
+    private EmployeeTools employees;
+
+    private String date;
+    private String checkOut;
+
+    @Setup
+    public void setUp() throws IOException {
+        ReferenceData data = ReferenceData.generate(LocalDate.now(), 60);
+        if (source.equals("mapped")) {
+            Path snapshot = Files.createTempFile("reference", ".snapshot");
+            snapshot.toFile().deleteOnExit();
+            ReferenceSnapshot.write(snapshot, data);
+            data = ReferenceSnapshot.read(snapshot);
+        }
+        ReferenceDataManager datasets = ReferenceDataManager.of(data);
+        flights = new FlightSearchTool(datasets);
+        HotelAvailability availability = new HotelAvailability();
+        availability.register(data.hotels());
+        hotels = new HotelSearchTool(datasets, availability);
+        travel = new TravelDataTool(datasets, ClimateStore.loadDefault());
+        employees = new EmployeeTools(syntheticEmployees());
+        date = LocalDate.now().plusDays(3).toString();
+        checkOut = LocalDate.now().plusDays(6).toString();
+    }
+
+    @Benchmark
+    public Object searchFlightsByDate() {
+        return flights.searchFlightsByDate(date, null);
+    }
+
+    @Benchmark
+    public Object searchFlightsByCity() {
+        return flights.searchFlightsByCity("İstanbul", "Ankara", null);
+    }
+
+    @Benchmark
+    public Object searchFlightsByAirline() {
+        return flights.searchFlightsByAirline("TK", null);
+    }
+
+    @Benchmark
+    public Object searchFlights() {
+        return flights.searchFlights("istanbul", "izmir", date, checkOut, null, 2000, "08:00", "20:00", "price", 20, null);
+    }
+
+    @Benchmark
+    public Object findItineraries() {
+        return flights.findItineraries("Trabzon", "İzmir", date, 2, 5, null);
+    }
+
+    @Benchmark
+    public Object getPopularRoutes() {
+        return flights.getPopularRoutes();
+    }
+
+    @Benchmark
+    public Object searchHotelsByCity() {
+        return hotels.searchHotelsByCity("İstanbul", null);
+    }
+
+    @Benchmark
+    public Object searchHotelsByRating() {
+        return hotels.searchHotelsByRating("İstanbul", 4.0, null);
+    }
+
+    @Benchmark
+    public Object searchHotelsByPriceRange() {
+        return hotels.searchHotelsByPriceRange("Antalya", 300, 1500, null);
+    }
+
+    @Benchmark
+    public Object searchHotelsByDate() {
+        return hotels.searchHotelsByDate("Antalya", date, checkOut, null);
+    }
+
+    @Benchmark
+    public Object getHotelDetails() {
+        return hotels.getHotelDetails("Hilton Bursa", "Bursa");
+    }
+
+    @Benchmark
+    public Object getPopularHotels() {
+        return hotels.getPopularHotels();
+    }
+
+    @Benchmark
+    public Object getCityInfo() {
+        return travel.getCityInfo("antep");
+    }
+
+    @Benchmark
+    public Object getWeatherForecast() {
+        return travel.getWeatherForecast("Bursa", date);
+    }
+
+    @Benchmark
+    public Object getWeatherRange() {
+        return travel.getWeatherRange(RANGE_CITIES, date, 14);
+    }
+
+    @Benchmark
+    public Object getTravelRoute() {
+        return travel.getTravelRoute("Bursa", "Ankara");
+    }
+
+    @Benchmark
+    public Object getSeasonalInfo() {
+        return travel.getSeasonalInfo("Antalya", "summer");
+    }
+
+    @Benchmark
+    public Object getTransportation() {
+        return travel.getTransportation("İzmir");
+    }
+
+    @Benchmark
+    public Object getBudgetEstimate() {
+        return travel.getBudgetEstimate("Bursa", "mid-range");
+    }
+
+    @Benchmark
+    public Object listEmployees() {
+        return employees.listEmployees(null, null);
+    }
+
+    @Benchmark
+    public Object findEmployeesByName() {
+        return employees.findByName("ay yıl", null, null);
+    }
+
+    @Benchmark
+    public Object findEmployeesByNameFuzzy() {
+        return employees.findByName("Zeyenp", null, null);
+    }
+
+    @Benchmark
+    public Object filterEmployeesByAge() {
+        return employees.filterByAge(30, 35, null, null);
+    }
+
+    // Ad (+ ikinci ad) ve tekil veya birleşik soyadlardan oluşan 200 bin kişilik rehber
+    private static EmployeeDirectory syntheticEmployees() {
+        SplittableRandom random = new SplittableRandom(42);
+        Locale turkish = Locale.forLanguageTag("tr");
+        List<Employee> list = new ArrayList<>(EMPLOYEES);
+        for (int i = 0; i < EMPLOYEES; i++) {
+            String lastName = LAST_NAMES[random.nextInt(LAST_NAMES.length)];
+            if (random.nextInt(3) == 0) {
+                lastName += LAST_NAMES[random.nextInt(LAST_NAMES.length)].toLowerCase(turkish);
+            }
+            String name = FIRST_NAMES[random.nextInt(FIRST_NAMES.length)]
+                    + (random.nextInt(4) == 0 ? " " + FIRST_NAMES[random.nextInt(FIRST_NAMES.length)] : "")
+                    + " " + lastName;
+            list.add(new Employee(name, random.nextInt(18, 66)));
+        }
+        return EmployeeDirectory.of(list);
+    }
+}
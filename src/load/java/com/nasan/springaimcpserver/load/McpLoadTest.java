@@ -0,0 +1,189 @@
+package com.nasan.springaimcpserver.load;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.nasan.springaimcpserver.SpringaimcpserverApplication;
+import org.HdrHistogram.ConcurrentHistogram;
+import org.HdrHistogram.Histogram;
+import org.springframework.boot.SpringApplication;
+import org.springframework.boot.convert.DurationStyle;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Uçtan uca MCP yük testi. Uygulamayı yerelde başlatır (veya {@code --target} ile çalışan bir sunucuya bağlanır),
+ * her biri kendi MCP oturumunu açan {@code --sessions} kadar istemciyi sanal iş parçacıklarında çalıştırır ve
+ * {@link ToolMix} karışımından araç çağrıları gönderir. Isınma süresinden sonraki gecikmeler araç bazında
+ * HdrHistogram'a yazılır; p50/p99/p999 ve saniyedeki çağrı sayısı JSON rapor olarak kaydedilir.
+ * <p>
+ * Seçenekler: {@code --sessions=64 --duration=30s --warmup=10s --report=target/load-report.json --target=http://host:8080/mcp}.
+ * Tanınmayan diğer argümanlar uygulamaya aktarılır (örn: {@code --spring.profiles.active=async}).
+ * İstemciler kapalı döngüde çalışır: bir oturum yanıtı almadan yeni çağrı göndermez.
+ */
+public final class McpLoadTest {
+
+    private static final long MAX_LATENCY_MICROS = TimeUnit.MINUTES.toMicros(1);
+
+    private final Map<String, Histogram> latencies = new LinkedHashMap<>();
+    private final Map<String, LongAdder> errors = new LinkedHashMap<>();
+    private final Histogram total = new ConcurrentHistogram(MAX_LATENCY_MICROS, 3);
+    private final LongAdder totalErrors = new LongAdder();
+
+    private McpLoadTest() {
+        for (String tool : ToolMix.tools()) {
+            latencies.put(tool, new ConcurrentHistogram(MAX_LATENCY_MICROS, 3));
+            errors.put(tool, new LongAdder());
+        }
+    }
+
+    public static void main(String[] args) throws Exception {
+        int sessions = 64;
+        Duration duration = Duration.ofSeconds(30);
+        Duration warmup = Duration.ofSeconds(10);
+        Path report = Path.of("target", "load-report.json");
+        String target = null;
+        List<String> serverArgs = new ArrayList<>(List.of("--server.port=0", "--logging.level.root=WARN"));
+        for (String arg : args) {
+            String value = arg.substring(arg.indexOf('=') + 1);
+            if (arg.startsWith("--sessions=")) {
+                sessions = Integer.parseInt(value);
+            } else if (arg.startsWith("--duration=")) {
+                duration = DurationStyle.detectAndParse(value);
+            } else if (arg.startsWith("--warmup=")) {
+                warmup = DurationStyle.detectAndParse(value);
+            } else if (arg.startsWith("--report=")) {
+                report = Path.of(value);
+            } else if (arg.startsWith("--target=")) {
+                target = value;
+            } else {
+                serverArgs.add(arg);
+            }
+        }
+
+        ConfigurableApplicationContext context = null;
+        if (target == null) {
+            context = SpringApplication.run(SpringaimcpserverApplication.class, serverArgs.toArray(String[]::new));
+            target = "http://localhost:" + context.getEnvironment().getProperty("local.server.port") + "/mcp";
+        }
+        try {
+            McpLoadTest test = new McpLoadTest();
+            test.run(URI.create(target), sessions, warmup, duration);
+            Map<String, Object> result = test.report(target, sessions, warmup, duration, serverArgs);
+            Files.createDirectories(report.toAbsolutePath().getParent());
+            new ObjectMapper().enable(SerializationFeature.INDENT_OUTPUT).writeValue(report.toFile(), result);
+            test.print(duration);
+            System.out.println("Rapor: " + report.toAbsolutePath());
+        } finally {
+            if (context != null) {
+                context.close();
+            }
+        }
+    }
+
+    private void run(URI endpoint, int sessions, Duration warmup, Duration duration) throws InterruptedException {
+        HttpClient client = HttpClient.newBuilder().version(HttpClient.Version.HTTP_1_1).build();
+        long measureFrom = System.nanoTime() + warmup.toNanos();
+        long end = measureFrom + duration.toNanos();
+        System.out.printf("%d oturum, %s ısınma + %s ölçüm: %s%n", sessions, warmup, duration, endpoint);
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (int i = 0; i < sessions; i++) {
+                executor.submit(() -> session(new McpSession(client, endpoint), measureFrom, end));
+            }
+        }
+    }
+
+    private void session(McpSession session, long measureFrom, long end) {
+        try {
+            session.initialize();
+        } catch (IOException | InterruptedException e) {
+            totalErrors.increment();
+            return;
+        }
+        while (true) {
+            long start = System.nanoTime();
+            if (start >= end) {
+                return;
+            }
+            ToolMix.Call call = ToolMix.next();
+            boolean ok;
+            try {
+                ok = session.callTool(call.tool(), call.arguments());
+            } catch (IOException e) {
+                ok = false;
+            } catch (InterruptedException e) {
+                return;
+            }
+            if (start < measureFrom) {
+                continue;
+            }
+            long micros = Math.min(TimeUnit.NANOSECONDS.toMicros(System.nanoTime() - start), MAX_LATENCY_MICROS);
+            latencies.get(call.tool()).recordValue(micros);
+            total.recordValue(micros);
+            if (!ok) {
+                errors.get(call.tool()).increment();
+                totalErrors.increment();
+            }
+        }
+    }
+
+    private Map<String, Object> report(String target, int sessions, Duration warmup, Duration duration, List<String> serverArgs) {
+        Map<String, Object> tools = new LinkedHashMap<>();
+        latencies.forEach((tool, histogram) -> tools.put(tool, summary(histogram, errors.get(tool).sum(), duration)));
+
+        Map<String, Object> result = new LinkedHashMap<>();
+        result.put("timestamp", Instant.now().toString());
+        result.put("target", target);
+        result.put("sessions", sessions);
+        result.put("warmupSeconds", warmup.toSeconds());
+        result.put("durationSeconds", duration.toSeconds());
+        result.put("serverArgs", serverArgs);
+        result.put("total", summary(total, totalErrors.sum(), duration));
+        result.put("tools", tools);
+        return result;
+    }
+
+    private static Map<String, Object> summary(Histogram histogram, long errorCount, Duration duration) {
+        Map<String, Object> summary = new LinkedHashMap<>();
+        summary.put("count", histogram.getTotalCount());
+        summary.put("errors", errorCount);
+        summary.put("throughputPerSecond", histogram.getTotalCount() / (duration.toMillis() / 1000.0));
+        summary.put("p50Millis", millis(histogram.getValueAtPercentile(50)));
+        summary.put("p90Millis", millis(histogram.getValueAtPercentile(90)));
+        summary.put("p99Millis", millis(histogram.getValueAtPercentile(99)));
+        summary.put("p999Millis", millis(histogram.getValueAtPercentile(99.9)));
+        summary.put("maxMillis", millis(histogram.getMaxValue()));
+        return summary;
+    }
+
+    private void print(Duration duration) {
+        System.out.printf("%-28s %9s %7s %9s %9s %9s %9s %9s%n", "araç", "çağrı", "hata", "çağrı/s", "p50 ms", "p99 ms", "p999 ms", "max ms");
+        latencies.forEach((tool, histogram) -> print(tool, histogram, errors.get(tool).sum(), duration));
+        print("TOPLAM", total, totalErrors.sum(), duration);
+    }
+
+    private static void print(String name, Histogram histogram, long errorCount, Duration duration) {
+        System.out.printf("%-28s %9d %7d %9.1f %9.2f %9.2f %9.2f %9.2f%n", name, histogram.getTotalCount(), errorCount,
+                histogram.getTotalCount() / (duration.toMillis() / 1000.0),
+                millis(histogram.getValueAtPercentile(50)), millis(histogram.getValueAtPercentile(99)),
+                millis(histogram.getValueAtPercentile(99.9)), millis(histogram.getMaxValue()));
+    }
+
+    private static double millis(long micros) {
+        return micros / 1000.0;
+    }
+}
@@ -0,0 +1,56 @@
+package com.nasan.springaimcpserver.load;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+
+/**
+ * Streamable HTTP üzerinden tek bir MCP istemci oturumu: {@code initialize} ile oturum kimliği alınır,
+ * ardından her {@code tools/call} isteği bu kimlikle gönderilir. Yanıtlar JSON veya SSE olarak gelebilir;
+ * yük testi için yalnızca HTTP durumu ve {@code isError} bayrağı incelenir.
+ */
+final class McpSession {
+
+    private final HttpClient client;
+    private final URI endpoint;
+    private String sessionId;
+    private long nextId = 1;
+
+    McpSession(HttpClient client, URI endpoint) {
+        this.client = client;
+        this.endpoint = endpoint;
+    }
+
+    void initialize() throws IOException, InterruptedException {
+        HttpResponse<String> response = post("{\"jsonrpc\":\"2.0\",\"id\":" + (nextId++) + ",\"method\":\"initialize\",\"params\":"
+                + "{\"protocolVersion\":\"2025-03-26\",\"capabilities\":{},\"clientInfo\":{\"name\":\"mcp-load-test\",\"version\":\"1.0\"}}}");
+        if (response.statusCode() != 200) {
+            throw new IOException("initialize başarısız: HTTP " + response.statusCode());
+        }
+        sessionId = response.headers().firstValue("Mcp-Session-Id").orElse(null);
+        post("{\"jsonrpc\":\"2.0\",\"method\":\"notifications/initialized\"}");
+    }
+
+    /** Aracı çağırır; araç hata döndüyse veya HTTP isteği başarısızsa false. */
+    boolean callTool(String name, String arguments) throws IOException, InterruptedException {
+        HttpResponse<String> response = post("{\"jsonrpc\":\"2.0\",\"id\":" + (nextId++) + ",\"method\":\"tools/call\",\"params\":"
+                + "{\"name\":\"" + name + "\",\"arguments\":" + arguments + "}}");
+        String body = response.body();
+        return response.statusCode() == 200 && body.contains("\"result\"") && !body.contains("\"isError\":true");
+    }
+
+    private HttpResponse<String> post(String body) throws IOException, InterruptedException {
+        HttpRequest.Builder request = HttpRequest.newBuilder(endpoint)
+                .timeout(Duration.ofSeconds(30))
+                .header("Content-Type", "application/json")
+                .header("Accept", "application/json, text/event-stream")
+                .POST(HttpRequest.BodyPublishers.ofString(body));
+        if (sessionId != null) {
+            request.header("Mcp-Session-Id", sessionId);
+        }
+        return client.send(request.build(), HttpResponse.BodyHandlers.ofString());
+    }
+}
@@ -0,0 +1,93 @@
+package com.nasan.springaimcpserver.load;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.function.Function;
+
+/**
+ * Ağırlıklı araç çağrısı karışımı. Oranlar tipik bir seyahat asistanı konuşmasını yansıtır: uçuş ve otel
+ * aramaları ağırlıklı, şehir/hava durumu/bütçe sorguları daha seyrek, çalışan listesi arada bir.
+ * Argümanlar her çağrıda rastgele şehir ve tarihlerle üretilir.
+ */
+final class ToolMix {
+
+    record Call(String tool, String arguments) {
+    }
+
+    private record Entry(String tool, int weight, Function<ThreadLocalRandom, String> arguments) {
+    }
+
+    private static final List<String> CITIES = List.of(
+            "İstanbul", "Ankara", "İzmir", "Antalya", "Bursa", "Trabzon", "Gaziantep", "Adana", "Konya", "Kayseri");
+    // Tarifeli uçuşu olan şehirler; rotalar yalnızca bunlardan seçilir
+    private static final List<String> AIRPORT_CITIES = List.of(
+            "İstanbul", "Ankara", "İzmir", "Antalya", "Trabzon", "Adana", "Gaziantep");
+    private static final List<String> HOTELS = List.of(
+            "Hilton Bursa", "Çırağan Palace Kempinski", "Titanic Beach Lara", "Swissotel The Bosphorus");
+    private static final List<String> EMPLOYEE_NAMES = List.of("Ali", "ayşe dem", "Kaya", "Zeynep Şahin");
+    private static final List<String> BUDGETS = List.of("budget", "mid-range", "luxury");
+
+    private static final List<Entry> ENTRIES = List.of(
+            new Entry("flight.search", 20, r -> "{" + route(r) + ",\"dateFrom\":\"" + date(r, 0) + "\",\"limit\":20}"),
+            new Entry("flight.searchByCity", 8, r -> "{" + route(r) + "}"),
+            new Entry("flight.findItineraries", 6, r -> "{" + route(r) + ",\"date\":\"" + date(r, 0) + "\"}"),
+            new Entry("hotel.searchByDate", 15, r -> {
+                int day = r.nextInt(1, 20);
+                return "{\"cityName\":\"" + city(r) + "\",\"checkInDate\":\"" + date(day) + "\",\"checkOutDate\":\""
+                        + date(day + r.nextInt(1, 5)) + "\"}";
+            }),
+            new Entry("hotel.searchByRating", 8, r -> "{\"cityName\":\"" + city(r) + "\",\"minRating\":" + r.nextInt(3, 5) + "}"),
+            new Entry("hotel.getHotelDetails", 8, r -> "{\"hotelName\":\"" + HOTELS.get(r.nextInt(HOTELS.size())) + "\"}"),
+            new Entry("travel.getCityInfo", 8, r -> "{\"cityName\":\"" + city(r) + "\"}"),
+            new Entry("travel.getWeatherForecast", 10, r -> "{\"cityName\":\"" + city(r) + "\",\"date\":\"" + date(r, 0) + "\"}"),
+            new Entry("travel.getBudgetEstimate", 5, r -> "{\"cityName\":\"" + city(r) + "\",\"budgetType\":\""
+                    + BUDGETS.get(r.nextInt(BUDGETS.size())) + "\"}"),
+            new Entry("travel.getTravelRoute", 5, r -> "{" + route(r) + "}"),
+            new Entry("employee.list", 2, r -> "{}"),
+            new Entry("employee.findByName", 1, r -> "{\"name\":\"" + EMPLOYEE_NAMES.get(r.nextInt(EMPLOYEE_NAMES.size())) + "\"}"),
+            new Entry("employee.filterByAge", 1, r -> {
+                int min = r.nextInt(18, 50);
+                return "{\"minAge\":" + min + ",\"maxAge\":" + (min + r.nextInt(1, 15)) + "}";
+            }));
+
+    private static final int TOTAL_WEIGHT = ENTRIES.stream().mapToInt(Entry::weight).sum();
+
+    private ToolMix() {
+    }
+
+    static List<String> tools() {
+        return ENTRIES.stream().map(Entry::tool).toList();
+    }
+
+    static Call next() {
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        int pick = random.nextInt(TOTAL_WEIGHT);
+        for (Entry entry : ENTRIES) {
+            pick -= entry.weight();
+            if (pick < 0) {
+                return new Call(entry.tool(), entry.arguments().apply(random));
+            }
+        }
+        throw new IllegalStateException();
+    }
+
+    private static String city(ThreadLocalRandom random) {
+        return CITIES.get(random.nextInt(CITIES.size()));
+    }
+
+    // Birbirinden farklı kalkış ve varış şehri
+    private static String route(ThreadLocalRandom random) {
+        int from = random.nextInt(AIRPORT_CITIES.size());
+        int to = (from + random.nextInt(1, AIRPORT_CITIES.size())) % AIRPORT_CITIES.size();
+        return "\"fromCity\":\"" + AIRPORT_CITIES.get(from) + "\",\"toCity\":\"" + AIRPORT_CITIES.get(to) + "\"";
+    }
+
+    private static String date(ThreadLocalRandom random, int from) {
+        return date(random.nextInt(from, from + 30));
+    }
+
+    private static String date(int daysFromNow) {
+        return LocalDate.now().plusDays(daysFromNow).toString();
+    }
+}
@@ -1,30 +1,194 @@
 package com.nasan.springaimcpserver;
 
 import com.nasan.springaimcpserver.service.CalcTools;
+import com.nasan.springaimcpserver.service.ClimateStore;
+import com.nasan.springaimcpserver.service.EmployeeDirectory;
 import com.nasan.springaimcpserver.service.EmployeeTools;
+import com.nasan.springaimcpserver.service.FlightDeltaIngestor;
+import com.nasan.springaimcpserver.service.FlightResponses;
 import com.nasan.springaimcpserver.service.FlightSearchTool;
+import com.nasan.springaimcpserver.service.HotelAvailability;
+import com.nasan.springaimcpserver.service.HotelBookingTool;
+import com.nasan.springaimcpserver.service.HotelResponses;
 import com.nasan.springaimcpserver.service.HotelSearchTool;
+import com.nasan.springaimcpserver.service.ReferenceData;
+import com.nasan.springaimcpserver.service.ReferenceDataManager;
+import com.nasan.springaimcpserver.service.ReferenceDataTool;
+import com.nasan.springaimcpserver.service.ReferenceSnapshot;
 import com.nasan.springaimcpserver.service.TravelDataTool;
+import com.nasan.springaimcpserver.service.TripPlanTool;
+import com.nasan.springaimcpserver.tool.BatchToolCallback;
+import com.nasan.springaimcpserver.tool.CachingToolCallback;
+import com.nasan.springaimcpserver.tool.ConcurrencyLimitingToolCallback;
+import com.nasan.springaimcpserver.tool.InstrumentedToolCallback;
+import com.nasan.springaimcpserver.tool.ProgressToolSpecification;
+import com.nasan.springaimcpserver.tool.ReactiveToolSpecification;
+import com.nasan.springaimcpserver.tool.StaticToolCallback;
+import com.nasan.springaimcpserver.tool.ToolCacheProperties;
+import com.nasan.springaimcpserver.tool.ToolConcurrencyProperties;
+import com.nasan.springaimcpserver.tool.ToolOutputSchemaPostProcessor;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.tracing.Tracer;
+import io.modelcontextprotocol.server.McpServerFeatures.AsyncToolSpecification;
+import io.modelcontextprotocol.server.McpServerFeatures.SyncToolSpecification;
+import org.springframework.ai.tool.ToolCallback;
 import org.springframework.ai.tool.ToolCallbackProvider;
 import org.springframework.ai.tool.method.MethodToolCallbackProvider;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.boot.SpringApplication;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnExpression;
+import org.springframework.boot.context.properties.ConfigurationPropertiesScan;
 import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Profile;
+
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Predicate;
+import java.util.function.Supplier;
+
+import static com.nasan.springaimcpserver.tool.ReactiveToolSpecification.string;
 
 
 @SpringBootApplication
+@ConfigurationPropertiesScan
 public class SpringaimcpserverApplication {
 
 	public static void main(String[] args) {
 		SpringApplication.run(SpringaimcpserverApplication.class, args);
 	}
 
+	@Bean
+	ReferenceDataManager referenceDataManager(@Value("${reference.snapshot.path:}") String snapshotPath,
+			@Value("${reference.snapshot.watch:true}") boolean watch) {
+		// Bugünden itibaren 60 günlük tarife; yol verilirse veri anlık görüntü dosyasından eşlenir
+		Supplier<ReferenceData> generator = () -> ReferenceData.generate(LocalDate.now(), 60);
+		if (snapshotPath.isBlank()) {
+			return new ReferenceDataManager(generator);
+		}
+		Path path = Path.of(snapshotPath);
+		ReferenceDataManager manager = new ReferenceDataManager(() -> ReferenceSnapshot.openOrCreate(path, generator));
+		if (watch) {
+			manager.watch(path);
+		}
+		return manager;
+	}
+
+	@Bean
+	@ConditionalOnExpression("'${flight.delta.spool-dir:}' != ''")
+	FlightDeltaIngestor flightDeltaIngestor(ReferenceDataManager referenceData, MeterRegistry meterRegistry,
+			@Value("${flight.delta.spool-dir}") String spoolDir,
+			@Value("${flight.delta.poll-interval:1s}") Duration pollInterval) {
+		FlightDeltaIngestor ingestor = new FlightDeltaIngestor(referenceData, Path.of(spoolDir), meterRegistry);
+		ingestor.start(pollInterval);
+		return ingestor;
+	}
+
+	@Bean
+	HotelAvailability hotelAvailability(ReferenceDataManager referenceData) {
+		HotelAvailability availability = new HotelAvailability();
+		availability.register(referenceData.current().hotels());
+		// Yeni sürümdeki oteller için envanter açılır; mevcut tutmalar korunur
+		referenceData.addListener(change -> {
+			if (change.hotelsChanged()) {
+				availability.register(change.current().hotels());
+			}
+		});
+		return availability;
+	}
+
+	@Bean
+	ClimateStore climateStore() {
+		return ClimateStore.loadDefault();
+	}
+
+	@Bean
+	EmployeeDirectory employeeDirectory(@Value("${employee.directory.path:}") String path) {
+		// Yol verilmezse paketle gelen örnek rehber kullanılır
+		return path.isBlank() ? EmployeeDirectory.loadDefault() : EmployeeDirectory.load(Path.of(path));
+	}
+
 	@Bean
 	ToolCallbackProvider toolCallbacks(EmployeeTools tools, CalcTools calcTools,
 			FlightSearchTool flightSearchTool, HotelSearchTool hotelSearchTool, 
-			TravelDataTool travelDataTool) {
-		return MethodToolCallbackProvider.builder()
-				.toolObjects(tools, calcTools, flightSearchTool, hotelSearchTool, travelDataTool)
-				.build();
+			HotelBookingTool hotelBookingTool, TravelDataTool travelDataTool, TripPlanTool tripPlanTool,
+			ObjectProvider<ReferenceDataTool> referenceDataTool, ReferenceDataManager referenceData,
+			ToolCacheProperties cacheProperties, ToolConcurrencyProperties concurrencyProperties,
+			MeterRegistry meterRegistry, ObjectProvider<Tracer> tracerProvider) {
+		List<Object> toolList = new ArrayList<>(List.of(tools, calcTools, flightSearchTool, hotelSearchTool,
+				hotelBookingTool, travelDataTool, tripPlanTool));
+		referenceDataTool.ifAvailable(toolList::add);
+		Object[] toolObjects = toolList.toArray();
+		ToolCallback[] callbacks = MethodToolCallbackProvider.builder()
+				.toolObjects(toolObjects)
+				.build()
+				.getToolCallbacks();
+		// Reaktif uygulaması olan araçlar (ASYNC profili) zincirin en içine yerleşir; önbellek, sınırlayıcı ve
+		// ölçüm iki profilde de aynı sarmalayıcılardan geçer
+		callbacks = ReactiveToolSpecification.merge(callbacks, reactiveTools(callbacks, flightSearchTool,
+				hotelSearchTool, travelDataTool));
+		callbacks = StaticToolCallback.wrap(callbacks, toolObjects);
+		ToolCallback[] staticCallbacks = callbacks;
+		// Sınırlayıcı önbelleğin içinde kalır; önbellek isabetleri araç kotasından düşmez
+		callbacks = ConcurrencyLimitingToolCallback.wrap(callbacks, concurrencyProperties);
+		// Eski sürüme sabitlenmiş çağrıların (ör. yeni sürüm yayımlanırken süren trip.plan kolları) sonuçları paylaşılmaz
+		callbacks = CachingToolCallback.wrap(callbacks, cacheProperties, meterRegistry, referenceData::pinnedToOlderVersion);
+		ToolCallback[] cachedCallbacks = callbacks;
+		// Yeni veri sürümünde yalnızca değişen kümeye bağlı araçların sabit yanıtları yeniden üretilir ve önbellekleri
+		// silinir. Şehirler tüm araçlarda ad çözümlemesi için kullanılır; uçuşlar flight.*, oteller hotel.* araçlarınca
+		referenceData.addListener(change -> {
+			Predicate<String> affected = name -> change.citiesChanged()
+					|| change.flightsChanged() && name.startsWith("flight.")
+					|| change.hotelsChanged() && name.startsWith("hotel.");
+			StaticToolCallback.refresh(staticCallbacks, affected);
+			CachingToolCallback.invalidateAll(cachedCallbacks, affected);
+		});
+		// Ölçüm en dışta kalır; önbellek isabetleri dahil istemcinin gördüğü süre ölçülür
+		Tracer tracer = tracerProvider.getIfAvailable(() -> Tracer.NOOP);
+		callbacks = InstrumentedToolCallback.wrap(callbacks, meterRegistry, tracer);
+		// Toplu çağrılar da önbellek ve sınırlayıcıdan geçer; toplu çağrı ve içindeki her çağrı ayrı ölçülür
+		callbacks = InstrumentedToolCallback.wrap(BatchToolCallback.append(callbacks), meterRegistry, tracer);
+		return ToolCallbackProvider.from(callbacks);
+	}
+
+	private static List<ToolCallback> reactiveTools(ToolCallback[] callbacks, FlightSearchTool flightSearchTool,
+			HotelSearchTool hotelSearchTool, TravelDataTool travelDataTool) {
+		return List.of(
+				ReactiveToolSpecification.ofPage(callbacks, "flight.searchByCity", FlightSearchTool.MAX_RESULTS,
+						args -> flightSearchTool.streamFlightsByCity(string(args, "fromCity"), string(args, "toCity"),
+								string(args, "cursor")),
+						(args, flights, nextCursor) -> new FlightResponses.FlightList(flights, flights.size(), nextCursor)),
+				ReactiveToolSpecification.ofPage(callbacks, "hotel.searchByDate", HotelSearchTool.MAX_RESULTS,
+						args -> hotelSearchTool.streamHotelsByDate(string(args, "cityName"),
+								string(args, "checkInDate"), string(args, "checkOutDate"), string(args, "cursor")),
+						(args, hotels, nextCursor) -> new HotelResponses.AvailableHotelList(string(args, "checkInDate"),
+								string(args, "checkOutDate"), hotels, hotels.size(), nextCursor)),
+				ReactiveToolSpecification.ofMono(callbacks, "travel.getTravelRoute",
+						args -> travelDataTool.travelRoute(string(args, "fromCity"), string(args, "toCity"))));
+	}
+
+	@Bean
+	@Profile("!async")
+	List<SyncToolSpecification> syncTools(ToolCallbackProvider toolCallbacks) {
+		// Araç listesi burada kurulur (spring.ai.mcp.server.tool-callback-converter=false); progressToken taşıyan
+		// çağrılarda çok sonuçlu araçlar ilerlemeyi bildirir, _meta.resultChunks ile istenirse parça sonuçlarıyla
+		return ProgressToolSpecification.of(toolCallbacks.getToolCallbacks());
+	}
+
+	@Bean
+	@Profile("async")
+	List<AsyncToolSpecification> asyncTools(ToolCallbackProvider toolCallbacks) {
+		// ASYNC profilinde araç listesi burada kurulur (spring.ai.mcp.server.tool-callback-converter=false); reaktif
+		// uygulaması olan araçlar sarmalayıcı zincirinden reaktif olarak, diğerleri sınırlı elastik iş parçacıklarında yürür
+		return ReactiveToolSpecification.of(toolCallbacks.getToolCallbacks());
+	}
+
+	@Bean
+	static ToolOutputSchemaPostProcessor toolOutputSchemaPostProcessor() {
+		return new ToolOutputSchemaPostProcessor();
 	}
 }
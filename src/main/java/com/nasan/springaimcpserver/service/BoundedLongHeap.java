@@ -0,0 +1,68 @@
+package com.nasan.springaimcpserver.service;
+
+import java.util.Arrays;
+
+/**
+ * En küçük K adet {@code long} anahtarı tutan sınırlı max-heap.
+ * Tüm adayları sıralamak yerine O(n log K) ile en iyi K sonucu seçer.
+ */
+final class BoundedLongHeap {
+
+    private final long[] heap;
+    private int size;
+
+    BoundedLongHeap(int capacity) {
+        this.heap = new long[capacity];
+    }
+
+    void offer(long key) {
+        if (size < heap.length) {
+            heap[size] = key;
+            siftUp(size++);
+        } else if (heap.length > 0 && key < heap[0]) {
+            heap[0] = key;
+            siftDown(0);
+        }
+    }
+
+    int size() {
+        return size;
+    }
+
+    /** Tutulan anahtarları artan sırada döner. */
+    long[] toSortedArray() {
+        long[] result = Arrays.copyOf(heap, size);
+        Arrays.sort(result);
+        return result;
+    }
+
+    private void siftUp(int i) {
+        long key = heap[i];
+        while (i > 0) {
+            int parent = (i - 1) >>> 1;
+            if (heap[parent] >= key) {
+                break;
+            }
+            heap[i] = heap[parent];
+            i = parent;
+        }
+        heap[i] = key;
+    }
+
+    private void siftDown(int i) {
+        long key = heap[i];
+        int half = size >>> 1;
+        while (i < half) {
+            int child = 2 * i + 1;
+            if (child + 1 < size && heap[child + 1] > heap[child]) {
+                child++;
+            }
+            if (key >= heap[child]) {
+                break;
+            }
+            heap[i] = heap[child];
+            i = child;
+        }
+        heap[i] = key;
+    }
+}
@@ -0,0 +1,10 @@
+package com.nasan.springaimcpserver.service;
+
+import java.util.List;
+
+public record City(int id, String name, List<String> aliases, String population, List<Airport> airports,
+                   List<String> attractions, String bestTimeToVisit, int averageTemperature) {
+
+    public record Airport(String code, String name) {
+    }
+}
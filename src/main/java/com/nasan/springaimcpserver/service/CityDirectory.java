@@ -0,0 +1,143 @@
+package com.nasan.springaimcpserver.service;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.nasan.springaimcpserver.service.TravelResponses.CityInfo;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.util.*;
+
+/**
+ * Tüm araçların paylaştığı şehir referans verisi. Uygulama açılışında paketle gelen
+ * veri dosyasından bir kez yüklenir; şehir adları tekilleştirilir (intern) ve her şehre
+ * sabit bir kimlik verilir. Yıllık ortalama sıcaklık veri dosyasında tutulmaz, yüklemede
+ * {@link ClimateStore} verisinden alınır; {@code travel.getCityInfo} yanıtları da yükleme
+ * sırasında önceden oluşturulur. Nesne oluşturulduktan sonra değişmez.
+ */
+public final class CityDirectory {
+
+    public static final String RESOURCE = "data/cities.json";
+
+    private static final Locale TURKISH = Locale.forLanguageTag("tr");
+
+    private final List<City> cities;
+    private final CityResolver resolver;
+    private final List<CityInfo> cityInfos;
+
+    private CityDirectory(List<City> cities) {
+        this.cities = List.copyOf(cities);
+
+        this.resolver = new CityResolver(this.cities);
+        List<CityInfo> infos = new ArrayList<>(cities.size());
+        for (City city : cities) {
+            infos.add(buildCityInfo(city));
+        }
+        this.cityInfos = List.copyOf(infos);
+    }
+
+    /** Şehir verisini okur; her şehrin yıllık ortalama sıcaklığı {@code climate} verisinden alınır. */
+    public static CityDirectory load(InputStream in, ClimateStore climate) {
+        ObjectMapper mapper = new ObjectMapper().configure(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES, false);
+        List<City> raw;
+        try {
+            raw = mapper.readValue(in, new TypeReference<List<City>>() { });
+        } catch (IOException e) {
+            throw new UncheckedIOException("Şehir verisi okunamadı", e);
+        }
+        List<City> cities = new ArrayList<>(raw.size());
+        for (City city : raw) {
+            cities.add(new City(city.id(), city.name(), city.aliases(), city.population(), city.airports(),
+                    city.attractions(), city.bestTimeToVisit(),
+                    (int) Math.round(climate.year(city.name()).meanTemperature())));
+        }
+        return of(cities);
+    }
+
+    /** Şehirlere liste sırasıyla kimlik verir; eksik listeler boş kabul edilir. */
+    public static CityDirectory of(List<City> raw) {
+        List<City> cities = new ArrayList<>(raw.size());
+        for (City city : raw) {
+            cities.add(new City(
+                cities.size(),
+                city.name().intern(),
+                city.aliases() == null ? List.of() : List.copyOf(city.aliases()),
+                city.population(),
+                city.airports() == null ? List.of() : List.copyOf(city.airports()),
+                city.attractions() == null ? List.of() : List.copyOf(city.attractions()),
+                city.bestTimeToVisit(),
+                city.averageTemperature()
+            ));
+        }
+        return new CityDirectory(cities);
+    }
+
+    public static CityDirectory loadDefault() {
+        try (InputStream in = CityDirectory.class.getClassLoader().getResourceAsStream(RESOURCE)) {
+            if (in == null) {
+                throw new IllegalStateException("Şehir verisi bulunamadı: " + RESOURCE);
+            }
+            return load(in, ClimateStore.loadDefault());
+        } catch (IOException e) {
+            throw new UncheckedIOException("Şehir verisi okunamadı", e);
+        }
+    }
+
+    public List<City> all() {
+        return cities;
+    }
+
+    public City get(int id) {
+        return cities.get(id);
+    }
+
+    /** Şehir adı, takma ad, IATA kodu veya havalimanı adını (yazım hatalarına toleranslı) çözer; eşleşme yoksa null. */
+    public CityResolver.Match resolve(String name) {
+        return resolver.resolve(name);
+    }
+
+    /** {@link #resolve} ile bulunan şehir, bulunamazsa null. */
+    public City find(String name) {
+        CityResolver.Match match = resolver.resolve(name);
+        return match == null ? null : match.city();
+    }
+
+    /** Bilinen şehirler için kanonik ad; diğerleri için Türkçe kurallarla ilk harfi büyütülmüş ad. */
+    public String canonicalName(String name) {
+        City city = find(name);
+        if (city != null) {
+            return city.name();
+        }
+        String trimmed = name == null ? "" : name.trim();
+        if (trimmed.isEmpty()) {
+            return trimmed;
+        }
+        return trimmed.substring(0, 1).toUpperCase(TURKISH) + trimmed.substring(1).toLowerCase(TURKISH);
+    }
+
+    /** Şehir için önceden oluşturulmuş, değiştirilemez {@code travel.getCityInfo} yanıtı. */
+    public CityInfo cityInfo(City city) {
+        return cityInfos.get(city.id());
+    }
+
+    private static CityInfo buildCityInfo(City city) {
+        List<String> airports = new ArrayList<>(city.airports().size());
+        for (City.Airport airport : city.airports()) {
+            airports.add(airport.name() + " (" + airport.code() + ")");
+        }
+
+        return new CityInfo(
+                city.name(),
+                "Türkiye",
+                city.population(),
+                List.copyOf(airports),
+                city.attractions(),
+                city.bestTimeToVisit(),
+                "Yıllık ortalama: " + city.averageTemperature() + "°C",
+                "Turkish Lira (TL)",
+                "UTC+3",
+                "Turkish");
+    }
+}
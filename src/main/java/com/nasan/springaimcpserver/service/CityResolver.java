@@ -0,0 +1,357 @@
+package com.nasan.springaimcpserver.service;
+
+import java.text.Normalizer;
+import java.util.*;
+
+/**
+ * Şehir ve havalimanı adlarını kanonik şehre çözer. Girdi Türkçe/ASCII katlanır
+ * (İ/ı/i → i, ş → s, ğ → g ...), önce düzleştirilmiş bir trie üzerinde tam eşleşme ve
+ * tekil önek eşleşmesi, ardından trigram indeksiyle bulunan adaylar üzerinde sınırlı
+ * düzenleme mesafesiyle yazım hatası toleranslı eşleşme denenir; en yakın adaylar farklı
+ * şehirlere aitse sonuç, önek eşleşmesinde olduğu gibi belirsiz sayılır. IATA kodları
+ * (IST, SAW, ESB ...) ve havalimanı adları da anahtar olarak indekslenir.
+ */
+public final class CityResolver {
+
+    public record Match(City city, City.Airport airport, boolean exact) {
+    }
+
+    private static final int NO_VALUE = -1;
+    private static final int AMBIGUOUS = -2;
+    private static final int MIN_PREFIX = 3;
+
+    private final List<City> cities;
+
+    // Anahtar tablosu
+    private final String[] keys;
+    private final int[] keyCity;
+    private final int[] keyAirport;
+
+    // Düzleştirilmiş trie: düğüm i'nin çocukları [childStart[i], childStart[i] + childCount[i]) aralığındadır
+    private final char[] edgeChar;
+    private final int[] childStart;
+    private final int[] childCount;
+    private final int[] terminalKey;
+    private final int[] subtreeKey;
+
+    // Trigram indeksi: sıralı trigram anahtarları ve CSR posting listeleri
+    private final long[] trigrams;
+    private final int[] postingStart;
+    private final int[] postings;
+
+    // Bulanık eşleşmenin anahtar başına ortak trigram sayaçları; iş parçacığı başına bir kez ayrılır ve
+    // her aramadan sonra yalnızca dokunulan anahtarlar sıfırlanır
+    private final ThreadLocal<Counters> counters;
+
+    public CityResolver(List<City> cities) {
+        this.cities = cities;
+
+        Map<String, int[]> entries = new LinkedHashMap<>();
+        for (City city : cities) {
+            entries.putIfAbsent(fold(city.name()), new int[]{city.id(), -1});
+            for (String alias : city.aliases()) {
+                entries.putIfAbsent(fold(alias), new int[]{city.id(), -1});
+            }
+            for (int a = 0; a < city.airports().size(); a++) {
+                City.Airport airport = city.airports().get(a);
+                entries.putIfAbsent(fold(airport.code()), new int[]{city.id(), a});
+                entries.putIfAbsent(fold(airport.name()), new int[]{city.id(), a});
+            }
+        }
+        entries.remove("");
+
+        int n = entries.size();
+        this.keys = new String[n];
+        this.keyCity = new int[n];
+        this.keyAirport = new int[n];
+        int k = 0;
+        for (Map.Entry<String, int[]> e : entries.entrySet()) {
+            keys[k] = e.getKey();
+            keyCity[k] = e.getValue()[0];
+            keyAirport[k] = e.getValue()[1];
+            k++;
+        }
+
+        // Trie: önce işaretçili ağaç kurulur, sonra genişlik öncelikli sırayla dizilere düzleştirilir
+        TrieNode root = new TrieNode();
+        for (int i = 0; i < n; i++) {
+            TrieNode node = root;
+            for (int c = 0; c < keys[i].length(); c++) {
+                node = node.children.computeIfAbsent(keys[i].charAt(c), ch -> new TrieNode());
+            }
+            node.key = i;
+        }
+        computeSubtreeKey(root);
+
+        List<TrieNode> order = new ArrayList<>();
+        order.add(root);
+        for (int i = 0; i < order.size(); i++) {
+            order.addAll(order.get(i).children.values());
+        }
+        int nodes = order.size();
+        this.edgeChar = new char[nodes];
+        this.childStart = new int[nodes];
+        this.childCount = new int[nodes];
+        this.terminalKey = new int[nodes];
+        this.subtreeKey = new int[nodes];
+        int next = 1;
+        for (int i = 0; i < nodes; i++) {
+            TrieNode node = order.get(i);
+            terminalKey[i] = node.key;
+            subtreeKey[i] = node.subtree;
+            childStart[i] = next;
+            childCount[i] = node.children.size();
+            for (char ch : node.children.keySet()) {
+                edgeChar[next++] = ch;
+            }
+        }
+
+        // Trigram posting listeleri
+        TreeMap<Long, List<Integer>> grams = new TreeMap<>();
+        for (int i = 0; i < n; i++) {
+            for (long gram : trigramsOf(keys[i])) {
+                List<Integer> list = grams.computeIfAbsent(gram, g -> new ArrayList<>());
+                if (list.isEmpty() || list.get(list.size() - 1) != i) {
+                    list.add(i);
+                }
+            }
+        }
+        this.trigrams = new long[grams.size()];
+        this.postingStart = new int[grams.size() + 1];
+        int total = 0;
+        for (List<Integer> list : grams.values()) {
+            total += list.size();
+        }
+        this.postings = new int[total];
+        int g = 0;
+        int p = 0;
+        for (Map.Entry<Long, List<Integer>> e : grams.entrySet()) {
+            trigrams[g] = e.getKey();
+            postingStart[g] = p;
+            for (int id : e.getValue()) {
+                postings[p++] = id;
+            }
+            g++;
+        }
+        postingStart[g] = p;
+        this.counters = ThreadLocal.withInitial(() -> new Counters(n));
+    }
+
+    /** Girdiyi şehre çözer; eşleşme yoksa null. */
+    public Match resolve(String input) {
+        if (input == null) {
+            return null;
+        }
+        String q = fold(input);
+        if (q.isEmpty()) {
+            return null;
+        }
+
+        // Trie üzerinde yürü: tam eşleşme veya tekil önek
+        int node = 0;
+        for (int i = 0; i < q.length() && node >= 0; i++) {
+            node = child(node, q.charAt(i));
+        }
+        if (node >= 0) {
+            if (terminalKey[node] != NO_VALUE) {
+                return match(terminalKey[node], true);
+            }
+            if (q.length() >= MIN_PREFIX && subtreeKey[node] >= 0) {
+                return match(subtreeKey[node], false);
+            }
+        }
+
+        return fuzzy(q);
+    }
+
+    /** Türkçe harfleri ve aksanları ASCII'ye katlar, küçük harfe çevirir, boşlukları sadeleştirir. */
+    public static String fold(String s) {
+        StringBuilder sb = new StringBuilder(s.length());
+        boolean space = false;
+        for (int i = 0; i < s.length(); i++) {
+            char c = s.charAt(i);
+            char f;
+            switch (c) {
+                case 'İ', 'I', 'ı', 'i', 'Î', 'î' -> f = 'i';
+                case 'Ş', 'ş' -> f = 's';
+                case 'Ğ', 'ğ' -> f = 'g';
+                case 'Ü', 'ü', 'Û', 'û' -> f = 'u';
+                case 'Ö', 'ö' -> f = 'o';
+                case 'Ç', 'ç' -> f = 'c';
+                case 'Â', 'â' -> f = 'a';
+                case '\u0307' -> f = 0;
+                default -> {
+                    if (c < 0x80) {
+                        f = c >= 'A' && c <= 'Z' ? (char) (c + 32) : c;
+                    } else {
+                        String base = Normalizer.normalize(String.valueOf(c), Normalizer.Form.NFD);
+                        f = Character.toLowerCase(base.charAt(0));
+                    }
+                }
+            }
+            if (f == 0) {
+                continue;
+            }
+            if (Character.isLetterOrDigit(f)) {
+                if (space && !sb.isEmpty()) {
+                    sb.append(' ');
+                }
+                sb.append(f);
+                space = false;
+            } else {
+                space = true;
+            }
+        }
+        return sb.toString();
+    }
+
+    private Match fuzzy(String q) {
+        int maxDistance = q.length() <= 3 ? 0 : q.length() <= 7 ? 1 : 2;
+        if (maxDistance == 0) {
+            return null;
+        }
+
+        // Adaylar yalnızca sorgunun trigram posting listelerinden toplanır, ardından düzenleme mesafesiyle
+        // doğrulanır. En yakın anahtarlar farklı şehirlere aitse eşleşme önek yolundaki gibi belirsiz sayılır.
+        Counters c = counters.get();
+        int[] shared = c.shared;
+        int candidates = 0;
+        for (long gram : trigramsOf(q)) {
+            int idx = Arrays.binarySearch(trigrams, gram);
+            if (idx < 0) {
+                continue;
+            }
+            for (int p = postingStart[idx]; p < postingStart[idx + 1]; p++) {
+                int key = postings[p];
+                if (shared[key]++ == 0) {
+                    c.touched[candidates++] = key;
+                }
+            }
+        }
+
+        int best = NO_VALUE;
+        int bestDistance = maxDistance + 1;
+        for (int t = 0; t < candidates; t++) {
+            int key = c.touched[t];
+            if (Math.abs(keys[key].length() - q.length()) > maxDistance) {
+                continue;
+            }
+            int d = distance(q, keys[key], maxDistance);
+            if (d < bestDistance) {
+                best = key;
+                bestDistance = d;
+            } else if (d == bestDistance && best >= 0) {
+                if (keyCity[key] != keyCity[best]) {
+                    best = AMBIGUOUS;
+                } else if (shared[key] > shared[best]) {
+                    best = key;
+                }
+            }
+        }
+        for (int t = 0; t < candidates; t++) {
+            shared[c.touched[t]] = 0;
+        }
+        return best < 0 ? null : match(best, false);
+    }
+
+    private Match match(int key, boolean exact) {
+        City city = cities.get(keyCity[key]);
+        City.Airport airport = keyAirport[key] < 0 ? null : city.airports().get(keyAirport[key]);
+        return new Match(city, airport, exact);
+    }
+
+    private int child(int node, char c) {
+        int lo = childStart[node];
+        int hi = lo + childCount[node] - 1;
+        while (lo <= hi) {
+            int mid = (lo + hi) >>> 1;
+            char e = edgeChar[mid];
+            if (e < c) {
+                lo = mid + 1;
+            } else if (e > c) {
+                hi = mid - 1;
+            } else {
+                return mid;
+            }
+        }
+        return -1;
+    }
+
+    // Sınırlı Damerau-Levenshtein (bitişik harf yer değiştirme dahil); sınırı aşınca max + 1 döner
+    static int distance(String a, String b, int max) {
+        int n = a.length();
+        int m = b.length();
+        int[] prev2 = new int[m + 1];
+        int[] prev = new int[m + 1];
+        int[] cur = new int[m + 1];
+        for (int j = 0; j <= m; j++) {
+            prev[j] = j;
+        }
+        for (int i = 1; i <= n; i++) {
+            cur[0] = i;
+            int rowMin = cur[0];
+            for (int j = 1; j <= m; j++) {
+                int cost = a.charAt(i - 1) == b.charAt(j - 1) ? 0 : 1;
+                int v = Math.min(Math.min(prev[j] + 1, cur[j - 1] + 1), prev[j - 1] + cost);
+                if (i > 1 && j > 1 && a.charAt(i - 1) == b.charAt(j - 2) && a.charAt(i - 2) == b.charAt(j - 1)) {
+                    v = Math.min(v, prev2[j - 2] + 1);
+                }
+                cur[j] = v;
+                rowMin = Math.min(rowMin, v);
+            }
+            if (rowMin > max) {
+                return max + 1;
+            }
+            int[] tmp = prev2;
+            prev2 = prev;
+            prev = cur;
+            cur = tmp;
+        }
+        return prev[m];
+    }
+
+    private static long[] trigramsOf(String s) {
+        String padded = "  " + s + " ";
+        long[] grams = new long[padded.length() - 2];
+        for (int i = 0; i < grams.length; i++) {
+            grams[i] = ((long) padded.charAt(i) << 32) | ((long) padded.charAt(i + 1) << 16) | padded.charAt(i + 2);
+        }
+        return grams;
+    }
+
+    // Alt ağaçtaki tüm anahtarlar aynı şehre aitse temsilci anahtarı, değilse AMBIGUOUS döner
+    private int computeSubtreeKey(TrieNode node) {
+        int result = node.key;
+        for (TrieNode child : node.children.values()) {
+            int k = computeSubtreeKey(child);
+            if (k == NO_VALUE) {
+                continue;
+            }
+            if (k == AMBIGUOUS) {
+                result = AMBIGUOUS;
+            } else if (result == NO_VALUE) {
+                result = k;
+            } else if (result != AMBIGUOUS && keyCity[result] != keyCity[k]) {
+                result = AMBIGUOUS;
+            }
+        }
+        node.subtree = result;
+        return result;
+    }
+
+    private static final class Counters {
+        final int[] shared;
+        final int[] touched;
+
+        Counters(int keys) {
+            this.shared = new int[keys];
+            this.touched = new int[keys];
+        }
+    }
+
+    private static final class TrieNode {
+        final TreeMap<Character, TrieNode> children = new TreeMap<>();
+        int key = NO_VALUE;
+        int subtree = NO_VALUE;
+    }
+}
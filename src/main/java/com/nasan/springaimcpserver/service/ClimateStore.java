@@ -0,0 +1,316 @@
+package com.nasan.springaimcpserver.service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.util.*;
+
+/**
+ * Şehir bazlı günlük iklim verisi. Paketle gelen CSV dosyasındaki günlük normaller (artık yıl takvimine göre
+ * 366 gün) her şehir ve değişken için {@link DeltaSeries} olarak sıkıştırılmış tutulur; sıcaklık ve yağış
+ * onda bir birim hassasiyetle saklanır. Mevsimlik ve yıllık ortalamalar yükleme sırasında bir kez
+ * hesaplanır. Verisi olmayan şehirler için seri, şehir adından tohumlanan üreteçle aylık ortalama
+ * sıcaklıklar etrafında üretilir; aynı şehir her çağrıda aynı değerleri alır ve üretilen seriler sınırlı
+ * bir önbellekte tutulur. Yüklenen veri oluşturulduktan sonra değişmez.
+ */
+public final class ClimateStore {
+
+    public static final String RESOURCE = "data/climate.csv";
+
+    static final int DAYS = 366;
+    private static final int FEBRUARY_29 = 59;
+    private static final int MAX_GENERATED_CITIES = 1_000;
+
+    // Verisi olmayan şehirlerde üretilen serinin aylık ortalama sıcaklıkları (°C)
+    private static final int[] MONTHLY_TEMPERATURES = {5, 7, 12, 17, 22, 27, 30, 30, 25, 19, 13, 8};
+
+    public enum Season {
+        WINTER("Kış", 12, 1, 2),
+        SPRING("İlkbahar", 3, 4, 5),
+        SUMMER("Yaz", 6, 7, 8),
+        AUTUMN("Sonbahar", 9, 10, 11);
+
+        private final String displayName;
+        private final int[] months;
+
+        Season(String displayName, int... months) {
+            this.displayName = displayName;
+            this.months = months;
+        }
+
+        public String displayName() {
+            return displayName;
+        }
+
+        /** İngilizce veya Türkçe mevsim adını çözer; tanınmazsa null. */
+        public static Season parse(String name) {
+            if (name == null) {
+                return null;
+            }
+            return switch (name.trim().toLowerCase(Locale.forLanguageTag("tr"))) {
+                case "winter", "kış", "kis" -> WINTER;
+                case "spring", "ilkbahar" -> SPRING;
+                case "summer", "yaz" -> SUMMER;
+                case "autumn", "fall", "sonbahar" -> AUTUMN;
+                default -> null;
+            };
+        }
+    }
+
+    /** Bir günün iklim değerleri; sıcaklık °C, yağış mm, rüzgar km/sa, nem ve yağış olasılığı yüzde. */
+    public record Day(LocalDate date, double minTemperature, double maxTemperature, int humidity,
+                      double precipitation, int wind, int rainChance) {
+    }
+
+    /** Bir dönemin ortalamaları; yağış dönem toplamı, yağışlı gün sayısı yağış olasılıklarından beklenen değerdir. */
+    public record Aggregate(double meanTemperature, double minTemperature, double maxTemperature, int humidity,
+                            double precipitation, int rainyDays) {
+    }
+
+    private final Map<String, CityClimate> cities;
+    private final Cache<String, CityClimate> generated = Caffeine.newBuilder()
+            .maximumSize(MAX_GENERATED_CITIES)
+            .build();
+
+    private ClimateStore(Map<String, CityClimate> cities) {
+        this.cities = cities;
+    }
+
+    public static ClimateStore load(InputStream in) {
+        Map<String, int[][]> raw = new LinkedHashMap<>();
+        Map<String, BitSet> filled = new HashMap<>();
+        try (BufferedReader reader = new BufferedReader(new InputStreamReader(in, StandardCharsets.UTF_8))) {
+            String line;
+            int lineNumber = 0;
+            while ((line = reader.readLine()) != null) {
+                lineNumber++;
+                if (line.isBlank() || line.startsWith("#") || line.startsWith("city,")) {
+                    continue;
+                }
+                String[] f = line.split(",");
+                if (f.length != 8) {
+                    throw new IllegalStateException("İklim verisi satır " + lineNumber + ": 8 alan bekleniyordu");
+                }
+                String city = f[0].intern();
+                int day = dayIndex(LocalDate.of(2024, Integer.parseInt(f[1], 0, 2, 10), Integer.parseInt(f[1], 3, 5, 10)));
+                int[][] series = raw.computeIfAbsent(city, c -> new int[Variable.COUNT][DAYS]);
+                series[Variable.MIN_TEMPERATURE][day] = tenths(f[2]);
+                series[Variable.MAX_TEMPERATURE][day] = tenths(f[3]);
+                series[Variable.HUMIDITY][day] = Integer.parseInt(f[4]);
+                series[Variable.PRECIPITATION][day] = tenths(f[5]);
+                series[Variable.WIND][day] = Integer.parseInt(f[6]);
+                series[Variable.RAIN_CHANCE][day] = Integer.parseInt(f[7]);
+                filled.computeIfAbsent(city, c -> new BitSet(DAYS)).set(day);
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException("İklim verisi okunamadı", e);
+        }
+
+        Map<String, CityClimate> cities = new LinkedHashMap<>();
+        raw.forEach((city, series) -> {
+            if (filled.get(city).cardinality() != DAYS) {
+                throw new IllegalStateException("İklim verisi eksik: " + city + " için " + DAYS + " gün bekleniyordu");
+            }
+            cities.put(city, new CityClimate(series));
+        });
+        return new ClimateStore(Collections.unmodifiableMap(cities));
+    }
+
+    /** Paketle gelen iklim verisi; ilk çağrıda bir kez yüklenir, sonraki çağrılar aynı nesneyi döner. */
+    public static ClimateStore loadDefault() {
+        return Default.STORE;
+    }
+
+    private static final class Default {
+        static final ClimateStore STORE = loadResource();
+    }
+
+    private static ClimateStore loadResource() {
+        try (InputStream in = ClimateStore.class.getClassLoader().getResourceAsStream(RESOURCE)) {
+            if (in == null) {
+                throw new IllegalStateException("İklim verisi bulunamadı: " + RESOURCE);
+            }
+            return load(in);
+        } catch (IOException e) {
+            throw new UncheckedIOException("İklim verisi okunamadı", e);
+        }
+    }
+
+    public Set<String> cities() {
+        return cities.keySet();
+    }
+
+    /** Şehir için ölçülmüş iklim verisi olup olmadığı; olmayan şehirlerin serisi üretilir. */
+    public boolean hasCity(String city) {
+        return cities.containsKey(city);
+    }
+
+    /** Şehrin verilen tarihteki değerleri. */
+    public Day day(String city, LocalDate date) {
+        return range(city, date, 1).get(0);
+    }
+
+    /** {@code start} tarihinden başlayan {@code count} günlük pencere. */
+    public List<Day> range(String city, LocalDate start, int count) {
+        CityClimate climate = climate(city);
+        // Artık olmayan yıllarda 29 Şubat atlandığından pencere en fazla bir gün uzar
+        int from = dayIndex(start);
+        int span = Math.min(count + 1, DAYS);
+        int[][] values = new int[Variable.COUNT][span];
+        for (int v = 0; v < Variable.COUNT; v++) {
+            climate.series[v].read(from, span, values[v], 0);
+        }
+        List<Day> days = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            LocalDate date = start.plusDays(i);
+            int k = Math.floorMod(dayIndex(date) - from, DAYS);
+            days.add(new Day(date,
+                    values[Variable.MIN_TEMPERATURE][k] / 10.0,
+                    values[Variable.MAX_TEMPERATURE][k] / 10.0,
+                    values[Variable.HUMIDITY][k],
+                    values[Variable.PRECIPITATION][k] / 10.0,
+                    values[Variable.WIND][k],
+                    values[Variable.RAIN_CHANCE][k]));
+        }
+        return days;
+    }
+
+    public Aggregate season(String city, Season season) {
+        return climate(city).seasons[season.ordinal()];
+    }
+
+    /** Yıllık ortalamalar. */
+    public Aggregate year(String city) {
+        return climate(city).year;
+    }
+
+    /** Mevsimin şehir içindeki seyahat konforu sırası: 0 en az, 3 en elverişli mevsim. */
+    public int comfortRank(String city, Season season) {
+        return climate(city).comfortRanks[season.ordinal()];
+    }
+
+    /** Sıkıştırılmış serilerin toplam boyutu (bayt). */
+    public int encodedBytes() {
+        int total = 0;
+        for (CityClimate climate : cities.values()) {
+            for (DeltaSeries series : climate.series) {
+                total += series.encodedBytes();
+            }
+        }
+        return total;
+    }
+
+    private CityClimate climate(String city) {
+        CityClimate climate = cities.get(city);
+        return climate != null ? climate : generated.get(city, ClimateStore::generate);
+    }
+
+    // Aylık ortalama etrafında günlük sapmalar; yağış miktarı yalnızca yağış olasılığı yüksek günlerde oluşur
+    private static CityClimate generate(String city) {
+        SplittableRandom random = DataSeed.random("climate", city, 0);
+        int[][] series = new int[Variable.COUNT][DAYS];
+        for (int day = 0; day < DAYS; day++) {
+            int base = MONTHLY_TEMPERATURES[LocalDate.ofYearDay(2024, day + 1).getMonthValue() - 1] * 10;
+            int rainChance = random.nextInt(80);
+            series[Variable.MIN_TEMPERATURE][day] = base - 50 + random.nextInt(50);
+            series[Variable.MAX_TEMPERATURE][day] = base + 50 + random.nextInt(50);
+            series[Variable.HUMIDITY][day] = 40 + random.nextInt(40);
+            series[Variable.PRECIPITATION][day] = rainChance >= 35 ? random.nextInt(100) : 0;
+            series[Variable.WIND][day] = 5 + random.nextInt(20);
+            series[Variable.RAIN_CHANCE][day] = rainChance;
+        }
+        return new CityClimate(series);
+    }
+
+    // Günü artık yıl takvimindeki sırasına çevirir; böylece her yıl aynı 366 günlük seri kullanılır
+    static int dayIndex(LocalDate date) {
+        int index = date.getDayOfYear() - 1;
+        return !date.isLeapYear() && index >= FEBRUARY_29 ? index + 1 : index;
+    }
+
+    private static int tenths(String value) {
+        return (int) Math.round(Double.parseDouble(value) * 10);
+    }
+
+    private static final class Variable {
+        static final int MIN_TEMPERATURE = 0;
+        static final int MAX_TEMPERATURE = 1;
+        static final int HUMIDITY = 2;
+        static final int PRECIPITATION = 3;
+        static final int WIND = 4;
+        static final int RAIN_CHANCE = 5;
+        static final int COUNT = 6;
+    }
+
+    private static final class CityClimate {
+        private final DeltaSeries[] series = new DeltaSeries[Variable.COUNT];
+        private final Aggregate[] seasons = new Aggregate[Season.values().length];
+        private final Aggregate year;
+        private final int[] comfortRanks = new int[Season.values().length];
+
+        CityClimate(int[][] values) {
+            for (int v = 0; v < Variable.COUNT; v++) {
+                series[v] = new DeltaSeries(values[v]);
+            }
+            int[] monthOf = new int[DAYS];
+            for (int day = 0; day < DAYS; day++) {
+                monthOf[day] = LocalDate.ofYearDay(2024, day + 1).getMonthValue();
+            }
+            double[] comfort = new double[seasons.length];
+            for (Season season : Season.values()) {
+                Aggregate a = seasons[season.ordinal()] = aggregate(values, monthOf, season.months);
+                // Ilık ve kuru mevsimler daha elverişli; 22°C'den her derece sapma ve her yağışlı gün puan düşürür
+                comfort[season.ordinal()] = -2 * Math.abs(a.meanTemperature() - 22) - a.rainyDays();
+            }
+            year = aggregate(values, monthOf, 1, 2, 3, 4, 5, 6, 7, 8, 9, 10, 11, 12);
+            for (int s = 0; s < comfort.length; s++) {
+                for (double other : comfort) {
+                    if (other < comfort[s]) {
+                        comfortRanks[s]++;
+                    }
+                }
+            }
+        }
+
+        private static Aggregate aggregate(int[][] values, int[] monthOf, int... months) {
+            long min = 0, max = 0, humidity = 0, precipitation = 0, rainChance = 0;
+            int days = 0;
+            for (int day = 0; day < DAYS; day++) {
+                if (!contains(months, monthOf[day])) {
+                    continue;
+                }
+                min += values[Variable.MIN_TEMPERATURE][day];
+                max += values[Variable.MAX_TEMPERATURE][day];
+                humidity += values[Variable.HUMIDITY][day];
+                precipitation += values[Variable.PRECIPITATION][day];
+                rainChance += values[Variable.RAIN_CHANCE][day];
+                days++;
+            }
+            double meanMin = min / 10.0 / days;
+            double meanMax = max / 10.0 / days;
+            return new Aggregate(round1((meanMin + meanMax) / 2), round1(meanMin), round1(meanMax),
+                    (int) Math.round((double) humidity / days), round1(precipitation / 10.0),
+                    (int) Math.round(rainChance / 100.0));
+        }
+
+        private static boolean contains(int[] months, int month) {
+            for (int m : months) {
+                if (m == month) {
+                    return true;
+                }
+            }
+            return false;
+        }
+
+        private static double round1(double value) {
+            return Math.round(value * 10) / 10.0;
+        }
+    }
+}
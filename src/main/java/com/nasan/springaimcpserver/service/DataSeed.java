@@ -0,0 +1,34 @@
+package com.nasan.springaimcpserver.service;
+
+import java.util.SplittableRandom;
+
+/**
+ * (alan, varlık, anahtar) üçlüsünden türetilen tohumlu üreteçler. Aynı şehir ve gün için her çağrı aynı
+ * değerleri üretir; üreteç çağrı başına oluşturulduğundan iş parçacıkları arasında paylaşılan durum yoktur.
+ * Alan adı, aynı varlık için farklı veri türlerinin (hava durumu, mevsim, otel) birbirinden bağımsız
+ * dizilerden beslenmesini sağlar.
+ */
+final class DataSeed {
+
+    private DataSeed() {
+    }
+
+    static SplittableRandom random(String domain, String entity, long key) {
+        return new SplittableRandom(mix(hash(hash(0xcbf29ce484222325L, domain), entity) ^ mix(key)));
+    }
+
+    // 64 bit FNV-1a; String.hashCode'un 32 bitlik uzayı şehir x gün çiftlerinde çakışmaya daha yatkın
+    private static long hash(long h, String value) {
+        for (int i = 0; i < value.length(); i++) {
+            h = (h ^ value.charAt(i)) * 0x100000001b3L;
+        }
+        return h ^ 0xff;
+    }
+
+    // SplitMix64 son karıştırma adımı
+    private static long mix(long z) {
+        z = (z ^ (z >>> 30)) * 0xbf58476d1ce4e5b9L;
+        z = (z ^ (z >>> 27)) * 0x94d049bb133111ebL;
+        return z ^ (z >>> 31);
+    }
+}
@@ -0,0 +1,94 @@
+package com.nasan.springaimcpserver.service;
+
+import java.util.Arrays;
+
+/**
+ * Sıkıştırılmış tamsayı zaman serisi. Ardışık değerlerin farkları zigzag + varint olarak tek bir
+ * {@code byte[]} içinde tutulur; günlük iklim serilerinde farkların çoğu tek bayta sığar. Her
+ * {@value #BLOCK} değerde bir kontrol noktası (değer ve bayt konumu) saklandığından rastgele erişim en fazla
+ * bir blok çözer. Seri döngüseldir: sona ulaşan okuma baştan devam eder. Nesne oluşturulduktan sonra değişmez.
+ */
+final class DeltaSeries {
+
+    static final int BLOCK = 32;
+
+    private final int length;
+    private final byte[] deltas;
+    private final int[] checkpointValues;
+    private final int[] checkpointOffsets;
+
+    DeltaSeries(int[] values) {
+        if (values.length == 0) {
+            throw new IllegalArgumentException("Boş seri");
+        }
+        this.length = values.length;
+        int blocks = (values.length + BLOCK - 1) / BLOCK;
+        this.checkpointValues = new int[blocks];
+        this.checkpointOffsets = new int[blocks];
+
+        byte[] buffer = new byte[values.length * 5];
+        int position = 0;
+        for (int i = 0; i < values.length; i++) {
+            if (i % BLOCK == 0) {
+                checkpointValues[i / BLOCK] = values[i];
+                checkpointOffsets[i / BLOCK] = position;
+                continue;
+            }
+            int delta = values[i] - values[i - 1];
+            int zigzag = (delta << 1) ^ (delta >> 31);
+            while ((zigzag & ~0x7f) != 0) {
+                buffer[position++] = (byte) ((zigzag & 0x7f) | 0x80);
+                zigzag >>>= 7;
+            }
+            buffer[position++] = (byte) zigzag;
+        }
+        this.deltas = Arrays.copyOf(buffer, position);
+    }
+
+    int length() {
+        return length;
+    }
+
+    /** Serinin bellekte kapladığı yaklaşık bayt sayısı (diziler). */
+    int encodedBytes() {
+        return deltas.length + checkpointValues.length * 8;
+    }
+
+    /** {@code from} konumundan başlayarak {@code count} değeri {@code out[offset..]} içine yazar; sona ulaşınca başa sarar. */
+    void read(int from, int count, int[] out, int offset) {
+        int index = Math.floorMod(from, length);
+        while (count > 0) {
+            int n = Math.min(count, length - index);
+            readLinear(index, n, out, offset);
+            count -= n;
+            offset += n;
+            index = 0;
+        }
+    }
+
+    private void readLinear(int from, int count, int[] out, int offset) {
+        int end = from + count;
+        int block = from / BLOCK;
+        int value = 0;
+        int position = 0;
+        for (int i = block * BLOCK; i < end; i++) {
+            if (i % BLOCK == 0) {
+                value = checkpointValues[i / BLOCK];
+                position = checkpointOffsets[i / BLOCK];
+            } else {
+                int zigzag = 0;
+                int shift = 0;
+                byte b;
+                do {
+                    b = deltas[position++];
+                    zigzag |= (b & 0x7f) << shift;
+                    shift += 7;
+                } while (b < 0);
+                value += (zigzag >>> 1) ^ -(zigzag & 1);
+            }
+            if (i >= from) {
+                out[offset + i - from] = value;
+            }
+        }
+    }
+}
@@ -0,0 +1,284 @@
+package com.nasan.springaimcpserver.service;
+
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.*;
+
+/**
+ * Çalışan rehberi. Kayıtlar dosya sırasıyla sütunlar hâlinde (ad dizisi, yaş dizisi) tutulur ve dosya
+ * sırası çalışan kimliği olarak kullanılır. Ad araması için adların katlanmış (bkz. {@link CityResolver#fold})
+ * kelimelerinden oluşan sıralı bir sözlük ve kelime başına artan kimlikli posting listeleri (CSR) saklanır;
+ * yaş filtresi için kimlikler yaşa göre sayma sıralamasıyla dizilir ve her yaşın başlangıç konumu tutulur.
+ * Nesne oluşturulduktan sonra değişmez.
+ */
+public final class EmployeeDirectory {
+
+    public static final String RESOURCE = "data/employees.csv";
+    public static final int MAX_AGE = 150;
+
+    /** Ad sorgusunun eşleştiği çalışan kimlikleri; {@code fuzzy} yazım hatası toleranslı eşleşme kullanıldığını gösterir. */
+    public record NameMatch(BitSet ids, int total, boolean fuzzy) {
+    }
+
+    private final String[] names;
+    private final byte[] ages;
+
+    // Kelime sözlüğü ve posting listeleri: kelime i'nin çalışanları postings[postingStart[i] .. postingStart[i + 1])
+    private final String[] tokens;
+    private final int[] postingStart;
+    private final int[] postings;
+
+    // Yaş indeksi: yaşa göre sıralı kimlikler; a yaşındakiler ageOrder[ageStart[a] .. ageStart[a + 1])
+    private final int[] ageOrder;
+    private final int[] ageStart;
+
+    private EmployeeDirectory(String[] names, byte[] ages) {
+        this.names = names;
+        this.ages = ages;
+
+        Map<String, IntList> byToken = new HashMap<>();
+        for (int id = 0; id < names.length; id++) {
+            for (String token : CityResolver.fold(names[id]).split(" ")) {
+                if (!token.isEmpty()) {
+                    byToken.computeIfAbsent(token, t -> new IntList()).addIfLast(id);
+                }
+            }
+        }
+        this.tokens = byToken.keySet().toArray(String[]::new);
+        Arrays.sort(tokens);
+        this.postingStart = new int[tokens.length + 1];
+        for (int t = 0; t < tokens.length; t++) {
+            postingStart[t + 1] = postingStart[t] + byToken.get(tokens[t]).size;
+        }
+        this.postings = new int[postingStart[tokens.length]];
+        for (int t = 0; t < tokens.length; t++) {
+            IntList ids = byToken.get(tokens[t]);
+            System.arraycopy(ids.values, 0, postings, postingStart[t], ids.size);
+        }
+
+        this.ageStart = new int[MAX_AGE + 2];
+        for (byte age : ages) {
+            ageStart[(age & 0xFF) + 1]++;
+        }
+        for (int a = 0; a <= MAX_AGE; a++) {
+            ageStart[a + 1] += ageStart[a];
+        }
+        this.ageOrder = new int[ages.length];
+        int[] next = Arrays.copyOf(ageStart, MAX_AGE + 1);
+        for (int id = 0; id < ages.length; id++) {
+            ageOrder[next[ages[id] & 0xFF]++] = id;
+        }
+    }
+
+    public static EmployeeDirectory of(Collection<Employee> employees) {
+        String[] names = new String[employees.size()];
+        byte[] ages = new byte[employees.size()];
+        int id = 0;
+        for (Employee employee : employees) {
+            if (employee.name() == null || employee.name().isBlank()) {
+                throw new IllegalArgumentException("Çalışan adı boş olamaz (kayıt " + (id + 1) + ")");
+            }
+            if (employee.age() < 0 || employee.age() > MAX_AGE) {
+                throw new IllegalArgumentException("Geçersiz yaş: " + employee.age() + " (kayıt " + (id + 1) + ")");
+            }
+            names[id] = employee.name().trim();
+            ages[id] = (byte) employee.age();
+            id++;
+        }
+        return new EmployeeDirectory(names, ages);
+    }
+
+    /** Dosya uzantısına göre CSV ({@code name,age}; başlık satırı isteğe bağlı) veya JSONL ({@code {"name":..,"age":..}}) okur. */
+    public static EmployeeDirectory load(Path path) {
+        try (InputStream in = Files.newInputStream(path)) {
+            return load(in, path.getFileName().toString().endsWith(".jsonl"));
+        } catch (IOException e) {
+            throw new UncheckedIOException("Çalışan verisi okunamadı: " + path, e);
+        }
+    }
+
+    public static EmployeeDirectory loadDefault() {
+        try (InputStream in = EmployeeDirectory.class.getClassLoader().getResourceAsStream(RESOURCE)) {
+            if (in == null) {
+                throw new IllegalStateException("Çalışan verisi bulunamadı: " + RESOURCE);
+            }
+            return load(in, false);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Çalışan verisi okunamadı", e);
+        }
+    }
+
+    private static EmployeeDirectory load(InputStream in, boolean jsonLines) throws IOException {
+        ObjectMapper mapper = new ObjectMapper().configure(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES, false);
+        List<Employee> employees = new ArrayList<>();
+        boolean header = false;
+        BufferedReader reader = new BufferedReader(new InputStreamReader(in, StandardCharsets.UTF_8));
+        String line;
+        int lineNumber = 0;
+        while ((line = reader.readLine()) != null) {
+            lineNumber++;
+            if (line.isBlank()) {
+                continue;
+            }
+            if (jsonLines) {
+                employees.add(mapper.readValue(line, Employee.class));
+                continue;
+            }
+            int comma = line.lastIndexOf(',');
+            if (comma < 0) {
+                throw new IllegalStateException("Çalışan verisi satır " + lineNumber + ": name,age bekleniyordu");
+            }
+            String name = line.substring(0, comma).strip();
+            String age = line.substring(comma + 1).strip();
+            if (!isNumber(age)) {
+                // Yaşı sayı olmayan ilk kayıt başlık satırıdır (ör. name,age); sonrakiler hatalı kayıttır
+                if (employees.isEmpty() && !header) {
+                    header = true;
+                    continue;
+                }
+                throw new IllegalStateException("Çalışan verisi satır " + lineNumber + ": geçersiz yaş '" + age + "'");
+            }
+            employees.add(new Employee(name, Integer.parseInt(age)));
+        }
+        return of(employees);
+    }
+
+    private static boolean isNumber(String value) {
+        if (value.isEmpty() || value.length() > 9) {
+            return false;
+        }
+        for (int i = 0; i < value.length(); i++) {
+            if (value.charAt(i) < '0' || value.charAt(i) > '9') {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    public int size() {
+        return names.length;
+    }
+
+    public Employee get(int id) {
+        return new Employee(names[id], ages[id] & 0xFF);
+    }
+
+    /**
+     * Sorgudaki her kelimenin bir ad kelimesinin öneki olduğu çalışanlar. Önekle eşleşmeyen bir sorgu kelimesi
+     * varsa, o kelime için sınırlı düzenleme mesafesindeki ad kelimeleri denenir.
+     */
+    public NameMatch findByName(String query) {
+        String[] terms = CityResolver.fold(query).split(" ");
+        BitSet result = null;
+        boolean fuzzy = false;
+        for (String term : terms) {
+            if (term.isEmpty()) {
+                continue;
+            }
+            BitSet ids = prefixMatches(term);
+            if (ids.isEmpty()) {
+                ids = fuzzyMatches(term);
+                fuzzy = true;
+            }
+            if (result == null) {
+                result = ids;
+            } else {
+                result.and(ids);
+            }
+            if (result.isEmpty()) {
+                break;
+            }
+        }
+        if (result == null) {
+            result = new BitSet();
+        }
+        return new NameMatch(result, result.cardinality(), fuzzy);
+    }
+
+    /** Yaşı {@code [minAge, maxAge]} aralığındaki çalışanların yaş indeksindeki konum aralığı: {@code [başlangıç, bitiş)}. */
+    public int ageRangeBegin(int minAge) {
+        return ageStart[Math.max(0, Math.min(minAge, MAX_AGE + 1))];
+    }
+
+    public int ageRangeEnd(int maxAge) {
+        if (maxAge < 0) {
+            return ageStart[0];
+        }
+        // Üst sınır önce kırpılır; Integer.MAX_VALUE gibi "sınırsız" değerlerde +1 taşmaz
+        return ageStart[Math.min(maxAge, MAX_AGE) + 1];
+    }
+
+    /** Yaş indeksinde {@code position} konumundaki çalışanın kimliği. */
+    public int idAtAgePosition(int position) {
+        return ageOrder[position];
+    }
+
+    private BitSet prefixMatches(String prefix) {
+        BitSet ids = new BitSet(names.length);
+        int from = lowerBound(prefix);
+        for (int t = from; t < tokens.length && tokens[t].startsWith(prefix); t++) {
+            addPostings(ids, t);
+        }
+        return ids;
+    }
+
+    private BitSet fuzzyMatches(String term) {
+        BitSet ids = new BitSet(names.length);
+        int maxDistance = term.length() <= 3 ? 0 : term.length() <= 7 ? 1 : 2;
+        if (maxDistance == 0) {
+            return ids;
+        }
+        for (int t = 0; t < tokens.length; t++) {
+            if (Math.abs(tokens[t].length() - term.length()) <= maxDistance
+                    && CityResolver.distance(term, tokens[t], maxDistance) <= maxDistance) {
+                addPostings(ids, t);
+            }
+        }
+        return ids;
+    }
+
+    private void addPostings(BitSet ids, int token) {
+        for (int p = postingStart[token]; p < postingStart[token + 1]; p++) {
+            ids.set(postings[p]);
+        }
+    }
+
+    private int lowerBound(String key) {
+        int lo = 0;
+        int hi = tokens.length;
+        while (lo < hi) {
+            int mid = (lo + hi) >>> 1;
+            if (tokens[mid].compareTo(key) < 0) {
+                lo = mid + 1;
+            } else {
+                hi = mid;
+            }
+        }
+        return lo;
+    }
+
+    private static final class IntList {
+        private int[] values = new int[4];
+        private int size;
+
+        // Aynı addaki tekrar eden kelimeler için kimlik bir kez eklenir; kimlikler artan sırada gelir
+        void addIfLast(int value) {
+            if (size > 0 && values[size - 1] == value) {
+                return;
+            }
+            if (size == values.length) {
+                values = Arrays.copyOf(values, size * 2);
+            }
+            values[size++] = value;
+        }
+    }
+}
@@ -0,0 +1,18 @@
+package com.nasan.springaimcpserver.service;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+
+import java.util.List;
+
+/** Çalışan araçlarının yanıt tipleri. */
+public final class EmployeeResponses {
+
+    private EmployeeResponses() {
+    }
+
+    /** Bir sonuç sayfası; sonraki sayfa için {@code nextCursor} aynı araca gönderilir. */
+    public record EmployeePage(List<Employee> employees, int count, int totalMatches,
+                               @JsonInclude(JsonInclude.Include.NON_NULL) Boolean fuzzy,
+                               @JsonInclude(JsonInclude.Include.NON_NULL) String nextCursor) {
+    }
+}
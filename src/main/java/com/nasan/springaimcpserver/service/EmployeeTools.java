@@ -1,18 +1,96 @@
 package com.nasan.springaimcpserver.service;
+import com.nasan.springaimcpserver.service.EmployeeResponses.EmployeePage;
+import com.nasan.springaimcpserver.tool.PageCursor;
+import com.nasan.springaimcpserver.tool.ToolException;
 import org.springframework.stereotype.Service;
 import org.springframework.ai.tool.annotation.Tool;
+import org.springframework.ai.tool.annotation.ToolParam;
+
+import java.util.ArrayList;
+import java.util.BitSet;
 import java.util.List;
 
 @Service
 public class EmployeeTools {
 
-    @Tool(name = "employee.list", description = "Tüm çalışanları (ad, yaş) döndürür")
-    public List<Employee> listEmployees() {
-        return List.of(
-                new Employee("Ali Yılmaz", 18),
-                new Employee("Ayşe Demir", 22),
-                new Employee("Mehmet Kaya", 18),
-                new Employee("Zeynep Şahin", 30)
-        );
+    private static final int DEFAULT_PAGE_SIZE = 20;
+    private static final int MAX_PAGE_SIZE = 100;
+
+    private final EmployeeDirectory directory;
+
+    public EmployeeTools(EmployeeDirectory directory) {
+        this.directory = directory;
+    }
+
+    @Tool(name = "employee.list", description = "Çalışanları (ad, yaş) rehber sırasıyla sayfa sayfa döndürür. Sonraki sayfa için yanıttaki nextCursor değerini gönderin")
+    public EmployeePage listEmployees(
+            @ToolParam(required = false, description = "Sayfa boyutu (1-100), varsayılan 20") Integer limit,
+            @ToolParam(required = false, description = "Önceki yanıttaki nextCursor değeri") String cursor) {
+        int pageSize = pageSize(limit);
+        int from = (int) Math.min(PageCursor.decode(cursor, "el", PageCursor.scope()), directory.size());
+
+        int to = Math.min(directory.size(), from + pageSize);
+        List<Employee> employees = new ArrayList<>(Math.max(0, to - from));
+        for (int id = from; id < to; id++) {
+            employees.add(directory.get(id));
+        }
+        String nextCursor = to < directory.size() ? PageCursor.encode("el", PageCursor.scope(), to) : null;
+        return new EmployeePage(employees, employees.size(), directory.size(), null, nextCursor);
+    }
+
+    @Tool(name = "employee.findByName", description = "Çalışanları ada göre arar. Sorgudaki her kelime ad veya soyadın başıyla eşleşmelidir "
+            + "(örn: \"ay dem\"); eşleşme yoksa yazım hatalarına toleranslı arama yapılır ve fuzzy=true döner")
+    public EmployeePage findByName(
+            @ToolParam(description = "Ad, soyad veya başlangıçları") String name,
+            @ToolParam(required = false, description = "Sayfa boyutu (1-100), varsayılan 20") Integer limit,
+            @ToolParam(required = false, description = "Önceki yanıttaki nextCursor değeri") String cursor) {
+        if (name == null || CityResolver.fold(name).isEmpty()) {
+            throw ToolException.invalidArgument("Aranacak ad belirtilmelidir");
+        }
+        int pageSize = pageSize(limit);
+        int scope = PageCursor.scope(CityResolver.fold(name));
+        int from = (int) Math.min(PageCursor.decode(cursor, "en", scope), directory.size());
+
+        EmployeeDirectory.NameMatch match = directory.findByName(name);
+        BitSet ids = match.ids();
+        List<Employee> employees = new ArrayList<>(Math.min(pageSize, match.total()));
+        int id = ids.nextSetBit(from);
+        while (id >= 0 && employees.size() < pageSize) {
+            employees.add(directory.get(id));
+            id = ids.nextSetBit(id + 1);
+        }
+        String nextCursor = id >= 0 ? PageCursor.encode("en", scope, id) : null;
+        return new EmployeePage(employees, employees.size(), match.total(), match.fuzzy(), nextCursor);
+    }
+
+    @Tool(name = "employee.filterByAge", description = "Yaşı verilen aralıktaki (sınırlar dahil) çalışanları yaşa göre artan sırada sayfa sayfa döndürür")
+    public EmployeePage filterByAge(
+            @ToolParam(required = false, description = "En küçük yaş, varsayılan 0") Integer minAge,
+            @ToolParam(required = false, description = "En büyük yaş, varsayılan sınırsız") Integer maxAge,
+            @ToolParam(required = false, description = "Sayfa boyutu (1-100), varsayılan 20") Integer limit,
+            @ToolParam(required = false, description = "Önceki yanıttaki nextCursor değeri") String cursor) {
+        int min = minAge == null ? 0 : minAge;
+        int max = maxAge == null ? EmployeeDirectory.MAX_AGE : maxAge;
+        if (min < 0 || max < min) {
+            throw ToolException.invalidArgument("Yaş aralığı geçersiz: minAge 0 veya daha büyük ve maxAge değerinden küçük olmalıdır");
+        }
+        int pageSize = pageSize(limit);
+
+        // Yaş indeksinde aralığın konumları; cursor aralık içindeki konumu taşır
+        int begin = directory.ageRangeBegin(min);
+        int end = directory.ageRangeEnd(max);
+        int scope = PageCursor.scope(min, max);
+        int from = begin + (int) Math.min(PageCursor.decode(cursor, "ea", scope), end - begin);
+        int to = Math.min(end, from + pageSize);
+        List<Employee> employees = new ArrayList<>(Math.max(0, to - from));
+        for (int position = from; position < to; position++) {
+            employees.add(directory.get(directory.idAtAgePosition(position)));
+        }
+        String nextCursor = to < end ? PageCursor.encode("ea", scope, to - begin) : null;
+        return new EmployeePage(employees, employees.size(), end - begin, null, nextCursor);
+    }
+
+    private static int pageSize(Integer limit) {
+        return limit == null ? DEFAULT_PAGE_SIZE : Math.max(1, Math.min(limit, MAX_PAGE_SIZE));
     }
-}
\ No newline at end of file
+}
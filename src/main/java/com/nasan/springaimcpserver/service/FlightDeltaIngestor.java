@@ -0,0 +1,387 @@
+package com.nasan.springaimcpserver.service;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.*;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Stream;
+
+/**
+ * Biriktirme (spool) dizinindeki yalnızca sona eklenen {@code *.delta} dosyalarından uçuş değişikliklerini
+ * okuyup envantere artımlı olarak uygular. Her taramada dosyalar ad sırasıyla, son okunan konumdan itibaren
+ * yalnızca tamamlanmış satırlarıyla okunur; taramadaki tüm değişiklikler tek bir {@link FlightInventory.Patch}
+ * ile yalnızca etkilenen günler yeniden kodlanarak tek bir yeni veri sürümü olarak yayımlanır.
+ * <p>
+ * Satır biçimi (virgülle ayrılmış; boş ve {@code #} ile başlayan satırlar atlanır):
+ * <pre>
+ * 2026-10-17T09:15:00Z,PRICE,2026-10-20,TK105,1450
+ * 2026-10-17T09:15:02Z,CANCEL,2026-10-20,PC2041
+ * 2026-10-17T09:15:05Z,ADD,2026-10-21,TK981,İstanbul,Ankara,07:45,75,1200,Boeing 737-800
+ * </pre>
+ * İlk alan değişikliğin kaynakta oluştuğu andır ve alım gecikmesi bundan ölçülür. İşlemler tekrar
+ * uygulanabilir olduğundan veri tamamen yeniden yüklendiğinde (ör. yeni anlık görüntü) dizindeki dosyalar
+ * baştan yeniden uygulanır; daha önce yayımlanmış satırların gecikmesi yeniden ölçülmez. Okuma konumları
+ * ancak yayımlama başarılı olduktan sonra ilerler, başarısız tarama (okuma hatası dahil) bir sonrakinde aynı
+ * satırlarla yinelenir. {@link #MAX_BATCH_BYTES} sınırından uzun bir satır reddedilir ve satır sonuna kadar atlanır.
+ * <p>
+ * Metrikler: {@code flight.delta.records} (işlem ve sonuca göre sayaç; oranı alım hızıdır),
+ * {@code flight.delta.lag} (değişikliğin oluşmasından yayımlanmasına kadar geçen süre),
+ * {@code flight.delta.apply} (tarama başına okuma, uygulama ve yayımlama süresi) ve
+ * {@code flight.delta.backlog} (henüz okunmamış bayt sayısı).
+ */
+public final class FlightDeltaIngestor implements AutoCloseable {
+
+    public static final String FILE_SUFFIX = ".delta";
+
+    // Tarama başına okunan azami bayt; kalan kısım bir sonraki taramada hemen okunur
+    static final int MAX_BATCH_BYTES = 4 * 1024 * 1024;
+
+    private static final Logger log = LoggerFactory.getLogger(FlightDeltaIngestor.class);
+
+    private enum Outcome { APPLIED, SKIPPED, REJECTED }
+
+    // Okunan satır; replayed, satırın yeniden yüklemeden önce zaten yayımlanmış olduğunu gösterir
+    record Line(String text, boolean replayed) {
+    }
+
+    private final ReferenceDataManager datasets;
+    private final Path spoolDir;
+    private final MeterRegistry meterRegistry;
+    private final Map<String, Counter> records = new HashMap<>();
+    private final Timer lag;
+    private final Timer apply;
+    private final AtomicLong backlog = new AtomicLong();
+
+    // Dosya -> yayımlanmış bayt sayısı; yalnızca poll() içinde (bu nesnenin kilidiyle) kullanılır
+    private final Map<Path, Long> offsets = new HashMap<>();
+    // Dosya -> yeniden yüklemeden önce yayımlanmış bayt sayısı; bu konumdan önceki satırlar yeniden uygulanır
+    private final Map<Path, Long> replayedOffsets = new HashMap<>();
+    // Sınırdan uzun bir satırın ortasında kalan dosyalar; satırın kalanı satır sonuna kadar atlanır
+    private final Set<Path> skipping = new HashSet<>();
+    // Bu alıcının yayımlamakta olduğu envanter; yayımlama sırasında başka bir envanter tam yeniden yükleme demektir
+    private volatile FlightInventory publishing;
+    private volatile boolean replay;
+    private volatile Thread worker;
+
+    public FlightDeltaIngestor(ReferenceDataManager datasets, Path spoolDir, MeterRegistry meterRegistry) {
+        this.datasets = datasets;
+        this.spoolDir = spoolDir;
+        this.meterRegistry = meterRegistry;
+        this.lag = Timer.builder("flight.delta.lag")
+                .description("Uçuş değişikliğinin oluşmasından yayımlanmasına kadar geçen süre")
+                .register(meterRegistry);
+        this.apply = Timer.builder("flight.delta.apply")
+                .description("Bir taramadaki değişikliklerin okunup uygulanma ve yayımlanma süresi")
+                .register(meterRegistry);
+        Gauge.builder("flight.delta.backlog", backlog, AtomicLong::get)
+                .description("Biriktirme dizininde henüz okunmamış bayt sayısı")
+                .baseUnit("bytes")
+                .register(meterRegistry);
+        datasets.addListener(change -> {
+            if (change.flightsChanged() && change.current().flights() != publishing) {
+                replay = true;
+            }
+        });
+    }
+
+    /** {@code interval} aralıklarla dizini tarayan arka plan iş parçacığını başlatır. */
+    public void start(Duration interval) {
+        worker = Thread.ofPlatform().daemon().name("flight-delta-ingestor").start(() -> {
+            try {
+                while (!Thread.currentThread().isInterrupted()) {
+                    boolean more;
+                    try {
+                        more = poll();
+                    } catch (RuntimeException e) {
+                        // Dizin geçici olarak okunamıyor ya da yayımlama başarısız; konumlar ilerlemediğinden
+                        // aynı satırlar bir sonraki taramada yeniden denenir
+                        log.warn("Uçuş değişiklikleri uygulanamadı: {}", spoolDir, e);
+                        more = false;
+                    }
+                    if (!more) {
+                        Thread.sleep(interval);
+                    }
+                }
+            } catch (InterruptedException e) {
+                // alıcı kapatıldı
+            }
+        });
+    }
+
+    /**
+     * Dizini bir kez tarar ve yeni değişiklikleri uygular. Okunmamış veri {@link #MAX_BATCH_BYTES} sınırını
+     * aştığı için tarama yarıda kaldıysa true döner.
+     */
+    public synchronized boolean poll() {
+        if (replay) {
+            replay = false;
+            offsets.forEach((file, offset) -> replayedOffsets.merge(file, offset, Math::max));
+            offsets.clear();
+            skipping.clear();
+        }
+        long started = System.nanoTime();
+        List<Path> files = spoolFiles();
+        offsets.keySet().retainAll(files);
+        replayedOffsets.keySet().retainAll(files);
+
+        Map<Path, Long> read = new HashMap<>();
+        Set<Path> skipped = new HashSet<>();
+        List<Line> lines = new ArrayList<>();
+        List<Counter> outcomes = new ArrayList<>();
+        long budget = MAX_BATCH_BYTES;
+        long pending = 0;
+        boolean truncated = false;
+        for (Path file : files) {
+            long size = size(file);
+            long offset = offsets.getOrDefault(file, 0L);
+            boolean skip = skipping.contains(file);
+            if (size < offset) {
+                // Dosya yeniden yazılmış (yalnızca sona ekleme kuralı bozulmuş); baştan okunur
+                offset = 0;
+                skip = false;
+                replayedOffsets.remove(file);
+            }
+            // Bütçeye sığmayan dosya bir sonraki taramada hemen okunur; yarım kalan son satır ise tamamlanmasını bekler
+            truncated |= size - offset > budget;
+            if (size > offset && budget > 0) {
+                int length = (int) Math.min(size - offset, budget);
+                int first = lines.size();
+                int consumed = readLines(file, offset, length, replayedOffsets.getOrDefault(file, 0L), lines);
+                if (skip && consumed > 0) {
+                    // Reddedilen satırın kalanı
+                    lines.remove(first);
+                    skip = false;
+                } else if (skip || consumed == 0 && length == MAX_BATCH_BYTES) {
+                    // Satır tek başına okuma sınırını aşıyor; tamamlanmasını beklemek taramayı sonsuza dek durdurur
+                    if (!skip) {
+                        log.warn("{} dosyasında {} konumundaki satır {} bayttan uzun, atlanıyor", file, offset,
+                                MAX_BATCH_BYTES);
+                        outcomes.add(counter("unknown", Outcome.REJECTED));
+                        skip = true;
+                    }
+                    consumed = length;
+                }
+                offset += consumed;
+                budget -= consumed;
+            }
+            if (skip) {
+                skipped.add(file);
+            }
+            read.put(file, offset);
+            pending += size - offset;
+        }
+        backlog.set(pending);
+        if (lines.isEmpty()) {
+            commit(read, skipped, outcomes);
+            return truncated;
+        }
+
+        List<Instant> applied = new ArrayList<>(lines.size());
+        try {
+            datasets.update(data -> {
+                FlightInventory.Patch patch = data.flights().patch();
+                for (Line line : lines) {
+                    applyLine(data, patch, line, applied, outcomes);
+                }
+                FlightInventory flights = patch.apply();
+                if (flights == data.flights()) {
+                    return data;
+                }
+                publishing = flights;
+                return new ReferenceData(data.cities(), data.hotels(), flights);
+            });
+        } finally {
+            publishing = null;
+        }
+        // Yayımlama başarılı; konumlar ve sayaçlar ancak şimdi ilerler
+        commit(read, skipped, outcomes);
+        Instant visible = Instant.now();
+        for (Instant occurred : applied) {
+            // Kaynak saatinin ileride olması gecikmeyi negatif yapmasın
+            lag.record(occurred.isAfter(visible) ? Duration.ZERO : Duration.between(occurred, visible));
+        }
+        apply.record(System.nanoTime() - started, TimeUnit.NANOSECONDS);
+        return truncated;
+    }
+
+    private void commit(Map<Path, Long> read, Set<Path> skipped, List<Counter> outcomes) {
+        offsets.putAll(read);
+        skipping.clear();
+        skipping.addAll(skipped);
+        outcomes.forEach(Counter::increment);
+    }
+
+    private void applyLine(ReferenceData data, FlightInventory.Patch patch, Line line, List<Instant> applied,
+                           List<Counter> outcomes) {
+        String trimmed = line.text().strip();
+        if (trimmed.isEmpty() || trimmed.startsWith("#")) {
+            return;
+        }
+        String[] fields = trimmed.split(",", -1);
+        String op = fields.length > 1 ? fields[1].strip().toUpperCase(Locale.ROOT) : "";
+        Outcome outcome;
+        try {
+            Instant occurred = Instant.parse(fields[0].strip());
+            outcome = applyRecord(data, patch, op, fields) ? Outcome.APPLIED : Outcome.SKIPPED;
+            if (outcome == Outcome.APPLIED && !line.replayed()) {
+                applied.add(occurred);
+            }
+        } catch (RuntimeException e) {
+            // Biçimi bozuk, aralık dışı veya bilinmeyen değer içeren satır; diğer satırlar uygulanmaya devam eder
+            outcome = Outcome.REJECTED;
+        }
+        outcomes.add(counter(op, outcome));
+    }
+
+    // Uygulanan değişiklik için true; fiyatı değişecek veya iptal edilecek uçuş o gün yoksa false
+    private static boolean applyRecord(ReferenceData data, FlightInventory.Patch patch, String op, String[] fields) {
+        FlightInventory flights = data.flights();
+        int epochDay = (int) LocalDate.parse(fields[2].strip()).toEpochDay();
+        if (flights.day(epochDay) == null) {
+            throw new IllegalArgumentException("Tarih envanter aralığı dışında");
+        }
+        int[] flight = parseFlight(flights, fields[3].strip());
+        switch (op) {
+            case "PRICE" -> {
+                requireFields(fields, 5);
+                return patch.setPrice(epochDay, flight[0], flight[1], nonNegative(fields[4]));
+            }
+            case "CANCEL" -> {
+                requireFields(fields, 4);
+                return patch.cancel(epochDay, flight[0], flight[1]);
+            }
+            case "ADD" -> {
+                requireFields(fields, 10);
+                int aircraft = flights.aircraftId(fields[9]);
+                if (aircraft < 0) {
+                    throw new IllegalArgumentException("Bilinmeyen uçak tipi: " + fields[9]);
+                }
+                patch.put(epochDay, cityId(data, fields[4]), cityId(data, fields[5]), flight[0], flight[1],
+                        LocalTime.parse(fields[6].strip()).toSecondOfDay() / 60,
+                        Integer.parseInt(fields[7].strip()), nonNegative(fields[8]), aircraft);
+                return true;
+            }
+            default -> throw new IllegalArgumentException("Bilinmeyen işlem: " + op);
+        }
+    }
+
+    // "TK105" -> {havayolu kimliği, uçuş numarası}
+    private static int[] parseFlight(FlightInventory flights, String code) {
+        for (int a = 0; a < flights.airlineCount(); a++) {
+            String prefix = flights.airline(a).code();
+            if (code.length() > prefix.length() && code.regionMatches(true, 0, prefix, 0, prefix.length())) {
+                String number = code.substring(prefix.length());
+                if (number.chars().allMatch(Character::isDigit)) {
+                    return new int[]{a, Integer.parseInt(number)};
+                }
+            }
+        }
+        throw new IllegalArgumentException("Bilinmeyen uçuş kodu: " + code);
+    }
+
+    private static int cityId(ReferenceData data, String city) {
+        int id = data.flights().cityId(data.cities().canonicalName(city.strip()));
+        if (id < 0) {
+            throw new IllegalArgumentException("Bilinmeyen şehir: " + city);
+        }
+        return id;
+    }
+
+    private static int nonNegative(String value) {
+        int parsed = Integer.parseInt(value.strip());
+        if (parsed < 0) {
+            throw new IllegalArgumentException("Negatif değer: " + value);
+        }
+        return parsed;
+    }
+
+    private static void requireFields(String[] fields, int count) {
+        if (fields.length != count) {
+            throw new IllegalArgumentException("Alan sayısı " + count + " olmalı");
+        }
+    }
+
+    private Counter counter(String op, Outcome outcome) {
+        String name = switch (op) {
+            case "PRICE", "CANCEL", "ADD" -> op.toLowerCase(Locale.ROOT);
+            default -> "unknown";
+        };
+        return records.computeIfAbsent(name + "/" + outcome, key -> Counter.builder("flight.delta.records")
+                .description("Biriktirme dizininden okunan uçuş değişikliği satırları")
+                .tag("op", name)
+                .tag("outcome", outcome.name().toLowerCase(Locale.ROOT))
+                .register(meterRegistry));
+    }
+
+    private List<Path> spoolFiles() {
+        if (!Files.isDirectory(spoolDir)) {
+            return List.of();
+        }
+        try (Stream<Path> entries = Files.list(spoolDir)) {
+            return entries.filter(file -> file.getFileName().toString().endsWith(FILE_SUFFIX))
+                    .filter(Files::isRegularFile)
+                    .sorted()
+                    .toList();
+        } catch (IOException e) {
+            throw new UncheckedIOException("Biriktirme dizini okunamıyor: " + spoolDir, e);
+        }
+    }
+
+    private static long size(Path file) {
+        try {
+            return Files.size(file);
+        } catch (IOException e) {
+            // Tarama sırasında silinmiş dosya
+            return 0;
+        }
+    }
+
+    // Tamamlanmış (satır sonuyla biten) satırları ekler ve tükettiği bayt sayısını döner; başlangıcı
+    // replayedOffset'ten önce olan satırlar yeniden uygulanan satır olarak işaretlenir
+    static int readLines(Path file, long offset, int length, long replayedOffset, List<Line> lines) {
+        ByteBuffer buffer = ByteBuffer.allocate(length);
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            while (buffer.hasRemaining() && channel.read(buffer, offset + buffer.position()) > 0) {
+                // dosya sonuna veya istenen uzunluğa kadar okunur
+            }
+        } catch (IOException e) {
+            // Konum ilerlemez; tarama bir sonrakinde yinelenir
+            throw new UncheckedIOException("Değişiklik dosyası okunamıyor: " + file, e);
+        }
+        byte[] bytes = buffer.array();
+        int start = 0;
+        for (int i = 0; i < buffer.position(); i++) {
+            if (bytes[i] == '\n') {
+                lines.add(new Line(new String(bytes, start, i - start, StandardCharsets.UTF_8), offset + start < replayedOffset));
+                start = i + 1;
+            }
+        }
+        return start;
+    }
+
+    @Override
+    public void close() {
+        Thread thread = worker;
+        if (thread != null) {
+            thread.interrupt();
+        }
+    }
+}
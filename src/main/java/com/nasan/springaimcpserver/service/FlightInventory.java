@@ -0,0 +1,756 @@
+package com.nasan.springaimcpserver.service;
+
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.IntBuffer;
+import java.nio.ShortBuffer;
+import java.time.LocalDate;
+import java.util.*;
+
+/**
+ * Uçuş envanteri: her gün için ayrı bir bölüm (partition) ve her bölümde
+ * ilkel sütunlar tutulur. Satırlar (rota, kalkış) sırasına göre saklanır; tarih,
+ * rota, havayolu ve kalkış şehri indeksleri bu sıralamanın üzerine kurulur. Her bölüm,
+ * sütunları ve indeksleriyle birlikte tek bir little-endian blok olarak kodlanır; blok
+ * bellekte ya da {@link ReferenceSnapshot} dosyasından eşlenmiş olarak okunur.
+ * Nesne oluşturulduktan sonra değişmez, bu yüzden eşzamanlı okumalar kilitsizdir;
+ * değişiklikler {@link Patch} ile yalnızca etkilenen günleri yeniden kodlayan yeni bir envanter üretir.
+ */
+public final class FlightInventory {
+
+    public record Airline(String code, String name, String turkishName) {
+    }
+
+    static final int MINUTES_PER_DAY = 24 * 60;
+
+    private static final String[] MINUTE_LABELS = new String[MINUTES_PER_DAY];
+
+    static {
+        for (int m = 0; m < MINUTE_LABELS.length; m++) {
+            int h = m / 60;
+            int min = m % 60;
+            MINUTE_LABELS[m] = new String(new char[]{
+                (char) ('0' + h / 10), (char) ('0' + h % 10), ':', (char) ('0' + min / 10), (char) ('0' + min % 10)
+            });
+        }
+    }
+
+    private final String[] cities;
+    private final Map<String, Integer> cityIds;
+    private final Airline[] airlines;
+    private final String[] aircraftTypes;
+    private final int firstEpochDay;
+    private final DaySchedule[] days;
+    private final String[] dateLabels;
+    private final int size;
+
+    private FlightInventory(String[] cities, Airline[] airlines, String[] aircraftTypes,
+                            int firstEpochDay, DaySchedule[] days) {
+        this.cities = cities;
+        this.airlines = airlines;
+        this.aircraftTypes = aircraftTypes;
+        this.firstEpochDay = firstEpochDay;
+        this.days = days;
+
+        Map<String, Integer> ids = new HashMap<>();
+        for (int i = 0; i < cities.length; i++) {
+            ids.put(cities[i], i);
+        }
+        this.cityIds = Map.copyOf(ids);
+
+        this.dateLabels = new String[days.length];
+        int total = 0;
+        for (int i = 0; i < days.length; i++) {
+            if (days[i].epochDay() != firstEpochDay + i) {
+                throw new IllegalStateException("Gün bölümleri ardışık değil: " + LocalDate.ofEpochDay(days[i].epochDay()));
+            }
+            dateLabels[i] = LocalDate.ofEpochDay(firstEpochDay + i).toString();
+            total += days[i].size();
+        }
+        this.size = total;
+    }
+
+    public static Builder builder(List<String> cities, List<Airline> airlines, List<String> aircraftTypes,
+                                  LocalDate firstDate, int dayCount) {
+        return new Builder(cities, airlines, aircraftTypes, firstDate, dayCount);
+    }
+
+    /**
+     * Kodlanmış gün bloklarından (bkz. {@link ReferenceSnapshot}) envanter oluşturur;
+     * bloklar kopyalanmadan, yerinde okunur.
+     */
+    static FlightInventory of(List<String> cities, List<Airline> airlines, List<String> aircraftTypes,
+                              int firstEpochDay, List<ByteBuffer> dayBlocks) {
+        DaySchedule[] days = new DaySchedule[dayBlocks.size()];
+        for (int i = 0; i < days.length; i++) {
+            days[i] = new DaySchedule(dayBlocks.get(i), cities.size());
+        }
+        return new FlightInventory(cities.toArray(String[]::new), airlines.toArray(Airline[]::new),
+                aircraftTypes.toArray(String[]::new), firstEpochDay, days);
+    }
+
+    /** Bu envanter üzerinde değişiklik başlatır; {@link Patch#apply()} çağrılana kadar envanter etkilenmez. */
+    public Patch patch() {
+        return new Patch();
+    }
+
+    static int align8(int offset) {
+        return (offset + 7) & ~7;
+    }
+
+    private static IntBuffer ints(ByteBuffer block, int offset, int count) {
+        return block.slice(offset, count * 4).order(ByteOrder.LITTLE_ENDIAN).asIntBuffer();
+    }
+
+    private static ShortBuffer shorts(ByteBuffer block, int offset, int count) {
+        return block.slice(offset, count * 2).order(ByteOrder.LITTLE_ENDIAN).asShortBuffer();
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public int cityCount() {
+        return cities.length;
+    }
+
+    public String city(int cityId) {
+        return cities[cityId];
+    }
+
+    /** Kanonik şehir adının kimliğini döner, bulunamazsa -1. */
+    public int cityId(String canonicalName) {
+        Integer id = cityIds.get(canonicalName);
+        return id == null ? -1 : id;
+    }
+
+    public int airlineCount() {
+        return airlines.length;
+    }
+
+    public Airline airline(int airlineId) {
+        return airlines[airlineId];
+    }
+
+    public List<Airline> airlines() {
+        return List.of(airlines);
+    }
+
+    /** Havayolunu kod, isim veya Türkçe isimle (ya da isim önekiyle) bulur, bulunamazsa -1. */
+    public int airlineId(String query) {
+        String q = query.trim();
+        for (int i = 0; i < airlines.length; i++) {
+            Airline a = airlines[i];
+            if (a.code().equalsIgnoreCase(q) || a.name().equalsIgnoreCase(q) || a.turkishName().equalsIgnoreCase(q)) {
+                return i;
+            }
+        }
+        String prefix = q.toLowerCase(Locale.ROOT);
+        for (int i = 0; i < airlines.length; i++) {
+            if (airlines[i].name().toLowerCase(Locale.ROOT).startsWith(prefix)) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    public String aircraftType(int aircraftId) {
+        return aircraftTypes[aircraftId];
+    }
+
+    /** Uçak tipinin kimliğini döner (büyük/küçük harf duyarsız), bulunamazsa -1. */
+    public int aircraftId(String name) {
+        for (int i = 0; i < aircraftTypes.length; i++) {
+            if (aircraftTypes[i].equalsIgnoreCase(name.trim())) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    public int route(int fromCity, int toCity) {
+        return fromCity * cities.length + toCity;
+    }
+
+    public int firstEpochDay() {
+        return firstEpochDay;
+    }
+
+    public int lastEpochDay() {
+        return firstEpochDay + days.length - 1;
+    }
+
+    int dayCount() {
+        return days.length;
+    }
+
+    List<String> cityNames() {
+        return List.of(cities);
+    }
+
+    List<String> aircraftTypes() {
+        return List.of(aircraftTypes);
+    }
+
+    /** {@code index}. günün kodlanmış bloğu (salt okunur görünüm). */
+    ByteBuffer dayBlock(int index) {
+        return days[index].block.asReadOnlyBuffer();
+    }
+
+    /** Verilen günün tarifesini döner; envanter aralığı dışındaysa null. */
+    public DaySchedule day(long epochDay) {
+        long index = epochDay - firstEpochDay;
+        if (index < 0 || index >= days.length) {
+            return null;
+        }
+        return days[(int) index];
+    }
+
+    public String dateLabel(int epochDay) {
+        return dateLabels[epochDay - firstEpochDay];
+    }
+
+    public static String timeLabel(int minuteOfDay) {
+        return MINUTE_LABELS[Math.floorMod(minuteOfDay, MINUTE_LABELS.length)];
+    }
+
+    public static String durationLabel(int minutes) {
+        int m = minutes % 60;
+        return (minutes / 60) + "h " + (m < 10 ? "0" : "") + m + "m";
+    }
+
+    /**
+     * Tek bir günün uçuşları. Satırlar (rota, kalkış dakikası) sırasındadır;
+     * {@code byDeparture}, havayolu ve kalkış şehri permütasyonları ikincil indekslerdir.
+     */
+    public static final class DaySchedule {
+
+        // Blok düzeni (little-endian): gün, satır, rota ve havayolu sayıları başlığı; ardından int sütunlar
+        // (routeKeys, routeStart, route, flightNumber, price, byDeparture, airlineRows, airlineStart, originRows,
+        // originStart),
+        // short sütunlar (departure, duration) ve byte sütunlar (airline, aircraft); blok 8 bayta hizalanır
+        private static final int HEADER_BYTES = 16;
+
+        private final int epochDay;
+        private final int cityCount;
+        private final int size;
+        private final ByteBuffer block;
+        private final IntBuffer route;
+        private final ByteBuffer airline;
+        private final IntBuffer flightNumber;
+        private final ShortBuffer departure;
+        private final ShortBuffer duration;
+        private final IntBuffer price;
+        private final ByteBuffer aircraft;
+
+        private final IntBuffer routeKeys;
+        private final IntBuffer routeStart;
+        private final IntBuffer byDeparture;
+        private final IntBuffer airlineRows;
+        private final IntBuffer airlineStart;
+        private final IntBuffer originRows;
+        private final IntBuffer originStart;
+
+        private DaySchedule(ByteBuffer block, int cityCount) {
+            block.order(ByteOrder.LITTLE_ENDIAN);
+            this.block = block;
+            this.cityCount = cityCount;
+            this.epochDay = block.getInt(0);
+            int n = this.size = block.getInt(4);
+            int routes = block.getInt(8);
+            int airlineCount = block.getInt(12);
+
+            int p = HEADER_BYTES;
+            this.routeKeys = ints(block, p, routes);
+            this.routeStart = ints(block, p += 4 * routes, routes + 1);
+            this.route = ints(block, p += 4 * (routes + 1), n);
+            this.flightNumber = ints(block, p += 4 * n, n);
+            this.price = ints(block, p += 4 * n, n);
+            this.byDeparture = ints(block, p += 4 * n, n);
+            this.airlineRows = ints(block, p += 4 * n, n);
+            this.airlineStart = ints(block, p += 4 * n, airlineCount + 1);
+            this.originRows = ints(block, p += 4 * (airlineCount + 1), n);
+            this.originStart = ints(block, p += 4 * n, cityCount + 1);
+            this.departure = shorts(block, p += 4 * (cityCount + 1), n);
+            this.duration = shorts(block, p += 2 * n, n);
+            this.airline = block.slice(p += 2 * n, n);
+            this.aircraft = block.slice(p += n, n);
+            if (align8(p + n) != block.limit()) {
+                throw new IllegalStateException("Gün bloğu boyutu geçersiz: " + LocalDate.ofEpochDay(epochDay));
+            }
+        }
+
+        /** Satırları (rota, kalkış) sırasında verilen günün indekslerini kurar ve bloğu kodlar. */
+        private static ByteBuffer encode(int epochDay, int airlineCount, int cityCount, int[] route, byte[] airline,
+                                         int[] flightNumber, short[] departure, short[] duration, int[] price,
+                                         byte[] aircraft) {
+            int n = route.length;
+            int distinct = 0;
+            for (int i = 0; i < n; i++) {
+                if (i == 0 || route[i] != route[i - 1]) {
+                    distinct++;
+                }
+            }
+            int[] routeKeys = new int[distinct];
+            int[] routeStart = new int[distinct + 1];
+            int k = 0;
+            for (int i = 0; i < n; i++) {
+                if (i == 0 || route[i] != route[i - 1]) {
+                    routeKeys[k] = route[i];
+                    routeStart[k] = i;
+                    k++;
+                }
+            }
+            routeStart[distinct] = n;
+
+            int[] byDeparture = sortedRows(n, departure);
+
+            // Havayolu indeksi: kalkış sırasını koruyan sayma sıralaması
+            int[] airlineStart = new int[airlineCount + 1];
+            for (int i = 0; i < n; i++) {
+                airlineStart[airline[i] + 1]++;
+            }
+            for (int a = 0; a < airlineCount; a++) {
+                airlineStart[a + 1] += airlineStart[a];
+            }
+            int[] airlineRows = new int[n];
+            int[] cursor = Arrays.copyOf(airlineStart, airlineCount);
+            for (int row : byDeparture) {
+                airlineRows[cursor[airline[row]]++] = row;
+            }
+
+            // Kalkış şehri indeksi: aktarma aramasının komşuluk listesi, aynı şekilde kalkış sırasında
+            int[] originStart = new int[cityCount + 1];
+            for (int i = 0; i < n; i++) {
+                originStart[route[i] / cityCount + 1]++;
+            }
+            for (int c = 0; c < cityCount; c++) {
+                originStart[c + 1] += originStart[c];
+            }
+            int[] originRows = new int[n];
+            cursor = Arrays.copyOf(originStart, cityCount);
+            for (int row : byDeparture) {
+                originRows[cursor[route[row] / cityCount]++] = row;
+            }
+
+            int length = align8(HEADER_BYTES
+                    + 4 * (distinct + distinct + 1 + 6 * n + airlineCount + 1 + cityCount + 1) + 6 * n);
+            ByteBuffer block = ByteBuffer.allocate(length).order(ByteOrder.LITTLE_ENDIAN);
+            block.putInt(0, epochDay).putInt(4, n).putInt(8, distinct).putInt(12, airlineCount);
+            int p = HEADER_BYTES;
+            ints(block, p, distinct).put(routeKeys);
+            ints(block, p += 4 * distinct, distinct + 1).put(routeStart);
+            ints(block, p += 4 * (distinct + 1), n).put(route);
+            ints(block, p += 4 * n, n).put(flightNumber);
+            ints(block, p += 4 * n, n).put(price);
+            ints(block, p += 4 * n, n).put(byDeparture);
+            ints(block, p += 4 * n, n).put(airlineRows);
+            ints(block, p += 4 * n, airlineCount + 1).put(airlineStart);
+            ints(block, p += 4 * (airlineCount + 1), n).put(originRows);
+            ints(block, p += 4 * n, cityCount + 1).put(originStart);
+            shorts(block, p += 4 * (cityCount + 1), n).put(departure);
+            shorts(block, p += 2 * n, n).put(duration);
+            block.put(p += 2 * n, airline);
+            block.put(p + n, aircraft);
+            return block;
+        }
+
+        private static int[] sortedRows(int n, short[] key) {
+            long[] packed = new long[n];
+            for (int i = 0; i < n; i++) {
+                packed[i] = ((long) key[i] << 32) | i;
+            }
+            Arrays.sort(packed);
+            int[] rows = new int[n];
+            for (int i = 0; i < n; i++) {
+                rows[i] = (int) packed[i];
+            }
+            return rows;
+        }
+
+        public int epochDay() {
+            return epochDay;
+        }
+
+        public int size() {
+            return size;
+        }
+
+        public int fromCity(int row) {
+            return route.get(row) / cityCount;
+        }
+
+        public int toCity(int row) {
+            return route.get(row) % cityCount;
+        }
+
+        public int airline(int row) {
+            return airline.get(row);
+        }
+
+        public int flightNumber(int row) {
+            return flightNumber.get(row);
+        }
+
+        public int departure(int row) {
+            return departure.get(row);
+        }
+
+        public int duration(int row) {
+            return duration.get(row);
+        }
+
+        public int arrival(int row) {
+            return departure.get(row) + duration.get(row);
+        }
+
+        public int price(int row) {
+            return price.get(row);
+        }
+
+        public int aircraft(int row) {
+            return aircraft.get(row);
+        }
+
+        /** Kalkış saatine göre sıralı {@code i}. satır. */
+        public int rowByDeparture(int i) {
+            return byDeparture.get(i);
+        }
+
+        /** Rotanın satır aralığının başlangıcı (dahil); rota yoksa -1. Satırlar kalkışa göre sıralıdır. */
+        public int routeBegin(int routeKey) {
+            int idx = routeIndex(routeKey);
+            return idx < 0 ? -1 : routeStart.get(idx);
+        }
+
+        /** Rotanın satır aralığının sonu (hariç); rota yoksa -1. */
+        public int routeEnd(int routeKey) {
+            int idx = routeIndex(routeKey);
+            return idx < 0 ? -1 : routeStart.get(idx + 1);
+        }
+
+        public int airlineBegin(int airlineId) {
+            return airlineStart.get(airlineId);
+        }
+
+        public int airlineEnd(int airlineId) {
+            return airlineStart.get(airlineId + 1);
+        }
+
+        /** Havayolu indeksindeki {@code i}. satır (kalkışa göre sıralı). */
+        public int airlineRow(int i) {
+            return airlineRows.get(i);
+        }
+
+        /** Havayolu ve uçuş numarasıyla satırı bulur; o gün böyle bir uçuş yoksa -1. */
+        public int find(int airlineId, int flightNumber) {
+            for (int i = airlineBegin(airlineId); i < airlineEnd(airlineId); i++) {
+                int row = airlineRows.get(i);
+                if (this.flightNumber.get(row) == flightNumber) {
+                    return row;
+                }
+            }
+            return -1;
+        }
+
+        /** Şehirden kalkan uçuşların kalkış indeksindeki aralık başlangıcı; aralık kalkış saatine göre sıralıdır. */
+        public int departuresBegin(int cityId) {
+            return originStart.get(cityId);
+        }
+
+        public int departuresEnd(int cityId) {
+            return originStart.get(cityId + 1);
+        }
+
+        /** Kalkış indeksindeki {@code i}. satır. */
+        public int departureRow(int i) {
+            return originRows.get(i);
+        }
+
+        /** {@code [begin, end)} aralığında kalkış dakikası {@code minuteOfDay} veya sonrası olan ilk indeks. */
+        public int firstDepartureAtOrAfter(int begin, int end, int minuteOfDay) {
+            int lo = begin;
+            int hi = end;
+            while (lo < hi) {
+                int mid = (lo + hi) >>> 1;
+                if (departure.get(originRows.get(mid)) < minuteOfDay) {
+                    lo = mid + 1;
+                } else {
+                    hi = mid;
+                }
+            }
+            return lo;
+        }
+
+        private int routeIndex(int routeKey) {
+            int lo = 0;
+            int hi = routeKeys.limit() - 1;
+            while (lo <= hi) {
+                int mid = (lo + hi) >>> 1;
+                int key = routeKeys.get(mid);
+                if (key < routeKey) {
+                    lo = mid + 1;
+                } else if (key > routeKey) {
+                    hi = mid - 1;
+                } else {
+                    return mid;
+                }
+            }
+            return -1;
+        }
+    }
+
+    public static final class Builder {
+
+        private final String[] cities;
+        private final Airline[] airlines;
+        private final String[] aircraftTypes;
+        private final int firstEpochDay;
+        private final DayBuffer[] buffers;
+
+        private Builder(List<String> cities, List<Airline> airlines, List<String> aircraftTypes,
+                        LocalDate firstDate, int dayCount) {
+            this.cities = cities.toArray(String[]::new);
+            this.airlines = airlines.toArray(Airline[]::new);
+            this.aircraftTypes = aircraftTypes.toArray(String[]::new);
+            if (this.airlines.length > Byte.MAX_VALUE || this.aircraftTypes.length > Byte.MAX_VALUE) {
+                throw new IllegalArgumentException("En fazla " + Byte.MAX_VALUE + " havayolu ve uçak tipi desteklenir");
+            }
+            this.firstEpochDay = (int) firstDate.toEpochDay();
+            this.buffers = new DayBuffer[dayCount];
+            for (int i = 0; i < dayCount; i++) {
+                buffers[i] = new DayBuffer();
+            }
+        }
+
+        public Builder add(LocalDate date, int fromCity, int toCity, int airlineId, int flightNumber,
+                           int departureMinute, int durationMinutes, int price, int aircraftId) {
+            int index = (int) (date.toEpochDay() - firstEpochDay);
+            if (index < 0 || index >= buffers.length) {
+                throw new IllegalArgumentException("Tarih envanter aralığı dışında: " + date);
+            }
+            if (fromCity == toCity) {
+                throw new IllegalArgumentException("Kalkış ve varış şehri aynı olamaz");
+            }
+            buffers[index].add(fromCity * cities.length + toCity, airlineId, flightNumber,
+                    departureMinute, durationMinutes, price, aircraftId);
+            return this;
+        }
+
+        public FlightInventory build() {
+            DaySchedule[] days = new DaySchedule[buffers.length];
+            for (int i = 0; i < buffers.length; i++) {
+                days[i] = new DaySchedule(buffers[i].encode(firstEpochDay + i, airlines.length, cities.length),
+                        cities.length);
+            }
+            return new FlightInventory(cities, airlines, aircraftTypes, firstEpochDay, days);
+        }
+    }
+
+    /**
+     * Envanter üzerinde kopyala-yaz (copy-on-write) değişiklik. Değişen her günün satırları ilk dokunuşta
+     * kopyalanır ve {@link #apply()} ile yalnızca o günlerin blokları yeniden kodlanır; diğer gün blokları
+     * yeni envanterle paylaşılır. İşlemler tekrar uygulanabilir: fiyat mutlak değerdir, iptal olmayan
+     * uçuşu yok sayar, ekleme aynı gün aynı numaralı uçuşun yerine geçer.
+     */
+    public final class Patch {
+
+        private final Map<Integer, DayBuffer> edited = new HashMap<>();
+
+        private Patch() {
+        }
+
+        /** Uçuşun fiyatını değiştirir; o gün böyle bir uçuş yoksa false. */
+        public boolean setPrice(int epochDay, int airlineId, int flightNumber, int price) {
+            DayBuffer buffer = buffer(epochDay, airlineId, flightNumber);
+            if (buffer == null) {
+                return false;
+            }
+            buffer.price[buffer.indexOf(airlineId, flightNumber)] = price;
+            return true;
+        }
+
+        /** Uçuşu iptal eder (satırı kaldırır); o gün böyle bir uçuş yoksa false. */
+        public boolean cancel(int epochDay, int airlineId, int flightNumber) {
+            DayBuffer buffer = buffer(epochDay, airlineId, flightNumber);
+            if (buffer == null) {
+                return false;
+            }
+            buffer.remove(buffer.indexOf(airlineId, flightNumber));
+            return true;
+        }
+
+        /** Uçuşu ekler; o gün aynı havayolu ve numarayla uçuş varsa onun yerine geçer. */
+        public Patch put(int epochDay, int fromCity, int toCity, int airlineId, int flightNumber,
+                         int departureMinute, int durationMinutes, int price, int aircraftId) {
+            DaySchedule schedule = day(epochDay);
+            if (schedule == null) {
+                throw new IllegalArgumentException("Tarih envanter aralığı dışında: " + LocalDate.ofEpochDay(epochDay));
+            }
+            if (fromCity < 0 || fromCity >= cities.length || toCity < 0 || toCity >= cities.length) {
+                throw new IllegalArgumentException("Geçersiz şehir");
+            }
+            if (fromCity == toCity) {
+                throw new IllegalArgumentException("Kalkış ve varış şehri aynı olamaz");
+            }
+            if (airlineId < 0 || airlineId >= airlines.length || aircraftId < 0 || aircraftId >= aircraftTypes.length) {
+                throw new IllegalArgumentException("Geçersiz havayolu veya uçak tipi");
+            }
+            if (departureMinute < 0 || departureMinute >= MINUTES_PER_DAY
+                    || durationMinutes <= 0 || durationMinutes > Short.MAX_VALUE || price < 0) {
+                throw new IllegalArgumentException("Geçersiz kalkış saati, süre veya fiyat");
+            }
+            DayBuffer buffer = edited.computeIfAbsent(epochDay, d -> DayBuffer.of(schedule));
+            int row = buffer.indexOf(airlineId, flightNumber);
+            if (row >= 0) {
+                buffer.remove(row);
+            }
+            buffer.add(fromCity * cities.length + toCity, airlineId, flightNumber,
+                    departureMinute, durationMinutes, price, aircraftId);
+            return this;
+        }
+
+        /** Değişikliğe uğrayan gün sayısı. */
+        public int changedDays() {
+            return edited.size();
+        }
+
+        /** Değişiklikleri içeren yeni envanter; değişiklik yoksa bu envanterin kendisi. */
+        public FlightInventory apply() {
+            if (edited.isEmpty()) {
+                return FlightInventory.this;
+            }
+            DaySchedule[] next = days.clone();
+            for (Map.Entry<Integer, DayBuffer> entry : edited.entrySet()) {
+                int epochDay = entry.getKey();
+                next[epochDay - firstEpochDay] = new DaySchedule(
+                        entry.getValue().encode(epochDay, airlines.length, cities.length), cities.length);
+            }
+            return new FlightInventory(cities, airlines, aircraftTypes, firstEpochDay, next);
+        }
+
+        // Uçuş o gün varsa günün (gerekirse ilk kez kopyalanan) düzenleme tamponu, yoksa null
+        private DayBuffer buffer(int epochDay, int airlineId, int flightNumber) {
+            DayBuffer buffer = edited.get(epochDay);
+            if (buffer != null) {
+                return buffer.indexOf(airlineId, flightNumber) >= 0 ? buffer : null;
+            }
+            DaySchedule schedule = day(epochDay);
+            if (schedule == null || airlineId < 0 || airlineId >= airlines.length
+                    || schedule.find(airlineId, flightNumber) < 0) {
+                return null;
+            }
+            buffer = DayBuffer.of(schedule);
+            edited.put(epochDay, buffer);
+            return buffer;
+        }
+    }
+
+    private static final class DayBuffer {
+
+        private int size;
+        private int[] route = new int[16];
+        private int[] airline = new int[16];
+        private int[] flightNumber = new int[16];
+        private short[] departure = new short[16];
+        private short[] duration = new short[16];
+        private int[] price = new int[16];
+        private byte[] aircraft = new byte[16];
+        // (havayolu, uçuş numarası) -> satır; yalnızca düzenlenen günler için ilk aramada kurulur
+        private Map<Long, Integer> rowsByFlight;
+
+        static DayBuffer of(DaySchedule day) {
+            DayBuffer buffer = new DayBuffer();
+            for (int row = 0; row < day.size(); row++) {
+                buffer.add(day.route.get(row), day.airline(row), day.flightNumber(row), day.departure(row),
+                        day.duration(row), day.price(row), day.aircraft(row));
+            }
+            return buffer;
+        }
+
+        int indexOf(int airlineId, int number) {
+            if (rowsByFlight == null) {
+                rowsByFlight = new HashMap<>();
+                for (int i = 0; i < size; i++) {
+                    rowsByFlight.put(flightKey(airline[i], flightNumber[i]), i);
+                }
+            }
+            Integer row = rowsByFlight.get(flightKey(airlineId, number));
+            return row == null ? -1 : row;
+        }
+
+        // Son satır boşalan yere taşınır; sıra encode sırasında yeniden kurulur
+        void remove(int row) {
+            int last = --size;
+            if (rowsByFlight != null) {
+                rowsByFlight.remove(flightKey(airline[row], flightNumber[row]));
+                if (row != last) {
+                    rowsByFlight.put(flightKey(airline[last], flightNumber[last]), row);
+                }
+            }
+            route[row] = route[last];
+            airline[row] = airline[last];
+            flightNumber[row] = flightNumber[last];
+            departure[row] = departure[last];
+            duration[row] = duration[last];
+            price[row] = price[last];
+            aircraft[row] = aircraft[last];
+        }
+
+        private static long flightKey(int airlineId, int number) {
+            return ((long) airlineId << 32) | (number & 0xFFFFFFFFL);
+        }
+
+        void add(int routeKey, int airlineId, int number, int dep, int dur, int fare, int aircraftId) {
+            if (size == route.length) {
+                int cap = size * 2;
+                route = Arrays.copyOf(route, cap);
+                airline = Arrays.copyOf(airline, cap);
+                flightNumber = Arrays.copyOf(flightNumber, cap);
+                departure = Arrays.copyOf(departure, cap);
+                duration = Arrays.copyOf(duration, cap);
+                price = Arrays.copyOf(price, cap);
+                aircraft = Arrays.copyOf(aircraft, cap);
+            }
+            route[size] = routeKey;
+            airline[size] = airlineId;
+            flightNumber[size] = number;
+            departure[size] = (short) dep;
+            duration[size] = (short) dur;
+            price[size] = fare;
+            aircraft[size] = (byte) aircraftId;
+            if (rowsByFlight != null) {
+                rowsByFlight.put(flightKey(airlineId, number), size);
+            }
+            size++;
+        }
+
+        ByteBuffer encode(int epochDay, int airlineCount, int cityCount) {
+            // (rota, kalkış) sırasına göre satır permütasyonu
+            long[] packed = new long[size];
+            for (int i = 0; i < size; i++) {
+                packed[i] = ((long) route[i] << 40) | ((long) departure[i] << 24) | i;
+            }
+            Arrays.sort(packed);
+
+            int[] r = new int[size];
+            byte[] a = new byte[size];
+            int[] f = new int[size];
+            short[] dep = new short[size];
+            short[] dur = new short[size];
+            int[] p = new int[size];
+            byte[] ac = new byte[size];
+            for (int i = 0; i < size; i++) {
+                int src = (int) (packed[i] & 0xFFFFFF);
+                r[i] = route[src];
+                a[i] = (byte) airline[src];
+                f[i] = flightNumber[src];
+                dep[i] = departure[src];
+                dur[i] = duration[src];
+                p[i] = price[src];
+                ac[i] = aircraft[src];
+            }
+            return DaySchedule.encode(epochDay, airlineCount, cityCount, r, a, f, dep, dur, p, ac);
+        }
+    }
+}
@@ -0,0 +1,45 @@
+package com.nasan.springaimcpserver.service;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+
+import java.util.List;
+
+/** Uçuş araçlarının yanıt tipleri. */
+public final class FlightResponses {
+
+    private FlightResponses() {
+    }
+
+    public record Flight(String flightNumber, String airline, String from, String to, String date,
+                         String departureTime, String arrivalTime, int price, String currency,
+                         String duration, String aircraft, boolean available) {
+    }
+
+    /** Bir sonuç sayfası; kalan sonuçlar için {@code nextCursor} aynı araca gönderilir. */
+    public record FlightList(List<Flight> flights, int count,
+                             @JsonInclude(JsonInclude.Include.NON_NULL) String nextCursor) {
+    }
+
+    public record FlightPage(List<Flight> flights, int count, int totalMatches, String sortBy,
+                             @JsonInclude(JsonInclude.Include.NON_NULL) String nextCursor) {
+    }
+
+    public record Connection(String city, String layover) {
+    }
+
+    public record Itinerary(int stops, List<Flight> legs, List<Connection> connections, String totalDuration,
+                            int totalPrice, String currency) {
+    }
+
+    public record ItineraryList(List<Itinerary> itineraries, int count) {
+    }
+
+    public record Route(String from, String to, String duration, int dailyFlights, List<String> airlines) {
+    }
+
+    public record RouteList(List<Route> routes) {
+    }
+
+    public record AirlineList(List<FlightInventory.Airline> airlines) {
+    }
+}
@@ -0,0 +1,106 @@
+package com.nasan.springaimcpserver.service;
+
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SplittableRandom;
+
+/**
+ * Örnek iç hat tarifesini üretir (gerçek senaryoda tarife bir veri kaynağından yüklenir).
+ * Aynı başlangıç tarihi için her zaman aynı envanteri üretir.
+ */
+public final class FlightScheduleGenerator {
+
+    // Tarifeli uçuş yapılan şehirler; adlar CityDirectory içindeki kanonik adlarla eşleşmelidir
+    static final List<String> CITIES = List.of(
+        "İstanbul", "Ankara", "İzmir", "Antalya", "Trabzon", "Adana", "Gaziantep"
+    );
+
+    static final List<FlightInventory.Airline> AIRLINES = List.of(
+        new FlightInventory.Airline("TK", "Turkish Airlines", "Türk Hava Yolları"),
+        new FlightInventory.Airline("PC", "Pegasus Airlines", "Pegasus Hava Yolları"),
+        new FlightInventory.Airline("AJ", "AnadoluJet", "AnadoluJet"),
+        new FlightInventory.Airline("XQ", "SunExpress", "SunExpress"),
+        new FlightInventory.Airline("8Q", "Onur Air", "Onur Air"),
+        new FlightInventory.Airline("KK", "AtlasGlobal", "AtlasGlobal")
+    );
+
+    // Tarifeli uçuşu olan havayolları (AIRLINES içindeki indeksler)
+    private static final int[] OPERATING_AIRLINES = {0, 1, 2, 3};
+
+    static final List<String> AIRCRAFT_TYPES = List.of("Boeing 737", "Airbus A320", "Boeing 777", "Airbus A330");
+
+    // Şehirler arası blok süreleri (dakika), CITIES sırasıyla
+    private static final int[][] BLOCK_MINUTES = {
+        //  IST  ANK  IZM  ANT  TZX  ADA  GZT
+        {    0,  90,  80,  90, 105,  95, 100},
+        {   90,   0,  70,  85,  80,  70,  75},
+        {   80,  70,   0,  60, 130,  95, 110},
+        {   90,  85,  60,   0, 110,  65,  85},
+        {  105,  80, 130, 110,   0,  90,  85},
+        {   95,  70,  95,  65,  90,   0,  45},
+        {  100,  75, 110,  85,  85,  45,   0}
+    };
+
+    private static final int FIRST_DEPARTURE = 6 * 60;
+    private static final int LAST_DEPARTURE = 23 * 60;
+
+    private FlightScheduleGenerator() {
+    }
+
+    public static FlightInventory generate(CityDirectory cities, LocalDate firstDate, int dayCount) {
+        List<String> names = new ArrayList<>(CITIES.size());
+        for (String name : CITIES) {
+            City city = cities.find(name);
+            if (city == null) {
+                throw new IllegalStateException("Şehir referans verisinde yok: " + name);
+            }
+            names.add(city.name());
+        }
+        
+        FlightInventory.Builder builder = FlightInventory.builder(names, AIRLINES, AIRCRAFT_TYPES, firstDate, dayCount);
+        SplittableRandom random = new SplittableRandom(firstDate.toEpochDay());
+        int[] nextNumber = new int[AIRLINES.size()];
+
+        for (int d = 0; d < dayCount; d++) {
+            LocalDate date = firstDate.plusDays(d);
+            boolean weekend = date.getDayOfWeek() == DayOfWeek.FRIDAY || date.getDayOfWeek() == DayOfWeek.SUNDAY;
+            for (int i = 0; i < nextNumber.length; i++) {
+                nextNumber[i] = 100;
+            }
+
+            for (int from = 0; from < CITIES.size(); from++) {
+                for (int to = 0; to < CITIES.size(); to++) {
+                    if (from == to) {
+                        continue;
+                    }
+                    int frequency = dailyFrequency(from, to);
+                    int block = BLOCK_MINUTES[from][to];
+                    int spacing = (LAST_DEPARTURE - FIRST_DEPARTURE) / frequency;
+
+                    for (int k = 0; k < frequency; k++) {
+                        int airline = OPERATING_AIRLINES[(from + to + k) % OPERATING_AIRLINES.length];
+                        int departure = FIRST_DEPARTURE + k * spacing + random.nextInt(spacing / 5 + 1) / 5 * 5;
+                        int price = 150 + block * 2 + random.nextInt(20) * 10 + (weekend ? 100 : 0);
+                        int aircraft = block > 120 ? 2 + random.nextInt(2) : random.nextInt(2);
+                        builder.add(date, from, to, airline, nextNumber[airline]++, departure, block, price, aircraft);
+                    }
+                }
+            }
+        }
+
+        return builder.build();
+    }
+
+    private static int dailyFrequency(int from, int to) {
+        // İstanbul ve Ankara aktarma merkezleri olduğundan daha sık sefer yapılır
+        if (from == 0 || to == 0) {
+            return 6;
+        }
+        if (from == 1 || to == 1) {
+            return 4;
+        }
+        return 2;
+    }
+}
@@ -1,10 +1,26 @@
 package com.nasan.springaimcpserver.service;
 
+import com.nasan.springaimcpserver.service.FlightResponses.AirlineList;
+import com.nasan.springaimcpserver.service.FlightResponses.Connection;
+import com.nasan.springaimcpserver.service.FlightResponses.Flight;
+import com.nasan.springaimcpserver.service.FlightResponses.FlightList;
+import com.nasan.springaimcpserver.service.FlightResponses.FlightPage;
+import com.nasan.springaimcpserver.service.FlightResponses.Itinerary;
+import com.nasan.springaimcpserver.service.FlightResponses.ItineraryList;
+import com.nasan.springaimcpserver.service.FlightResponses.Route;
+import com.nasan.springaimcpserver.service.FlightResponses.RouteList;
+import com.nasan.springaimcpserver.tool.PageCursor;
+import com.nasan.springaimcpserver.tool.PageItem;
+import com.nasan.springaimcpserver.tool.ResultStream;
+import com.nasan.springaimcpserver.tool.StaticResult;
+import com.nasan.springaimcpserver.tool.ToolException;
 import org.springframework.ai.tool.annotation.Tool;
+import org.springframework.ai.tool.annotation.ToolParam;
 import org.springframework.stereotype.Service;
+import reactor.core.publisher.Flux;
 
-import java.io.IOException;
 import java.time.LocalDate;
+import java.time.LocalTime;
 import java.time.format.DateTimeFormatter;
 import java.time.format.DateTimeParseException;
 import java.util.*;
@@ -12,257 +28,483 @@ import java.util.*;
 @Service
 public class FlightSearchTool {
 
-    @Tool(name = "flight.searchByDate", description = "Belirli bir tarihteki uçuşları listeler (YYYY-MM-DD formatında)")
-    public List<Map<String, Object>> searchFlightsByDate(String date) {
-        List<Map<String, Object>> flights = new ArrayList<>();
+    /** Sayfalı aramaların sayfa boyutu. */
+    public static final int MAX_RESULTS = 50;
+    private static final int DEFAULT_PAGE_SIZE = 20;
+    private static final int SEARCH_WINDOW_DAYS = 7;
+    private static final int MIN_CONNECTION_MINUTES = 45;
+    private static final int MAX_LAYOVER_MINUTES = 6 * 60;
+
+    // Her çağrı güncel veri sürümünü başta bir kez okur ve çağrı boyunca yalnızca onu kullanır
+    private final ReferenceDataManager datasets;
+
+    public FlightSearchTool(ReferenceDataManager datasets) {
+        this.datasets = datasets;
+    }
+
+    @Tool(name = "flight.searchByDate", description = "Belirli bir tarihteki uçuşları kalkış saatine göre sayfa sayfa listeler "
+            + "(YYYY-MM-DD formatında). Sonraki sayfa için yanıttaki nextCursor değerini gönderin")
+    public FlightList searchFlightsByDate(String date, @ToolParam(required = false, description = "Önceki yanıttaki nextCursor değeri") String cursor) {
+        FlightInventory inventory = datasets.current().flights();
         
-        try {
-            // Tarih formatını kontrol et
-            LocalDate flightDate = LocalDate.parse(date, DateTimeFormatter.ISO_LOCAL_DATE);
-            
-            // Örnek uçuş verileri oluştur (gerçek senaryoda web scraping veya API kullanılır)
-            flights.addAll(generateSampleFlights(flightDate));
-            
-        } catch (DateTimeParseException e) {
-            Map<String, Object> error = new HashMap<>();
-            error.put("error", "Geçersiz tarih formatı. YYYY-MM-DD formatında girin (örn: 2024-03-15)");
-            flights.add(error);
+        // Tarih formatını kontrol et
+        LocalDate flightDate = parseDate(date);
+        
+        // İmleç gün ve günün kalkış sırasındaki konumu taşır; kapsamı tarih ve envanterdir
+        int scope = PageCursor.scope(flightDate, System.identityHashCode(inventory));
+        long position = PageCursor.decode(cursor, "fd", scope);
+        int from = (int) (position & 0xFFFFFF);
+        if (position != 0 && position >>> 24 != flightDate.toEpochDay()) {
+            throw ToolException.invalidArgument("Geçersiz cursor değeri");
+        }
+        
+        ResultStream<Flight> flights = ResultStream.open(MAX_RESULTS);
+        FlightInventory.DaySchedule day = inventory.day(flightDate.toEpochDay());
+        int i = from;
+        if (day != null) {
+            for (; i < day.size() && !flights.isFull(); i++) {
+                flights.add(toFlight(inventory, day, day.rowByDeparture(i)));
+            }
         }
         
-        return flights;
+        String nextCursor = day != null && i < day.size() ? PageCursor.encode("fd", scope, flightDate.toEpochDay() << 24 | i) : null;
+        List<Flight> page = flights.finish();
+        return new FlightList(page, page.size(), nextCursor);
     }
 
-    @Tool(name = "flight.searchByCity", description = "Belirli şehirler arası uçuşları listeler")
-    public List<Map<String, Object>> searchFlightsByCity(String fromCity, String toCity) {
-        List<Map<String, Object>> flights = new ArrayList<>();
+    @Tool(name = "flight.searchByCity", description = "Belirli şehirler arası uçuşları bugünden itibaren sayfa sayfa listeler. "
+            + "Sonraki sayfa için yanıttaki nextCursor değerini gönderin")
+    public FlightList searchFlightsByCity(String fromCity, String toCity, @ToolParam(required = false, description = "Önceki yanıttaki nextCursor değeri") String cursor) {
+        ReferenceData data = datasets.current();
+        FlightInventory inventory = data.flights();
+        int route = routeOf(data, fromCity, toCity);
         
-        if (fromCity == null || toCity == null || fromCity.trim().isEmpty() || toCity.trim().isEmpty()) {
-            Map<String, Object> error = new HashMap<>();
-            error.put("error", "Kalkış ve varış şehri belirtilmelidir");
-            flights.add(error);
-            return flights;
+        // Bugünden (ya da imleçteki günden) itibaren rota indeksini gün gün tara; atlama yalnızca imleçteki güne uygulanır
+        int scope = PageCursor.scope(route, System.identityHashCode(inventory));
+        long position = PageCursor.decode(cursor, "fc", scope);
+        int firstDay = startDay(inventory, position);
+        int skip = (int) (position & 0xFFFFFF);
+        
+        ResultStream<Flight> flights = ResultStream.open(MAX_RESULTS);
+        String nextCursor = null;
+        for (int d = firstDay; d <= inventory.lastEpochDay() && nextCursor == null; d++) {
+            FlightInventory.DaySchedule day = inventory.day(d);
+            int begin = day.routeBegin(route);
+            if (begin < 0) {
+                continue;
+            }
+            int end = day.routeEnd(route);
+            for (int row = begin + (d == firstDay ? skip : 0); row < end; row++) {
+                if (flights.isFull()) {
+                    nextCursor = PageCursor.encode("fc", scope, (long) d << 24 | (row - begin));
+                    break;
+                }
+                flights.add(toFlight(inventory, day, row));
+            }
         }
         
-        // Şehir isimlerini normalize et
-        fromCity = normalizeCity(fromCity);
-        toCity = normalizeCity(toCity);
+        List<Flight> page = flights.finish();
+        return new FlightList(page, page.size(), nextCursor);
+    }
+
+    /**
+     * {@code flight.searchByCity} aramasının reaktif karşılığı (ASYNC profili). Uçuşlar imleçteki konumdan
+     * itibaren rota indeksi gün gün taranırken, senkron aramayla aynı imleçleriyle yayımlanır; abone sayfayı
+     * doldurduğunda tarama durur.
+     */
+    public Flux<PageItem<Flight>> streamFlightsByCity(String fromCity, String toCity, String cursor) {
+        return Flux.defer(() -> {
+            ReferenceData data = datasets.current();
+            FlightInventory inventory = data.flights();
+            int route = routeOf(data, fromCity, toCity);
+            int scope = PageCursor.scope(route, System.identityHashCode(inventory));
+            long position = PageCursor.decode(cursor, "fc", scope);
+            int firstDay = startDay(inventory, position);
+            int skip = (int) (position & 0xFFFFFF);
+            return Flux.range(firstDay, Math.max(0, inventory.lastEpochDay() - firstDay + 1))
+                    .concatMap(d -> {
+                        FlightInventory.DaySchedule day = inventory.day(d);
+                        int begin = day.routeBegin(route);
+                        if (begin < 0) {
+                            return Flux.empty();
+                        }
+                        int first = begin + (d == firstDay ? skip : 0);
+                        return Flux.range(first, Math.max(0, day.routeEnd(route) - first))
+                                .map(row -> new PageItem<>(toFlight(inventory, day, row),
+                                        PageCursor.encode("fc", scope, (long) d << 24 | (row - begin))));
+                    });
+        });
+    }
+
+    @Tool(name = "flight.searchByAirline", description = "Belirli havayolu şirketinin uçuşlarını bugünden itibaren sayfa sayfa listeler. "
+            + "Sonraki sayfa için yanıttaki nextCursor değerini gönderin")
+    public FlightList searchFlightsByAirline(String airlineName, @ToolParam(required = false, description = "Önceki yanıttaki nextCursor değeri") String cursor) {
+        FlightInventory inventory = datasets.current().flights();
+        if (airlineName == null || airlineName.trim().isEmpty()) {
+            throw ToolException.invalidArgument("Havayolu şirketi adı belirtilmelidir");
+        }
         
-        flights.addAll(generateCityFlights(fromCity, toCity));
+        int airline = inventory.airlineId(airlineName);
+        if (airline < 0) {
+            throw ToolException.notFound("Havayolu şirketi bulunamadı: " + airlineName);
+        }
+        
+        int scope = PageCursor.scope(airline, System.identityHashCode(inventory));
+        long position = PageCursor.decode(cursor, "fa", scope);
+        int firstDay = startDay(inventory, position);
+        int skip = (int) (position & 0xFFFFFF);
         
-        return flights;
+        ResultStream<Flight> flights = ResultStream.open(MAX_RESULTS);
+        String nextCursor = null;
+        for (int d = firstDay; d <= inventory.lastEpochDay() && nextCursor == null; d++) {
+            FlightInventory.DaySchedule day = inventory.day(d);
+            int begin = day.airlineBegin(airline);
+            int end = day.airlineEnd(airline);
+            for (int i = begin + (d == firstDay ? skip : 0); i < end; i++) {
+                if (flights.isFull()) {
+                    nextCursor = PageCursor.encode("fa", scope, (long) d << 24 | (i - begin));
+                    break;
+                }
+                flights.add(toFlight(inventory, day, day.airlineRow(i)));
+            }
+        }
+        
+        List<Flight> page = flights.finish();
+        return new FlightList(page, page.size(), nextCursor);
     }
 
-    @Tool(name = "flight.searchByAirline", description = "Belirli havayolu şirketinin uçuşlarını listeler")
-    public List<Map<String, Object>> searchFlightsByAirline(String airlineName) {
-        List<Map<String, Object>> flights = new ArrayList<>();
+    @Tool(name = "flight.search", description = "Uçuşları kalkış/varış şehri, tarih aralığı, havayolu, azami fiyat ve kalkış saati aralığına göre arar; "
+            + "sonuçları fiyata (price) veya süreye (duration) göre sıralayıp sayfa sayfa döner. Sonraki sayfa için yanıttaki nextCursor değerini gönderin")
+    public FlightPage searchFlights(
+            @ToolParam(required = false, description = "Kalkış şehri") String fromCity,
+            @ToolParam(required = false, description = "Varış şehri") String toCity,
+            @ToolParam(required = false, description = "Başlangıç tarihi (YYYY-MM-DD), varsayılan bugün") String dateFrom,
+            @ToolParam(required = false, description = "Bitiş tarihi (YYYY-MM-DD), varsayılan başlangıçtan 7 gün") String dateTo,
+            @ToolParam(required = false, description = "Havayolu adı veya kodu (örn: TK)") String airline,
+            @ToolParam(required = false, description = "Azami bilet fiyatı (TL)") Integer maxPrice,
+            @ToolParam(required = false, description = "En erken kalkış saati (HH:mm)") String departureAfter,
+            @ToolParam(required = false, description = "En geç kalkış saati (HH:mm)") String departureBefore,
+            @ToolParam(required = false, description = "Sıralama ölçütü: price veya duration, varsayılan price") String sortBy,
+            @ToolParam(required = false, description = "Sayfa boyutu (1-50), varsayılan 20") Integer limit,
+            @ToolParam(required = false, description = "Önceki yanıttaki nextCursor değeri") String cursor) {
+        ReferenceData data = datasets.current();
+        FlightInventory inventory = data.flights();
+        int from = -1;
+        int to = -1;
+        if (fromCity != null && !fromCity.trim().isEmpty()) {
+            fromCity = normalizeCity(data, fromCity);
+            from = inventory.cityId(fromCity);
+            if (from < 0) {
+                throw ToolException.notFound("Bu şehir için uçuş bulunamadı: " + fromCity);
+            }
+        }
+        if (toCity != null && !toCity.trim().isEmpty()) {
+            toCity = normalizeCity(data, toCity);
+            to = inventory.cityId(toCity);
+            if (to < 0) {
+                throw ToolException.notFound("Bu şehir için uçuş bulunamadı: " + toCity);
+            }
+        }
         
-        if (airlineName == null || airlineName.trim().isEmpty()) {
-            Map<String, Object> error = new HashMap<>();
-            error.put("error", "Havayolu şirketi adı belirtilmelidir");
-            flights.add(error);
-            return flights;
+        int airlineId = -1;
+        if (airline != null && !airline.trim().isEmpty()) {
+            airlineId = inventory.airlineId(airline);
+            if (airlineId < 0) {
+                throw ToolException.notFound("Havayolu şirketi bulunamadı: " + airline);
+            }
+        }
+        
+        boolean byDuration;
+        if (sortBy == null || sortBy.isBlank() || sortBy.equalsIgnoreCase("price")) {
+            byDuration = false;
+        } else if (sortBy.equalsIgnoreCase("duration")) {
+            byDuration = true;
+        } else {
+            throw ToolException.invalidArgument("Sıralama ölçütü price veya duration olmalıdır");
+        }
+        
+        int firstDay;
+        int lastDay;
+        int earliest;
+        int latest;
+        try {
+            firstDay = dateFrom == null || dateFrom.isBlank()
+                    ? (int) LocalDate.now().toEpochDay()
+                    : (int) LocalDate.parse(dateFrom, DateTimeFormatter.ISO_LOCAL_DATE).toEpochDay();
+            lastDay = dateTo == null || dateTo.isBlank()
+                    ? firstDay + SEARCH_WINDOW_DAYS - 1
+                    : (int) LocalDate.parse(dateTo, DateTimeFormatter.ISO_LOCAL_DATE).toEpochDay();
+            earliest = departureAfter == null || departureAfter.isBlank() ? 0 : LocalTime.parse(departureAfter).toSecondOfDay() / 60;
+            latest = departureBefore == null || departureBefore.isBlank() ? 24 * 60 - 1 : LocalTime.parse(departureBefore).toSecondOfDay() / 60;
+        } catch (DateTimeParseException e) {
+            throw ToolException.invalidArgument("Geçersiz tarih veya saat formatı. Tarih için YYYY-MM-DD, saat için HH:mm kullanın");
+        }
+        if (lastDay < firstDay) {
+            throw ToolException.invalidArgument("Bitiş tarihi başlangıç tarihinden önce olamaz");
+        }
+        
+        // İmleç, önceki sayfanın son sıralama anahtarıdır; türü sıralama ölçütünü, kapsamı ise filtreleri ve
+        // anahtardaki gün ofsetinin bağlı olduğu envanteri doğrular
+        String cursorKind = byDuration ? "sd" : "sp";
+        int scope = PageCursor.scope(from, to, airlineId, maxPrice, firstDay, lastDay, earliest, latest,
+                System.identityHashCode(inventory));
+        long after = cursor == null || cursor.isBlank() ? -1 : PageCursor.decode(cursor, cursorKind, scope);
+        
+        int pageSize = limit == null ? DEFAULT_PAGE_SIZE : Math.max(1, Math.min(limit, MAX_RESULTS));
+        int priceCap = maxPrice == null ? Integer.MAX_VALUE : maxPrice;
+        
+        // Sayfadan bir fazla anahtar tutulur; fazlası sonraki sayfanın varlığını gösterir
+        BoundedLongHeap heap = new BoundedLongHeap(pageSize + 1);
+        int totalMatches = 0;
+        int route = from >= 0 && to >= 0 ? inventory.route(from, to) : -1;
+        int scanFirst = Math.max(firstDay, inventory.firstEpochDay());
+        int scanLast = Math.min(lastDay, inventory.lastEpochDay());
+        
+        for (int d = scanFirst; d <= scanLast; d++) {
+            FlightInventory.DaySchedule day = inventory.day(d);
+            int dayOffset = d - inventory.firstEpochDay();
+            
+            // En seçici indeksi kullan: rota, havayolu ya da günün tamamı
+            int begin;
+            int end;
+            boolean airlineIndex = false;
+            if (route >= 0) {
+                begin = day.routeBegin(route);
+                end = day.routeEnd(route);
+                if (begin < 0) {
+                    continue;
+                }
+            } else if (airlineId >= 0) {
+                begin = day.airlineBegin(airlineId);
+                end = day.airlineEnd(airlineId);
+                airlineIndex = true;
+            } else {
+                begin = 0;
+                end = day.size();
+            }
+            
+            for (int i = begin; i < end; i++) {
+                int row = airlineIndex ? day.airlineRow(i) : i;
+                if ((from >= 0 && day.fromCity(row) != from)
+                        || (to >= 0 && day.toCity(row) != to)
+                        || (airlineId >= 0 && day.airline(row) != airlineId)
+                        || day.price(row) > priceCap
+                        || day.departure(row) < earliest
+                        || day.departure(row) > latest) {
+                    continue;
+                }
+                totalMatches++;
+                long key = sortKey(byDuration ? day.duration(row) : day.price(row), dayOffset, row);
+                if (key > after) {
+                    heap.offer(key);
+                }
+            }
+        }
+        
+        long[] keys = heap.toSortedArray();
+        int count = Math.min(keys.length, pageSize);
+        List<Flight> flights = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            long key = keys[i];
+            FlightInventory.DaySchedule day = inventory.day(inventory.firstEpochDay() + (int) ((key >>> 24) & 0xFFF));
+            flights.add(toFlight(inventory, day, (int) (key & 0xFFFFFF)));
+        }
+        
+        String nextCursor = keys.length > pageSize ? PageCursor.encode(cursorKind, scope, keys[count - 1]) : null;
+        return new FlightPage(flights, count, totalMatches, byDuration ? "duration" : "price", nextCursor);
+    }
+
+    @Tool(name = "flight.findItineraries", description = "İki şehir arasında belirli bir tarihte direkt, tek veya iki aktarmalı en iyi yolculukları "
+            + "toplam yolculuk süresine göre listeler (aktarmalarda asgari bağlantı süresi gözetilir)")
+    public ItineraryList findItineraries(
+            String fromCity,
+            String toCity,
+            @ToolParam(description = "Kalkış tarihi (YYYY-MM-DD)") String date,
+            @ToolParam(required = false, description = "Azami aktarma sayısı (0-2), varsayılan 2") Integer maxStops,
+            @ToolParam(required = false, description = "Sonuç sayısı (1-20), varsayılan 5") Integer limit,
+            @ToolParam(required = false, description = "Asgari bağlantı süresi (dakika), varsayılan 45") Integer minConnectionMinutes) {
+        ReferenceData data = datasets.current();
+        FlightInventory inventory = data.flights();
+        if (fromCity == null || toCity == null || fromCity.trim().isEmpty() || toCity.trim().isEmpty()) {
+            throw ToolException.invalidArgument("Kalkış ve varış şehri belirtilmelidir");
+        }
+        
+        fromCity = normalizeCity(data, fromCity);
+        toCity = normalizeCity(data, toCity);
+        int from = inventory.cityId(fromCity);
+        int to = inventory.cityId(toCity);
+        if (from < 0 || to < 0) {
+            throw ToolException.notFound("Bu şehirler için uçuş bulunamadı: " + (from < 0 ? fromCity : toCity));
         }
         
-        flights.addAll(generateAirlineFlights(airlineName));
+        int epochDay = (int) parseDate(date).toEpochDay();
+        
+        int stops = maxStops == null ? ItineraryPlanner.MAX_STOPS : maxStops;
+        int count = limit == null ? 5 : Math.max(1, Math.min(limit, 20));
+        int minConnection = minConnectionMinutes == null ? MIN_CONNECTION_MINUTES : Math.max(0, minConnectionMinutes);
         
-        return flights;
+        List<Itinerary> itineraries = new ArrayList<>();
+        for (ItineraryPlanner.Itinerary itinerary : ItineraryPlanner.search(inventory, from, to, epochDay, stops,
+                count, minConnection, MAX_LAYOVER_MINUTES)) {
+            itineraries.add(toItinerary(inventory, itinerary));
+        }
+        
+        return new ItineraryList(itineraries, itineraries.size());
     }
 
+    @StaticResult
     @Tool(name = "flight.getPopularRoutes", description = "Popüler uçuş rotalarını listeler")
-    public List<Map<String, Object>> getPopularRoutes() {
-        List<Map<String, Object>> routes = new ArrayList<>();
+    public RouteList getPopularRoutes() {
+        FlightInventory inventory = datasets.current().flights();
+        List<Route> routes = new ArrayList<>();
         
         String[][] popularRoutes = {
-            {"İstanbul", "Ankara", "1h 30m"},
-            {"İstanbul", "İzmir", "1h 20m"},
-            {"İstanbul", "Antalya", "1h 30m"},
-            {"Ankara", "İzmir", "1h 10m"},
-            {"İstanbul", "Trabzon", "1h 45m"},
-            {"İstanbul", "Adana", "1h 35m"},
-            {"İstanbul", "Gaziantep", "1h 40m"},
-            {"Ankara", "Antalya", "1h 25m"}
+            {"İstanbul", "Ankara"},
+            {"İstanbul", "İzmir"},
+            {"İstanbul", "Antalya"},
+            {"Ankara", "İzmir"},
+            {"İstanbul", "Trabzon"},
+            {"İstanbul", "Adana"},
+            {"İstanbul", "Gaziantep"},
+            {"Ankara", "Antalya"}
         };
         
         for (String[] route : popularRoutes) {
-            Map<String, Object> routeInfo = new HashMap<>();
-            routeInfo.put("from", route[0]);
-            routeInfo.put("to", route[1]);
-            routeInfo.put("duration", route[2]);
-            routeInfo.put("dailyFlights", (int)(Math.random() * 20) + 5);
-            routeInfo.put("airlines", getAirlinesForRoute());
-            routes.add(routeInfo);
+            int from = inventory.cityId(route[0]);
+            int to = inventory.cityId(route[1]);
+            if (from < 0 || to < 0) {
+                continue;
+            }
+            
+            // Sefer sayısı, süre ve havayolları envanterdeki tarifeden hesaplanır
+            int key = inventory.route(from, to);
+            int flights = 0;
+            int duration = 0;
+            int[] perAirline = new int[inventory.airlineCount()];
+            for (int d = inventory.firstEpochDay(); d <= inventory.lastEpochDay(); d++) {
+                FlightInventory.DaySchedule day = inventory.day(d);
+                int begin = day.routeBegin(key);
+                if (begin < 0) {
+                    continue;
+                }
+                for (int row = begin; row < day.routeEnd(key); row++) {
+                    flights++;
+                    duration = day.duration(row);
+                    perAirline[day.airline(row)]++;
+                }
+            }
+            if (flights == 0) {
+                continue;
+            }
+            
+            List<String> airlines = new ArrayList<>();
+            for (int a = 0; a < perAirline.length; a++) {
+                if (perAirline[a] > 0) {
+                    airlines.add(inventory.airline(a).name());
+                }
+            }
+            int days = inventory.lastEpochDay() - inventory.firstEpochDay() + 1;
+            
+            routes.add(new Route(route[0], route[1], FlightInventory.durationLabel(duration),
+                    Math.round((float) flights / days), airlines));
         }
         
-        return routes;
+        return new RouteList(routes);
     }
 
+    @StaticResult
     @Tool(name = "flight.getAirlines", description = "Mevcut havayolu şirketlerini listeler")
-    public List<Map<String, String>> getAirlines() {
-        List<Map<String, String>> airlines = new ArrayList<>();
-        
-        String[][] airlineData = {
-            {"Turkish Airlines", "TK", "Türk Hava Yolları"},
-            {"Pegasus Airlines", "PC", "Pegasus Hava Yolları"},
-            {"AnadoluJet", "AJ", "AnadoluJet"},
-            {"SunExpress", "XQ", "SunExpress"},
-            {"Onur Air", "8Q", "Onur Air"},
-            {"AtlasGlobal", "KK", "AtlasGlobal"}
-        };
-        
-        for (String[] airline : airlineData) {
-            Map<String, String> airlineInfo = new HashMap<>();
-            airlineInfo.put("name", airline[0]);
-            airlineInfo.put("code", airline[1]);
-            airlineInfo.put("turkishName", airline[2]);
-            airlines.add(airlineInfo);
-        }
-        
-        return airlines;
+    public AirlineList getAirlines() {
+        FlightInventory inventory = datasets.current().flights();
+        return new AirlineList(inventory.airlines());
     }
 
     // Yardımcı metodlar
-    private List<Map<String, Object>> generateSampleFlights(LocalDate date) {
-        List<Map<String, Object>> flights = new ArrayList<>();
-        String[] cities = {"İstanbul", "Ankara", "İzmir", "Antalya", "Trabzon", "Adana"};
-        String[] airlines = {"Turkish Airlines", "Pegasus", "AnadoluJet", "SunExpress"};
-        
-        for (int i = 0; i < 8; i++) {
-            Map<String, Object> flight = new HashMap<>();
-            flight.put("flightNumber", airlines[i % airlines.length].substring(0, 2) + String.format("%03d", 100 + i));
-            flight.put("airline", airlines[i % airlines.length]);
-            flight.put("from", cities[i % cities.length]);
-            flight.put("to", cities[(i + 1) % cities.length]);
-            flight.put("date", date.toString());
-            flight.put("departureTime", String.format("%02d:%02d", 8 + (i * 2), (i * 15) % 60));
-            flight.put("arrivalTime", String.format("%02d:%02d", 10 + (i * 2), (i * 15) % 60));
-            flight.put("price", 150 + (i * 50));
-            flight.put("currency", "TL");
-            flight.put("duration", String.format("1h %02dm", 20 + (i * 10)));
-            flights.add(flight);
-        }
+    private static Flight toFlight(FlightInventory inventory, FlightInventory.DaySchedule day, int row) {
+        FlightInventory.Airline airline = inventory.airline(day.airline(row));
+        int number = day.flightNumber(row);
         
-        return flights;
+        return new Flight(
+                airline.code() + (number < 100 ? (number < 10 ? "00" : "0") : "") + number,
+                airline.name(),
+                inventory.city(day.fromCity(row)),
+                inventory.city(day.toCity(row)),
+                inventory.dateLabel(day.epochDay()),
+                FlightInventory.timeLabel(day.departure(row)),
+                FlightInventory.timeLabel(day.arrival(row)),
+                day.price(row),
+                "TL",
+                FlightInventory.durationLabel(day.duration(row)),
+                inventory.aircraftType(day.aircraft(row)),
+                true);
     }
     
-    private List<Map<String, Object>> generateCityFlights(String fromCity, String toCity) {
-        List<Map<String, Object>> flights = new ArrayList<>();
-        String[] airlines = {"Turkish Airlines", "Pegasus", "AnadoluJet", "SunExpress"};
-        
-        for (int i = 0; i < 5; i++) {
-            Map<String, Object> flight = new HashMap<>();
-            flight.put("flightNumber", airlines[i % airlines.length].substring(0, 2) + String.format("%03d", 200 + i));
-            flight.put("airline", airlines[i % airlines.length]);
-            flight.put("from", fromCity);
-            flight.put("to", toCity);
-            flight.put("date", LocalDate.now().plusDays(i).toString());
-            flight.put("departureTime", String.format("%02d:%02d", 9 + (i * 3), (i * 20) % 60));
-            flight.put("arrivalTime", String.format("%02d:%02d", 11 + (i * 3), (i * 20) % 60));
-            flight.put("price", 200 + (i * 75));
-            flight.put("currency", "TL");
-            flight.put("duration", calculateFlightDuration(fromCity, toCity));
-            flight.put("available", true);
-            flights.add(flight);
+    private static Itinerary toItinerary(FlightInventory inventory, ItineraryPlanner.Itinerary itinerary) {
+        List<Flight> legs = new ArrayList<>(itinerary.legs().length);
+        List<Connection> connections = new ArrayList<>();
+        long previousArrival = -1;
+        
+        for (long leg : itinerary.legs()) {
+            FlightInventory.DaySchedule day = inventory.day(inventory.firstEpochDay() + (int) (leg >>> 24));
+            int row = (int) (leg & 0xFFFFFF);
+            long departure = (leg >>> 24) * FlightInventory.MINUTES_PER_DAY + day.departure(row);
+            if (previousArrival >= 0) {
+                connections.add(new Connection(inventory.city(day.fromCity(row)),
+                        FlightInventory.durationLabel((int) (departure - previousArrival))));
+            }
+            legs.add(toFlight(inventory, day, row));
+            previousArrival = departure + day.duration(row);
         }
         
-        return flights;
+        return new Itinerary(itinerary.stops(), legs, connections,
+                FlightInventory.durationLabel(itinerary.totalMinutes()), itinerary.totalPrice(), "TL");
     }
     
-    private List<Map<String, Object>> generateAirlineFlights(String airlineName) {
-        List<Map<String, Object>> flights = new ArrayList<>();
-        String[] cities = {"İstanbul", "Ankara", "İzmir", "Antalya", "Trabzon"};
-        
-        for (int i = 0; i < 6; i++) {
-            Map<String, Object> flight = new HashMap<>();
-            flight.put("flightNumber", getAirlineCode(airlineName) + String.format("%03d", 300 + i));
-            flight.put("airline", airlineName);
-            flight.put("from", cities[i % cities.length]);
-            flight.put("to", cities[(i + 2) % cities.length]);
-            flight.put("date", LocalDate.now().plusDays(i % 7).toString());
-            flight.put("departureTime", String.format("%02d:%02d", 7 + (i * 2), (i * 25) % 60));
-            flight.put("arrivalTime", String.format("%02d:%02d", 9 + (i * 2), (i * 25) % 60));
-            flight.put("price", 180 + (i * 60));
-            flight.put("currency", "TL");
-            flight.put("aircraft", getAircraftType(airlineName));
-            flights.add(flight);
+    // Kalkış ve varış şehrini doğrulayıp rota anahtarını döner
+    private static int routeOf(ReferenceData data, String fromCity, String toCity) {
+        if (fromCity == null || toCity == null || fromCity.trim().isEmpty() || toCity.trim().isEmpty()) {
+            throw ToolException.invalidArgument("Kalkış ve varış şehri belirtilmelidir");
         }
         
-        return flights;
-    }
-    
-    private String normalizeCity(String city) {
-        Map<String, String> cityMap = Map.of(
-            "istanbul", "İstanbul",
-            "ankara", "Ankara",
-            "izmir", "İzmir",
-            "antalya", "Antalya",
-            "trabzon", "Trabzon",
-            "adana", "Adana"
-        );
-        
-        return cityMap.getOrDefault(city.toLowerCase(), 
-            city.substring(0, 1).toUpperCase() + city.substring(1).toLowerCase());
-    }
-    
-    private String calculateFlightDuration(String fromCity, String toCity) {
-        Map<String, Integer> durations = Map.of(
-            "İstanbul-Ankara", 90,
-            "İstanbul-İzmir", 80,
-            "İstanbul-Antalya", 90,
-            "Ankara-İzmir", 70,
-            "İstanbul-Trabzon", 105
-        );
-        
-        String route = fromCity + "-" + toCity;
-        int minutes = durations.getOrDefault(route, 
-                     durations.getOrDefault(toCity + "-" + fromCity, 95));
-        
-        return String.format("%dh %02dm", minutes / 60, minutes % 60);
-    }
-    
-    private List<String> getAirlinesForRoute() {
-        List<String> airlines = Arrays.asList("Turkish Airlines", "Pegasus", "AnadoluJet");
-        Collections.shuffle(airlines);
-        return airlines.subList(0, 2);
+        // Şehir isimlerini normalize et
+        fromCity = normalizeCity(data, fromCity);
+        toCity = normalizeCity(data, toCity);
+        
+        FlightInventory inventory = data.flights();
+        int from = inventory.cityId(fromCity);
+        int to = inventory.cityId(toCity);
+        if (from < 0 || to < 0) {
+            throw ToolException.notFound("Bu şehirler için uçuş bulunamadı: " + (from < 0 ? fromCity : toCity));
+        }
+        return inventory.route(from, to);
     }
     
-    private String getAirlineCode(String airlineName) {
-        Map<String, String> codes = Map.of(
-            "Turkish Airlines", "TK",
-            "Pegasus", "PC", 
-            "AnadoluJet", "AJ",
-            "SunExpress", "XQ"
-        );
-        
-        return codes.getOrDefault(airlineName, "XX");
+    // İmleçsiz arama bugünden başlar; imleçteki gün ise envanter aralığında olmalıdır, yoksa imleç eskimiştir
+    private static int startDay(FlightInventory inventory, long position) {
+        if (position == 0) {
+            return Math.max((int) LocalDate.now().toEpochDay(), inventory.firstEpochDay());
+        }
+        long day = position >>> 24;
+        if (day < inventory.firstEpochDay() || day > inventory.lastEpochDay()) {
+            throw ToolException.invalidArgument("Geçersiz cursor değeri");
+        }
+        return (int) day;
     }
     
-    private String getAircraftType(String airlineName) {
-        String[] aircrafts = {"Boeing 737", "Airbus A320", "Boeing 777", "Airbus A330"};
-        return aircrafts[Math.abs(airlineName.hashCode()) % aircrafts.length];
+    private static LocalDate parseDate(String date) {
+        try {
+            return LocalDate.parse(date, DateTimeFormatter.ISO_LOCAL_DATE);
+        } catch (DateTimeParseException | NullPointerException e) {
+            throw ToolException.invalidArgument("Geçersiz tarih formatı. YYYY-MM-DD formatında girin (örn: 2024-03-15)");
+        }
     }
     
-    private String buildSearchUrl(String fromCity, String toCity, String date) {
-        // Gerçek senaryoda bir uçuş arama sitesinin URL'si oluşturulur
-        return String.format("https://example-flights.com/search?from=%s&to=%s&date=%s", 
-                           fromCity.toLowerCase(), toCity.toLowerCase(), date);
+    // Sıralama anahtarı: ölçüt (27 bit) | gün ofseti (12 bit) | satır (24 bit)
+    private static long sortKey(int metric, int dayOffset, int row) {
+        return ((long) Math.min(metric, (1 << 27) - 1) << 36) | ((long) dayOffset << 24) | row;
     }
     
-    private List<Map<String, Object>> generateSampleFlightsForRoute(String fromCity, String toCity, String date) {
-        List<Map<String, Object>> flights = new ArrayList<>();
-        
-        for (int i = 0; i < 3; i++) {
-            Map<String, Object> flight = new HashMap<>();
-            flight.put("flightNumber", "TK" + String.format("%03d", 400 + i));
-            flight.put("airline", "Turkish Airlines");
-            flight.put("from", fromCity);
-            flight.put("to", toCity);
-            flight.put("date", date);
-            flight.put("departureTime", String.format("%02d:%02d", 10 + (i * 4), 0));
-            flight.put("price", 250 + (i * 100));
-            flight.put("currency", "TL");
-            flights.add(flight);
-        }
-        
-        return flights;
+    private static String normalizeCity(ReferenceData data, String city) {
+        return data.cities().canonicalName(city);
     }
 }
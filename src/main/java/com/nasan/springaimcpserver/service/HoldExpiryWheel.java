@@ -0,0 +1,85 @@
+package com.nasan.springaimcpserver.service;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+
+/**
+ * Hash'lenmiş zamanlayıcı çarkı. Her yuva bir tik süresini temsil eder ve kilitsiz bir
+ * kuyruk tutar; kayıt O(1), her tikte yalnızca o anki yuva taranır. Süresi
+ * çark turundan uzun olan girişler yeniden kuyruğa alınır.
+ */
+final class HoldExpiryWheel<T> implements AutoCloseable {
+
+    private static final Logger log = LoggerFactory.getLogger(HoldExpiryWheel.class);
+
+    private record Entry<T>(T value, long deadlineNanos) {
+    }
+
+    private final long tickNanos;
+    private final Queue<Entry<T>>[] slots;
+    private final Consumer<T> onExpire;
+    private final ScheduledExecutorService ticker;
+    private volatile long currentTick;
+
+    @SuppressWarnings("unchecked")
+    HoldExpiryWheel(long tickMillis, int slotCount, Consumer<T> onExpire) {
+        this.tickNanos = TimeUnit.MILLISECONDS.toNanos(tickMillis);
+        this.slots = (Queue<Entry<T>>[]) new Queue<?>[slotCount];
+        for (int i = 0; i < slotCount; i++) {
+            slots[i] = new ConcurrentLinkedQueue<>();
+        }
+        this.onExpire = onExpire;
+        this.currentTick = System.nanoTime() / tickNanos;
+        this.ticker = Executors.newSingleThreadScheduledExecutor(r -> {
+            Thread thread = new Thread(r, "hold-expiry-wheel");
+            thread.setDaemon(true);
+            return thread;
+        });
+        ticker.scheduleAtFixedRate(this::advance, tickMillis, tickMillis, TimeUnit.MILLISECONDS);
+    }
+
+    void schedule(T value, long deadlineNanos) {
+        // Son tarihi içeren tikin bitişindeki yuvaya yerleştirilir; yuva işlendiğinde süre dolmuş olur
+        long tick = Math.max(deadlineNanos / tickNanos + 1, currentTick + 1);
+        slots[(int) (tick % slots.length)].add(new Entry<>(value, deadlineNanos));
+    }
+
+    private void advance() {
+        long now = System.nanoTime();
+        long target = now / tickNanos;
+        // Gecikmeli tiklerde aradaki yuvalar da işlenir (en fazla bir tur)
+        for (long tick = Math.max(currentTick + 1, target - slots.length + 1); tick <= target; tick++) {
+            Queue<Entry<T>> slot = slots[(int) (tick % slots.length)];
+            int pending = slot.size();
+            for (int i = 0; i < pending; i++) {
+                Entry<T> entry = slot.poll();
+                if (entry == null) {
+                    break;
+                }
+                if (entry.deadlineNanos() - now <= 0) {
+                    try {
+                        onExpire.accept(entry.value());
+                    } catch (RuntimeException e) {
+                        // Bir girişin hatası çarkı durdurmamalı
+                        log.warn("Süresi dolan giriş işlenemedi: {}", entry.value(), e);
+                    }
+                } else {
+                    slot.add(entry);
+                }
+            }
+            currentTick = tick;
+        }
+    }
+
+    @Override
+    public void close() {
+        ticker.shutdownNow();
+    }
+}
@@ -0,0 +1,8 @@
+package com.nasan.springaimcpserver.service;
+
+import java.util.List;
+
+public record Hotel(String name, String city, String type, double rating, int pricePerNight,
+                    int starRating, List<String> amenities, double distanceKm) {
+
+}
@@ -0,0 +1,216 @@
+package com.nasan.springaimcpserver.service;
+
+import java.time.LocalDate;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicIntegerArray;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * Otel ve oda tipi bazında gecelik müsaitlik envanteri. Her (otel, oda tipi) için
+ * gecelik boş oda sayaçları ve "en az bir boş oda var" bit kümesi tutulur.
+ * Tarih aralığı sorguları bit kümesi üzerinde 64 gecelik kelimelerle AND işlemiyle,
+ * tutma/bırakma işlemleri sayaçlar üzerinde CAS ile yapılır; genel bir kilit yoktur.
+ * Envanter referans verisi sürümlerinden bağımsızdır: katalog yenilendiğinde tutmalar korunur,
+ * yalnızca yeni otellere envanter açılır.
+ */
+public class HotelAvailability {
+
+    static final int HORIZON_DAYS = 365;
+
+    private final int firstEpochDay;
+    private final int days;
+    private final Map<String, RoomInventory[]> hotels;
+
+    /** Boş envanter; oteller {@link #register(HotelCatalog)} ile açılır. */
+    public HotelAvailability() {
+        this.firstEpochDay = (int) LocalDate.now().toEpochDay();
+        this.days = HORIZON_DAYS;
+        this.hotels = new ConcurrentHashMap<>();
+    }
+
+    /** Katalogda olup henüz envanteri olmayan oteller için envanter açar; mevcut envanterlere dokunmaz. */
+    public void register(HotelCatalog catalog) {
+        for (String city : catalog.cities()) {
+            for (Hotel hotel : catalog.hotels(city)) {
+                hotels.computeIfAbsent(hotel.name(), name -> initialInventory(hotel, days));
+            }
+        }
+    }
+
+    /** Otelin {@code [checkIn, checkOut)} gecelerinin tamamında boş odası olan oda tipleri. */
+    public List<RoomType> availableRoomTypes(String hotelName, LocalDate checkIn, LocalDate checkOut) {
+        RoomInventory[] rooms = hotels.get(hotelName);
+        int from = offset(checkIn);
+        int to = offset(checkOut);
+        if (rooms == null || !inHorizon(from, to)) {
+            return List.of();
+        }
+        List<RoomType> available = new ArrayList<>(rooms.length);
+        for (RoomType type : RoomType.values()) {
+            RoomInventory inventory = rooms[type.ordinal()];
+            if (inventory != null && inventory.allNightsAvailable(from, to)) {
+                available.add(type);
+            }
+        }
+        return available;
+    }
+
+    public boolean isAvailable(String hotelName, RoomType type, LocalDate checkIn, LocalDate checkOut) {
+        RoomInventory inventory = inventory(hotelName, type);
+        int from = offset(checkIn);
+        int to = offset(checkOut);
+        return inventory != null && inHorizon(from, to) && inventory.allNightsAvailable(from, to);
+    }
+
+    /** Her gece için bir oda ayırır. Gecelerden biri doluysa hiçbir değişiklik yapmadan false döner. */
+    public boolean hold(String hotelName, RoomType type, LocalDate checkIn, LocalDate checkOut) {
+        RoomInventory inventory = inventory(hotelName, type);
+        int from = offset(checkIn);
+        int to = offset(checkOut);
+        return inventory != null && inHorizon(from, to) && inventory.take(from, to);
+    }
+
+    /** Daha önce {@link #hold} ile ayrılan odayı geri bırakır. */
+    public void release(String hotelName, RoomType type, LocalDate checkIn, LocalDate checkOut) {
+        RoomInventory inventory = inventory(hotelName, type);
+        int from = offset(checkIn);
+        int to = offset(checkOut);
+        if (inventory != null && inHorizon(from, to)) {
+            inventory.give(from, to);
+        }
+    }
+
+    public boolean covers(LocalDate checkIn, LocalDate checkOut) {
+        return inHorizon(offset(checkIn), offset(checkOut));
+    }
+
+    private RoomInventory inventory(String hotelName, RoomType type) {
+        RoomInventory[] rooms = hotels.get(hotelName);
+        return rooms == null || type == null ? null : rooms[type.ordinal()];
+    }
+
+    private int offset(LocalDate date) {
+        long offset = date.toEpochDay() - firstEpochDay;
+        return offset < Integer.MIN_VALUE || offset > Integer.MAX_VALUE ? -1 : (int) offset;
+    }
+
+    private boolean inHorizon(int from, int to) {
+        return from >= 0 && from < to && to <= days;
+    }
+
+    // Örnek başlangıç doluluğu: gecelerin yaklaşık %30'u tamamen dolu
+    private static RoomInventory[] initialInventory(Hotel hotel, int days) {
+        SplittableRandom random = new SplittableRandom(hotel.name().hashCode());
+        boolean chain = "Chain Hotel".equals(hotel.type());
+        int[] roomCounts = chain ? new int[]{40, 20, 6, 2} : new int[]{15, 6, 2, 0};
+
+        RoomInventory[] rooms = new RoomInventory[RoomType.values().length];
+        for (RoomType type : RoomType.values()) {
+            int count = roomCounts[type.ordinal()];
+            if (count == 0) {
+                continue;
+            }
+            int[] free = new int[days];
+            for (int night = 0; night < days; night++) {
+                free[night] = random.nextInt(10) < 3 ? 0 : 1 + random.nextInt(count);
+            }
+            rooms[type.ordinal()] = new RoomInventory(free);
+        }
+        return rooms;
+    }
+
+    static final class RoomInventory {
+
+        private final AtomicIntegerArray free;
+        private final AtomicLongArray availableBits;
+
+        RoomInventory(int[] initialFree) {
+            this.free = new AtomicIntegerArray(initialFree);
+            long[] words = new long[(initialFree.length + 63) >>> 6];
+            for (int night = 0; night < initialFree.length; night++) {
+                if (initialFree[night] > 0) {
+                    words[night >>> 6] |= 1L << night;
+                }
+            }
+            this.availableBits = new AtomicLongArray(words);
+        }
+
+        /** {@code [from, to)} gecelerinin tamamında boş oda var mı; 64 gecelik kelimeler üzerinde AND ile kontrol edilir. */
+        boolean allNightsAvailable(int from, int to) {
+            int firstWord = from >>> 6;
+            int lastWord = (to - 1) >>> 6;
+            for (int w = firstWord; w <= lastWord; w++) {
+                long mask = -1L;
+                if (w == firstWord) {
+                    mask &= -1L << (from & 63);
+                }
+                if (w == lastWord) {
+                    mask &= -1L >>> (63 - ((to - 1) & 63));
+                }
+                if ((availableBits.get(w) & mask) != mask) {
+                    return false;
+                }
+            }
+            return true;
+        }
+
+        boolean take(int from, int to) {
+            if (!allNightsAvailable(from, to)) {
+                return false;
+            }
+            for (int night = from; night < to; night++) {
+                if (!decrement(night)) {
+                    // Kısmi ayırmayı geri al
+                    for (int n = from; n < night; n++) {
+                        increment(n);
+                    }
+                    return false;
+                }
+            }
+            return true;
+        }
+
+        void give(int from, int to) {
+            for (int night = from; night < to; night++) {
+                increment(night);
+            }
+        }
+
+        private boolean decrement(int night) {
+            while (true) {
+                int current = free.get(night);
+                if (current <= 0) {
+                    return false;
+                }
+                if (free.compareAndSet(night, current, current - 1)) {
+                    if (current == 1) {
+                        syncBit(night);
+                    }
+                    return true;
+                }
+            }
+        }
+
+        private void increment(int night) {
+            if (free.getAndIncrement(night) == 0) {
+                syncBit(night);
+            }
+        }
+
+        // Bit, sayaç değişmeyene kadar sayaçtan yeniden hesaplanır; eşzamanlı güncellemelerde son durum tutarlı kalır
+        private void syncBit(int night) {
+            int word = night >>> 6;
+            long bit = 1L << night;
+            while (true) {
+                int observed = free.get(night);
+                long current = availableBits.get(word);
+                long updated = observed > 0 ? current | bit : current & ~bit;
+                if ((current == updated || availableBits.compareAndSet(word, current, updated))
+                        && free.get(night) == observed) {
+                    return;
+                }
+            }
+        }
+    }
+}
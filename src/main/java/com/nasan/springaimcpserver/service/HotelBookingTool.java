@@ -0,0 +1,147 @@
+package com.nasan.springaimcpserver.service;
+
+import com.nasan.springaimcpserver.service.HotelResponses.HoldInfo;
+import com.nasan.springaimcpserver.tool.ToolException;
+import jakarta.annotation.PreDestroy;
+import org.springframework.ai.tool.annotation.Tool;
+import org.springframework.ai.tool.annotation.ToolParam;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeParseException;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+
+@Service
+public class HotelBookingTool {
+
+    enum HoldStatus { HELD, CONFIRMED, RELEASED, EXPIRED }
+
+    static final class Hold {
+
+        final String id;
+        final Hotel hotel;
+        final RoomType roomType;
+        final LocalDate checkIn;
+        final LocalDate checkOut;
+        final Instant expiresAt;
+        final AtomicReference<HoldStatus> status = new AtomicReference<>(HoldStatus.HELD);
+
+        Hold(String id, Hotel hotel, RoomType roomType, LocalDate checkIn, LocalDate checkOut, Instant expiresAt) {
+            this.id = id;
+            this.hotel = hotel;
+            this.roomType = roomType;
+            this.checkIn = checkIn;
+            this.checkOut = checkOut;
+            this.expiresAt = expiresAt;
+        }
+    }
+
+    private final ReferenceDataManager datasets;
+    private final HotelAvailability availability;
+    private final long holdTtlSeconds;
+    // ConcurrentHashMap kova bazında kilitlenir; farklı tutmalar birbirini beklemez
+    private final Map<String, Hold> holds = new ConcurrentHashMap<>();
+    private final HoldExpiryWheel<Hold> expiryWheel;
+
+    public HotelBookingTool(ReferenceDataManager datasets, HotelAvailability availability,
+                            @Value("${hotel.hold.ttl-seconds:600}") long holdTtlSeconds) {
+        this.datasets = datasets;
+        this.availability = availability;
+        this.holdTtlSeconds = holdTtlSeconds;
+        this.expiryWheel = new HoldExpiryWheel<>(1000, 1024, this::expire);
+    }
+
+    @Tool(name = "hotel.hold", description = "Otelde belirli tarihler için bir oda tutar; tutma süresi dolmadan hotel.confirm ile onaylanmalıdır")
+    public HoldInfo holdRoom(
+            String hotelName,
+            @ToolParam(description = "Oda tipi: Standard Room, Deluxe Room, Executive Suite, Presidential Suite") String roomType,
+            @ToolParam(description = "Giriş tarihi (YYYY-MM-DD)") String checkInDate,
+            @ToolParam(description = "Çıkış tarihi (YYYY-MM-DD)") String checkOutDate) {
+        if (hotelName == null || hotelName.trim().isEmpty()) {
+            throw ToolException.invalidArgument("Otel adı belirtilmelidir");
+        }
+
+        Hotel hotel = datasets.current().hotels().find(hotelName);
+        if (hotel == null) {
+            throw ToolException.notFound("Otel bulunamadı: " + hotelName);
+        }
+
+        RoomType type = RoomType.from(roomType);
+        if (type == null) {
+            throw ToolException.invalidArgument("Geçersiz oda tipi. Standard Room, Deluxe Room, Executive Suite veya Presidential Suite kullanın");
+        }
+
+        LocalDate checkIn;
+        LocalDate checkOut;
+        try {
+            checkIn = LocalDate.parse(checkInDate, DateTimeFormatter.ISO_LOCAL_DATE);
+            checkOut = LocalDate.parse(checkOutDate, DateTimeFormatter.ISO_LOCAL_DATE);
+        } catch (DateTimeParseException | NullPointerException e) {
+            throw ToolException.invalidArgument("Geçersiz tarih formatı. YYYY-MM-DD formatında girin");
+        }
+        if (!checkOut.isAfter(checkIn)) {
+            throw ToolException.invalidArgument("Çıkış tarihi giriş tarihinden sonra olmalıdır");
+        }
+
+        if (!availability.hold(hotel.name(), type, checkIn, checkOut)) {
+            throw new ToolException(ToolException.Code.UNAVAILABLE, "Seçilen tarihlerde bu oda tipi için müsait oda yok");
+        }
+
+        Instant expiresAt = Instant.now().plusSeconds(holdTtlSeconds);
+        Hold hold = new Hold(UUID.randomUUID().toString(), hotel, type, checkIn, checkOut, expiresAt);
+        holds.put(hold.id, hold);
+        expiryWheel.schedule(hold, System.nanoTime() + TimeUnit.SECONDS.toNanos(holdTtlSeconds));
+
+        return describe(hold, null);
+    }
+
+    @Tool(name = "hotel.confirm", description = "hotel.hold ile tutulan odayı onaylayarak rezervasyona dönüştürür")
+    public HoldInfo confirmHold(@ToolParam(description = "hotel.hold yanıtındaki holdId") String holdId) {
+        Hold hold = holdId == null ? null : holds.remove(holdId);
+        if (hold == null) {
+            throw ToolException.notFound("Tutma bulunamadı veya süresi doldu: " + holdId);
+        }
+        if (!hold.status.compareAndSet(HoldStatus.HELD, HoldStatus.CONFIRMED)) {
+            throw new ToolException(ToolException.Code.CONFLICT, "Tutma artık geçerli değil: " + hold.status.get());
+        }
+
+        return describe(hold, "RSV-" + hold.id.substring(0, 8).toUpperCase());
+    }
+
+    @Tool(name = "hotel.release", description = "hotel.hold ile tutulan odayı serbest bırakır")
+    public HoldInfo releaseHold(@ToolParam(description = "hotel.hold yanıtındaki holdId") String holdId) {
+        Hold hold = holdId == null ? null : holds.remove(holdId);
+        if (hold == null || !hold.status.compareAndSet(HoldStatus.HELD, HoldStatus.RELEASED)) {
+            throw ToolException.notFound("Tutma bulunamadı veya süresi doldu: " + holdId);
+        }
+        availability.release(hold.hotel.name(), hold.roomType, hold.checkIn, hold.checkOut);
+
+        return describe(hold, null);
+    }
+
+    @PreDestroy
+    void shutdown() {
+        expiryWheel.close();
+    }
+
+    // Zamanlayıcı çarkı tarafından çağrılır; durumu HELD olan tutmalar serbest bırakılır
+    private void expire(Hold hold) {
+        if (hold.status.compareAndSet(HoldStatus.HELD, HoldStatus.EXPIRED)) {
+            holds.remove(hold.id, hold);
+            availability.release(hold.hotel.name(), hold.roomType, hold.checkIn, hold.checkOut);
+        }
+    }
+
+    private static HoldInfo describe(Hold hold, String confirmationCode) {
+        return new HoldInfo(hold.id, hold.status.get().name(), hold.hotel.name(), hold.hotel.city(),
+                hold.roomType.label(), hold.checkIn.toString(), hold.checkOut.toString(), hold.expiresAt.toString(),
+                confirmationCode);
+    }
+}
@@ -0,0 +1,167 @@
+package com.nasan.springaimcpserver.service;
+
+import java.util.*;
+
+/**
+ * Şehir bazlı otel kataloğu. Her şehir için oteller tipli kayıtlar olarak tutulur;
+ * puan ve gecelik fiyat için sıralı ilkel diziler ve bu sıralara karşılık gelen
+ * otel indeksleri saklanır. Aralık sorguları ikili arama ile çözülür ve sonuçlar
+ * sıralı döner. Nesne oluşturulduktan sonra değişmez.
+ */
+public final class HotelCatalog {
+
+    private final Map<String, CityHotels> cities;
+    private final Map<String, Hotel> byName;
+
+    private HotelCatalog(Map<String, CityHotels> cities) {
+        this.cities = cities;
+        Map<String, Hotel> names = new HashMap<>();
+        for (CityHotels city : cities.values()) {
+            for (Hotel hotel : city.hotels) {
+                names.putIfAbsent(hotel.name().toLowerCase(Locale.ROOT), hotel);
+            }
+        }
+        this.byName = Map.copyOf(names);
+    }
+
+    public static HotelCatalog of(Collection<Hotel> hotels) {
+        Map<String, List<Hotel>> byCity = new LinkedHashMap<>();
+        for (Hotel hotel : hotels) {
+            byCity.computeIfAbsent(hotel.city(), c -> new ArrayList<>()).add(hotel);
+        }
+        Map<String, CityHotels> cities = new LinkedHashMap<>();
+        byCity.forEach((city, list) -> cities.put(city, new CityHotels(list.toArray(Hotel[]::new))));
+        return new HotelCatalog(Collections.unmodifiableMap(cities));
+    }
+
+    public Set<String> cities() {
+        return cities.keySet();
+    }
+
+    public boolean hasCity(String city) {
+        return cities.containsKey(city);
+    }
+
+    /** Şehrin otelleri katalog sırasıyla; şehir yoksa boş liste. */
+    public List<Hotel> hotels(String city) {
+        CityHotels c = cities.get(city);
+        return c == null ? List.of() : c.all;
+    }
+
+    /** Otel adıyla (büyük/küçük harf duyarsız) arar, bulunamazsa null. */
+    public Hotel find(String hotelName) {
+        return byName.get(hotelName.trim().toLowerCase(Locale.ROOT));
+    }
+
+    public Hotel find(String city, String hotelName) {
+        for (Hotel hotel : hotels(city)) {
+            if (hotel.name().equalsIgnoreCase(hotelName)) {
+                return hotel;
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Puanı {@code minRating} ve üzeri olan oteller, puana göre azalan sırada. Sonuç sırasındaki ilk
+     * {@code offset} otel atlanır, en fazla {@code limit} otel döner.
+     */
+    public List<Hotel> byMinRating(String city, double minRating, int offset, int limit) {
+        CityHotels c = cities.get(city);
+        if (c == null) {
+            return List.of();
+        }
+        int first = lowerBound(c.ratings, minRating);
+        int start = c.ratings.length - 1 - Math.max(0, offset);
+        int count = Math.max(0, Math.min(start + 1 - first, limit));
+        List<Hotel> result = new ArrayList<>(count);
+        for (int i = start; i > start - count; i--) {
+            result.add(c.hotels[c.ratingOrder[i]]);
+        }
+        return result;
+    }
+
+    /**
+     * Gecelik fiyatı {@code [minPrice, maxPrice]} aralığında olan oteller, fiyata göre artan sırada. Sonuç
+     * sırasındaki ilk {@code offset} otel atlanır, en fazla {@code limit} otel döner.
+     */
+    public List<Hotel> byPriceRange(String city, int minPrice, int maxPrice, int offset, int limit) {
+        CityHotels c = cities.get(city);
+        if (c == null || minPrice > maxPrice) {
+            return List.of();
+        }
+        int end = maxPrice == Integer.MAX_VALUE ? c.prices.length : lowerBound(c.prices, maxPrice + 1);
+        int first = (int) Math.min((long) lowerBound(c.prices, minPrice) + Math.max(0, offset), end);
+        int count = Math.max(0, Math.min(end - first, limit));
+        List<Hotel> result = new ArrayList<>(count);
+        for (int i = first; i < first + count; i++) {
+            result.add(c.hotels[c.priceOrder[i]]);
+        }
+        return result;
+    }
+
+    private static int lowerBound(double[] sorted, double key) {
+        int lo = 0;
+        int hi = sorted.length;
+        while (lo < hi) {
+            int mid = (lo + hi) >>> 1;
+            if (sorted[mid] < key) {
+                lo = mid + 1;
+            } else {
+                hi = mid;
+            }
+        }
+        return lo;
+    }
+
+    private static int lowerBound(int[] sorted, int key) {
+        int lo = 0;
+        int hi = sorted.length;
+        while (lo < hi) {
+            int mid = (lo + hi) >>> 1;
+            if (sorted[mid] < key) {
+                lo = mid + 1;
+            } else {
+                hi = mid;
+            }
+        }
+        return lo;
+    }
+
+    private static final class CityHotels {
+
+        private final Hotel[] hotels;
+        private final List<Hotel> all;
+        private final double[] ratings;
+        private final int[] ratingOrder;
+        private final int[] prices;
+        private final int[] priceOrder;
+
+        CityHotels(Hotel[] hotels) {
+            this.hotels = hotels;
+            this.all = List.of(hotels);
+
+            int n = hotels.length;
+            Integer[] order = new Integer[n];
+            for (int i = 0; i < n; i++) {
+                order[i] = i;
+            }
+
+            Arrays.sort(order, Comparator.comparingDouble((Integer i) -> hotels[i].rating()).thenComparing(i -> i));
+            this.ratings = new double[n];
+            this.ratingOrder = new int[n];
+            for (int i = 0; i < n; i++) {
+                ratingOrder[i] = order[i];
+                ratings[i] = hotels[order[i]].rating();
+            }
+
+            Arrays.sort(order, Comparator.comparingInt((Integer i) -> hotels[i].pricePerNight()).thenComparing(i -> i));
+            this.prices = new int[n];
+            this.priceOrder = new int[n];
+            for (int i = 0; i < n; i++) {
+                priceOrder[i] = order[i];
+                prices[i] = hotels[order[i]].pricePerNight();
+            }
+        }
+    }
+}
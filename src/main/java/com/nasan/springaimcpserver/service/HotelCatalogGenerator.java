@@ -0,0 +1,79 @@
+package com.nasan.springaimcpserver.service;
+
+import java.util.*;
+
+/**
+ * Örnek otel kataloğunu üretir (gerçek senaryoda katalog bir veri kaynağından yüklenir).
+ * Şehir adı tohum olarak kullanıldığından aynı şehir için her zaman aynı oteller üretilir.
+ */
+public final class HotelCatalogGenerator {
+
+    private static final String[] HOTEL_CHAINS = {"Hilton", "Marriott", "Hyatt", "Sheraton", "Conrad", "Swissotel"};
+    private static final String[] LOCAL_HOTELS = {"Grand", "Palace", "Boutique", "Central", "Royal", "Elite"};
+    private static final String[] AMENITIES = {
+        "WiFi", "Spa", "Fitness Center", "Pool", "Restaurant", "Bar",
+        "Room Service", "Concierge", "Valet Parking", "Business Center",
+        "Conference Rooms", "Airport Shuttle", "Pet Friendly", "AC"
+    };
+
+    private HotelCatalogGenerator() {
+    }
+
+    public static HotelCatalog generate(CityDirectory cities) {
+        List<Hotel> hotels = new ArrayList<>();
+        for (City city : cities.all()) {
+            hotels.addAll(generateForCity(city.name()));
+        }
+        return HotelCatalog.of(hotels);
+    }
+
+    static List<Hotel> generateForCity(String cityName) {
+        List<Hotel> hotels = new ArrayList<>();
+        SplittableRandom random = new SplittableRandom(cityName.hashCode());
+        
+        // Zincir oteller
+        for (int i = 0; i < 4; i++) {
+            hotels.add(new Hotel(
+                HOTEL_CHAINS[i % HOTEL_CHAINS.length] + " " + cityName,
+                cityName,
+                "Chain Hotel",
+                round1(4.0 + random.nextDouble()),
+                300 + (i * 150),
+                4 + (i % 2),
+                amenities(random, 6 + random.nextInt(4)),
+                round1(1.0 + (i * 2.5))
+            ));
+        }
+        
+        // Yerel oteller
+        for (int i = 0; i < 4; i++) {
+            hotels.add(new Hotel(
+                LOCAL_HOTELS[i % LOCAL_HOTELS.length] + " Hotel " + cityName,
+                cityName,
+                "Local Hotel",
+                round1(3.5 + random.nextDouble()),
+                150 + (i * 100),
+                3 + (i % 2),
+                amenities(random, 4),
+                round1(0.5 + (i * 1.8))
+            ));
+        }
+        
+        return hotels;
+    }
+
+    static List<String> amenities(SplittableRandom random, int count) {
+        String[] shuffled = AMENITIES.clone();
+        for (int i = shuffled.length - 1; i > 0; i--) {
+            int j = random.nextInt(i + 1);
+            String tmp = shuffled[i];
+            shuffled[i] = shuffled[j];
+            shuffled[j] = tmp;
+        }
+        return List.of(Arrays.copyOf(shuffled, Math.min(count, shuffled.length)));
+    }
+
+    private static double round1(double value) {
+        return Math.round(value * 10) / 10.0;
+    }
+}
@@ -0,0 +1,48 @@
+package com.nasan.springaimcpserver.service;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+
+import java.util.List;
+import java.util.Map;
+
+/** Otel ve rezervasyon araçlarının yanıt tipleri. */
+public final class HotelResponses {
+
+    private HotelResponses() {
+    }
+
+    public record HotelInfo(String name, String city, String type, double rating, int pricePerNight, String currency,
+                            int starRating, List<String> amenities, String distance) {
+    }
+
+    /** Bir sonuç sayfası; {@code nextCursor} için bkz. {@link FlightResponses.FlightList}. */
+    public record HotelList(List<HotelInfo> hotels, int count,
+                            @JsonInclude(JsonInclude.Include.NON_NULL) String nextCursor) {
+    }
+
+    public record AvailableHotel(HotelInfo hotel, List<String> availableRoomTypes) {
+    }
+
+    public record AvailableHotelList(String checkInDate, String checkOutDate, List<AvailableHotel> hotels, int count,
+                                     @JsonInclude(JsonInclude.Include.NON_NULL) String nextCursor) {
+    }
+
+    public record Room(String type, int pricePerNight, int capacity, String currency) {
+    }
+
+    public record Contact(String phone, String email, String website) {
+    }
+
+    public record HotelDetails(String name, String city, String address, double rating, int pricePerNight,
+                               String currency, List<String> amenities, String description, List<Room> rooms,
+                               Contact contact, String checkinTime, String checkoutTime) {
+    }
+
+    public record PopularHotels(Map<String, List<String>> hotelsByCity) {
+    }
+
+    public record HoldInfo(String holdId, String status, String hotel, String city, String roomType,
+                           String checkInDate, String checkOutDate, String expiresAt,
+                           @JsonInclude(JsonInclude.Include.NON_NULL) String confirmationCode) {
+    }
+}
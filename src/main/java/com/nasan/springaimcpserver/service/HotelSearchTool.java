@@ -1,145 +1,179 @@
 package com.nasan.springaimcpserver.service;
 
+import com.nasan.springaimcpserver.service.HotelResponses.AvailableHotel;
+import com.nasan.springaimcpserver.service.HotelResponses.AvailableHotelList;
+import com.nasan.springaimcpserver.service.HotelResponses.Contact;
+import com.nasan.springaimcpserver.service.HotelResponses.HotelDetails;
+import com.nasan.springaimcpserver.service.HotelResponses.HotelInfo;
+import com.nasan.springaimcpserver.service.HotelResponses.HotelList;
+import com.nasan.springaimcpserver.service.HotelResponses.PopularHotels;
+import com.nasan.springaimcpserver.service.HotelResponses.Room;
+import com.nasan.springaimcpserver.tool.PageCursor;
+import com.nasan.springaimcpserver.tool.PageItem;
+import com.nasan.springaimcpserver.tool.ResultStream;
+import com.nasan.springaimcpserver.tool.StaticResult;
+import com.nasan.springaimcpserver.tool.ToolException;
 import org.springframework.ai.tool.annotation.Tool;
+import org.springframework.ai.tool.annotation.ToolParam;
 import org.springframework.stereotype.Service;
+import reactor.core.publisher.Flux;
 
-import java.io.IOException;
 import java.time.LocalDate;
 import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeParseException;
 import java.util.*;
 
 @Service
 public class HotelSearchTool {
 
-    @Tool(name = "hotel.searchByCity", description = "Belirli şehirdeki otellerin isimlerini listeler")
-    public List<Map<String, Object>> searchHotelsByCity(String cityName) {
-        List<Map<String, Object>> hotels = new ArrayList<>();
-        
-        if (cityName == null || cityName.trim().isEmpty()) {
-            Map<String, Object> error = new HashMap<>();
-            error.put("error", "Şehir adı belirtilmelidir");
-            hotels.add(error);
-            return hotels;
-        }
-        
-        cityName = normalizeCity(cityName);
-        hotels.addAll(generateHotelsForCity(cityName));
-        
-        return hotels;
+    /** Sayfalı aramaların sayfa boyutu. */
+    public static final int MAX_RESULTS = 50;
+
+    // Oda tipleri sabit olduğundan liste bir kez oluşturulur
+    private static final List<Room> ROOMS = Arrays.stream(RoomType.values())
+            .map(room -> new Room(room.label(), room.pricePerNight(), room.capacity(), "TL"))
+            .toList();
+
+    // Her çağrı güncel veri sürümünü başta bir kez okur ve çağrı boyunca yalnızca onu kullanır
+    private final ReferenceDataManager datasets;
+    private final HotelAvailability availability;
+
+    public HotelSearchTool(ReferenceDataManager datasets, HotelAvailability availability) {
+        this.datasets = datasets;
+        this.availability = availability;
     }
 
-    @Tool(name = "hotel.searchByRating", description = "Belirli puan ve üzeri otelleri listeler")
-    public List<Map<String, Object>> searchHotelsByRating(String cityName, double minRating) {
-        List<Map<String, Object>> hotels = new ArrayList<>();
-        
-        if (cityName == null || cityName.trim().isEmpty()) {
-            Map<String, Object> error = new HashMap<>();
-            error.put("error", "Şehir adı belirtilmelidir");
-            hotels.add(error);
-            return hotels;
-        }
-        
-        List<Map<String, Object>> allHotels = generateHotelsForCity(normalizeCity(cityName));
-        
-        for (Map<String, Object> hotel : allHotels) {
-            double rating = (Double) hotel.get("rating");
-            if (rating >= minRating) {
-                hotels.add(hotel);
-            }
+    @Tool(name = "hotel.searchByCity", description = "Belirli şehirdeki otelleri sayfa sayfa listeler. "
+            + "Sonraki sayfa için yanıttaki nextCursor değerini gönderin")
+    public HotelList searchHotelsByCity(String cityName, @ToolParam(required = false, description = "Önceki yanıttaki nextCursor değeri") String cursor) {
+        ReferenceData data = datasets.current();
+        requireCity(cityName);
+        
+        cityName = normalizeCity(data, cityName);
+        List<Hotel> catalog = data.hotels().hotels(cityName);
+        int scope = PageCursor.scope(cityName, System.identityHashCode(data.hotels()));
+        int i = (int) Math.min(PageCursor.decode(cursor, "hc", scope), catalog.size());
+        ResultStream<HotelInfo> hotels = ResultStream.open(MAX_RESULTS);
+        for (; i < catalog.size() && !hotels.isFull(); i++) {
+            hotels.add(toInfo(catalog.get(i)));
         }
         
-        return hotels;
+        String nextCursor = i < catalog.size() ? PageCursor.encode("hc", scope, i) : null;
+        List<HotelInfo> page = hotels.finish();
+        return new HotelList(page, page.size(), nextCursor);
     }
 
-    @Tool(name = "hotel.searchByPriceRange", description = "Belirli fiyat aralığındaki otelleri listeler")
-    public List<Map<String, Object>> searchHotelsByPriceRange(String cityName, int minPrice, int maxPrice) {
-        List<Map<String, Object>> hotels = new ArrayList<>();
-        
-        if (cityName == null || cityName.trim().isEmpty()) {
-            Map<String, Object> error = new HashMap<>();
-            error.put("error", "Şehir adı belirtilmelidir");
-            hotels.add(error);
-            return hotels;
-        }
-        
-        List<Map<String, Object>> allHotels = generateHotelsForCity(normalizeCity(cityName));
-        
-        for (Map<String, Object> hotel : allHotels) {
-            int price = (Integer) hotel.get("pricePerNight");
-            if (price >= minPrice && price <= maxPrice) {
-                hotels.add(hotel);
-            }
-        }
-        
-        return hotels;
+    @Tool(name = "hotel.searchByRating", description = "Belirli puan ve üzeri otelleri sayfa sayfa listeler. "
+            + "Sonraki sayfa için yanıttaki nextCursor değerini gönderin")
+    public HotelList searchHotelsByRating(String cityName, double minRating,
+                                          @ToolParam(required = false, description = "Önceki yanıttaki nextCursor değeri") String cursor) {
+        ReferenceData data = datasets.current();
+        requireCity(cityName);
+        
+        // Puan indeksi üzerinde ikili arama; sonuçlar puana göre azalan sırada, imleç sonuç sırasındaki konumdur
+        String city = normalizeCity(data, cityName);
+        int scope = PageCursor.scope(city, minRating, System.identityHashCode(data.hotels()));
+        int offset = (int) Math.min(PageCursor.decode(cursor, "hr", scope), Integer.MAX_VALUE);
+        return toPage(data.hotels().byMinRating(city, minRating, offset, MAX_RESULTS + 1), "hr", scope, offset);
+    }
+
+    @Tool(name = "hotel.searchByPriceRange", description = "Belirli fiyat aralığındaki otelleri sayfa sayfa listeler. "
+            + "Sonraki sayfa için yanıttaki nextCursor değerini gönderin")
+    public HotelList searchHotelsByPriceRange(String cityName, int minPrice, int maxPrice,
+                                              @ToolParam(required = false, description = "Önceki yanıttaki nextCursor değeri") String cursor) {
+        ReferenceData data = datasets.current();
+        requireCity(cityName);
+        
+        // Fiyat indeksi üzerinde ikili arama; sonuçlar fiyata göre artan sırada, imleç sonuç sırasındaki konumdur
+        String city = normalizeCity(data, cityName);
+        int scope = PageCursor.scope(city, minPrice, maxPrice, System.identityHashCode(data.hotels()));
+        int offset = (int) Math.min(PageCursor.decode(cursor, "hp", scope), Integer.MAX_VALUE);
+        return toPage(data.hotels().byPriceRange(city, minPrice, maxPrice, offset, MAX_RESULTS + 1), "hp", scope, offset);
     }
 
     @Tool(name = "hotel.getHotelDetails", description = "Belirli bir otelin detaylı bilgilerini getirir")
-    public Map<String, Object> getHotelDetails(String hotelName, String cityName) {
-        Map<String, Object> hotelDetails = new HashMap<>();
-        
+    public HotelDetails getHotelDetails(String hotelName, String cityName) {
+        ReferenceData data = datasets.current();
         if (hotelName == null || hotelName.trim().isEmpty()) {
-            hotelDetails.put("error", "Otel adı belirtilmelidir");
-            return hotelDetails;
+            throw ToolException.invalidArgument("Otel adı belirtilmelidir");
         }
         
-        // Örnek detaylı otel bilgisi
-        hotelDetails.put("name", hotelName);
-        hotelDetails.put("city", cityName);
-        hotelDetails.put("address", generateAddress(cityName));
-        hotelDetails.put("rating", 4.0 + (Math.random() * 1.0));
-        hotelDetails.put("pricePerNight", 200 + (int)(Math.random() * 800));
-        hotelDetails.put("currency", "TL");
-        hotelDetails.put("amenities", generateAmenities());
-        hotelDetails.put("description", generateDescription(hotelName));
-        hotelDetails.put("rooms", generateRoomTypes());
-        hotelDetails.put("contact", generateContact());
-        hotelDetails.put("checkinTime", "14:00");
-        hotelDetails.put("checkoutTime", "12:00");
-        
-        return hotelDetails;
+        // Katalogdaki otel için kayıtlı bilgiler, diğerleri için örnek detaylı otel bilgisi
+        Hotel hotel = cityName == null || cityName.isBlank() ? null : data.hotels().find(normalizeCity(data, cityName), hotelName);
+        // Katalogda olmayan otellerin bilgileri de otel adından türetilir; aynı otel her çağrıda aynı yanıtı alır
+        SplittableRandom random = DataSeed.random("hotel", hotelName, 0);
+        
+        return new HotelDetails(
+                hotelName,
+                cityName,
+                generateAddress(random, cityName),
+                hotel != null ? hotel.rating() : 4.0 + random.nextDouble(),
+                hotel != null ? hotel.pricePerNight() : 200 + random.nextInt(800),
+                "TL",
+                hotel != null ? hotel.amenities() : HotelCatalogGenerator.amenities(random, 6 + random.nextInt(4)),
+                generateDescription(random, hotelName),
+                ROOMS,
+                generateContact(random),
+                "14:00",
+                "12:00");
     }
 
-    @Tool(name = "hotel.searchByDate", description = "Belirli tarih aralığında müsait otelleri listeler")
-    public List<Map<String, Object>> searchHotelsByDate(String cityName, String checkInDate, String checkOutDate) {
-        List<Map<String, Object>> hotels = new ArrayList<>();
-        
-        try {
-            LocalDate checkIn = LocalDate.parse(checkInDate, DateTimeFormatter.ISO_LOCAL_DATE);
-            LocalDate checkOut = LocalDate.parse(checkOutDate, DateTimeFormatter.ISO_LOCAL_DATE);
-            
-            if (checkOut.isBefore(checkIn)) {
-                Map<String, Object> error = new HashMap<>();
-                error.put("error", "Çıkış tarihi giriş tarihinden önce olamaz");
-                hotels.add(error);
-                return hotels;
+    @Tool(name = "hotel.searchByDate", description = "Belirli tarih aralığında müsait otelleri sayfa sayfa listeler. "
+            + "Sonraki sayfa için yanıttaki nextCursor değerini gönderin")
+    public AvailableHotelList searchHotelsByDate(String cityName, String checkInDate, String checkOutDate,
+                                                 @ToolParam(required = false, description = "Önceki yanıttaki nextCursor değeri") String cursor) {
+        requireCity(cityName);
+        ReferenceData data = datasets.current();
+        Stay stay = parseStay(checkInDate, checkOutDate);
+        
+        // İmleç, sayfaya sığmayan ilk müsait otelin katalogdaki konumudur
+        String city = normalizeCity(data, cityName);
+        List<Hotel> catalog = data.hotels().hotels(city);
+        int scope = PageCursor.scope(city, stay, System.identityHashCode(data.hotels()));
+        ResultStream<AvailableHotel> hotels = ResultStream.open(MAX_RESULTS);
+        String nextCursor = null;
+        for (int i = (int) Math.min(PageCursor.decode(cursor, "hd", scope), catalog.size()); i < catalog.size(); i++) {
+            AvailableHotel hotel = toAvailable(catalog.get(i), stay);
+            if (hotel == null) {
+                continue;
             }
-            
-            List<Map<String, Object>> allHotels = generateHotelsForCity(normalizeCity(cityName));
-            
-            for (Map<String, Object> hotel : allHotels) {
-                // Müsaitlik kontrolü (örnek)
-                boolean available = Math.random() > 0.3; // %70 müsaitlik oranı
-                if (available) {
-                    hotel.put("checkInDate", checkInDate);
-                    hotel.put("checkOutDate", checkOutDate);
-                    hotel.put("available", true);
-                    hotels.add(hotel);
-                }
+            if (hotels.isFull()) {
+                nextCursor = PageCursor.encode("hd", scope, i);
+                break;
             }
-            
-        } catch (Exception e) {
-            Map<String, Object> error = new HashMap<>();
-            error.put("error", "Geçersiz tarih formatı. YYYY-MM-DD formatında girin");
-            hotels.add(error);
+            hotels.add(hotel);
         }
         
-        return hotels;
+        List<AvailableHotel> page = hotels.finish();
+        return new AvailableHotelList(checkInDate, checkOutDate, page, page.size(), nextCursor);
     }
 
+    /**
+     * {@code hotel.searchByDate} aramasının reaktif karşılığı (ASYNC profili). Müsaitliği doğrulanan her otel,
+     * imleçteki konumdan itibaren senkron aramayla aynı imleciyle bulunduğu anda yayımlanır; abone sayfayı
+     * doldurduğunda tarama durur.
+     */
+    public Flux<PageItem<AvailableHotel>> streamHotelsByDate(String cityName, String checkInDate, String checkOutDate,
+                                                             String cursor) {
+        return Flux.defer(() -> {
+            requireCity(cityName);
+            ReferenceData data = datasets.current();
+            Stay stay = parseStay(checkInDate, checkOutDate);
+            String city = normalizeCity(data, cityName);
+            List<Hotel> catalog = data.hotels().hotels(city);
+            int scope = PageCursor.scope(city, stay, System.identityHashCode(data.hotels()));
+            int from = (int) Math.min(PageCursor.decode(cursor, "hd", scope), catalog.size());
+            return Flux.range(from, catalog.size() - from)
+                    .mapNotNull(i -> {
+                        AvailableHotel hotel = toAvailable(catalog.get(i), stay);
+                        return hotel == null ? null : new PageItem<>(hotel, PageCursor.encode("hd", scope, i));
+                    });
+        });
+    }
 
+    @StaticResult
     @Tool(name = "hotel.getPopularHotels", description = "Popüler otelleri şehirlere göre listeler")
-    public Map<String, List<String>> getPopularHotels() {
+    public PopularHotels getPopularHotels() {
         Map<String, List<String>> popularHotels = new HashMap<>();
         
         popularHotels.put("İstanbul", Arrays.asList(
@@ -162,88 +196,86 @@ public class HotelSearchTool {
             "Club Hotel Sera", "Akra Hotel", "Su Hotel"
         ));
         
-        return popularHotels;
+        return new PopularHotels(popularHotels);
     }
 
     // Yardımcı metodlar
-    private List<Map<String, Object>> generateHotelsForCity(String cityName) {
-        List<Map<String, Object>> hotels = new ArrayList<>();
-        String[] hotelChains = {"Hilton", "Marriott", "Hyatt", "Sheraton", "Conrad", "Swissotel"};
-        String[] localHotels = {"Grand", "Palace", "Boutique", "Central", "Royal", "Elite"};
-        
-        // Zincir oteller
-        for (int i = 0; i < 4; i++) {
-            Map<String, Object> hotel = new HashMap<>();
-            hotel.put("name", hotelChains[i % hotelChains.length] + " " + cityName);
-            hotel.put("city", cityName);
-            hotel.put("type", "Chain Hotel");
-            hotel.put("rating", 4.0 + (Math.random() * 1.0));
-            hotel.put("pricePerNight", 300 + (i * 150));
-            hotel.put("currency", "TL");
-            hotel.put("starRating", 4 + (i % 2));
-            hotel.put("amenities", generateAmenities());
-            hotel.put("distance", String.format("%.1f km", 1.0 + (i * 2.5)));
-            hotels.add(hotel);
+    private record Stay(LocalDate checkIn, LocalDate checkOut) {
+    }
+    
+    private Stay parseStay(String checkInDate, String checkOutDate) {
+        LocalDate checkIn;
+        LocalDate checkOut;
+        try {
+            checkIn = LocalDate.parse(checkInDate, DateTimeFormatter.ISO_LOCAL_DATE);
+            checkOut = LocalDate.parse(checkOutDate, DateTimeFormatter.ISO_LOCAL_DATE);
+        } catch (DateTimeParseException | NullPointerException e) {
+            throw ToolException.invalidArgument("Geçersiz tarih formatı. YYYY-MM-DD formatında girin");
         }
         
-        // Yerel oteller
-        for (int i = 0; i < 4; i++) {
-            Map<String, Object> hotel = new HashMap<>();
-            hotel.put("name", localHotels[i % localHotels.length] + " Hotel " + cityName);
-            hotel.put("city", cityName);
-            hotel.put("type", "Local Hotel");
-            hotel.put("rating", 3.5 + (Math.random() * 1.0));
-            hotel.put("pricePerNight", 150 + (i * 100));
-            hotel.put("currency", "TL");
-            hotel.put("starRating", 3 + (i % 2));
-            hotel.put("amenities", generateAmenities().subList(0, 4));
-            hotel.put("distance", String.format("%.1f km", 0.5 + (i * 1.8)));
-            hotels.add(hotel);
+        if (!checkOut.isAfter(checkIn)) {
+            throw ToolException.invalidArgument("Çıkış tarihi giriş tarihinden sonra olmalıdır");
         }
         
-        return hotels;
+        if (!availability.covers(checkIn, checkOut)) {
+            throw ToolException.invalidArgument("Bu tarihler için müsaitlik bilgisi bulunmuyor (en fazla "
+                    + HotelAvailability.HORIZON_DAYS + " gün sonrası sorgulanabilir)");
+        }
+        return new Stay(checkIn, checkOut);
+    }
+    
+    // Tüm geceleri müsait oda tipi olmayan otel için null
+    private AvailableHotel toAvailable(Hotel hotel, Stay stay) {
+        List<RoomType> roomTypes = availability.availableRoomTypes(hotel.name(), stay.checkIn(), stay.checkOut());
+        if (roomTypes.isEmpty()) {
+            return null;
+        }
+        List<String> labels = new ArrayList<>(roomTypes.size());
+        for (RoomType type : roomTypes) {
+            labels.add(type.label());
+        }
+        return new AvailableHotel(toInfo(hotel), labels);
     }
     
-    private String normalizeCity(String city) {
-        Map<String, String> cityMap = Map.of(
-            "istanbul", "İstanbul",
-            "ankara", "Ankara", 
-            "izmir", "İzmir",
-            "antalya", "Antalya",
-            "bursa", "Bursa",
-            "adana", "Adana",
-            "gaziantep", "Gaziantep"
-        );
+    private static HotelInfo toInfo(Hotel hotel) {
+        long tenths = Math.round(hotel.distanceKm() * 10);
         
-        return cityMap.getOrDefault(city.toLowerCase(), 
-            city.substring(0, 1).toUpperCase() + city.substring(1).toLowerCase());
+        return new HotelInfo(hotel.name(), hotel.city(), hotel.type(), hotel.rating(), hotel.pricePerNight(), "TL",
+                hotel.starRating(), hotel.amenities(), (tenths / 10) + "." + (tenths % 10) + " km");
+    }
+    
+    // Sorgu bir fazla otel ister; fazladan gelen otel yalnızca sonraki sayfanın varlığını gösterir
+    private static HotelList toPage(List<Hotel> hotels, String kind, int scope, int offset) {
+        int size = Math.min(hotels.size(), MAX_RESULTS);
+        List<HotelInfo> infos = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            infos.add(toInfo(hotels.get(i)));
+        }
+        String nextCursor = hotels.size() > MAX_RESULTS ? PageCursor.encode(kind, scope, (long) offset + MAX_RESULTS) : null;
+        return new HotelList(infos, infos.size(), nextCursor);
+    }
+    
+    private static void requireCity(String cityName) {
+        if (cityName == null || cityName.trim().isEmpty()) {
+            throw ToolException.invalidArgument("Şehir adı belirtilmelidir");
+        }
+    }
+    
+    private static String normalizeCity(ReferenceData data, String city) {
+        return data.cities().canonicalName(city);
     }
     
-    private String generateAddress(String cityName) {
+    private String generateAddress(SplittableRandom random, String cityName) {
         String[] districts = {"Merkez", "Çankaya", "Beşiktaş", "Kadıköy", "Şişli", "Beyoğlu"};
         String[] streets = {"Atatürk Bulvarı", "İnönü Caddesi", "Cumhuriyet Meydanı", "Bağdat Caddesi"};
         
         return String.format("%s, %s, %s", 
-            streets[(int)(Math.random() * streets.length)],
-            districts[(int)(Math.random() * districts.length)],
+            streets[random.nextInt(streets.length)],
+            districts[random.nextInt(districts.length)],
             cityName);
     }
     
-    private List<String> generateAmenities() {
-        String[] allAmenities = {
-            "WiFi", "Spa", "Fitness Center", "Pool", "Restaurant", "Bar",
-            "Room Service", "Concierge", "Valet Parking", "Business Center",
-            "Conference Rooms", "Airport Shuttle", "Pet Friendly", "AC"
-        };
-        
-        List<String> availableAmenities = Arrays.asList(allAmenities);
-        Collections.shuffle(availableAmenities);
-        
-        int count = 6 + (int)(Math.random() * 4); // 6-9 özellik
-        return availableAmenities.subList(0, Math.min(count, availableAmenities.size()));
-    }
-    
-    private String generateDescription(String hotelName) {
+    private String generateDescription(SplittableRandom random, String hotelName) {
         String[] descriptions = {
             " konforlu konaklama imkanı sunan lüks bir oteldir.",
             " modern tasarımı ve kaliteli hizmetiyle öne çıkan bir tesistir.",
@@ -251,41 +283,11 @@ public class HotelSearchTool {
             " unutulmaz bir konaklama deneyimi sunan butik bir oteldir."
         };
         
-        return hotelName + descriptions[(int)(Math.random() * descriptions.length)];
-    }
-    
-    private List<Map<String, Object>> generateRoomTypes() {
-        List<Map<String, Object>> rooms = new ArrayList<>();
-        
-        String[][] roomData = {
-            {"Standard Room", "250", "2"},
-            {"Deluxe Room", "350", "2"},
-            {"Executive Suite", "500", "4"},
-            {"Presidential Suite", "800", "6"}
-        };
-        
-        for (String[] room : roomData) {
-            Map<String, Object> roomType = new HashMap<>();
-            roomType.put("type", room[0]);
-            roomType.put("pricePerNight", Integer.parseInt(room[1]));
-            roomType.put("capacity", Integer.parseInt(room[2]));
-            roomType.put("currency", "TL");
-            rooms.add(roomType);
-        }
-        
-        return rooms;
-    }
-    
-    private Map<String, String> generateContact() {
-        Map<String, String> contact = new HashMap<>();
-        contact.put("phone", "+90 " + (200 + (int)(Math.random() * 300)) + " " + (100 + (int)(Math.random() * 800)) + " " + (10 + (int)(Math.random() * 80)) + " " + (10 + (int)(Math.random() * 80)));
-        contact.put("email", "info@hotel-example.com");
-        contact.put("website", "www.hotel-example.com");
-        
-        return contact;
+        return hotelName + descriptions[random.nextInt(descriptions.length)];
     }
     
-    private String buildHotelSearchUrl(String cityName) {
-        return String.format("https://example-hotels.com/search?city=%s", cityName.toLowerCase());
+    private Contact generateContact(SplittableRandom random) {
+        String phone = "+90 " + (200 + random.nextInt(300)) + " " + (100 + random.nextInt(800)) + " " + (10 + random.nextInt(80)) + " " + (10 + random.nextInt(80));
+        return new Contact(phone, "info@hotel-example.com", "www.hotel-example.com");
     }
 }
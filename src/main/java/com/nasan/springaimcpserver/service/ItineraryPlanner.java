@@ -0,0 +1,155 @@
+package com.nasan.springaimcpserver.service;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Envanterin zamana bağlı uçuş ağı üzerinde aktarmalı yolculuk arar. Şehirler düğüm,
+ * tarifeli seferler kenardır; her şehrin kalkışları ilgili günün {@link FlightInventory.DaySchedule}
+ * bloğundaki önceden hesaplanmış komşuluk listesinden ikili arama ile okunur.
+ * Arama derinliği (aktarma sayısı) ve sonuç sayısı sınırlıdır; en iyi N sonuçtan
+ * daha uzun sürecek kısmi yollar budanır.
+ */
+public final class ItineraryPlanner {
+
+    public static final int MAX_STOPS = 2;
+
+    /** Bir yolculuk: bacaklar {@code dayOffset << 24 | satır} biçiminde saklanır. */
+    public record Itinerary(long[] legs, long departureMinute, long arrivalMinute, int totalPrice) {
+
+        public int stops() {
+            return legs.length - 1;
+        }
+
+        public int totalMinutes() {
+            return (int) (arrivalMinute - departureMinute);
+        }
+    }
+
+    private final FlightInventory inventory;
+    private final int destination;
+    private final int minConnection;
+    private final int maxLayover;
+    private final int maxStops;
+    private final Itinerary[] best;
+    private int bestCount;
+
+    private final long[] pathLegs = new long[MAX_STOPS + 1];
+    private final boolean[] visited;
+
+    private ItineraryPlanner(FlightInventory inventory, int destination, int minConnection, int maxLayover,
+                             int maxStops, int limit) {
+        this.inventory = inventory;
+        this.destination = destination;
+        this.minConnection = minConnection;
+        this.maxLayover = maxLayover;
+        this.maxStops = maxStops;
+        this.best = new Itinerary[limit];
+        this.visited = new boolean[inventory.cityCount()];
+    }
+
+    /**
+     * {@code epochDay} gününde {@code from} şehrinden kalkan, en fazla {@code maxStops} aktarmalı
+     * ve toplam yolculuk süresine (eşitlikte fiyata) göre en iyi {@code limit} yolculuğu döner.
+     */
+    public static List<Itinerary> search(FlightInventory inventory, int from, int to, int epochDay, int maxStops,
+                                         int limit, int minConnection, int maxLayover) {
+        if (inventory.day(epochDay) == null || from == to || limit <= 0) {
+            return List.of();
+        }
+        ItineraryPlanner planner = new ItineraryPlanner(inventory, to, minConnection, maxLayover,
+                Math.max(0, Math.min(maxStops, MAX_STOPS)), limit);
+        int dayOffset = epochDay - inventory.firstEpochDay();
+        long dayStart = (long) dayOffset * FlightInventory.MINUTES_PER_DAY;
+        FlightInventory.DaySchedule day = inventory.day(epochDay);
+
+        planner.visited[from] = true;
+        for (int i = day.departuresBegin(from); i < day.departuresEnd(from); i++) {
+            int row = day.departureRow(i);
+            planner.extend(dayStart + day.departure(row), dayOffset, row, 0, 0);
+        }
+
+        List<Itinerary> result = new ArrayList<>(planner.bestCount);
+        for (int i = 0; i < planner.bestCount; i++) {
+            result.add(planner.best[i]);
+        }
+        return result;
+    }
+
+    // Derinlik öncelikli genişletme; depth = bu bacaktan önceki bacak sayısı
+    private void extend(long tripStart, int dayOffset, int row, int depth, int priceSoFar) {
+        FlightInventory.DaySchedule day = inventory.day(inventory.firstEpochDay() + dayOffset);
+        long departure = (long) dayOffset * FlightInventory.MINUTES_PER_DAY + day.departure(row);
+
+        int next = day.toCity(row);
+        if (visited[next]) {
+            return;
+        }
+        long arrival = departure + day.duration(row);
+        int price = priceSoFar + day.price(row);
+        if (!improves(arrival - tripStart, price)) {
+            return;
+        }
+        pathLegs[depth] = ((long) dayOffset << 24) | row;
+
+        if (next == destination) {
+            long[] legs = new long[depth + 1];
+            System.arraycopy(pathLegs, 0, legs, 0, depth + 1);
+            insert(new Itinerary(legs, tripStart, arrival, price));
+            return;
+        }
+        if (depth >= maxStops) {
+            return;
+        }
+
+        visited[next] = true;
+        // Bekleme penceresi [earliest, latest] gece yarısını aşabilir; pencerenin düştüğü günler sırayla taranır
+        long earliest = arrival + minConnection;
+        long latest = arrival + maxLayover;
+        scan:
+        for (int d = (int) (earliest / FlightInventory.MINUTES_PER_DAY);
+             d <= latest / FlightInventory.MINUTES_PER_DAY; d++) {
+            FlightInventory.DaySchedule connections = inventory.day(inventory.firstEpochDay() + d);
+            if (connections == null) {
+                break;
+            }
+            long dayStart = (long) d * FlightInventory.MINUTES_PER_DAY;
+            int begin = connections.departuresBegin(next);
+            int end = connections.departuresEnd(next);
+            int first = connections.firstDepartureAtOrAfter(begin, end, (int) Math.max(0, earliest - dayStart));
+            int last = connections.firstDepartureAtOrAfter(begin, end,
+                    (int) Math.min(FlightInventory.MINUTES_PER_DAY, latest + 1 - dayStart));
+            for (int i = first; i < last; i++) {
+                int connection = connections.departureRow(i);
+                // Kalkışlar zamana göre sıralı: bu noktadan sonrası en iyi N'e giremez
+                if (!improves(dayStart + connections.departure(connection) - tripStart, 0)) {
+                    break scan;
+                }
+                extend(tripStart, d, connection, depth + 1, price);
+            }
+        }
+        visited[next] = false;
+    }
+
+    private boolean improves(long minutes, int price) {
+        if (bestCount < best.length) {
+            return true;
+        }
+        Itinerary worst = best[bestCount - 1];
+        return minutes < worst.totalMinutes() || (minutes == worst.totalMinutes() && price < worst.totalPrice());
+    }
+
+    private void insert(Itinerary itinerary) {
+        int pos = bestCount < best.length ? bestCount++ : bestCount - 1;
+        while (pos > 0 && compare(itinerary, best[pos - 1]) < 0) {
+            best[pos] = best[pos - 1];
+            pos--;
+        }
+        best[pos] = itinerary;
+    }
+
+    private static int compare(Itinerary a, Itinerary b) {
+        int byTime = Integer.compare(a.totalMinutes(), b.totalMinutes());
+        return byTime != 0 ? byTime : Integer.compare(a.totalPrice(), b.totalPrice());
+    }
+}
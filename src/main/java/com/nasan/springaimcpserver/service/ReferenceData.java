@@ -0,0 +1,17 @@
+package com.nasan.springaimcpserver.service;
+
+import java.time.LocalDate;
+
+/**
+ * Araçların paylaştığı referans veri kümeleri: şehirler (havalimanlarıyla birlikte), otel kataloğu ve
+ * uçuş envanteri. Kümeler bellekte üretilebilir veya {@link ReferenceSnapshot} dosyasından açılabilir.
+ */
+public record ReferenceData(CityDirectory cities, HotelCatalog hotels, FlightInventory flights) {
+
+    /** Paketle gelen şehir verisinden ve örnek üreteçlerden, {@code firstDate} tarihinden başlayan tarifeyle üretir. */
+    public static ReferenceData generate(LocalDate firstDate, int flightDays) {
+        CityDirectory cities = CityDirectory.loadDefault();
+        return new ReferenceData(cities, HotelCatalogGenerator.generate(cities),
+                FlightScheduleGenerator.generate(cities, firstDate, flightDays));
+    }
+}
@@ -0,0 +1,228 @@
+package com.nasan.springaimcpserver.service;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.ClosedWatchServiceException;
+import java.nio.file.Path;
+import java.nio.file.StandardWatchEventKinds;
+import java.nio.file.WatchEvent;
+import java.nio.file.WatchKey;
+import java.nio.file.WatchService;
+import java.time.Instant;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
+import java.util.function.UnaryOperator;
+
+/**
+ * Referans verisinin (şehir, otel, uçuş) yayımlanmış sürümünü tutar. Yeni sürüm okuyuculardan bağımsız olarak
+ * tamamen kurulur ve tek bir atomik referans değişimiyle yayımlanır; okuyucular hiçbir kilit almaz. Araçlar
+ * çağrı başında {@link #current()} ile sürümü bir kez okur, böylece her çağrı tek ve tutarlı bir sürüm görür.
+ * Eski sürüm (eşlenmiş anlık görüntü dahil), onu kullanan son çağrı bittiğinde çöp toplayıcıyla bırakılır.
+ */
+public final class ReferenceDataManager implements AutoCloseable {
+
+    private static final Logger log = LoggerFactory.getLogger(ReferenceDataManager.class);
+
+    /** Yayımlanmış bir veri sürümü; numara her yeniden yüklemede bir artar. */
+    public record Version(long number, Instant loadedAt, ReferenceData data) {
+    }
+
+    /**
+     * Yayımlanan sürümle bir öncekinin farkı. Değişmeyen veri kümeleri yeni sürüme aynı nesne olarak taşınır
+     * (ör. artımlı uçuş değişikliklerinde şehirler ve oteller); değişiklik nesne kimliğiyle belirlenir.
+     */
+    public record Change(ReferenceData previous, ReferenceData current) {
+
+        public boolean citiesChanged() {
+            return previous.cities() != current.cities();
+        }
+
+        public boolean hotelsChanged() {
+            return previous.hotels() != current.hotels();
+        }
+
+        public boolean flightsChanged() {
+            return previous.flights() != current.flights();
+        }
+    }
+
+    private final Supplier<ReferenceData> loader;
+    private final AtomicReference<Version> current;
+    private final List<Consumer<Change>> listeners = new CopyOnWriteArrayList<>();
+    // Yeniden yüklemeler sırayla yapılır; okuyucular bu kilidi hiç almaz
+    private final ReentrantLock reloadLock = new ReentrantLock();
+    // Birden çok araca dağılan çağrılarda (ör. trip.plan kolları) iş parçacığının sabitlendiği sürüm
+    private final ThreadLocal<Version> pinned = new ThreadLocal<>();
+    private volatile String lastError;
+    private volatile WatchService watchService;
+
+    /** İlk sürümü {@code loader} ile hemen kurar; sonraki yüklemeler de aynı kaynağı kullanır. */
+    public ReferenceDataManager(Supplier<ReferenceData> loader) {
+        this.loader = loader;
+        this.current = new AtomicReference<>(new Version(1, Instant.now(), loader.get()));
+    }
+
+    /** Sabit veri kümesiyle; yeniden yükleme aynı veriyi yeni sürüm numarasıyla yayımlar. */
+    public static ReferenceDataManager of(ReferenceData data) {
+        return new ReferenceDataManager(() -> data);
+    }
+
+    public ReferenceData current() {
+        return version().data();
+    }
+
+    /** Yayındaki sürüm; iş parçacığı {@link #withVersion} ile sabitlendiyse sabitlenen sürüm. */
+    public Version version() {
+        Version version = pinned.get();
+        return version != null ? version : current.get();
+    }
+
+    /**
+     * {@code call} süresince bu iş parçacığında {@link #current()} ve {@link #version()} verilen sürümü döner.
+     * Başka araçları çağıran bir araç, çağrı başında okuduğu sürümü kollarına böyle taşır; arada yeni sürüm
+     * yayımlansa da bütün kollar aynı veriyi görür.
+     */
+    public <T> T withVersion(Version version, Supplier<T> call) {
+        Version previous = pinned.get();
+        pinned.set(version);
+        try {
+            return call.get();
+        } finally {
+            if (previous == null) {
+                pinned.remove();
+            } else {
+                pinned.set(previous);
+            }
+        }
+    }
+
+    /** İş parçacığı yayındakinden eski bir sürüme sabitlenmişse true; böyle sonuçlar önbelleklerde paylaşılmaz. */
+    public boolean pinnedToOlderVersion() {
+        Version version = pinned.get();
+        return version != null && version != current.get();
+    }
+
+    /** Son başarısız yüklemenin hata mesajı; son yükleme başarılıysa null. */
+    public String lastError() {
+        return lastError;
+    }
+
+    /**
+     * Yeni sürüm yayımlandıktan sonra, yükleyen iş parçacığında değişen veri kümeleriyle çağrılır (ör. yalnızca
+     * değişen kümeye bağlı önbellekleri boşaltmak için). Bir dinleyicinin hatası günlüğe yazılır; yayımlamayı
+     * ve diğer dinleyicileri etkilemez.
+     */
+    public void addListener(Consumer<Change> listener) {
+        listeners.add(listener);
+    }
+
+    /** Veriyi kaynaktan yeniden kurup yayımlar. Kurulum başarısız olursa yayındaki sürüm değişmez ve hata fırlatılır. */
+    public Version reload() {
+        reloadLock.lock();
+        try {
+            ReferenceData data;
+            try {
+                data = loader.get();
+            } catch (RuntimeException e) {
+                lastError = e.getMessage() == null ? e.getClass().getSimpleName() : e.getMessage();
+                throw e;
+            }
+            lastError = null;
+            return publish(data);
+        } finally {
+            reloadLock.unlock();
+        }
+    }
+
+    /**
+     * Yayındaki veriden {@code change} ile türetilen veriyi yeni sürüm olarak yayımlar (ör. artımlı uçuş
+     * değişiklikleri). Yeniden yüklemelerle aynı kilitle sıralanır; {@code change} aynı veriyi dönerse
+     * yeni sürüm yayımlanmaz.
+     */
+    public Version update(UnaryOperator<ReferenceData> change) {
+        reloadLock.lock();
+        try {
+            Version version = current.get();
+            ReferenceData data = change.apply(version.data());
+            return data == version.data() ? version : publish(data);
+        } finally {
+            reloadLock.unlock();
+        }
+    }
+
+    private Version publish(ReferenceData data) {
+        Version previous = current.get();
+        Version next = new Version(previous.number() + 1, Instant.now(), data);
+        current.set(next);
+        Change change = new Change(previous.data(), data);
+        for (Consumer<Change> listener : listeners) {
+            try {
+                listener.accept(change);
+            } catch (RuntimeException e) {
+                // Sürüm zaten yayımlandı; diğer dinleyiciler yine de çağrılır
+                log.warn("Referans verisi dinleyicisi {}. sürümde başarısız oldu", next.number(), e);
+            }
+        }
+        return next;
+    }
+
+    /**
+     * {@code file} oluşturulduğunda veya değiştiğinde (ör. {@link ReferenceSnapshot#write} ile yeni sürüm
+     * taşındığında) arka plan iş parçacığında {@link #reload()} çağırır. Başarısız yüklemeler günlüğe yazılır
+     * ve {@link #lastError()} ile raporlanır; yayındaki sürüm kullanılmaya devam eder.
+     */
+    public void watch(Path file) {
+        Path absolute = file.toAbsolutePath();
+        Path name = absolute.getFileName();
+        WatchService service;
+        try {
+            service = absolute.getFileSystem().newWatchService();
+            absolute.getParent().register(service,
+                    StandardWatchEventKinds.ENTRY_CREATE, StandardWatchEventKinds.ENTRY_MODIFY);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Dizin izlenemiyor: " + absolute.getParent(), e);
+        }
+        this.watchService = service;
+        Thread.ofPlatform().daemon().name("reference-data-watcher").start(() -> {
+            try {
+                while (true) {
+                    WatchKey key = service.take();
+                    // Aynı yazmanın ardışık olayları tek yüklemede birleştirilir
+                    boolean changed = false;
+                    for (WatchEvent<?> event : key.pollEvents()) {
+                        changed |= event.kind() == StandardWatchEventKinds.OVERFLOW || name.equals(event.context());
+                    }
+                    boolean valid = key.reset();
+                    if (changed) {
+                        try {
+                            reload();
+                        } catch (RuntimeException e) {
+                            // Yayındaki sürüm kullanılmaya devam eder
+                            log.warn("Referans verisi yeniden yüklenemedi: {}", absolute, e);
+                        }
+                    }
+                    if (!valid) {
+                        return;
+                    }
+                }
+            } catch (InterruptedException | ClosedWatchServiceException e) {
+                // izleme kapatıldı
+            }
+        });
+    }
+
+    @Override
+    public void close() throws IOException {
+        WatchService service = watchService;
+        if (service != null) {
+            service.close();
+        }
+    }
+}
@@ -0,0 +1,49 @@
+package com.nasan.springaimcpserver.service;
+
+import com.nasan.springaimcpserver.service.ReferenceResponses.DatasetVersion;
+import com.nasan.springaimcpserver.tool.ToolException;
+import org.springframework.ai.tool.annotation.Tool;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Service;
+
+import java.time.LocalDate;
+
+/** Referans verisi yönetim araçları; yalnızca {@code reference.admin.enabled=true} olduğunda kaydedilir. */
+@Service
+@ConditionalOnProperty(name = "reference.admin.enabled", havingValue = "true")
+public class ReferenceDataTool {
+
+    private final ReferenceDataManager datasets;
+
+    public ReferenceDataTool(ReferenceDataManager datasets) {
+        this.datasets = datasets;
+    }
+
+    @Tool(name = "reference.reload", description = "Şehir, otel ve uçuş verisini kaynağından yeniden yükleyip yeni sürüm olarak yayımlar; "
+            + "devam eden çağrılar önceki sürümle tamamlanır")
+    public DatasetVersion reload() {
+        try {
+            return describe(datasets.reload(), null);
+        } catch (RuntimeException e) {
+            throw new ToolException(ToolException.Code.UNAVAILABLE,
+                    "Referans verisi yüklenemedi, önceki sürüm kullanılmaya devam ediyor: " + datasets.lastError());
+        }
+    }
+
+    @Tool(name = "reference.status", description = "Yayımlanmış referans veri sürümünü ve son yükleme hatasını getirir")
+    public DatasetVersion status() {
+        return describe(datasets.version(), datasets.lastError());
+    }
+
+    private static DatasetVersion describe(ReferenceDataManager.Version version, String lastError) {
+        ReferenceData data = version.data();
+        int hotels = 0;
+        for (String city : data.hotels().cities()) {
+            hotels += data.hotels().hotels(city).size();
+        }
+        FlightInventory flights = data.flights();
+        return new DatasetVersion(version.number(), version.loadedAt().toString(), data.cities().all().size(), hotels,
+                flights.size(), LocalDate.ofEpochDay(flights.firstEpochDay()).toString(),
+                LocalDate.ofEpochDay(flights.lastEpochDay()).toString(), lastError);
+    }
+}
@@ -0,0 +1,16 @@
+package com.nasan.springaimcpserver.service;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+
+/** Referans veri yönetim araçlarının yanıt tipleri. */
+public final class ReferenceResponses {
+
+    private ReferenceResponses() {
+    }
+
+    /** Yayımlanmış veri sürümü; {@code lastError} son yükleme denemesi başarısızsa doludur. */
+    public record DatasetVersion(long version, String loadedAt, int cities, int hotels, int flights,
+                                 String firstFlightDate, String lastFlightDate,
+                                 @JsonInclude(JsonInclude.Include.NON_NULL) String lastError) {
+    }
+}
@@ -0,0 +1,381 @@
+package com.nasan.springaimcpserver.service;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.*;
+import java.util.function.Supplier;
+
+/**
+ * Referans verisinin (şehir, havalimanı, otel ve uçuş tabloları) ikili anlık görüntü dosyası. Dosya bir
+ * başlık (sihirli değer, sürüm, tablo dizini) ve 8 bayta hizalı tablolardan oluşur; tüm sayılar
+ * little-endian'dır. Metinler tek bir dizgi havuzunda, metin listeleri havuz kimliği dizileri olarak tutulur.
+ * <p>
+ * Dosya {@link FileChannel#map} ile salt okunur eşlenir. Uçuş gün blokları (indeksleriyle birlikte)
+ * {@link FlightInventory} düzeninde saklandığından kopyalanmadan yerinde okunur; aynı dosyayı açan süreçler
+ * işletim sisteminin sayfa önbelleğini paylaşır. Şehir, havalimanı ve otel tabloları küçüktür ve şehir
+ * çözücü ile otel indeksleri yığın üzerinde kurulduğundan açılışta bir kez çözülür.
+ */
+public final class ReferenceSnapshot {
+
+    static final int MAGIC = 0x4652434D; // "MCRF"
+    static final int VERSION = 2;
+
+    private static final int HEADER_BYTES = 16;
+    private static final int DIRECTORY_ENTRY_BYTES = 24;
+    private static final int HOTEL_RECORD_BYTES = 48;
+
+    private enum Table {
+        STRINGS, LISTS, CITIES, AIRPORTS, HOTELS, AIRLINES, AIRCRAFT, FLIGHT_CITIES, FLIGHT_DAYS
+    }
+
+    private ReferenceSnapshot() {
+    }
+
+    /** Dosya varsa eşler; yoksa {@code generator} ile üretip yazar ve yazılan dosyayı eşler. */
+    public static ReferenceData openOrCreate(Path path, Supplier<ReferenceData> generator) {
+        if (!Files.exists(path)) {
+            write(path, generator.get());
+        }
+        return read(path);
+    }
+
+    /**
+     * Veriyi {@code path} dosyasına yazar. Önce aynı dizindeki geçici dosyaya yazılıp atomik olarak taşındığından
+     * dosyayı eşlemiş okuyucular hiçbir zaman yarım dosya görmez.
+     */
+    public static void write(Path path, ReferenceData data) {
+        ByteBuffer[] tables = encode(data);
+
+        ByteBuffer header = ByteBuffer.allocate(HEADER_BYTES + tables.length * DIRECTORY_ENTRY_BYTES)
+                .order(ByteOrder.LITTLE_ENDIAN);
+        header.putInt(MAGIC).putInt(VERSION).putInt(tables.length).putInt(0);
+        long offset = header.capacity();
+        for (int t = 0; t < tables.length; t++) {
+            header.putInt(t).putInt(0).putLong(offset).putLong(tables[t].remaining());
+            offset = FlightInventory.align8((int) (offset + tables[t].remaining()));
+        }
+        header.flip();
+
+        try {
+            Path parent = path.toAbsolutePath().getParent();
+            Files.createDirectories(parent);
+            Path temp = Files.createTempFile(parent, path.getFileName().toString(), ".tmp");
+            try (FileChannel channel = FileChannel.open(temp, StandardOpenOption.WRITE)) {
+                writeFully(channel, header);
+                for (ByteBuffer table : tables) {
+                    writeFully(channel, table);
+                    int padding = FlightInventory.align8((int) channel.position()) - (int) channel.position();
+                    writeFully(channel, ByteBuffer.allocate(padding));
+                }
+                channel.force(true);
+            }
+            Files.move(temp, path, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Anlık görüntü yazılamadı: " + path, e);
+        }
+    }
+
+    /** Dosyayı salt okunur eşler ve veri kümelerini açar. */
+    public static ReferenceData read(Path path) {
+        ByteBuffer file;
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            if (channel.size() > Integer.MAX_VALUE) {
+                throw new IllegalStateException("Anlık görüntü 2 GB sınırını aşıyor: " + path);
+            }
+            // Eşleme kanal kapandıktan sonra da geçerlidir; tablolara erişen nesneler yaşadıkça tutulur
+            file = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+        } catch (IOException e) {
+            throw new UncheckedIOException("Anlık görüntü okunamadı: " + path, e);
+        }
+        try {
+            return decode(file.order(ByteOrder.LITTLE_ENDIAN));
+        } catch (IndexOutOfBoundsException e) {
+            throw new IllegalStateException("Anlık görüntü bozuk: " + path, e);
+        }
+    }
+
+    private static ByteBuffer[] encode(ReferenceData data) {
+        StringPool strings = new StringPool();
+        TableBuffer lists = new TableBuffer();
+        ByteBuffer[] tables = new ByteBuffer[Table.values().length];
+
+        List<City> cityList = data.cities().all();
+        TableBuffer cities = new TableBuffer().putInt(cityList.size());
+        TableBuffer airports = new TableBuffer();
+        int airportCount = 0;
+        for (City city : cityList) {
+            cities.putInt(strings.id(city.name()))
+                    .putInt(strings.id(city.population()))
+                    .putInt(strings.id(city.bestTimeToVisit()))
+                    .putInt(city.averageTemperature());
+            putList(cities, lists, strings, city.aliases());
+            putList(cities, lists, strings, city.attractions());
+            cities.putInt(airportCount).putInt(city.airports().size());
+            for (City.Airport airport : city.airports()) {
+                airports.putInt(strings.id(airport.code())).putInt(strings.id(airport.name()));
+                airportCount++;
+            }
+        }
+        tables[Table.CITIES.ordinal()] = cities.finish();
+        tables[Table.AIRPORTS.ordinal()] = new TableBuffer().putInt(airportCount).put(airports.finish()).finish();
+
+        List<Hotel> hotelList = new ArrayList<>();
+        for (String city : data.hotels().cities()) {
+            hotelList.addAll(data.hotels().hotels(city));
+        }
+        TableBuffer hotels = new TableBuffer().putInt(hotelList.size()).putInt(0);
+        for (Hotel hotel : hotelList) {
+            hotels.putInt(strings.id(hotel.name()))
+                    .putInt(strings.id(hotel.city()))
+                    .putInt(strings.id(hotel.type()))
+                    .putInt(0)
+                    .putDouble(hotel.rating())
+                    .putInt(hotel.pricePerNight())
+                    .putInt(hotel.starRating())
+                    .putDouble(hotel.distanceKm());
+            putList(hotels, lists, strings, hotel.amenities());
+        }
+        tables[Table.HOTELS.ordinal()] = hotels.finish();
+
+        FlightInventory flights = data.flights();
+        TableBuffer airlines = new TableBuffer().putInt(flights.airlineCount());
+        for (FlightInventory.Airline airline : flights.airlines()) {
+            airlines.putInt(strings.id(airline.code()))
+                    .putInt(strings.id(airline.name()))
+                    .putInt(strings.id(airline.turkishName()));
+        }
+        tables[Table.AIRLINES.ordinal()] = airlines.finish();
+        tables[Table.AIRCRAFT.ordinal()] = stringIds(strings, flights.aircraftTypes());
+        tables[Table.FLIGHT_CITIES.ordinal()] = stringIds(strings, flights.cityNames());
+
+        // Gün blokları tablo başına göre 8 bayta hizalı konumlarda; konum dizisi dayCount + 1 elemanlı
+        int dayCount = flights.dayCount();
+        TableBuffer days = new TableBuffer().putInt(flights.firstEpochDay()).putInt(dayCount);
+        int offset = FlightInventory.align8(8 + 4 * (dayCount + 1));
+        for (int i = 0; i < dayCount; i++) {
+            days.putInt(offset);
+            offset += flights.dayBlock(i).remaining();
+        }
+        days.putInt(offset).align();
+        for (int i = 0; i < dayCount; i++) {
+            days.put(flights.dayBlock(i));
+        }
+        tables[Table.FLIGHT_DAYS.ordinal()] = days.finish();
+
+        tables[Table.LISTS.ordinal()] = new TableBuffer().putInt(lists.size() / 4).put(lists.finish()).finish();
+        tables[Table.STRINGS.ordinal()] = strings.encode();
+        return tables;
+    }
+
+    private static ReferenceData decode(ByteBuffer file) {
+        if (file.getInt(0) != MAGIC) {
+            throw new IllegalStateException("Anlık görüntü dosyası değil");
+        }
+        if (file.getInt(4) != VERSION) {
+            throw new IllegalStateException("Desteklenmeyen anlık görüntü sürümü: " + file.getInt(4));
+        }
+        ByteBuffer[] tables = new ByteBuffer[Table.values().length];
+        int tableCount = file.getInt(8);
+        for (int t = 0; t < tableCount; t++) {
+            int entry = HEADER_BYTES + t * DIRECTORY_ENTRY_BYTES;
+            int id = file.getInt(entry);
+            if (id >= 0 && id < tables.length) {
+                tables[id] = file.slice((int) file.getLong(entry + 8), (int) file.getLong(entry + 16))
+                        .order(ByteOrder.LITTLE_ENDIAN);
+            }
+        }
+        for (Table table : Table.values()) {
+            if (tables[table.ordinal()] == null) {
+                throw new IllegalStateException("Anlık görüntüde tablo eksik: " + table);
+            }
+        }
+
+        String[] strings = decodeStrings(tables[Table.STRINGS.ordinal()]);
+        ByteBuffer lists = tables[Table.LISTS.ordinal()];
+
+        ByteBuffer airportTable = tables[Table.AIRPORTS.ordinal()];
+        City.Airport[] airports = new City.Airport[airportTable.getInt(0)];
+        for (int i = 0; i < airports.length; i++) {
+            airports[i] = new City.Airport(strings[airportTable.getInt(4 + 8 * i)], strings[airportTable.getInt(8 + 8 * i)]);
+        }
+        ByteBuffer cityTable = tables[Table.CITIES.ordinal()];
+        List<City> cities = new ArrayList<>(cityTable.getInt(0));
+        for (int i = 0, p = 4; i < cityTable.getInt(0); i++, p += 40) {
+            int airportStart = cityTable.getInt(p + 32);
+            cities.add(new City(i,
+                    strings[cityTable.getInt(p)],
+                    stringList(lists, strings, cityTable.getInt(p + 16), cityTable.getInt(p + 20)),
+                    string(strings, cityTable.getInt(p + 4)),
+                    List.of(Arrays.copyOfRange(airports, airportStart, airportStart + cityTable.getInt(p + 36))),
+                    stringList(lists, strings, cityTable.getInt(p + 24), cityTable.getInt(p + 28)),
+                    string(strings, cityTable.getInt(p + 8)),
+                    cityTable.getInt(p + 12)));
+        }
+
+        ByteBuffer hotelTable = tables[Table.HOTELS.ordinal()];
+        List<Hotel> hotels = new ArrayList<>(hotelTable.getInt(0));
+        for (int i = 0, p = 8; i < hotelTable.getInt(0); i++, p += HOTEL_RECORD_BYTES) {
+            hotels.add(new Hotel(
+                    strings[hotelTable.getInt(p)],
+                    strings[hotelTable.getInt(p + 4)],
+                    strings[hotelTable.getInt(p + 8)],
+                    hotelTable.getDouble(p + 16),
+                    hotelTable.getInt(p + 24),
+                    hotelTable.getInt(p + 28),
+                    stringList(lists, strings, hotelTable.getInt(p + 40), hotelTable.getInt(p + 44)),
+                    hotelTable.getDouble(p + 32)));
+        }
+
+        ByteBuffer airlineTable = tables[Table.AIRLINES.ordinal()];
+        List<FlightInventory.Airline> airlines = new ArrayList<>(airlineTable.getInt(0));
+        for (int i = 0, p = 4; i < airlineTable.getInt(0); i++, p += 12) {
+            airlines.add(new FlightInventory.Airline(strings[airlineTable.getInt(p)],
+                    strings[airlineTable.getInt(p + 4)], strings[airlineTable.getInt(p + 8)]));
+        }
+
+        ByteBuffer dayTable = tables[Table.FLIGHT_DAYS.ordinal()];
+        int dayCount = dayTable.getInt(4);
+        List<ByteBuffer> dayBlocks = new ArrayList<>(dayCount);
+        for (int i = 0; i < dayCount; i++) {
+            int start = dayTable.getInt(8 + 4 * i);
+            dayBlocks.add(dayTable.slice(start, dayTable.getInt(12 + 4 * i) - start));
+        }
+
+        return new ReferenceData(CityDirectory.of(cities), HotelCatalog.of(hotels),
+                FlightInventory.of(stringIds(tables[Table.FLIGHT_CITIES.ordinal()], strings),
+                        airlines,
+                        stringIds(tables[Table.AIRCRAFT.ordinal()], strings),
+                        dayTable.getInt(0),
+                        dayBlocks));
+    }
+
+    // Liste konumu (int cinsinden) ve uzunluğu kayda yazılır, elemanlar liste tablosuna eklenir
+    private static void putList(TableBuffer record, TableBuffer lists, StringPool strings, List<String> values) {
+        record.putInt(lists.size() / 4).putInt(values.size());
+        for (String value : values) {
+            lists.putInt(strings.id(value));
+        }
+    }
+
+    private static ByteBuffer stringIds(StringPool strings, List<String> values) {
+        TableBuffer table = new TableBuffer().putInt(values.size());
+        for (String value : values) {
+            table.putInt(strings.id(value));
+        }
+        return table.finish();
+    }
+
+    private static List<String> stringIds(ByteBuffer table, String[] strings) {
+        String[] values = new String[table.getInt(0)];
+        for (int i = 0; i < values.length; i++) {
+            values[i] = strings[table.getInt(4 + 4 * i)];
+        }
+        return List.of(values);
+    }
+
+    private static List<String> stringList(ByteBuffer lists, String[] strings, int start, int count) {
+        String[] values = new String[count];
+        for (int i = 0; i < count; i++) {
+            values[i] = strings[lists.getInt(4 + 4 * (start + i))];
+        }
+        return List.of(values);
+    }
+
+    // Havuz kimliği -1 olan alanlar null'dır
+    private static String string(String[] strings, int id) {
+        return id < 0 ? null : strings[id];
+    }
+
+    // Düzen: dizgi sayısı, int[sayı + 1] bayt konumları (veri başına göre), UTF-8 veri
+    private static String[] decodeStrings(ByteBuffer table) {
+        int count = table.getInt(0);
+        int dataStart = 4 + 4 * (count + 1);
+        byte[] data = new byte[table.getInt(4 + 4 * count)];
+        table.get(dataStart, data);
+        String[] strings = new String[count];
+        for (int i = 0; i < count; i++) {
+            int from = table.getInt(4 + 4 * i);
+            strings[i] = new String(data, from, table.getInt(8 + 4 * i) - from, StandardCharsets.UTF_8);
+        }
+        return strings;
+    }
+
+    private static void writeFully(FileChannel channel, ByteBuffer buffer) throws IOException {
+        while (buffer.hasRemaining()) {
+            channel.write(buffer);
+        }
+    }
+
+    private static final class StringPool {
+        private final Map<String, Integer> ids = new LinkedHashMap<>();
+
+        int id(String value) {
+            return value == null ? -1 : ids.computeIfAbsent(value, v -> ids.size());
+        }
+
+        ByteBuffer encode() {
+            byte[][] encoded = new byte[ids.size()][];
+            TableBuffer table = new TableBuffer().putInt(encoded.length);
+            int offset = 0;
+            int i = 0;
+            for (String value : ids.keySet()) {
+                encoded[i++] = value.getBytes(StandardCharsets.UTF_8);
+                table.putInt(offset);
+                offset += encoded[i - 1].length;
+            }
+            table.putInt(offset);
+            for (byte[] bytes : encoded) {
+                table.put(ByteBuffer.wrap(bytes));
+            }
+            return table.finish();
+        }
+    }
+
+    private static final class TableBuffer {
+        private ByteBuffer buffer = ByteBuffer.allocate(256).order(ByteOrder.LITTLE_ENDIAN);
+
+        TableBuffer putInt(int value) {
+            ensure(4).putInt(value);
+            return this;
+        }
+
+        TableBuffer putDouble(double value) {
+            ensure(8).putDouble(value);
+            return this;
+        }
+
+        TableBuffer put(ByteBuffer source) {
+            ensure(source.remaining()).put(source);
+            return this;
+        }
+
+        TableBuffer align() {
+            ensure(8).position(FlightInventory.align8(buffer.position()));
+            return this;
+        }
+
+        int size() {
+            return buffer.position();
+        }
+
+        ByteBuffer finish() {
+            return buffer.flip();
+        }
+
+        private ByteBuffer ensure(int bytes) {
+            if (buffer.remaining() < bytes) {
+                int capacity = Math.max(buffer.capacity() * 2, buffer.position() + bytes);
+                buffer = ByteBuffer.allocate(capacity).order(ByteOrder.LITTLE_ENDIAN).put(buffer.flip());
+            }
+            return buffer;
+        }
+    }
+}
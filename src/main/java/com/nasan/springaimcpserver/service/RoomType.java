@@ -0,0 +1,45 @@
+package com.nasan.springaimcpserver.service;
+
+public enum RoomType {
+
+    STANDARD("Standard Room", 250, 2),
+    DELUXE("Deluxe Room", 350, 2),
+    EXECUTIVE_SUITE("Executive Suite", 500, 4),
+    PRESIDENTIAL_SUITE("Presidential Suite", 800, 6);
+
+    private final String label;
+    private final int pricePerNight;
+    private final int capacity;
+
+    RoomType(String label, int pricePerNight, int capacity) {
+        this.label = label;
+        this.pricePerNight = pricePerNight;
+        this.capacity = capacity;
+    }
+
+    public String label() {
+        return label;
+    }
+
+    public int pricePerNight() {
+        return pricePerNight;
+    }
+
+    public int capacity() {
+        return capacity;
+    }
+
+    /** Etiket veya sabit adıyla (büyük/küçük harf duyarsız) eşleşen oda tipi, bulunamazsa null. */
+    public static RoomType from(String value) {
+        if (value == null) {
+            return null;
+        }
+        String v = value.trim();
+        for (RoomType type : values()) {
+            if (type.label.equalsIgnoreCase(v) || type.name().equalsIgnoreCase(v.replace(' ', '_'))) {
+                return type;
+            }
+        }
+        return null;
+    }
+}
@@ -1,261 +1,275 @@
 package com.nasan.springaimcpserver.service;
 
+import com.nasan.springaimcpserver.service.TravelResponses.BikeRental;
+import com.nasan.springaimcpserver.service.TravelResponses.BudgetEstimate;
+import com.nasan.springaimcpserver.service.TravelResponses.CarRental;
+import com.nasan.springaimcpserver.service.TravelResponses.CityInfo;
+import com.nasan.springaimcpserver.service.TravelResponses.CityWeather;
+import com.nasan.springaimcpserver.service.TravelResponses.DailyWeather;
+import com.nasan.springaimcpserver.service.TravelResponses.DailyBudget;
+import com.nasan.springaimcpserver.service.TravelResponses.PublicTransport;
+import com.nasan.springaimcpserver.service.TravelResponses.Rideshare;
+import com.nasan.springaimcpserver.service.TravelResponses.SeasonalInfo;
+import com.nasan.springaimcpserver.service.TravelResponses.Taxi;
+import com.nasan.springaimcpserver.service.TravelResponses.Temperature;
+import com.nasan.springaimcpserver.service.TravelResponses.Transportation;
+import com.nasan.springaimcpserver.service.TravelResponses.TravelCosts;
+import com.nasan.springaimcpserver.service.TravelResponses.TravelOption;
+import com.nasan.springaimcpserver.service.TravelResponses.TravelRoute;
+import com.nasan.springaimcpserver.service.TravelResponses.WeatherForecast;
+import com.nasan.springaimcpserver.service.TravelResponses.WeatherRange;
+import com.nasan.springaimcpserver.tool.ToolException;
 import org.springframework.ai.tool.annotation.Tool;
+import org.springframework.ai.tool.annotation.ToolParam;
 import org.springframework.stereotype.Service;
+import reactor.core.publisher.Mono;
 
 import java.time.LocalDate;
 import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeParseException;
 import java.time.temporal.ChronoUnit;
 import java.util.*;
 
 @Service
 public class TravelDataTool {
 
+    // Şehirden bağımsız sabit ulaşım seçenekleri ve maliyetler
+    private static final List<TravelOption> TRAVEL_OPTIONS = List.of(
+            new TravelOption("Uçak", "1-2 saat", "200-500 TL", "Yüksek"),
+            new TravelOption("Otobüs", "4-8 saat", "50-150 TL", "Orta"),
+            new TravelOption("Araba", "4-6 saat", "100-200 TL (yakıt)", "Yüksek")
+    );
+
+    // Mevsimin konfor sırasına (0 en az elverişli) göre kalabalık ve fiyat düzeyi
+    private static final String[] CROWD_LEVELS = {"Az", "Orta", "Yoğun", "Çok Yoğun"};
+    private static final String[] PRICE_LEVELS = {"Düşük", "Orta", "Yüksek", "Çok Yüksek"};
+
+    private static final TravelCosts TRAVEL_COSTS = new TravelCosts(
+            "200-500 TL", "50-150 TL", "100-200 TL", "150-800 TL/gece", "50-200 TL/gün");
+
+    private static final int MAX_RANGE_DAYS = 31;
+    private static final int MAX_RANGE_CITIES = 20;
+
+    // Her çağrı güncel veri sürümünü başta bir kez okur ve çağrı boyunca yalnızca onu kullanır
+    private final ReferenceDataManager datasets;
+    private final ClimateStore climate;
+
+    public TravelDataTool(ReferenceDataManager datasets, ClimateStore climate) {
+        this.datasets = datasets;
+        this.climate = climate;
+    }
+
     @Tool(name = "travel.getCityInfo", description = "Şehir hakkında seyahat bilgilerini getirir")
-    public Map<String, Object> getCityInfo(String cityName) {
-        Map<String, Object> cityInfo = new HashMap<>();
-        
+    public CityInfo getCityInfo(String cityName) {
         if (cityName == null || cityName.trim().isEmpty()) {
-            cityInfo.put("error", "Şehir adı belirtilmelidir");
-            return cityInfo;
+            throw ToolException.invalidArgument("Şehir adı belirtilmelidir");
         }
         
-        cityName = normalizeCity(cityName);
+        // Bilinen şehirler için açılışta iklim verisinin yıllık ortalamasıyla hazırlanan yanıt döner
+        CityDirectory cities = datasets.current().cities();
+        City city = cities.find(cityName);
+        if (city != null) {
+            return cities.cityInfo(city);
+        }
         
-        cityInfo.put("name", cityName);
-        cityInfo.put("country", "Türkiye");
-        cityInfo.put("population", getCityPopulation(cityName));
-        cityInfo.put("airports", getCityAirports(cityName));
-        cityInfo.put("attractions", getCityAttractions(cityName));
-        cityInfo.put("bestTimeToVisit", getBestTimeToVisit(cityName));
-        cityInfo.put("averageTemperature", getAverageTemperature(cityName));
-        cityInfo.put("currency", "Turkish Lira (TL)");
-        cityInfo.put("timeZone", "UTC+3");
-        cityInfo.put("language", "Turkish");
+        cityName = normalizeCity(cities, cityName);
         
-        return cityInfo;
+        return new CityInfo(
+                cityName,
+                "Türkiye",
+                "Bilinmiyor",
+                List.of("Yerel havalimanı"),
+                List.of("Yerel turistik yerler"),
+                "İlkbahar-Sonbahar",
+                "Ortalama: 15°C",
+                "Turkish Lira (TL)",
+                "UTC+3",
+                "Turkish");
     }
 
     @Tool(name = "travel.getWeatherForecast", description = "Şehir için hava durumu tahmini getirir")
-    public Map<String, Object> getWeatherForecast(String cityName, String date) {
-        Map<String, Object> weather = new HashMap<>();
+    public WeatherForecast getWeatherForecast(String cityName, String date) {
+        LocalDate forecastDate;
+        try {
+            forecastDate = LocalDate.parse(date, DateTimeFormatter.ISO_LOCAL_DATE);
+        } catch (DateTimeParseException | NullPointerException e) {
+            throw ToolException.invalidArgument("Geçersiz tarih formatı. YYYY-MM-DD formatında girin");
+        }
+        long daysFromNow = ChronoUnit.DAYS.between(LocalDate.now(), forecastDate);
+        
+        String warning = null;
+        if (daysFromNow > 7) {
+            warning = "7 günden fazla tahmin yapılamaz, genel bilgi verilmektedir";
+        }
+        
+        cityName = climateCity(datasets.current().cities(), cityName);
+        ClimateStore.Day day = climate.day(cityName, forecastDate);
         
+        return new WeatherForecast(
+                cityName,
+                date,
+                new Temperature((int) Math.round(day.minTemperature()), (int) Math.round(day.maxTemperature()), "Celsius"),
+                day.humidity(),
+                weatherCondition(day),
+                day.wind(),
+                day.precipitation(),
+                travelRecommendation(day),
+                warning);
+    }
+
+    @Tool(name = "travel.getWeatherRange", description = "Birden fazla şehir için seyahat penceresindeki günlük hava durumu tahminlerini tek çağrıda getirir")
+    public WeatherRange getWeatherRange(
+            @ToolParam(description = "Şehir adları") List<String> cityNames,
+            @ToolParam(description = "İlk gün (YYYY-MM-DD)") String startDate,
+            @ToolParam(required = false, description = "Gün sayısı (1-31), varsayılan 7") Integer days) {
+        if (cityNames == null || cityNames.isEmpty()) {
+            throw ToolException.invalidArgument("En az bir şehir belirtilmelidir");
+        }
+        LocalDate start;
         try {
-            LocalDate forecastDate = LocalDate.parse(date, DateTimeFormatter.ISO_LOCAL_DATE);
-            long daysFromNow = ChronoUnit.DAYS.between(LocalDate.now(), forecastDate);
-            
-            if (daysFromNow > 7) {
-                weather.put("warning", "7 günden fazla tahmin yapılamaz, genel bilgi verilmektedir");
-            }
-            
-            cityName = normalizeCity(cityName);
-            
-            weather.put("city", cityName);
-            weather.put("date", date);
-            weather.put("temperature", generateTemperature(cityName, forecastDate));
-            weather.put("humidity", 40 + (int)(Math.random() * 40));
-            weather.put("condition", generateWeatherCondition());
-            weather.put("windSpeed", 5 + (int)(Math.random() * 20));
-            weather.put("precipitation", Math.random() * 10);
-            weather.put("recommendation", generateTravelRecommendation(cityName));
-            
-        } catch (Exception e) {
-            weather.put("error", "Geçersiz tarih formatı. YYYY-MM-DD formatında girin");
+            start = LocalDate.parse(startDate, DateTimeFormatter.ISO_LOCAL_DATE);
+        } catch (DateTimeParseException | NullPointerException e) {
+            throw ToolException.invalidArgument("Geçersiz tarih formatı. YYYY-MM-DD formatında girin");
+        }
+        int count = days == null ? 7 : days;
+        if (count < 1 || count > MAX_RANGE_DAYS) {
+            throw ToolException.invalidArgument("Gün sayısı 1 ile " + MAX_RANGE_DAYS + " arasında olmalıdır");
+        }
+        
+        CityDirectory cities = datasets.current().cities();
+        Set<String> names = new LinkedHashSet<>();
+        for (String cityName : cityNames) {
+            names.add(climateCity(cities, cityName));
+        }
+        if (names.size() > MAX_RANGE_CITIES) {
+            throw ToolException.invalidArgument("En fazla " + MAX_RANGE_CITIES + " şehir sorgulanabilir");
         }
         
-        return weather;
+        List<CityWeather> result = new ArrayList<>(names.size());
+        for (String cityName : names) {
+            List<DailyWeather> daily = new ArrayList<>(count);
+            for (ClimateStore.Day day : climate.range(cityName, start, count)) {
+                daily.add(new DailyWeather(
+                        day.date().toString(),
+                        (int) Math.round(day.minTemperature()),
+                        (int) Math.round(day.maxTemperature()),
+                        day.humidity(),
+                        day.precipitation(),
+                        day.rainChance(),
+                        weatherCondition(day)));
+            }
+            result.add(new CityWeather(cityName, daily));
+        }
+        return new WeatherRange(start.toString(), start.plusDays(count - 1).toString(), result);
     }
 
     @Tool(name = "travel.getTravelRoute", description = "İki şehir arası seyahat rotası ve seçenekleri getirir")
-    public Map<String, Object> getTravelRoute(String fromCity, String toCity) {
-        Map<String, Object> route = new HashMap<>();
-        
+    public TravelRoute getTravelRoute(String fromCity, String toCity) {
         if (fromCity == null || toCity == null || fromCity.trim().isEmpty() || toCity.trim().isEmpty()) {
-            route.put("error", "Kalkış ve varış şehirleri belirtilmelidir");
-            return route;
+            throw ToolException.invalidArgument("Kalkış ve varış şehirleri belirtilmelidir");
         }
         
-        fromCity = normalizeCity(fromCity);
-        toCity = normalizeCity(toCity);
-        
-        route.put("from", fromCity);
-        route.put("to", toCity);
-        route.put("distance", calculateDistance(fromCity, toCity));
-        route.put("travelOptions", generateTravelOptions(fromCity, toCity));
-        route.put("estimatedCosts", generateTravelCosts(fromCity, toCity));
-        route.put("recommendations", generateRouteRecommendations(fromCity, toCity));
+        CityDirectory cities = datasets.current().cities();
+        fromCity = normalizeCity(cities, fromCity);
+        toCity = normalizeCity(cities, toCity);
         
-        return route;
+        return new TravelRoute(
+                fromCity,
+                toCity,
+                calculateDistance(fromCity, toCity),
+                generateTravelOptions(fromCity, toCity),
+                generateTravelCosts(fromCity, toCity),
+                generateRouteRecommendations(fromCity, toCity));
+    }
+
+    /** {@code travel.getTravelRoute} aracının reaktif karşılığı (ASYNC profili). */
+    public Mono<TravelRoute> travelRoute(String fromCity, String toCity) {
+        return Mono.fromSupplier(() -> getTravelRoute(fromCity, toCity));
     }
 
     @Tool(name = "travel.getSeasonalInfo", description = "Şehir için mevsimsel seyahat bilgileri getirir")
-    public Map<String, Object> getSeasonalInfo(String cityName, String season) {
-        Map<String, Object> seasonalInfo = new HashMap<>();
-        
-        cityName = normalizeCity(cityName);
-        season = season.toLowerCase();
-        
-        if (!Arrays.asList("spring", "summer", "autumn", "winter", "ilkbahar", "yaz", "sonbahar", "kış").contains(season)) {
-            seasonalInfo.put("error", "Geçersiz mevsim. spring/yaz, summer/yaz, autumn/sonbahar, winter/kış kullanın");
-            return seasonalInfo;
+    public SeasonalInfo getSeasonalInfo(String cityName, String season) {
+        ClimateStore.Season parsed = ClimateStore.Season.parse(season);
+        if (parsed == null) {
+            throw ToolException.invalidArgument("Geçersiz mevsim. spring/ilkbahar, summer/yaz, autumn/sonbahar, winter/kış kullanın");
         }
-        
-        seasonalInfo.put("city", cityName);
-        seasonalInfo.put("season", normalizeSeasonName(season));
-        seasonalInfo.put("weatherInfo", getSeasonalWeather(cityName, season));
-        seasonalInfo.put("crowdLevel", getSeasonalCrowdLevel(cityName, season));
-        seasonalInfo.put("priceLevel", getSeasonalPriceLevel(cityName, season));
-        seasonalInfo.put("activities", getSeasonalActivities(cityName, season));
-        seasonalInfo.put("packingTips", getPackingTips(season));
-        
-        return seasonalInfo;
+        cityName = climateCity(datasets.current().cities(), cityName);
+        
+        // Mevsim bilgileri iklim verisinin önceden hesaplanmış mevsim ortalamalarından üretilir
+        int rank = climate.comfortRank(cityName, parsed);
+        return new SeasonalInfo(
+                cityName,
+                parsed.displayName(),
+                getSeasonalWeather(climate.season(cityName, parsed)),
+                CROWD_LEVELS[rank],
+                PRICE_LEVELS[rank],
+                getSeasonalActivities(cityName, season),
+                getPackingTips(parsed));
     }
 
     @Tool(name = "travel.getTransportation", description = "Şehir içi ulaşım seçenekleri getirir")
-    public Map<String, Object> getTransportation(String cityName) {
-        Map<String, Object> transportation = new HashMap<>();
-        
-        cityName = normalizeCity(cityName);
+    public Transportation getTransportation(String cityName) {
+        cityName = normalizeCity(datasets.current().cities(), cityName);
         
-        transportation.put("city", cityName);
-        transportation.put("publicTransport", getPublicTransport(cityName));
-        transportation.put("taxi", getTaxiInfo(cityName));
-        transportation.put("carRental", getCarRentalInfo(cityName));
-        transportation.put("rideshare", getRideshareInfo(cityName));
-        transportation.put("bikeRental", getBikeRentalInfo(cityName));
-        
-        return transportation;
+        return new Transportation(
+                cityName,
+                getPublicTransport(cityName),
+                getTaxiInfo(cityName),
+                getCarRentalInfo(cityName),
+                getRideshareInfo(cityName),
+                getBikeRentalInfo(cityName));
     }
 
     @Tool(name = "travel.getBudgetEstimate", description = "Şehir için günlük bütçe tahmini getirir")
-    public Map<String, Object> getBudgetEstimate(String cityName, String budgetType) {
-        Map<String, Object> budget = new HashMap<>();
-        
-        cityName = normalizeCity(cityName);
+    public BudgetEstimate getBudgetEstimate(String cityName, String budgetType) {
+        cityName = normalizeCity(datasets.current().cities(), cityName);
         
-        if (!Arrays.asList("budget", "mid-range", "luxury").contains(budgetType.toLowerCase())) {
-            budget.put("error", "Bütçe tipi: budget, mid-range, luxury olmalıdır");
-            return budget;
+        if (budgetType == null || !Arrays.asList("budget", "mid-range", "luxury").contains(budgetType.toLowerCase())) {
+            throw ToolException.invalidArgument("Bütçe tipi: budget, mid-range, luxury olmalıdır");
         }
         
-        budget.put("city", cityName);
-        budget.put("type", budgetType);
-        budget.put("dailyBudget", generateBudgetBreakdown(cityName, budgetType));
-        budget.put("currency", "TL");
-        budget.put("tips", getBudgetTips(budgetType));
-        
-        return budget;
+        return new BudgetEstimate(
+                cityName,
+                budgetType,
+                generateBudgetBreakdown(cityName, budgetType),
+                "TL",
+                getBudgetTips(budgetType));
     }
 
     // Yardımcı metodlar
-    private String normalizeCity(String city) {
-        Map<String, String> cityMap = Map.of(
-            "istanbul", "İstanbul",
-            "ankara", "Ankara",
-            "izmir", "İzmir", 
-            "antalya", "Antalya",
-            "bursa", "Bursa",
-            "adana", "Adana",
-            "trabzon", "Trabzon",
-            "gaziantep", "Gaziantep"
-        );
-        
-        return cityMap.getOrDefault(city.toLowerCase(), 
-            city.substring(0, 1).toUpperCase() + city.substring(1).toLowerCase());
-    }
-    
-    private String getCityPopulation(String cityName) {
-        Map<String, String> populations = Map.of(
-            "İstanbul", "15.5 milyon",
-            "Ankara", "5.7 milyon", 
-            "İzmir", "4.4 milyon",
-            "Antalya", "2.6 milyon",
-            "Bursa", "3.1 milyon",
-            "Adana", "2.2 milyon"
-        );
-        
-        return populations.getOrDefault(cityName, "Bilinmiyor");
-    }
-    
-    private List<String> getCityAirports(String cityName) {
-        Map<String, List<String>> airports = Map.of(
-            "İstanbul", Arrays.asList("İstanbul Havalimanı (IST)", "Sabiha Gökçen (SAW)"),
-            "Ankara", Arrays.asList("Esenboğa Havalimanı (ESB)"),
-            "İzmir", Arrays.asList("Adnan Menderes Havalimanı (ADB)"),
-            "Antalya", Arrays.asList("Antalya Havalimanı (AYT)"),
-            "Trabzon", Arrays.asList("Trabzon Havalimanı (TZX)")
-        );
-        
-        return airports.getOrDefault(cityName, Arrays.asList("Yerel havalimanı"));
-    }
-    
-    private List<String> getCityAttractions(String cityName) {
-        Map<String, List<String>> attractions = Map.of(
-            "İstanbul", Arrays.asList("Ayasofya", "Sultanahmet Camii", "Kapalıçarşı", "Galata Kulesi", "Boğaz Turu"),
-            "Ankara", Arrays.asList("Anıtkabir", "Ankara Kalesi", "Etnografya Müzesi", "Atatürk Orman Çiftliği"),
-            "İzmir", Arrays.asList("Konak Meydanı", "Kemeraltı Çarşısı", "Alsancak", "İzmir Saat Kulesi"),
-            "Antalya", Arrays.asList("Kaleiçi", "Düden Şelalesi", "Aspendos", "Perge", "Konyaaltı Plajı")
-        );
-        
-        return attractions.getOrDefault(cityName, Arrays.asList("Yerel turistik yerler"));
-    }
-    
-    private String getBestTimeToVisit(String cityName) {
-        Map<String, String> bestTimes = Map.of(
-            "İstanbul", "Nisan-Haziran, Eylül-Kasım",
-            "Ankara", "Mayıs-Ekim",
-            "İzmir", "Nisan-Kasım", 
-            "Antalya", "Nisan-Kasım",
-            "Trabzon", "Mayıs-Ekim"
-        );
-        
-        return bestTimes.getOrDefault(cityName, "İlkbahar-Sonbahar");
-    }
-    
-    private String getAverageTemperature(String cityName) {
-        Map<String, String> temps = Map.of(
-            "İstanbul", "Yıllık ortalama: 14°C",
-            "Ankara", "Yıllık ortalama: 12°C",
-            "İzmir", "Yıllık ortalama: 17°C",
-            "Antalya", "Yıllık ortalama: 18°C"
-        );
-        
-        return temps.getOrDefault(cityName, "Ortalama: 15°C");
-    }
-    
-    private Map<String, Object> generateTemperature(String cityName, LocalDate date) {
-        Map<String, Object> temp = new HashMap<>();
-        
-        // Mevsime göre sıcaklık tahmini
-        int month = date.getMonthValue();
-        int baseTemp = getBaseTempForMonth(month);
-        
-        temp.put("min", baseTemp - 5 + (int)(Math.random() * 5));
-        temp.put("max", baseTemp + 5 + (int)(Math.random() * 5));
-        temp.put("unit", "Celsius");
-        
-        return temp;
+    private static String normalizeCity(CityDirectory cities, String city) {
+        return cities.canonicalName(city);
     }
     
-    private int getBaseTempForMonth(int month) {
-        int[] monthlyTemps = {5, 7, 12, 17, 22, 27, 30, 30, 25, 19, 13, 8};
-        return monthlyTemps[month - 1];
+    // İklim serisinin anahtarı olan kanonik ad; verisi olmayan şehirlerin serisi iklim deposunda üretilir
+    private static String climateCity(CityDirectory cities, String cityName) {
+        if (cityName == null || cityName.trim().isEmpty()) {
+            throw ToolException.invalidArgument("Şehir adı belirtilmelidir");
+        }
+        return normalizeCity(cities, cityName);
     }
     
-    private String generateWeatherCondition() {
-        String[] conditions = {"Güneşli", "Parçalı Bulutlu", "Bulutlu", "Yağmurlu", "Karlı"};
-        return conditions[(int)(Math.random() * conditions.length)];
+    private String weatherCondition(ClimateStore.Day day) {
+        if (day.rainChance() >= 60) {
+            return day.maxTemperature() <= 2 ? "Karlı" : "Yağmurlu";
+        }
+        if (day.rainChance() >= 35) {
+            return "Bulutlu";
+        }
+        return day.rainChance() >= 15 ? "Parçalı Bulutlu" : "Güneşli";
     }
     
-    private String generateTravelRecommendation(String cityName) {
-        String[] recommendations = {
-            "Seyahat için ideal bir gün",
-            "Hafif yağmur olabilir, şemsiye alın",
-            "Sıcak hava, bol su için",
-            "Soğuk hava, kalın giyinin"
-        };
-        
-        return recommendations[(int)(Math.random() * recommendations.length)];
+    private String travelRecommendation(ClimateStore.Day day) {
+        if (day.rainChance() >= 35) {
+            return "Hafif yağmur olabilir, şemsiye alın";
+        }
+        if (day.maxTemperature() >= 30) {
+            return "Sıcak hava, bol su için";
+        }
+        if (day.maxTemperature() <= 8) {
+            return "Soğuk hava, kalın giyinin";
+        }
+        return "Seyahat için ideal bir gün";
     }
     
     private String calculateDistance(String fromCity, String toCity) {
@@ -272,45 +286,12 @@ public class TravelDataTool {
         return "400-600 km (tahmini)";
     }
     
-    private List<Map<String, Object>> generateTravelOptions(String fromCity, String toCity) {
-        List<Map<String, Object>> options = new ArrayList<>();
-        
-        // Uçak
-        Map<String, Object> flight = new HashMap<>();
-        flight.put("type", "Uçak");
-        flight.put("duration", "1-2 saat");
-        flight.put("price", "200-500 TL");
-        flight.put("comfort", "Yüksek");
-        options.add(flight);
-        
-        // Otobüs
-        Map<String, Object> bus = new HashMap<>();
-        bus.put("type", "Otobüs");
-        bus.put("duration", "4-8 saat");
-        bus.put("price", "50-150 TL");
-        bus.put("comfort", "Orta");
-        options.add(bus);
-        
-        // Araba
-        Map<String, Object> car = new HashMap<>();
-        car.put("type", "Araba");
-        car.put("duration", "4-6 saat");
-        car.put("price", "100-200 TL (yakıt)");
-        car.put("comfort", "Yüksek");
-        options.add(car);
-        
-        return options;
+    private List<TravelOption> generateTravelOptions(String fromCity, String toCity) {
+        return TRAVEL_OPTIONS;
     }
     
-    private Map<String, String> generateTravelCosts(String fromCity, String toCity) {
-        Map<String, String> costs = new HashMap<>();
-        costs.put("flight", "200-500 TL");
-        costs.put("bus", "50-150 TL");
-        costs.put("car", "100-200 TL");
-        costs.put("accommodation", "150-800 TL/gece");
-        costs.put("food", "50-200 TL/gün");
-        
-        return costs;
+    private TravelCosts generateTravelCosts(String fromCity, String toCity) {
+        return TRAVEL_COSTS;
     }
     
     private List<String> generateRouteRecommendations(String fromCity, String toCity) {
@@ -322,105 +303,61 @@ public class TravelDataTool {
         );
     }
     
-    private String normalizeSeasonName(String season) {
-        Map<String, String> seasonMap = Map.of(
-            "spring", "İlkbahar", "ilkbahar", "İlkbahar",
-            "summer", "Yaz", "yaz", "Yaz",
-            "autumn", "Sonbahar", "sonbahar", "Sonbahar",
-            "winter", "Kış", "kış", "Kış"
-        );
-        
-        return seasonMap.getOrDefault(season, season);
-    }
-    
-    private String getSeasonalWeather(String cityName, String season) {
-        // Mevsim ve şehre göre hava durumu
-        return "Bu mevsimde ortalama sıcaklık " + (15 + (int)(Math.random() * 15)) + "°C";
-    }
-    
-    private String getSeasonalCrowdLevel(String cityName, String season) {
-        String[] levels = {"Az", "Orta", "Yoğun", "Çok Yoğun"};
-        return levels[(int)(Math.random() * levels.length)];
-    }
-    
-    private String getSeasonalPriceLevel(String cityName, String season) {
-        String[] levels = {"Düşük", "Orta", "Yüksek", "Çok Yüksek"};
-        return levels[(int)(Math.random() * levels.length)];
+    private String getSeasonalWeather(ClimateStore.Aggregate season) {
+        return String.format(Locale.ROOT, "Bu mevsimde ortalama sıcaklık %d°C (gündüz %d°C, gece %d°C), toplam yağış %.0f mm, ortalama %d yağışlı gün",
+                Math.round(season.meanTemperature()), Math.round(season.maxTemperature()), Math.round(season.minTemperature()),
+                season.precipitation(), season.rainyDays());
     }
     
     private List<String> getSeasonalActivities(String cityName, String season) {
         return Arrays.asList("Müze gezisi", "Yürüyüş", "Fotoğraf çekimi", "Yerel lezzetler");
     }
     
-    private List<String> getPackingTips(String season) {
-        Map<String, List<String>> tips = Map.of(
-            "spring", Arrays.asList("Katmanlı giyim", "Hafif ceket", "Yağmurluk"),
-            "summer", Arrays.asList("Güneş kremi", "Şapka", "Hafif giysiler"),
-            "autumn", Arrays.asList("Ceket", "Bot", "Şemsiye"),
-            "winter", Arrays.asList("Kalın mont", "Eldiven", "Kar botu")
-        );
-        
-        return tips.getOrDefault(season.toLowerCase(), Arrays.asList("Mevsime uygun giyim"));
+    private List<String> getPackingTips(ClimateStore.Season season) {
+        return switch (season) {
+            case SPRING -> Arrays.asList("Katmanlı giyim", "Hafif ceket", "Yağmurluk");
+            case SUMMER -> Arrays.asList("Güneş kremi", "Şapka", "Hafif giysiler");
+            case AUTUMN -> Arrays.asList("Ceket", "Bot", "Şemsiye");
+            case WINTER -> Arrays.asList("Kalın mont", "Eldiven", "Kar botu");
+        };
     }
     
-    private Map<String, Object> getPublicTransport(String cityName) {
-        Map<String, Object> transport = new HashMap<>();
-        transport.put("metro", cityName.equals("İstanbul") || cityName.equals("Ankara"));
-        transport.put("bus", true);
-        transport.put("tram", cityName.equals("İstanbul"));
-        transport.put("price", "5-15 TL");
-        
-        return transport;
+    private PublicTransport getPublicTransport(String cityName) {
+        return new PublicTransport(
+                cityName.equals("İstanbul") || cityName.equals("Ankara"),
+                true,
+                cityName.equals("İstanbul"),
+                "5-15 TL");
     }
     
-    private Map<String, String> getTaxiInfo(String cityName) {
-        Map<String, String> taxi = new HashMap<>();
-        taxi.put("startingFee", "8 TL");
-        taxi.put("perKm", "3-5 TL");
-        taxi.put("availability", "24/7");
-        
-        return taxi;
+    private Taxi getTaxiInfo(String cityName) {
+        return new Taxi("8 TL", "3-5 TL", "24/7");
     }
     
-    private Map<String, String> getCarRentalInfo(String cityName) {
-        Map<String, String> rental = new HashMap<>();
-        rental.put("dailyPrice", "100-300 TL/gün");
-        rental.put("companies", "Avis, Hertz, Budget");
-        rental.put("requirement", "Ehliyet + Kredi Kartı");
-        
-        return rental;
+    private CarRental getCarRentalInfo(String cityName) {
+        return new CarRental("100-300 TL/gün", "Avis, Hertz, Budget", "Ehliyet + Kredi Kartı");
     }
     
-    private Map<String, String> getRideshareInfo(String cityName) {
-        Map<String, String> rideshare = new HashMap<>();
-        rideshare.put("uber", cityName.equals("İstanbul") ? "Mevcut" : "Mevcut değil");
-        rideshare.put("bitaksi", "Mevcut");
-        rideshare.put("priceRange", "Taksi fiyatları ile benzer");
-        
-        return rideshare;
+    private Rideshare getRideshareInfo(String cityName) {
+        return new Rideshare(cityName.equals("İstanbul") ? "Mevcut" : "Mevcut değil", "Mevcut", "Taksi fiyatları ile benzer");
     }
     
-    private Map<String, String> getBikeRentalInfo(String cityName) {
-        Map<String, String> bike = new HashMap<>();
-        bike.put("availability", cityName.equals("İstanbul") || cityName.equals("Ankara") ? "Mevcut" : "Sınırlı");
-        bike.put("hourlyPrice", "5-15 TL/saat");
-        bike.put("dailyPrice", "30-50 TL/gün");
-        
-        return bike;
+    private BikeRental getBikeRentalInfo(String cityName) {
+        return new BikeRental(
+                cityName.equals("İstanbul") || cityName.equals("Ankara") ? "Mevcut" : "Sınırlı",
+                "5-15 TL/saat",
+                "30-50 TL/gün");
     }
     
-    private Map<String, Object> generateBudgetBreakdown(String cityName, String budgetType) {
-        Map<String, Object> breakdown = new HashMap<>();
-        
+    private DailyBudget generateBudgetBreakdown(String cityName, String budgetType) {
         int multiplier = budgetType.equals("budget") ? 1 : budgetType.equals("mid-range") ? 2 : 4;
         
-        breakdown.put("accommodation", 100 * multiplier + " TL");
-        breakdown.put("food", 50 * multiplier + " TL");
-        breakdown.put("transportation", 20 * multiplier + " TL");
-        breakdown.put("activities", 30 * multiplier + " TL");
-        breakdown.put("total", (200 * multiplier) + " TL");
-        
-        return breakdown;
+        return new DailyBudget(
+                100 * multiplier + " TL",
+                50 * multiplier + " TL",
+                20 * multiplier + " TL",
+                30 * multiplier + " TL",
+                (200 * multiplier) + " TL");
     }
     
     private List<String> getBudgetTips(String budgetType) {
@@ -0,0 +1,91 @@
+package com.nasan.springaimcpserver.service;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.nasan.springaimcpserver.tool.ToolException;
+
+import java.util.List;
+
+/** Seyahat bilgi araçlarının yanıt tipleri. */
+public final class TravelResponses {
+
+    private TravelResponses() {
+    }
+
+    public record CityInfo(String name, String country, String population, List<String> airports,
+                           List<String> attractions, String bestTimeToVisit, String averageTemperature,
+                           String currency, String timeZone, String language) {
+    }
+
+    public record Temperature(int min, int max, String unit) {
+    }
+
+    public record WeatherForecast(String city, String date, Temperature temperature, int humidity, String condition,
+                                  int windSpeed, double precipitation, String recommendation,
+                                  @JsonInclude(JsonInclude.Include.NON_NULL) String warning) {
+    }
+
+    /** Günlük hava durumu; sıcaklık °C, yağış mm, yağış olasılığı yüzde. */
+    public record DailyWeather(String date, int min, int max, int humidity, double precipitation, int rainChance,
+                               String condition) {
+    }
+
+    public record CityWeather(String city, List<DailyWeather> days) {
+    }
+
+    public record WeatherRange(String startDate, String endDate, List<CityWeather> cities) {
+    }
+
+    public record TravelOption(String type, String duration, String price, String comfort) {
+    }
+
+    public record TravelCosts(String flight, String bus, String car, String accommodation, String food) {
+    }
+
+    public record TravelRoute(String from, String to, String distance, List<TravelOption> travelOptions,
+                              TravelCosts estimatedCosts, List<String> recommendations) {
+    }
+
+    public record SeasonalInfo(String city, String season, String weatherInfo, String crowdLevel, String priceLevel,
+                               List<String> activities, List<String> packingTips) {
+    }
+
+    public record PublicTransport(boolean metro, boolean bus, boolean tram, String price) {
+    }
+
+    public record Taxi(String startingFee, String perKm, String availability) {
+    }
+
+    public record CarRental(String dailyPrice, String companies, String requirement) {
+    }
+
+    public record Rideshare(String uber, String bitaksi, String priceRange) {
+    }
+
+    public record BikeRental(String availability, String hourlyPrice, String dailyPrice) {
+    }
+
+    public record Transportation(String city, PublicTransport publicTransport, Taxi taxi, CarRental carRental,
+                                 Rideshare rideshare, BikeRental bikeRental) {
+    }
+
+    public record DailyBudget(String accommodation, String food, String transportation, String activities,
+                              String total) {
+    }
+
+    public record BudgetEstimate(String city, String type, DailyBudget dailyBudget, String currency,
+                                 List<String> tips) {
+    }
+
+    /** {@code trip.plan} içinde başarısız olan veya zaman aşımına uğrayan bir kol. */
+    public record BranchError(String branch, ToolException.Code code, String message) {
+    }
+
+    /** Kolları paralel yürütülen seyahat planı; başarısız kollar boş kalır ve {@code errors} içinde listelenir. */
+    public record TripPlan(String origin, String destination, String checkInDate, String checkOutDate,
+                           @JsonInclude(JsonInclude.Include.NON_NULL) FlightResponses.FlightPage flights,
+                           @JsonInclude(JsonInclude.Include.NON_NULL) HotelResponses.AvailableHotelList hotels,
+                           @JsonInclude(JsonInclude.Include.NON_NULL) WeatherForecast weather,
+                           @JsonInclude(JsonInclude.Include.NON_NULL) BudgetEstimate budget,
+                           List<BranchError> errors) {
+    }
+}
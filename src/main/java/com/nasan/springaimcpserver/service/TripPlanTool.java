@@ -0,0 +1,182 @@
+package com.nasan.springaimcpserver.service;
+
+import com.nasan.springaimcpserver.service.TravelResponses.BranchError;
+import com.nasan.springaimcpserver.service.TravelResponses.TripPlan;
+import com.nasan.springaimcpserver.tool.ToolException;
+import io.micrometer.tracing.Span;
+import io.micrometer.tracing.Tracer;
+import jakarta.annotation.PreDestroy;
+import org.springframework.ai.tool.ToolCallback;
+import org.springframework.ai.tool.ToolCallbackProvider;
+import org.springframework.ai.tool.annotation.Tool;
+import org.springframework.ai.tool.annotation.ToolParam;
+import org.springframework.ai.tool.execution.ToolExecutionException;
+import org.springframework.ai.util.json.JsonParser;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+/**
+ * Bir seyahat için uçuş, otel, hava durumu ve bütçe sorgularını tek çağrıda, paralel olarak yürütür.
+ * Kollar ilgili araçları kayıtlı geri çağrılar üzerinden çağırır; böylece her kol, istemciden gelen bir
+ * çağrı gibi eşzamanlılık sınırlayıcısından, önbellekten ve ölçümden geçer. Veri sürümü çağrı başında bir kez
+ * okunur ve bütün kollar bu sürüme sabitlenir.
+ * Her kol kendi sanal iş parçacığında, çağrının span'inin altında ayrı bir span ile çalışır;
+ * {@code trip.plan.branch-timeout} içinde bitmeyen kol beklenmez. Yanıt tamamlanan kollarla döner, diğerleri
+ * {@code errors} altında raporlanır.
+ */
+@Service
+public class TripPlanTool {
+
+    private static final int BRANCHES = 4;
+
+    private final ReferenceDataManager datasets;
+    // Sarmalanmış geri çağrılar bu aracı da içerdiğinden ilk çağrıda çözülür
+    private final ObjectProvider<ToolCallbackProvider> toolCallbacks;
+    private final long branchTimeoutNanos;
+    private final Tracer tracer;
+    private final ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor();
+    private volatile Map<String, ToolCallback> tools;
+
+    public TripPlanTool(ReferenceDataManager datasets, ObjectProvider<ToolCallbackProvider> toolCallbacks,
+                        @Value("${trip.plan.branch-timeout:2s}") Duration branchTimeout,
+                        ObjectProvider<Tracer> tracerProvider) {
+        this.datasets = datasets;
+        this.toolCallbacks = toolCallbacks;
+        this.branchTimeoutNanos = branchTimeout.toNanos();
+        this.tracer = tracerProvider.getIfAvailable(() -> Tracer.NOOP);
+    }
+
+    @Tool(name = "trip.plan", description = "Bir seyahat için giriş tarihindeki uçuşları, tarih aralığında müsait otelleri, "
+            + "varış şehrinin hava durumunu ve günlük bütçe tahminini tek çağrıda getirir")
+    public TripPlan planTrip(
+            @ToolParam(description = "Kalkış şehri") String origin,
+            @ToolParam(description = "Varış şehri") String destination,
+            @ToolParam(description = "Giriş tarihi (YYYY-MM-DD)") String checkInDate,
+            @ToolParam(description = "Çıkış tarihi (YYYY-MM-DD)") String checkOutDate,
+            @ToolParam(required = false, description = "Bütçe tipi: budget, mid-range, luxury; varsayılan mid-range") String budgetType) {
+        String budget = budgetType == null || budgetType.isBlank() ? "mid-range" : budgetType;
+
+        ReferenceDataManager.Version version = datasets.version();
+        // Kollar aynı anda başladığından ortak bir son tarih toplam bekleme süresini de sınırlar
+        long deadline = System.nanoTime() + branchTimeoutNanos;
+        Future<FlightResponses.FlightPage> flightBranch = fork("flights", version, "flight.search",
+                arguments("fromCity", origin, "toCity", destination, "dateFrom", checkInDate, "dateTo", checkInDate,
+                        "sortBy", "price"), FlightResponses.FlightPage.class);
+        Future<HotelResponses.AvailableHotelList> hotelBranch = fork("hotels", version, "hotel.searchByDate",
+                arguments("cityName", destination, "checkInDate", checkInDate, "checkOutDate", checkOutDate),
+                HotelResponses.AvailableHotelList.class);
+        Future<TravelResponses.WeatherForecast> weatherBranch = fork("weather", version, "travel.getWeatherForecast",
+                arguments("cityName", destination, "date", checkInDate), TravelResponses.WeatherForecast.class);
+        Future<TravelResponses.BudgetEstimate> budgetBranch = fork("budget", version, "travel.getBudgetEstimate",
+                arguments("cityName", destination, "budgetType", budget), TravelResponses.BudgetEstimate.class);
+
+        List<BranchError> errors = new ArrayList<>();
+        TripPlan plan = new TripPlan(origin, destination, checkInDate, checkOutDate,
+                join("flights", flightBranch, deadline, errors),
+                join("hotels", hotelBranch, deadline, errors),
+                join("weather", weatherBranch, deadline, errors),
+                join("budget", budgetBranch, deadline, errors),
+                errors);
+        // Hiçbir kol sonuç vermediyse kısmi yanıt yerine ilk hata döner
+        if (errors.size() == BRANCHES) {
+            throw new ToolException(errors.get(0).code(), errors.get(0).message());
+        }
+        return plan;
+    }
+
+    @PreDestroy
+    void shutdown() {
+        executor.shutdownNow();
+    }
+
+    // Kol, çağıran iş parçacığındaki span'in (trip.plan aracının span'i) çocuğu olarak izlenir; çağrılan aracın
+    // span'i de kolun span'inin altına düşer
+    private <T> Future<T> fork(String branch, ReferenceDataManager.Version version, String tool,
+                               Map<String, Object> arguments, Class<T> type) {
+        ToolCallback callback = tool(tool);
+        String input = JsonParser.toJson(arguments);
+        Span parent = tracer.currentSpan();
+        return executor.submit(() -> {
+            Span span = (parent == null ? tracer.nextSpan() : tracer.nextSpan(parent))
+                    .name("trip.plan " + branch).tag("branch", branch).start();
+            Tracer.SpanInScope scope = tracer.withSpan(span);
+            try {
+                return JsonParser.fromJson(datasets.withVersion(version, () -> callback.call(input)), type);
+            } catch (RuntimeException e) {
+                span.error(e);
+                throw e;
+            } finally {
+                scope.close();
+                span.end();
+            }
+        });
+    }
+
+    private ToolCallback tool(String name) {
+        Map<String, ToolCallback> byName = tools;
+        if (byName == null) {
+            byName = new HashMap<>();
+            for (ToolCallback callback : toolCallbacks.getObject().getToolCallbacks()) {
+                byName.put(callback.getToolDefinition().name(), callback);
+            }
+            tools = byName = Map.copyOf(byName);
+        }
+        ToolCallback callback = byName.get(name);
+        if (callback == null) {
+            throw new IllegalStateException("Araç kayıtlı değil: " + name);
+        }
+        return callback;
+    }
+
+    // Boş bırakılan parametreler gönderilmez; araç kendi varsayılanını kullanır
+    private static Map<String, Object> arguments(Object... keyValues) {
+        Map<String, Object> arguments = new LinkedHashMap<>();
+        for (int i = 0; i < keyValues.length; i += 2) {
+            if (keyValues[i + 1] != null) {
+                arguments.put((String) keyValues[i], keyValues[i + 1]);
+            }
+        }
+        return arguments;
+    }
+
+    private static <T> T join(String branch, Future<T> future, long deadline, List<BranchError> errors) {
+        try {
+            return future.get(Math.max(0, deadline - System.nanoTime()), TimeUnit.NANOSECONDS);
+        } catch (ExecutionException e) {
+            Throwable cause = e.getCause();
+            if (cause instanceof ToolExecutionException && cause.getCause() != null) {
+                cause = cause.getCause();
+            }
+            if (cause instanceof ToolException toolException) {
+                errors.add(new BranchError(branch, toolException.error().code(), toolException.error().message()));
+            } else {
+                errors.add(new BranchError(branch, ToolException.Code.UNAVAILABLE, String.valueOf(cause)));
+            }
+        } catch (TimeoutException e) {
+            // Süresi dolan kolun sonucu beklenmez. Kesme yalnızca bekleyen kolu (ör. sınırlayıcıda izin bekleyen)
+            // durdurur; hesaplama yapan kol kesmeyi denetlemediğinden işini bitirir ve sonucu atılır
+            future.cancel(true);
+            errors.add(new BranchError(branch, ToolException.Code.UNAVAILABLE, "Zaman aşımı"));
+        } catch (InterruptedException e) {
+            // Çağrı kesildiyse kalan kollar da iptal edilir (sonraki join'ler hemen buraya düşer)
+            Thread.currentThread().interrupt();
+            future.cancel(true);
+            errors.add(new BranchError(branch, ToolException.Code.UNAVAILABLE, "Kesildi"));
+        }
+        return null;
+    }
+}
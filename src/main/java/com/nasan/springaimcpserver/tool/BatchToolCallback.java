@@ -0,0 +1,159 @@
+package com.nasan.springaimcpserver.tool;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.node.ArrayNode;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import com.fasterxml.jackson.databind.util.RawValue;
+import org.springframework.ai.chat.model.ToolContext;
+import org.springframework.ai.tool.ToolCallback;
+import org.springframework.ai.tool.definition.ToolDefinition;
+import org.springframework.ai.tool.execution.ToolExecutionException;
+import org.springframework.ai.util.json.JsonParser;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+/**
+ * {@code batch.invoke}: birden fazla araç çağrısını tek MCP isteğinde, her biri kendi sanal iş parçacığında
+ * yürütür ve sonuçları istek sırasıyla döner. Çağrılar diğer araçlarla aynı sarmalayıcılardan (önbellek,
+ * eşzamanlılık sınırı) geçer; bir çağrının hatası yalnızca kendi sonucuna yazılır. Araç yanıtları yeniden
+ * ayrıştırılmadan olduğu gibi yanıta gömülür.
+ */
+public final class BatchToolCallback implements ToolCallback {
+
+    public static final String NAME = "batch.invoke";
+
+    /** Tek istekte kabul edilen en fazla çağrı sayısı. */
+    static final int MAX_CALLS = 50;
+
+    private static final String INPUT_SCHEMA = """
+            {
+              "type": "object",
+              "properties": {
+                "calls": {
+                  "type": "array",
+                  "minItems": 1,
+                  "maxItems": %d,
+                  "description": "Paralel yürütülecek araç çağrıları; sonuçlar bu sırayla döner",
+                  "items": {
+                    "type": "object",
+                    "properties": {
+                      "tool": {"type": "string", "description": "Araç adı (örn: hotel.getHotelDetails)"},
+                      "arguments": {"type": "object", "description": "Aracın argümanları"}
+                    },
+                    "required": ["tool"]
+                  }
+                }
+              },
+              "required": ["calls"],
+              "additionalProperties": false
+            }
+            """.formatted(MAX_CALLS);
+
+    private static final ToolDefinition DEFINITION = ToolDefinition.builder()
+            .name(NAME)
+            .description("Birden fazla araç çağrısını (örn: birkaç şehrin hava durumu veya birkaç otelin detayı) tek istekte "
+                    + "paralel yürütür; sonuçlar çağrı sırasıyla, her biri result veya error alanıyla döner")
+            .inputSchema(INPUT_SCHEMA)
+            .build();
+
+    private final Map<String, ToolCallback> callbacks;
+
+    private BatchToolCallback(Map<String, ToolCallback> callbacks) {
+        this.callbacks = callbacks;
+    }
+
+    /** Araç listesine, listedeki araçları çağırabilen {@code batch.invoke} aracını ekler. */
+    public static ToolCallback[] append(ToolCallback[] callbacks) {
+        Map<String, ToolCallback> byName = new HashMap<>();
+        for (ToolCallback callback : callbacks) {
+            byName.put(callback.getToolDefinition().name(), callback);
+        }
+        ToolCallback[] result = new ToolCallback[callbacks.length + 1];
+        System.arraycopy(callbacks, 0, result, 0, callbacks.length);
+        result[callbacks.length] = new BatchToolCallback(Map.copyOf(byName));
+        return result;
+    }
+
+    @Override
+    public ToolDefinition getToolDefinition() {
+        return DEFINITION;
+    }
+
+    @Override
+    public String call(String toolInput) {
+        return call(toolInput, null);
+    }
+
+    @Override
+    public String call(String toolInput, ToolContext toolContext) {
+        JsonNode calls = parse(toolInput).path("calls");
+        if (!calls.isArray() || calls.isEmpty()) {
+            throw ToolException.invalidArgument("En az bir çağrı içeren calls listesi belirtilmelidir");
+        }
+        if (calls.size() > MAX_CALLS) {
+            throw ToolException.invalidArgument("Tek istekte en fazla " + MAX_CALLS + " çağrı yapılabilir");
+        }
+
+        List<Future<String>> futures = new ArrayList<>(calls.size());
+        // Yürütücü kapanırken tüm çağrıların bitmesini bekler
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (JsonNode call : calls) {
+                ToolCallback callback = callbacks.get(call.path("tool").asText());
+                String arguments = call.path("arguments").isObject() ? call.get("arguments").toString() : "{}";
+                futures.add(callback == null ? null : executor.submit(() -> invoke(callback, arguments, toolContext)));
+            }
+        }
+
+        ObjectNode response = JsonParser.getObjectMapper().createObjectNode();
+        ArrayNode results = response.putArray("results");
+        for (int i = 0; i < futures.size(); i++) {
+            String tool = calls.get(i).path("tool").asText();
+            ObjectNode result = results.addObject().put("tool", tool);
+            Future<String> future = futures.get(i);
+            if (future == null) {
+                result.putRawValue("error", new RawValue(ToolException.notFound("Araç bulunamadı: " + tool).getMessage()));
+                continue;
+            }
+            try {
+                result.putRawValue("result", new RawValue(future.get()));
+            } catch (ExecutionException e) {
+                result.putRawValue("error", new RawValue(error(e.getCause())));
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new ToolException(ToolException.Code.UNAVAILABLE, "Toplu çağrı kesildi");
+            }
+        }
+        return response.toString();
+    }
+
+    private static String invoke(ToolCallback callback, String arguments, ToolContext toolContext) {
+        return toolContext == null ? callback.call(arguments) : callback.call(arguments, toolContext);
+    }
+
+    private static JsonNode parse(String toolInput) {
+        try {
+            return JsonParser.getObjectMapper().readTree(toolInput);
+        } catch (JsonProcessingException e) {
+            throw ToolException.invalidArgument("Geçersiz JSON girdisi");
+        }
+    }
+
+    // Araçların hata mesajı zaten {code, message} JSON'udur
+    private static String error(Throwable failure) {
+        if (failure instanceof ToolExecutionException && failure.getCause() != null) {
+            failure = failure.getCause();
+        }
+        if (failure instanceof ToolException toolException) {
+            return toolException.getMessage();
+        }
+        return new ToolException(ToolException.Code.UNAVAILABLE, String.valueOf(failure.getMessage())).getMessage();
+    }
+}
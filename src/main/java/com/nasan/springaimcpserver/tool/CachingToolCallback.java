@@ -0,0 +1,145 @@
+package com.nasan.springaimcpserver.tool;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.ai.chat.model.ToolContext;
+import org.springframework.ai.tool.ToolCallback;
+import org.springframework.ai.tool.definition.ToolDefinition;
+import org.springframework.ai.tool.metadata.ToolMetadata;
+import reactor.core.publisher.Mono;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.BooleanSupplier;
+import java.util.function.Predicate;
+import java.util.function.Supplier;
+
+/**
+ * Saf (yalnızca argümanlarına bağlı) araçların serileştirilmiş yanıtını önbelleğe alan sarmalayıcı.
+ * Anahtar, aracın JSON argüman metnidir; önbellek isabetinde hem hesaplama hem de JSON
+ * serileştirme atlanır. Tahliye Caffeine'in W-TinyLFU politikasıyla, ağırlık yanıt boyutuna göre yapılır.
+ * Her kayıt, hesaplaması başladığında geçerli olan nesille saklanır; {@link #invalidateAll} nesli artırdığından
+ * geçersizleştirmeyle yarışan ve eski veriyle hesaplanan bir kayıt sonradan eklense bile kullanılmaz.
+ * Reaktif çağrı iş parçacığını bekletmediğinden aynı anahtarın eşzamanlı hesaplamalarını birleştirmez;
+ * isabette kayıt hemen döner, kaçırmada sonuç geldiğinde (daha yeni bir nesil kaydını ezmeden) saklanır.
+ * {@code bypass} true döndüğü çağrılar (ör. eski bir veri sürümüne sabitlenmiş iş parçacıkları) önbelleği
+ * ne okur ne de yazar.
+ */
+public final class CachingToolCallback implements ReactiveToolCallback {
+
+    private record Entry(long generation, String value) {
+    }
+
+    private final ToolCallback delegate;
+    private final Cache<String, Entry> cache;
+    private final BooleanSupplier bypass;
+    private final AtomicLong generation = new AtomicLong();
+
+    CachingToolCallback(ToolCallback delegate, ToolCacheProperties.Spec spec) {
+        this(delegate, spec, () -> false);
+    }
+
+    CachingToolCallback(ToolCallback delegate, ToolCacheProperties.Spec spec, BooleanSupplier bypass) {
+        this.delegate = delegate;
+        this.bypass = bypass;
+        this.cache = Caffeine.newBuilder()
+                .expireAfterWrite(spec.ttl())
+                .maximumWeight(spec.maxWeight().toBytes())
+                .weigher((String key, Entry entry) -> 2 * (key.length() + entry.value().length()))
+                .recordStats()
+                .build();
+    }
+
+    /** {@code properties} içinde ayarı olan araçları önbellekli sarmalayıcıyla değiştirir. */
+    public static ToolCallback[] wrap(ToolCallback[] callbacks, ToolCacheProperties properties, MeterRegistry meterRegistry) {
+        return wrap(callbacks, properties, meterRegistry, () -> false);
+    }
+
+    /** {@link #wrap(ToolCallback[], ToolCacheProperties, MeterRegistry)} gibi; {@code bypass} true iken önbellek atlanır. */
+    public static ToolCallback[] wrap(ToolCallback[] callbacks, ToolCacheProperties properties, MeterRegistry meterRegistry,
+                                      BooleanSupplier bypass) {
+        if (!properties.enabled()) {
+            return callbacks;
+        }
+        ToolCallback[] result = callbacks.clone();
+        for (int i = 0; i < result.length; i++) {
+            String name = result[i].getToolDefinition().name();
+            ToolCacheProperties.Spec spec = properties.tools().get(name);
+            if (spec != null) {
+                CachingToolCallback caching = new CachingToolCallback(result[i], spec, bypass);
+                CaffeineCacheMetrics.monitor(meterRegistry, caching.cache, "tool." + name);
+                result[i] = caching;
+            }
+        }
+        return result;
+    }
+
+    /** Verilen geri çağrılar içindeki, adı {@code tools} koşulunu sağlayan önbellekli araçların tüm kayıtlarını siler. */
+    public static void invalidateAll(ToolCallback[] callbacks, Predicate<String> tools) {
+        for (ToolCallback callback : callbacks) {
+            if (callback instanceof CachingToolCallback caching && tools.test(caching.getToolDefinition().name())) {
+                // Önce nesil artar: bundan sonra başlayan hesaplamalar yeni veriyi görür, öncekilerin kayıtları eskir
+                caching.generation.incrementAndGet();
+                caching.cache.invalidateAll();
+            }
+        }
+    }
+
+    @Override
+    public ToolDefinition getToolDefinition() {
+        return delegate.getToolDefinition();
+    }
+
+    @Override
+    public ToolMetadata getToolMetadata() {
+        return delegate.getToolMetadata();
+    }
+
+    @Override
+    public String call(String toolInput) {
+        return cached(toolInput, () -> delegate.call(toolInput));
+    }
+
+    @Override
+    public String call(String toolInput, ToolContext toolContext) {
+        return cached(toolInput, () -> delegate.call(toolInput, toolContext));
+    }
+
+    @Override
+    public Mono<String> callReactive(String toolInput) {
+        return Mono.defer(() -> {
+            if (bypass.getAsBoolean()) {
+                return ReactiveToolCallback.call(delegate, toolInput);
+            }
+            long current = generation.get();
+            String key = key(toolInput);
+            Entry entry = cache.getIfPresent(key);
+            if (entry != null && entry.generation() >= current) {
+                return Mono.just(entry.value());
+            }
+            return ReactiveToolCallback.call(delegate, toolInput)
+                    .doOnNext(value -> cache.asMap().merge(key, new Entry(current, value),
+                            (old, fresh) -> old.generation() > fresh.generation() ? old : fresh));
+        });
+    }
+
+    private String cached(String toolInput, Supplier<String> call) {
+        if (bypass.getAsBoolean()) {
+            return call.get();
+        }
+        // Nesil, veri okunmadan önce alınır; kayıt en fazla bu nesil kadar güncel kabul edilir
+        long current = generation.get();
+        String key = key(toolInput);
+        Entry entry = cache.get(key, k -> new Entry(current, call.get()));
+        if (entry.generation() < current) {
+            entry = new Entry(current, call.get());
+            cache.put(key, entry);
+        }
+        return entry.value();
+    }
+
+    private static String key(String toolInput) {
+        return toolInput == null ? "" : toolInput.strip();
+    }
+}
@@ -0,0 +1,95 @@
+package com.nasan.springaimcpserver.tool;
+
+import org.springframework.ai.chat.model.ToolContext;
+import org.springframework.ai.tool.ToolCallback;
+import org.springframework.ai.tool.definition.ToolDefinition;
+import org.springframework.ai.tool.metadata.ToolMetadata;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
+
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+/**
+ * Bir aracın aynı anda yürütülen çağrı sayısını sınırlayan sarmalayıcı. Her aracın kendi semaforu
+ * olduğundan yavaşlayan bir araç yalnızca kendi kotasını tüketir, diğer araçların çağrılarını bekletmez.
+ * Semafor sanal iş parçacıklarını taşıyıcıya sabitlemeden (pinning) bekletir. Reaktif çağrıda izin sınırlı
+ * elastik iş parçacıklarında beklenir ve sonuç akışı bittiğinde ya da iptal edildiğinde bırakılır.
+ */
+public final class ConcurrencyLimitingToolCallback implements ReactiveToolCallback {
+
+    private final ToolCallback delegate;
+    private final Semaphore permits;
+    private final long timeoutNanos;
+
+    ConcurrencyLimitingToolCallback(ToolCallback delegate, int limit, long timeoutNanos) {
+        this.delegate = delegate;
+        this.permits = new Semaphore(limit);
+        this.timeoutNanos = timeoutNanos;
+    }
+
+    /** Önceden hesaplanmış yanıt dönen araçlar dışındaki tüm araçları sınırlayıcıyla sarmalar. */
+    public static ToolCallback[] wrap(ToolCallback[] callbacks, ToolConcurrencyProperties properties) {
+        if (!properties.enabled()) {
+            return callbacks;
+        }
+        ToolCallback[] result = callbacks.clone();
+        for (int i = 0; i < result.length; i++) {
+            if (result[i] instanceof StaticToolCallback) {
+                continue;
+            }
+            int limit = properties.limit(result[i].getToolDefinition().name());
+            result[i] = new ConcurrencyLimitingToolCallback(result[i], limit, properties.acquireTimeout().toNanos());
+        }
+        return result;
+    }
+
+    @Override
+    public ToolDefinition getToolDefinition() {
+        return delegate.getToolDefinition();
+    }
+
+    @Override
+    public ToolMetadata getToolMetadata() {
+        return delegate.getToolMetadata();
+    }
+
+    @Override
+    public String call(String toolInput) {
+        return limited(() -> delegate.call(toolInput));
+    }
+
+    @Override
+    public String call(String toolInput, ToolContext toolContext) {
+        return limited(() -> delegate.call(toolInput, toolContext));
+    }
+
+    @Override
+    public Mono<String> callReactive(String toolInput) {
+        return Mono.using(this::acquire, permit -> ReactiveToolCallback.call(delegate, toolInput), Semaphore::release)
+                .subscribeOn(Schedulers.boundedElastic());
+    }
+
+    private String limited(Supplier<String> call) {
+        acquire();
+        try {
+            return call.get();
+        } finally {
+            permits.release();
+        }
+    }
+
+    private Semaphore acquire() {
+        try {
+            if (!permits.tryAcquire(timeoutNanos, TimeUnit.NANOSECONDS)) {
+                throw new ToolException(ToolException.Code.UNAVAILABLE,
+                        "Araç şu anda yoğun, lütfen daha sonra tekrar deneyin: " + delegate.getToolDefinition().name());
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new ToolException(ToolException.Code.UNAVAILABLE, "Araç çağrısı kesildi: " + delegate.getToolDefinition().name());
+        }
+        return permits;
+    }
+}
@@ -0,0 +1,170 @@
+package com.nasan.springaimcpserver.tool;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.tracing.Span;
+import io.micrometer.tracing.Tracer;
+import org.springframework.ai.chat.model.ToolContext;
+import org.springframework.ai.tool.ToolCallback;
+import org.springframework.ai.tool.definition.ToolDefinition;
+import org.springframework.ai.tool.execution.ToolExecutionException;
+import org.springframework.ai.tool.metadata.ToolMetadata;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.SignalType;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+/**
+ * Araç çağrılarını ölçen sarmalayıcı. Araç başına {@code mcp.tool.calls} zamanlayıcısı ({@code outcome} ve
+ * {@code error.code} etiketli; çağrı ve hata sayıları buradan okunur), süren çağrı sayısı için
+ * {@code mcp.tool.active} göstergesi ve argüman/yanıt boyutları (karakter) için dağılım özetleri tutulur;
+ * izleme etkinse her çağrı bir span içinde yürür. Reaktif çağrıda süre abonelikten sonuç akışının bitişine
+ * kadar ölçülür; iptal edilen çağrılar {@code CANCELLED} hata koduyla kaydedilir. Span reaktif zincirde iş
+ * parçacığına bağlanamadığından içteki çağrıların span'leri onun altında görünmez.
+ * <p>
+ * Ölçerler araç başına bir kez oluşturulur, hata zamanlayıcıları da kod başına bir kez; çağrı yolunda
+ * kayıt araması ve etiket nesnesi oluşturulmaz. Micrometer Observation API'si aynı bilgiyi verir ancak
+ * her çağrıda birkaç KB ayırma yaptığından küçük araçlarda maliyeti araç süresine yaklaşır.
+ */
+public final class InstrumentedToolCallback implements ReactiveToolCallback {
+
+    public static final String CALLS = "mcp.tool.calls";
+
+    private final ToolCallback delegate;
+    private final String name;
+    private final String spanName;
+    private final MeterRegistry meterRegistry;
+    private final Tracer tracer;
+    private final Timer success;
+    private final Map<String, Timer> failures = new ConcurrentHashMap<>();
+    private final AtomicInteger active = new AtomicInteger();
+    private final DistributionSummary argumentSize;
+    private final DistributionSummary responseSize;
+
+    InstrumentedToolCallback(ToolCallback delegate, MeterRegistry meterRegistry, Tracer tracer) {
+        this.delegate = delegate;
+        this.name = delegate.getToolDefinition().name();
+        this.spanName = "tool " + name;
+        this.meterRegistry = meterRegistry;
+        this.tracer = tracer;
+        this.success = timer("success", "none");
+        Gauge.builder("mcp.tool.active", active, AtomicInteger::get)
+                .description("Yürütülmekte olan araç çağrıları")
+                .tag("tool", name)
+                .register(meterRegistry);
+        this.argumentSize = DistributionSummary.builder("mcp.tool.arguments.size")
+                .description("Araç argümanlarının JSON boyutu")
+                .baseUnit("characters")
+                .tag("tool", name)
+                .register(meterRegistry);
+        this.responseSize = DistributionSummary.builder("mcp.tool.response.size")
+                .description("Araç yanıtının JSON boyutu")
+                .baseUnit("characters")
+                .tag("tool", name)
+                .register(meterRegistry);
+    }
+
+    /** Henüz ölçülmeyen tüm araçları sarmalar; toplu çağrı aracı eklendikten sonra yeniden çağrılabilir. */
+    public static ToolCallback[] wrap(ToolCallback[] callbacks, MeterRegistry meterRegistry, Tracer tracer) {
+        ToolCallback[] result = callbacks.clone();
+        for (int i = 0; i < result.length; i++) {
+            if (!(result[i] instanceof InstrumentedToolCallback)) {
+                result[i] = new InstrumentedToolCallback(result[i], meterRegistry, tracer);
+            }
+        }
+        return result;
+    }
+
+    @Override
+    public ToolDefinition getToolDefinition() {
+        return delegate.getToolDefinition();
+    }
+
+    @Override
+    public ToolMetadata getToolMetadata() {
+        return delegate.getToolMetadata();
+    }
+
+    @Override
+    public String call(String toolInput) {
+        return instrumented(toolInput, () -> delegate.call(toolInput));
+    }
+
+    @Override
+    public String call(String toolInput, ToolContext toolContext) {
+        return instrumented(toolInput, () -> delegate.call(toolInput, toolContext));
+    }
+
+    @Override
+    public Mono<String> callReactive(String toolInput) {
+        return Mono.defer(() -> {
+            argumentSize.record(toolInput == null ? 0 : toolInput.length());
+            active.incrementAndGet();
+            Span span = tracer.nextSpan().name(spanName).tag("tool", name).start();
+            long start = System.nanoTime();
+            return ReactiveToolCallback.call(delegate, toolInput)
+                    .doOnSuccess(result -> {
+                        success.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+                        responseSize.record(result == null ? 0 : result.length());
+                    })
+                    .doOnError(e -> failed(e, start, span))
+                    .doFinally(signal -> {
+                        if (signal == SignalType.CANCEL) {
+                            failures.computeIfAbsent("CANCELLED", c -> timer("error", c))
+                                    .record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+                            span.tag("error.code", "CANCELLED");
+                        }
+                        span.end();
+                        active.decrementAndGet();
+                    });
+        });
+    }
+
+    private String instrumented(String toolInput, Supplier<String> call) {
+        argumentSize.record(toolInput == null ? 0 : toolInput.length());
+        active.incrementAndGet();
+        Span span = tracer.nextSpan().name(spanName).tag("tool", name).start();
+        long start = System.nanoTime();
+        Tracer.SpanInScope scope = tracer.withSpan(span);
+        try {
+            String result = call.get();
+            success.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+            responseSize.record(result == null ? 0 : result.length());
+            return result;
+        } catch (RuntimeException e) {
+            failed(e, start, span);
+            throw e;
+        } finally {
+            scope.close();
+            span.end();
+            active.decrementAndGet();
+        }
+    }
+
+    private void failed(Throwable e, long start, Span span) {
+        String code = errorCode(e);
+        failures.computeIfAbsent(code, c -> timer("error", c)).record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+        span.tag("error.code", code).error(e);
+    }
+
+    private Timer timer(String outcome, String errorCode) {
+        return Timer.builder(CALLS)
+                .description("Araç çağrı süreleri")
+                .tag("tool", name)
+                .tag("outcome", outcome)
+                .tag("error.code", errorCode)
+                .register(meterRegistry);
+    }
+
+    // Araç hataları ToolException olarak fırlatılır; yöntem çağrısı sarmalayıcısı bunları ToolExecutionException içine koyar
+    private static String errorCode(Throwable e) {
+        Throwable cause = e instanceof ToolExecutionException && e.getCause() != null ? e.getCause() : e;
+        return cause instanceof ToolException toolException ? toolException.error().code().name() : "INTERNAL";
+    }
+}
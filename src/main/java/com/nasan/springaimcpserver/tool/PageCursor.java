@@ -0,0 +1,56 @@
+package com.nasan.springaimcpserver.tool;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.Base64;
+
+/**
+ * Sayfalı araçların opak devam imleçleri: {@code tür:kapsam(hex):konum(hex)} metninin Base64-URL kodlaması. Tür,
+ * imlecin başka bir araca gönderilmesini yakalar; kapsam, imleci üreten sorgunun argümanlarının ve taradığı veri
+ * kümesinin özetidir, böylece başka argümanlarla ya da veri değiştikten sonra gönderilen imleç reddedilir. Konumun
+ * anlamı aracın kendisine aittir.
+ */
+public final class PageCursor {
+
+    private PageCursor() {
+    }
+
+    /** Sorgunun kapsamı; argümanlar doğrulanmış ve normalize edilmiş halleriyle verilmelidir. */
+    public static int scope(Object... parts) {
+        return Arrays.hashCode(parts);
+    }
+
+    public static String encode(String kind, int scope, long position) {
+        String raw = kind + ":" + Integer.toHexString(scope) + ":" + Long.toHexString(position);
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.US_ASCII));
+    }
+
+    /**
+     * İmlecin taşıdığı konum; imleç boşsa 0. İmleç geçersizse, başka türdense ya da başka bir kapsamda
+     * üretilmişse INVALID_ARGUMENT hatası.
+     */
+    public static long decode(String cursor, String kind, int scope) {
+        if (cursor == null || cursor.isBlank()) {
+            return 0;
+        }
+        long position = -1;
+        int cursorScope = 0;
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(cursor.trim()), StandardCharsets.US_ASCII);
+            int separator = raw.indexOf(':', kind.length() + 1);
+            if (raw.startsWith(kind + ":") && separator > 0) {
+                cursorScope = Integer.parseUnsignedInt(raw.substring(kind.length() + 1, separator), 16);
+                position = Long.parseLong(raw.substring(separator + 1), 16);
+            }
+        } catch (IllegalArgumentException e) {
+            // aşağıda geçersiz cursor hatası
+        }
+        if (position < 0) {
+            throw ToolException.invalidArgument("Geçersiz cursor değeri");
+        }
+        if (cursorScope != scope) {
+            throw ToolException.invalidArgument("Cursor bu sorguya ait değil ya da veri değişti; aramayı cursor olmadan yeniden başlatın");
+        }
+        return position;
+    }
+}
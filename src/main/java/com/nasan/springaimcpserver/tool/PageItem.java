@@ -0,0 +1,8 @@
+package com.nasan.springaimcpserver.tool;
+
+/**
+ * Sayfalı bir akışın öğesi: değer ve sayfayı bu öğeden başlatan imleç. Reaktif araçlar sayfadan bir fazla öğe
+ * okur; fazladan öğenin imleci yanıttaki {@code nextCursor} olur (bkz. {@link ReactiveToolSpecification#ofPage}).
+ */
+public record PageItem<T>(T value, String cursor) {
+}
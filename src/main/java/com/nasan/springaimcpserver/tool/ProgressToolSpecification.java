@@ -0,0 +1,36 @@
+package com.nasan.springaimcpserver.tool;
+
+import io.modelcontextprotocol.server.McpServerFeatures.SyncToolSpecification;
+import org.springframework.ai.mcp.McpToolUtils;
+import org.springframework.ai.tool.ToolCallback;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Araç geri çağrılarından SYNC MCP araç tanımları oluşturur. Dönüşüm Spring AI'ınkiyle aynıdır; ek olarak
+ * çağrı {@code _meta.progressToken} taşıyorsa araçların {@link ResultStream} ilerlemesi istemciye bildirilir
+ * (streamable HTTP'de aynı yanıt akışında, nihai sonuçtan önce). Parça sonuçları bildirimlere yalnızca
+ * {@code _meta.}{@value ResultStream#CHUNKS_META_KEY} ile istendiğinde eklenir; nihai sonuç her durumda tamdır.
+ */
+public final class ProgressToolSpecification {
+
+    private ProgressToolSpecification() {
+    }
+
+    public static List<SyncToolSpecification> of(ToolCallback[] callbacks) {
+        List<SyncToolSpecification> result = new ArrayList<>(callbacks.length);
+        for (ToolCallback callback : callbacks) {
+            SyncToolSpecification spec = McpToolUtils.toSyncToolSpecification(callback);
+            result.add(new SyncToolSpecification(spec.tool(), null, (exchange, request) -> {
+                Object progressToken = request.meta() == null ? null : request.meta().get("progressToken");
+                if (progressToken == null) {
+                    return spec.callHandler().apply(exchange, request);
+                }
+                return ResultStream.withProgress(exchange, String.valueOf(progressToken),
+                        ResultStream.chunksRequested(request.meta()), () -> spec.callHandler().apply(exchange, request));
+            }));
+        }
+        return result;
+    }
+}
@@ -0,0 +1,30 @@
+package com.nasan.springaimcpserver.tool;
+
+import org.springframework.ai.tool.ToolCallback;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
+
+/**
+ * Sonucunu {@link Mono} olarak da üretebilen araç geri çağrısı. ASYNC profilindeki araç tanımları çağrıyı
+ * {@link #call(ToolCallback, String)} ile başlatır; böylece reaktif uygulaması olan araçlar da senkron
+ * çağrılarla aynı sarmalayıcı zincirinden (önbellek, eşzamanlılık sınırı, ölçüm) geçer. Sarmalayıcılar
+ * reaktif çağrıyı içlerindeki geri çağrıya aynı yolla iletir.
+ */
+public interface ReactiveToolCallback extends ToolCallback {
+
+    /** Aracı çağırır; sonuç, senkron {@link #call(String)} ile aynı JSON metnidir. */
+    Mono<String> callReactive(String toolInput);
+
+    /**
+     * Geri çağrı reaktifse reaktif çağrısını, değilse senkron çağrısını sınırlı elastik iş parçacıklarında
+     * yürüten bir {@link Mono} döner. Senkron çağrı, bağlamdaki ilerleme kanalını yürüdüğü iş parçacığında görür.
+     */
+    static Mono<String> call(ToolCallback callback, String toolInput) {
+        if (callback instanceof ReactiveToolCallback reactive) {
+            return reactive.callReactive(toolInput);
+        }
+        return Mono.deferContextual(context -> Mono.fromCallable(
+                        () -> ResultStream.withProgress(context, () -> callback.call(toolInput))))
+                .subscribeOn(Schedulers.boundedElastic());
+    }
+}
@@ -0,0 +1,169 @@
+package com.nasan.springaimcpserver.tool;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import io.modelcontextprotocol.server.McpServerFeatures.AsyncToolSpecification;
+import io.modelcontextprotocol.spec.McpSchema;
+import org.springframework.ai.chat.model.ToolContext;
+import org.springframework.ai.mcp.McpToolUtils;
+import org.springframework.ai.tool.ToolCallback;
+import org.springframework.ai.tool.definition.ToolDefinition;
+import org.springframework.ai.tool.metadata.ToolMetadata;
+import org.springframework.ai.util.json.JsonParser;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+
+/**
+ * {@code Mono}/{@code Flux} dönen araç uygulamalarını {@link ReactiveToolCallback} olarak araç listesine ekler ve
+ * listeden ASYNC MCP araç tanımları oluşturur. Reaktif geri çağrının senkron çağrısı aracın yöntem geri çağrısına
+ * gider; böylece iki profil istemciye aynı aracı yayımlar ve her iki yoldaki çağrılar aynı sarmalayıcılardan
+ * (önbellek, eşzamanlılık sınırı, ölçüm) geçer. Çağrı bir {@code progressToken} taşıyorsa akıştan gelen
+ * sonuçların sayısı parti parti ilerleme bildirimiyle gönderilir; parça sonuçları yalnızca
+ * {@code _meta.}{@value ResultStream#CHUNKS_META_KEY} ile istendiğinde bildirime eklenir (bkz.
+ * {@link ResultStream}). Nihai yanıt her durumda tüm sonuçları içerir.
+ */
+public final class ReactiveToolSpecification {
+
+    private static final TypeReference<Map<String, Object>> ARGUMENTS = new TypeReference<>() { };
+
+    private ReactiveToolSpecification() {
+    }
+
+    /** Sayfanın sonuçlarından ve sonraki sayfanın imlecinden (yoksa null) aracın yanıtını oluşturur. */
+    @FunctionalInterface
+    public interface PageResponse<T> {
+        Object build(Map<String, Object> arguments, List<T> items, String nextCursor);
+    }
+
+    /**
+     * Sonuçları imleçli akış olarak üreten sayfalı araç. Akıştan en fazla {@code pageSize} sonuç alınır, tarama
+     * bir sonraki öğede durur ve o öğenin imleci {@code nextCursor} olarak {@code result}'a verilir; böylece
+     * senkron karşılığıyla aynı sayfalar ve imleçler döner.
+     */
+    public static <T> ToolCallback ofPage(ToolCallback[] callbacks, String name, int pageSize,
+            Function<Map<String, Object>, Flux<PageItem<T>>> items, PageResponse<T> result) {
+        return new Reactive(find(callbacks, name), arguments -> {
+            String[] nextCursor = {null};
+            Flux<T> stream = Flux.defer(() -> items.apply(arguments))
+                    .take(pageSize + 1)
+                    .index()
+                    .handle((indexed, sink) -> {
+                        if (indexed.getT1() < pageSize) {
+                            sink.next(indexed.getT2().value());
+                        } else {
+                            nextCursor[0] = indexed.getT2().cursor();
+                        }
+                    });
+            return ResultStream.progress(stream).collectList().map(list -> result.build(arguments, list, nextCursor[0]));
+        });
+    }
+
+    /** Tek değer üreten araç. */
+    public static ToolCallback ofMono(ToolCallback[] callbacks, String name,
+            Function<Map<String, Object>, Mono<?>> result) {
+        return new Reactive(find(callbacks, name), arguments -> Mono.defer(() -> result.apply(arguments)));
+    }
+
+    /** Araç listesinde, {@code reactive} içinde reaktif uygulaması olan araçları bu uygulamalarla değiştirir. */
+    public static ToolCallback[] merge(ToolCallback[] callbacks, List<ToolCallback> reactive) {
+        Map<String, ToolCallback> byName = new HashMap<>();
+        for (ToolCallback callback : reactive) {
+            byName.put(callback.getToolDefinition().name(), callback);
+        }
+        ToolCallback[] result = callbacks.clone();
+        for (int i = 0; i < result.length; i++) {
+            result[i] = byName.getOrDefault(result[i].getToolDefinition().name(), result[i]);
+        }
+        return result;
+    }
+
+    /**
+     * Araç listesinden ASYNC tanımlar oluşturur. Çağrı {@link ReactiveToolCallback#call} ile yürür; reaktif
+     * olmayan geri çağrılar sınırlı elastik iş parçacıklarında çalışır. Hata durumunda yanıt, Spring AI'ın
+     * dönüşümünde olduğu gibi hata mesajını taşıyan {@code isError} sonucudur.
+     */
+    public static List<AsyncToolSpecification> of(ToolCallback[] callbacks) {
+        List<AsyncToolSpecification> result = new ArrayList<>(callbacks.length);
+        for (ToolCallback callback : callbacks) {
+            McpSchema.Tool tool = McpToolUtils.toSyncToolSpecification(callback).tool();
+            result.add(new AsyncToolSpecification(tool, null, (exchange, request) -> {
+                Mono<String> call = ReactiveToolCallback.call(callback, JsonParser.toJson(arguments(request)));
+                Object progressToken = request.meta() == null ? null : request.meta().get("progressToken");
+                if (progressToken != null) {
+                    call = call.contextWrite(ResultStream.progressContext(exchange, String.valueOf(progressToken),
+                            ResultStream.chunksRequested(request.meta())));
+                }
+                return call
+                        .map(text -> new McpSchema.CallToolResult(List.of(new McpSchema.TextContent(text)), false))
+                        .onErrorResume(e -> Mono.just(new McpSchema.CallToolResult(
+                                List.of(new McpSchema.TextContent(e.getMessage())), true)));
+            }));
+        }
+        return result;
+    }
+
+    /** Metin argümanı; eksikse null döner, doğrulama aracın kendisine bırakılır. */
+    public static String string(Map<String, Object> arguments, String name) {
+        Object value = arguments.get(name);
+        return value == null ? null : value.toString();
+    }
+
+    private static Map<String, Object> arguments(McpSchema.CallToolRequest request) {
+        return request.arguments() == null ? Map.of() : request.arguments();
+    }
+
+    private static ToolCallback find(ToolCallback[] callbacks, String name) {
+        for (ToolCallback callback : callbacks) {
+            if (callback.getToolDefinition().name().equals(name)) {
+                return callback;
+            }
+        }
+        throw new IllegalStateException("Reaktif uygulaması tanımlanan araç bulunamadı: " + name);
+    }
+
+    // Senkron çağrı aracın yöntem geri çağrısına, reaktif çağrı aracın reaktif uygulamasına gider
+    private static final class Reactive implements ReactiveToolCallback {
+
+        private final ToolCallback delegate;
+        private final Function<Map<String, Object>, Mono<?>> result;
+
+        Reactive(ToolCallback delegate, Function<Map<String, Object>, Mono<?>> result) {
+            this.delegate = delegate;
+            this.result = result;
+        }
+
+        @Override
+        public ToolDefinition getToolDefinition() {
+            return delegate.getToolDefinition();
+        }
+
+        @Override
+        public ToolMetadata getToolMetadata() {
+            return delegate.getToolMetadata();
+        }
+
+        @Override
+        public String call(String toolInput) {
+            return delegate.call(toolInput);
+        }
+
+        @Override
+        public String call(String toolInput, ToolContext toolContext) {
+            return delegate.call(toolInput, toolContext);
+        }
+
+        @Override
+        public Mono<String> callReactive(String toolInput) {
+            return Mono.defer(() -> {
+                Map<String, Object> arguments = toolInput == null || toolInput.isBlank() ? Map.of()
+                        : JsonParser.fromJson(toolInput, ARGUMENTS);
+                return result.apply(arguments).map(JsonParser::toJson);
+            });
+        }
+    }
+}
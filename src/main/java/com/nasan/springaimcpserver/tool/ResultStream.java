@@ -0,0 +1,156 @@
+package com.nasan.springaimcpserver.tool;
+
+import io.modelcontextprotocol.server.McpAsyncServerExchange;
+import io.modelcontextprotocol.server.McpSyncServerExchange;
+import io.modelcontextprotocol.spec.McpSchema;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.util.context.Context;
+import reactor.util.context.ContextView;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+/**
+ * Çok sonuçlu araçların bir sayfalık sonucunu toplar; bellekte hiçbir zaman bir sayfadan fazlası tutulmaz ve
+ * aracın yanıtı sayfanın tamamını içerir. MCP çağrısı bir {@code progressToken} taşıyorsa (bkz.
+ * {@link ProgressToolSpecification}) her {@link #CHUNK_SIZE} sonuçta bulunan sonuç sayısı ilerleme bildirimiyle
+ * gönderilir. İstemci ayrıca {@code _meta.}{@value #CHUNKS_META_KEY}{@code =true} ile açıkça isterse parçanın
+ * sonuçları bildirimin {@code _meta.results} alanında da gelir; böylece ilk sonuçlar nihai yanıttan önce
+ * gösterilebilir. Bildirimin {@code message} alanı yalnızca durum metni taşır.
+ * <p>
+ * ASYNC profilinde ilerleme kanalı Reactor bağlamında taşınır (bkz. {@link #progressContext}); reaktif
+ * araçların akışları {@link #progress(Flux)} ile aynı bildirimleri gönderir. Reaktif uygulaması olmayan araçlar
+ * elastik iş parçacığında yürürken kanal bağlamdan o iş parçacığına bağlanır (bkz. {@link #withProgress(ContextView, Supplier)}).
+ * <p>
+ * Başka araçları kendi iş parçacıklarında çağıran araçların (ör. {@code trip.plan} kolları, {@code batch.invoke})
+ * iç çağrıları bilerek ilerleme bildirmez: aynı token altında paralel akışların bildirimleri iç içe geçer ve
+ * ilerleme değeri artan sırada kalmaz.
+ */
+public final class ResultStream<T> {
+
+    /** Bir ilerleme bildirimine karşılık gelen sonuç sayısı. */
+    public static final int CHUNK_SIZE = 10;
+
+    /** Parça sonuçlarını ilerleme bildirimlerinde isteyen çağrı {@code _meta} anahtarı. */
+    public static final String CHUNKS_META_KEY = "resultChunks";
+
+    private record Progress(Function<McpSchema.ProgressNotification, Mono<Void>> sender, String token, boolean chunks) {
+    }
+
+    // Çağrı, SYNC sunucuda isteği işleyen iş parçacığında yürür; ilerleme kanalı bu iş parçacığına bağlanır
+    private static final ThreadLocal<Progress> PROGRESS = new ThreadLocal<>();
+
+    private final Progress progress;
+    private final int pageSize;
+    private final List<T> items;
+    private int notified;
+
+    private ResultStream(Progress progress, int pageSize) {
+        this.progress = progress;
+        this.pageSize = pageSize;
+        this.items = new ArrayList<>(Math.min(pageSize, 64));
+    }
+
+    /** Geçerli çağrı için en fazla {@code pageSize} sonuçluk bir sayfa açar. */
+    public static <T> ResultStream<T> open(int pageSize) {
+        Progress progress = PROGRESS.get();
+        // Aynı çağrıda yalnızca ilk akış bildirim gönderir
+        PROGRESS.remove();
+        return new ResultStream<>(progress, pageSize);
+    }
+
+    /** {@code call} süresince bu iş parçacığında açılan akışın ilerlemesini {@code token} ile bildirir. */
+    static <R> R withProgress(McpSyncServerExchange exchange, String token, boolean chunks, Supplier<R> call) {
+        return withProgress(new Progress(notification -> Mono.fromRunnable(() -> exchange.progressNotification(notification)),
+                token, chunks), call);
+    }
+
+    /**
+     * {@code call} süresince bu iş parçacığında açılan akışın ilerlemesini {@code context} içindeki kanala
+     * bildirir; bağlamda kanal yoksa {@code call} bildirimsiz yürür. Bildirimler beklenerek gönderildiğinden
+     * engellenebilen bir iş parçacığında çağrılmalıdır.
+     */
+    static <R> R withProgress(ContextView context, Supplier<R> call) {
+        Progress progress = context.getOrDefault(Progress.class, null);
+        return progress == null ? call.get() : withProgress(progress, call);
+    }
+
+    private static <R> R withProgress(Progress progress, Supplier<R> call) {
+        PROGRESS.set(progress);
+        try {
+            return call.get();
+        } finally {
+            PROGRESS.remove();
+        }
+    }
+
+    /** ASYNC çağrısının ilerlemesini {@code token} ile bildiren Reactor bağlamı. */
+    static Context progressContext(McpAsyncServerExchange exchange, String token, boolean chunks) {
+        return progressContext(exchange::progressNotification, token, chunks);
+    }
+
+    static Context progressContext(Function<McpSchema.ProgressNotification, Mono<Void>> sender, String token,
+                                   boolean chunks) {
+        return Context.of(Progress.class, new Progress(sender, token, chunks));
+    }
+
+    /**
+     * Reaktif akışın sonuçlarını bağlamdaki ilerleme kanalına (yoksa bildirim göndermeden) her
+     * {@link #CHUNK_SIZE} sonuçta bir bildirir; sonuçlar bildirim gönderildikten sonra akışa geçer.
+     */
+    static <T> Flux<T> progress(Flux<T> stream) {
+        return Flux.deferContextual(context -> {
+            Progress progress = context.getOrDefault(Progress.class, null);
+            if (progress == null) {
+                return stream;
+            }
+            int[] found = {0};
+            return stream.buffer(CHUNK_SIZE).concatMap(batch -> {
+                found[0] += batch.size();
+                return progress.sender().apply(notification(progress.token(), found[0], progress.chunks() ? batch : null))
+                        .thenMany(Flux.fromIterable(batch));
+            });
+        });
+    }
+
+    /** Çağrının {@code _meta} alanı parça sonuçlarını istiyor mu. */
+    static boolean chunksRequested(Map<String, Object> meta) {
+        return meta != null && Boolean.parseBoolean(String.valueOf(meta.get(CHUNKS_META_KEY)));
+    }
+
+    /** {@code found} sonuca ulaşıldığını bildiren ilerleme bildirimi; {@code chunk} null değilse sonuçlarıyla. */
+    static McpSchema.ProgressNotification notification(String token, int found, List<?> chunk) {
+        return new McpSchema.ProgressNotification(token, (double) found, null, found + " sonuç bulundu",
+                chunk == null ? null : Map.of("results", chunk));
+    }
+
+    /** Sayfa doldu mu; dolduysa araç taramayı durdurup devam imleci döner. */
+    public boolean isFull() {
+        return items.size() >= pageSize;
+    }
+
+    public void add(T item) {
+        items.add(item);
+        if (progress != null && items.size() - notified == CHUNK_SIZE) {
+            notifyProgress();
+        }
+    }
+
+    /** Sayfanın tüm sonuçları; bildirilmemiş son parça varsa önce bildirilir. */
+    public List<T> finish() {
+        if (progress != null && items.size() > notified) {
+            notifyProgress();
+        }
+        return items;
+    }
+
+    private void notifyProgress() {
+        List<T> chunk = progress.chunks() ? List.copyOf(items.subList(notified, items.size())) : null;
+        notified = items.size();
+        progress.sender().apply(notification(progress.token(), notified, chunk)).block();
+    }
+}
@@ -0,0 +1,17 @@
+package com.nasan.springaimcpserver.tool;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Parametresiz ve sonucu uygulama ömrü boyunca değişmeyen bir {@code @Tool} metodunu işaretler.
+ * Bu araçların yanıtı açılışta bir kez JSON'a serileştirilir ve her çağrıda aynı metin döner.
+ */
+@Target(ElementType.METHOD)
+@Retention(RetentionPolicy.RUNTIME)
+@Documented
+public @interface StaticResult {
+}
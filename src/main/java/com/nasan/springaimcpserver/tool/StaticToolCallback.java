@@ -0,0 +1,95 @@
+package com.nasan.springaimcpserver.tool;
+
+import org.springframework.ai.chat.model.ToolContext;
+import org.springframework.ai.tool.ToolCallback;
+import org.springframework.ai.tool.annotation.Tool;
+import org.springframework.ai.tool.definition.ToolDefinition;
+import org.springframework.ai.tool.metadata.ToolMetadata;
+import org.springframework.util.ClassUtils;
+import org.springframework.util.StringUtils;
+import reactor.core.publisher.Mono;
+
+import java.lang.reflect.Method;
+import java.util.HashSet;
+import java.util.Set;
+import java.util.function.Predicate;
+
+/**
+ * {@link StaticResult} ile işaretli araçların yanıtını açılışta bir kez serileştirip saklayan sarmalayıcı.
+ * Çağrı yolunda hesaplama, serileştirme veya yeni nesne oluşturma yapılmaz; aynı değişmez metin döner.
+ * Araç verisi değiştiğinde {@link #refresh} yanıtları yeniden üretir.
+ */
+public final class StaticToolCallback implements ReactiveToolCallback {
+
+    private final ToolCallback delegate;
+    private volatile String payload;
+
+    StaticToolCallback(ToolCallback delegate) {
+        this.delegate = delegate;
+        this.payload = delegate.call("{}");
+    }
+
+    /** Araç nesnelerinde {@link StaticResult} ile işaretli metotlara ait geri çağrıları sarmalar. */
+    public static ToolCallback[] wrap(ToolCallback[] callbacks, Object... toolObjects) {
+        Set<String> staticTools = staticToolNames(toolObjects);
+        ToolCallback[] result = callbacks.clone();
+        for (int i = 0; i < result.length; i++) {
+            if (staticTools.contains(result[i].getToolDefinition().name())) {
+                result[i] = new StaticToolCallback(result[i]);
+            }
+        }
+        return result;
+    }
+
+    /** Verilen geri çağrılar içindeki, adı {@code tools} koşulunu sağlayan sabit yanıtlı araçların yanıtlarını yeniden üretir. */
+    public static void refresh(ToolCallback[] callbacks, Predicate<String> tools) {
+        for (ToolCallback callback : callbacks) {
+            if (callback instanceof StaticToolCallback staticCallback
+                    && tools.test(callback.getToolDefinition().name())) {
+                staticCallback.payload = staticCallback.delegate.call("{}");
+            }
+        }
+    }
+
+    private static Set<String> staticToolNames(Object... toolObjects) {
+        Set<String> names = new HashSet<>();
+        for (Object toolObject : toolObjects) {
+            for (Method method : ClassUtils.getUserClass(toolObject).getMethods()) {
+                Tool tool = method.getAnnotation(Tool.class);
+                if (tool == null || !method.isAnnotationPresent(StaticResult.class)) {
+                    continue;
+                }
+                if (method.getParameterCount() > 0) {
+                    throw new IllegalStateException("@StaticResult yalnızca parametresiz araçlarda kullanılabilir: " + method);
+                }
+                names.add(StringUtils.hasText(tool.name()) ? tool.name() : method.getName());
+            }
+        }
+        return names;
+    }
+
+    @Override
+    public ToolDefinition getToolDefinition() {
+        return delegate.getToolDefinition();
+    }
+
+    @Override
+    public ToolMetadata getToolMetadata() {
+        return delegate.getToolMetadata();
+    }
+
+    @Override
+    public String call(String toolInput) {
+        return payload;
+    }
+
+    @Override
+    public String call(String toolInput, ToolContext toolContext) {
+        return payload;
+    }
+
+    @Override
+    public Mono<String> callReactive(String toolInput) {
+        return Mono.fromSupplier(() -> payload);
+    }
+}
@@ -0,0 +1,27 @@
+package com.nasan.springaimcpserver.tool;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+import org.springframework.util.unit.DataSize;
+
+import java.time.Duration;
+import java.util.Map;
+
+/**
+ * Araç bazında yanıt önbelleği ayarları. Yalnızca {@code tools} altında listelenen
+ * araçların yanıtları önbelleğe alınır; anahtar araç adıdır (örn: {@code [travel.getTransportation]}).
+ */
+@ConfigurationProperties("tool-cache")
+public record ToolCacheProperties(@DefaultValue("true") boolean enabled, Map<String, Spec> tools) {
+
+    public ToolCacheProperties {
+        tools = tools == null ? Map.of() : Map.copyOf(tools);
+    }
+
+    /**
+     * @param ttl       yanıtın önbellekte kalacağı süre
+     * @param maxWeight önbelleğe alınan serileştirilmiş yanıtların toplam azami boyutu
+     */
+    public record Spec(@DefaultValue("10m") Duration ttl, @DefaultValue("1MB") DataSize maxWeight) {
+    }
+}
@@ -0,0 +1,27 @@
+package com.nasan.springaimcpserver.tool;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.time.Duration;
+import java.util.Map;
+
+/**
+ * Araç bazında eşzamanlılık sınırı. Her araç en fazla {@code maxConcurrent} çağrıyı aynı anda yürütür;
+ * {@code tools} altında araç adına göre farklı bir sınır verilebilir (örn: {@code [flight.findItineraries]: 16}).
+ * Sınıra ulaşan araçta yeni çağrı {@code acquireTimeout} kadar bekler, ardından reddedilir.
+ */
+@ConfigurationProperties("tool-concurrency")
+public record ToolConcurrencyProperties(@DefaultValue("true") boolean enabled,
+                                        @DefaultValue("64") int maxConcurrent,
+                                        @DefaultValue("2s") Duration acquireTimeout,
+                                        Map<String, Integer> tools) {
+
+    public ToolConcurrencyProperties {
+        tools = tools == null ? Map.of() : Map.copyOf(tools);
+    }
+
+    public int limit(String toolName) {
+        return tools.getOrDefault(toolName, maxConcurrent);
+    }
+}
@@ -0,0 +1,41 @@
+package com.nasan.springaimcpserver.tool;
+
+import org.springframework.ai.util.json.JsonParser;
+
+import java.io.Serial;
+import java.io.Serializable;
+
+/**
+ * Araçların hata kanalı. Fırlatıldığında MCP yanıtı {@code isError: true} olarak işaretlenir ve
+ * içerik {@code {"code": ..., "message": ...}} biçiminde yapılandırılmış hata nesnesi olur;
+ * böylece hatalar normal sonuç şemasına karışmaz.
+ */
+public class ToolException extends RuntimeException {
+
+    @Serial
+    private static final long serialVersionUID = 1L;
+
+    public enum Code { INVALID_ARGUMENT, NOT_FOUND, UNAVAILABLE, CONFLICT }
+
+    public record ToolError(Code code, String message) implements Serializable {
+    }
+
+    private final ToolError error;
+
+    public ToolException(Code code, String message) {
+        super(JsonParser.toJson(new ToolError(code, message)));
+        this.error = new ToolError(code, message);
+    }
+
+    public static ToolException invalidArgument(String message) {
+        return new ToolException(Code.INVALID_ARGUMENT, message);
+    }
+
+    public static ToolException notFound(String message) {
+        return new ToolException(Code.NOT_FOUND, message);
+    }
+
+    public ToolError error() {
+        return error;
+    }
+}
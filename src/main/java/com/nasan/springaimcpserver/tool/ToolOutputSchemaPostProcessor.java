@@ -0,0 +1,136 @@
+package com.nasan.springaimcpserver.tool;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.victools.jsonschema.generator.Option;
+import com.github.victools.jsonschema.generator.OptionPreset;
+import com.github.victools.jsonschema.generator.SchemaGenerator;
+import com.github.victools.jsonschema.generator.SchemaGeneratorConfigBuilder;
+import com.github.victools.jsonschema.generator.SchemaVersion;
+import com.github.victools.jsonschema.module.jackson.JacksonModule;
+import io.modelcontextprotocol.server.McpServerFeatures.AsyncToolSpecification;
+import io.modelcontextprotocol.server.McpServerFeatures.SyncToolSpecification;
+import io.modelcontextprotocol.spec.McpSchema;
+import org.springframework.ai.tool.annotation.Tool;
+import org.springframework.ai.util.json.JsonParser;
+import org.springframework.beans.BeanUtils;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.util.ClassUtils;
+import org.springframework.util.StringUtils;
+
+import java.lang.reflect.Method;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * {@code @Tool} metotlarının dönüş tiplerinden JSON çıktı şeması üretir ve MCP araç tanımlarına
+ * {@code outputSchema} olarak ekler; bu araçların başarılı yanıtlarına {@code structuredContent} de eklenir.
+ * MCP yapılandırılmış içeriği bir JSON nesnesi olmak zorunda olduğundan yalnızca nesne döndüren
+ * araçlar için şema yayımlanır.
+ * <p>
+ * Yapılandırılmış içerik, yanıt metni nesne kimliğiyle (zayıf anahtar) eşlenerek bir kez ayrıştırılır; önceden
+ * serileştirilmiş sabit yanıtlar ve önbellekten dönen yanıtlar aynı metin nesnesi olduğundan yeniden ayrıştırılmaz.
+ */
+public class ToolOutputSchemaPostProcessor implements BeanPostProcessor {
+
+    private static final TypeReference<Map<String, Object>> MAP_TYPE = new TypeReference<>() {
+    };
+
+    private final SchemaGenerator generator;
+    private final Map<String, Map<String, Object>> schemas = new ConcurrentHashMap<>();
+    private final Cache<String, Map<String, Object>> parsed = Caffeine.newBuilder()
+            .weakKeys()
+            .maximumSize(10_000)
+            .build();
+
+    public ToolOutputSchemaPostProcessor() {
+        SchemaGeneratorConfigBuilder config = new SchemaGeneratorConfigBuilder(SchemaVersion.DRAFT_2020_12, OptionPreset.PLAIN_JSON)
+                .with(new JacksonModule())
+                .with(Option.NULLABLE_FIELDS_BY_DEFAULT);
+        // Kayıt bileşenleri, yalnızca null olduğunda yazılmayanlar dışında zorunludur
+        config.forFields().withRequiredCheck(field -> field.getDeclaringType().getErasedType().isRecord()
+                && field.getAnnotationConsideringFieldAndGetter(JsonInclude.class) == null);
+        this.generator = new SchemaGenerator(config.build());
+    }
+
+    @Override
+    public Object postProcessAfterInitialization(Object bean, String beanName) {
+        if (bean instanceof List<?> list && !list.isEmpty() && list.get(0) instanceof SyncToolSpecification) {
+            return withOutputSchemas(list);
+        }
+        if (bean instanceof List<?> list && !list.isEmpty() && list.get(0) instanceof AsyncToolSpecification) {
+            return withAsyncOutputSchemas(list);
+        }
+        for (Method method : ClassUtils.getUserClass(bean).getMethods()) {
+            Tool tool = method.getAnnotation(Tool.class);
+            if (tool != null && isObjectType(method.getReturnType())) {
+                String name = StringUtils.hasText(tool.name()) ? tool.name() : method.getName();
+                schemas.put(name, JsonParser.getObjectMapper().convertValue(
+                        generator.generateSchema(method.getGenericReturnType()), MAP_TYPE));
+            }
+        }
+        return bean;
+    }
+
+    /** Araç için üretilen çıktı şeması; araç nesne döndürmüyorsa null. */
+    public Map<String, Object> schema(String toolName) {
+        return schemas.get(toolName);
+    }
+
+    private List<SyncToolSpecification> withOutputSchemas(List<?> specifications) {
+        List<SyncToolSpecification> result = new ArrayList<>(specifications.size());
+        for (Object element : specifications) {
+            SyncToolSpecification spec = (SyncToolSpecification) element;
+            McpSchema.Tool tool = spec.tool();
+            Map<String, Object> schema = schemas.get(tool.name());
+            if (schema == null || spec.callHandler() == null) {
+                result.add(spec);
+                continue;
+            }
+            result.add(new SyncToolSpecification(describe(tool, schema), null,
+                    (exchange, request) -> structured(spec.callHandler().apply(exchange, request))));
+        }
+        return result;
+    }
+
+    private List<AsyncToolSpecification> withAsyncOutputSchemas(List<?> specifications) {
+        List<AsyncToolSpecification> result = new ArrayList<>(specifications.size());
+        for (Object element : specifications) {
+            AsyncToolSpecification spec = (AsyncToolSpecification) element;
+            McpSchema.Tool tool = spec.tool();
+            Map<String, Object> schema = schemas.get(tool.name());
+            if (schema == null || spec.callHandler() == null) {
+                result.add(spec);
+                continue;
+            }
+            result.add(new AsyncToolSpecification(describe(tool, schema), null,
+                    (exchange, request) -> spec.callHandler().apply(exchange, request).map(this::structured)));
+        }
+        return result;
+    }
+
+    private static McpSchema.Tool describe(McpSchema.Tool tool, Map<String, Object> schema) {
+        return new McpSchema.Tool(tool.name(), tool.title(), tool.description(),
+                tool.inputSchema(), schema, tool.annotations(), tool.meta());
+    }
+
+    // Başarılı metin yanıtını yapılandırılmış içerikle tamamlar
+    private McpSchema.CallToolResult structured(McpSchema.CallToolResult callResult) {
+        if (Boolean.TRUE.equals(callResult.isError()) || callResult.content() == null || callResult.content().isEmpty()
+                || !(callResult.content().get(0) instanceof McpSchema.TextContent text)) {
+            return callResult;
+        }
+        return new McpSchema.CallToolResult(callResult.content(), false,
+                parsed.get(text.text(), json -> JsonParser.fromJson(json, MAP_TYPE)));
+    }
+
+    private static boolean isObjectType(Class<?> type) {
+        return !BeanUtils.isSimpleValueType(type) && !type.isArray() && !Collection.class.isAssignableFrom(type)
+                && type != void.class;
+    }
+}
@@ -0,0 +1,88 @@
+package com.nasan.springaimcpserver.service;
+
+import com.nasan.springaimcpserver.service.TravelResponses.CityInfo;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class CityDirectoryTest {
+
+    private static final String JSON = """
+            [
+              {"name": "Ankara", "aliases": ["Angora"], "population": "5.7 milyon",
+               "airports": [{"code": "ESB", "name": "Esenboğa Havalimanı"}], "attractions": ["Anıtkabir"],
+               "bestTimeToVisit": "İlkbahar", "averageTemperature": 99, "region": "İç Anadolu"},
+              {"name": "Bursa", "population": "3.2 milyon", "bestTimeToVisit": "Yaz"}
+            ]
+            """;
+
+    private static ClimateStore climate;
+    private static CityDirectory directory;
+
+    // Ankara için her gün 10-20 °C; Bursa iklim verisinde yok
+    @BeforeAll
+    static void load() {
+        StringBuilder csv = new StringBuilder("city,date,min,max,humidity,precipitation,wind,rainChance\n");
+        LocalDate date = LocalDate.of(2024, 1, 1);
+        for (int i = 0; i < ClimateStore.DAYS; i++, date = date.plusDays(1)) {
+            csv.append(String.format("Ankara,%02d-%02d,10.0,20.0,50,0.0,10,20%n", date.getMonthValue(), date.getDayOfMonth()));
+        }
+        climate = ClimateStore.load(stream(csv.toString()));
+        directory = CityDirectory.load(stream(JSON), climate);
+    }
+
+    @Test
+    void assignsIdsInOrderAndFillsMissingLists() {
+        List<City> cities = directory.all();
+
+        assertThat(cities).extracting(City::id).containsExactly(0, 1);
+        assertThat(directory.get(1).name()).isEqualTo("Bursa");
+        assertThat(directory.get(1).aliases()).isEmpty();
+        assertThat(directory.get(1).airports()).isEmpty();
+        assertThat(directory.get(0).name()).isSameAs("Ankara");
+    }
+
+    @Test
+    void takesYearlyAverageFromClimateStore() {
+        assertThat(directory.get(0).averageTemperature()).isEqualTo(15);
+        assertThat(directory.get(1).averageTemperature())
+                .isEqualTo((int) Math.round(climate.year("Bursa").meanTemperature()));
+    }
+
+    @Test
+    void resolvesAliasesAirportsAndCanonicalNames() {
+        assertThat(directory.find("angora").name()).isEqualTo("Ankara");
+        assertThat(directory.find("ESB").name()).isEqualTo("Ankara");
+        assertThat(directory.find("Erzurum")).isNull();
+        assertThat(directory.canonicalName("ankara")).isEqualTo("Ankara");
+        assertThat(directory.canonicalName("  iZMİR ")).isEqualTo("İzmir");
+        assertThat(directory.canonicalName(null)).isEmpty();
+    }
+
+    @Test
+    void prebuildsCityInfo() {
+        CityInfo info = directory.cityInfo(directory.get(0));
+
+        assertThat(info.airports()).containsExactly("Esenboğa Havalimanı (ESB)");
+        assertThat(info.averageTemperature()).isEqualTo("Yıllık ortalama: 15°C");
+        assertThat(directory.cityInfo(directory.get(0))).isSameAs(info);
+    }
+
+    @Test
+    void rejectsMalformedJson() {
+        assertThatThrownBy(() -> CityDirectory.load(stream("{\"name\":"), climate)).isInstanceOf(UncheckedIOException.class);
+    }
+
+    private static InputStream stream(String text) {
+        return new ByteArrayInputStream(text.getBytes(StandardCharsets.UTF_8));
+    }
+}
@@ -0,0 +1,90 @@
+package com.nasan.springaimcpserver.service;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class CityResolverTest {
+
+    private static final CityResolver RESOLVER = new CityResolver(List.of(
+            city(0, "İstanbul", List.of("Constantinople"), new City.Airport("IST", "İstanbul Havalimanı"),
+                    new City.Airport("SAW", "Sabiha Gökçen Havalimanı")),
+            city(1, "Ankara", List.of(), new City.Airport("ESB", "Esenboğa Havalimanı")),
+            city(2, "Antalya", List.of(), new City.Airport("AYT", "Antalya Havalimanı")),
+            city(3, "İzmir", List.of("Smyrna"), new City.Airport("ADB", "Adnan Menderes Havalimanı")),
+            city(4, "İzmit", List.of("Kocaeli"))));
+
+    private static City city(int id, String name, List<String> aliases, City.Airport... airports) {
+        return new City(id, name, aliases, "1", List.of(airports), List.of(), "İlkbahar", 15);
+    }
+
+    @Test
+    void foldsTurkishLettersAndAccents() {
+        assertThat(CityResolver.fold("  İSTANBUL ")).isEqualTo("istanbul");
+        assertThat(CityResolver.fold("Şanlıurfa")).isEqualTo("sanliurfa");
+        assertThat(CityResolver.fold("Çanakkale-Gökçeada")).isEqualTo("canakkale gokceada");
+        assertThat(CityResolver.fold("Zürich")).isEqualTo("zurich");
+    }
+
+    @Test
+    void resolvesExactNamesAliasesAndAirports() {
+        CityResolver.Match byName = RESOLVER.resolve("istanbul");
+        assertThat(byName.city().name()).isEqualTo("İstanbul");
+        assertThat(byName.exact()).isTrue();
+        assertThat(byName.airport()).isNull();
+
+        assertThat(RESOLVER.resolve("SMYRNA").city().name()).isEqualTo("İzmir");
+
+        CityResolver.Match byCode = RESOLVER.resolve("saw");
+        assertThat(byCode.city().name()).isEqualTo("İstanbul");
+        assertThat(byCode.airport().code()).isEqualTo("SAW");
+        assertThat(RESOLVER.resolve("Esenboga Havalimani").airport().code()).isEqualTo("ESB");
+    }
+
+    @Test
+    void resolvesUniquePrefixesOnly() {
+        CityResolver.Match prefix = RESOLVER.resolve("Anka");
+        assertThat(prefix.city().name()).isEqualTo("Ankara");
+        assertThat(prefix.exact()).isFalse();
+
+        assertThat(RESOLVER.resolve("An")).isNull();
+        // "izm" hem İzmir hem İzmit; tekil önek değil
+        assertThat(RESOLVER.resolve("izm")).isNull();
+    }
+
+    @Test
+    void resolvesTyposWithinEditDistance() {
+        assertThat(RESOLVER.resolve("Istnbul").city().name()).isEqualTo("İstanbul");
+        assertThat(RESOLVER.resolve("Antlaya").city().name()).isEqualTo("Antalya");
+        assertThat(RESOLVER.resolve("Konstantinopolis")).isNull();
+        assertThat(RESOLVER.resolve("xyzxyz")).isNull();
+        assertThat(RESOLVER.resolve("   ")).isNull();
+        assertThat(RESOLVER.resolve(null)).isNull();
+    }
+
+    @Test
+    void treatsEquallyCloseCitiesAsAmbiguous() {
+        // "izmix" İzmir ve İzmit'e eşit uzaklıkta; "Izmirr" ise yalnızca İzmir'e bir düzenleme uzaklıkta
+        assertThat(RESOLVER.resolve("izmix")).isNull();
+        assertThat(RESOLVER.resolve("Izmirr").city().name()).isEqualTo("İzmir");
+        assertThat(RESOLVER.resolve("Sabiha Gokcen Havalimanii").airport().code()).isEqualTo("SAW");
+    }
+
+    @Test
+    void keepsFuzzyCountersIsolatedBetweenCalls() {
+        for (int i = 0; i < 3; i++) {
+            assertThat(RESOLVER.resolve("Istnbul").city().name()).isEqualTo("İstanbul");
+            assertThat(RESOLVER.resolve("Antlaya").city().name()).isEqualTo("Antalya");
+            assertThat(RESOLVER.resolve("xyzxyz")).isNull();
+        }
+    }
+
+    @Test
+    void boundsEditDistance() {
+        assertThat(CityResolver.distance("antalya", "antlaya", 2)).isEqualTo(1);
+        assertThat(CityResolver.distance("ankara", "ankara", 2)).isZero();
+        assertThat(CityResolver.distance("ankara", "izmir", 2)).isEqualTo(3);
+    }
+}
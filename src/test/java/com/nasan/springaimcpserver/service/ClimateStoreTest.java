@@ -0,0 +1,85 @@
+package com.nasan.springaimcpserver.service;
+
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class ClimateStoreTest {
+
+    // Artık yıl takviminin her günü için en düşük sıcaklık = gün sırası / 10
+    private static String csv(int days) {
+        StringBuilder sb = new StringBuilder("city,date,min,max,humidity,precipitation,wind,rainChance\n");
+        LocalDate date = LocalDate.of(2024, 1, 1);
+        for (int i = 0; i < days; i++, date = date.plusDays(1)) {
+            sb.append(String.format("Ankara,%02d-%02d,%d.%d,%d.%d,50,0.0,10,20%n",
+                    date.getMonthValue(), date.getDayOfMonth(), i / 10, i % 10, i / 10 + 10, i % 10));
+        }
+        return sb.toString();
+    }
+
+    private static ClimateStore load(String csv) {
+        return ClimateStore.load(new ByteArrayInputStream(csv.getBytes(StandardCharsets.UTF_8)));
+    }
+
+    @Test
+    void mapsDatesOntoLeapYearCalendar() {
+        ClimateStore store = load(csv(ClimateStore.DAYS));
+
+        assertThat(store.day("Ankara", LocalDate.of(2025, 2, 28)).minTemperature()).isEqualTo(5.8);
+        assertThat(store.day("Ankara", LocalDate.of(2024, 2, 29)).minTemperature()).isEqualTo(5.9);
+        assertThat(store.day("Ankara", LocalDate.of(2025, 3, 1)).minTemperature()).isEqualTo(6.0);
+    }
+
+    @Test
+    void readsRangesAcrossYearEnd() {
+        ClimateStore store = load(csv(ClimateStore.DAYS));
+
+        List<ClimateStore.Day> days = store.range("Ankara", LocalDate.of(2025, 12, 30), 4);
+
+        assertThat(days).extracting(ClimateStore.Day::date).containsExactly(LocalDate.of(2025, 12, 30),
+                LocalDate.of(2025, 12, 31), LocalDate.of(2026, 1, 1), LocalDate.of(2026, 1, 2));
+        assertThat(days).extracting(ClimateStore.Day::minTemperature).containsExactly(36.4, 36.5, 0.0, 0.1);
+        assertThat(days.get(0).maxTemperature()).isEqualTo(46.4);
+        assertThat(days.get(0).rainChance()).isEqualTo(20);
+    }
+
+    @Test
+    void aggregatesYear() {
+        ClimateStore store = load(csv(ClimateStore.DAYS));
+
+        ClimateStore.Aggregate year = store.year("Ankara");
+        assertThat(year.minTemperature()).isBetween(18.0, 18.5);
+        assertThat(year.maxTemperature()).isBetween(28.0, 28.5);
+        assertThat(year.humidity()).isEqualTo(50);
+    }
+
+    @Test
+    void generatesSeededSeriesForCitiesWithoutData() {
+        ClimateStore store = load(csv(ClimateStore.DAYS));
+        ClimateStore other = load(csv(ClimateStore.DAYS));
+        LocalDate date = LocalDate.of(2025, 7, 15);
+
+        assertThat(store.hasCity("İzmir")).isFalse();
+        ClimateStore.Day day = store.day("İzmir", date);
+        assertThat(day).isEqualTo(other.day("İzmir", date));
+        assertThat(day.maxTemperature()).isGreaterThan(day.minTemperature());
+        assertThat(store.range("İzmir", date, 3)).first().isEqualTo(day);
+        assertThat(store.year("İzmir").meanTemperature()).isBetween(10.0, 30.0);
+        assertThat(store.season("İzmir", ClimateStore.Season.SUMMER).meanTemperature())
+                .isGreaterThan(store.season("İzmir", ClimateStore.Season.WINTER).meanTemperature());
+        assertThat(store.comfortRank("İzmir", ClimateStore.Season.SPRING)).isBetween(0, 3);
+        assertThat(store.day("Bursa", date)).isNotEqualTo(day);
+    }
+
+    @Test
+    void rejectsIncompleteData() {
+        assertThatThrownBy(() -> load(csv(ClimateStore.DAYS - 1))).isInstanceOf(IllegalStateException.class);
+        assertThatThrownBy(() -> load("Ankara,01-01,1.0\n")).isInstanceOf(IllegalStateException.class);
+    }
+}
@@ -0,0 +1,59 @@
+package com.nasan.springaimcpserver.service;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+import java.util.HashSet;
+import java.util.Set;
+import java.util.SplittableRandom;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class DataSeedTest {
+
+    @Test
+    void repeatsTheSameSequenceForTheSameSeed() {
+        SplittableRandom first = DataSeed.random("climate", "Ankara", 42);
+        SplittableRandom second = DataSeed.random("climate", "Ankara", 42);
+
+        for (int i = 0; i < 100; i++) {
+            assertThat(first.nextLong()).isEqualTo(second.nextLong());
+        }
+    }
+
+    @Test
+    void separatesDomainsEntitiesAndKeys() {
+        long value = DataSeed.random("climate", "Ankara", 0).nextLong();
+
+        assertThat(DataSeed.random("hotel", "Ankara", 0).nextLong()).isNotEqualTo(value);
+        assertThat(DataSeed.random("climate", "İzmir", 0).nextLong()).isNotEqualTo(value);
+        assertThat(DataSeed.random("climate", "Ankara", 1).nextLong()).isNotEqualTo(value);
+        // Alan ve varlık sınırı kaydırıldığında aynı metin farklı tohum verir
+        assertThat(DataSeed.random("ab", "c", 0).nextLong()).isNotEqualTo(DataSeed.random("a", "bc", 0).nextLong());
+    }
+
+    @Test
+    void givesDistinctSeedsToCityDayPairs() {
+        Set<Long> values = new HashSet<>();
+        int pairs = 0;
+        for (int city = 0; city < 81; city++) {
+            for (long day = 0; day < 366; day++, pairs++) {
+                values.add(DataSeed.random("weather", "Şehir " + city, LocalDate.of(2026, 1, 1).toEpochDay() + day).nextLong());
+            }
+        }
+
+        assertThat(values).hasSize(pairs);
+    }
+
+    @Test
+    void derivesHotelDetailsFromTheHotelName() {
+        ReferenceDataManager datasets = ReferenceDataManager.of(ReferenceData.generate(LocalDate.now(), 1));
+        HotelSearchTool tool = new HotelSearchTool(datasets, new HotelAvailability());
+        HotelSearchTool other = new HotelSearchTool(datasets, new HotelAvailability());
+
+        HotelResponses.HotelDetails details = tool.getHotelDetails("Kayıtsız Otel", "Ankara");
+
+        assertThat(other.getHotelDetails("Kayıtsız Otel", "Ankara")).isEqualTo(details);
+        assertThat(tool.getHotelDetails("Başka Otel", "Ankara").pricePerNight()).isNotEqualTo(details.pricePerNight());
+    }
+}
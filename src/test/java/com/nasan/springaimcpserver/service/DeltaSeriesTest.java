@@ -0,0 +1,67 @@
+package com.nasan.springaimcpserver.service;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.SplittableRandom;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class DeltaSeriesTest {
+
+    @Test
+    void roundTripsValuesAcrossBlocks() {
+        SplittableRandom random = new SplittableRandom(42);
+        int[] values = new int[ClimateStore.DAYS];
+        for (int i = 1; i < values.length; i++) {
+            values[i] = values[i - 1] + random.nextInt(-20, 21);
+        }
+        DeltaSeries series = new DeltaSeries(values);
+
+        int[] out = new int[values.length];
+        series.read(0, values.length, out, 0);
+        assertThat(out).containsExactly(values);
+
+        int[] window = new int[5];
+        series.read(DeltaSeries.BLOCK - 2, 5, window, 0);
+        assertThat(window).containsExactly(values[30], values[31], values[32], values[33], values[34]);
+    }
+
+    @Test
+    void roundTripsExtremeDeltas() {
+        int[] values = {0, Integer.MAX_VALUE, Integer.MIN_VALUE, -1, 1, 0, 63, -64, 64, -65, 8191, -8192};
+        DeltaSeries series = new DeltaSeries(values);
+
+        int[] out = new int[values.length];
+        series.read(0, values.length, out, 0);
+        assertThat(out).containsExactly(values);
+    }
+
+    @Test
+    void wrapsAroundAndWritesAtOffset() {
+        int[] values = new int[70];
+        for (int i = 0; i < values.length; i++) {
+            values[i] = i * 3;
+        }
+        DeltaSeries series = new DeltaSeries(values);
+
+        int[] out = new int[6];
+        series.read(68, 4, out, 2);
+        assertThat(out).containsExactly(0, 0, 204, 207, 0, 3);
+
+        int[] negative = new int[1];
+        series.read(-1, 1, negative, 0);
+        assertThat(negative[0]).isEqualTo(207);
+    }
+
+    @Test
+    void encodesSmallDeltasInOneByte() {
+        int[] values = new int[ClimateStore.DAYS];
+        for (int i = 0; i < values.length; i++) {
+            values[i] = 150 + (i % 7) * 5;
+        }
+
+        assertThat(new DeltaSeries(values).encodedBytes()).isLessThan(values.length * 2);
+        assertThatThrownBy(() -> new DeltaSeries(new int[0])).isInstanceOf(IllegalArgumentException.class);
+    }
+}
@@ -0,0 +1,102 @@
+package com.nasan.springaimcpserver.service;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class EmployeeDirectoryTest {
+
+    private static final EmployeeDirectory DIRECTORY = EmployeeDirectory.of(List.of(
+            new Employee("Ayşe Yılmaz", 30),
+            new Employee("Mehmet Öztürk", 45),
+            new Employee("Ayşegül Demir", 30),
+            new Employee("Ali Yılmaz", 0),
+            new Employee("Zeynep Kaya", EmployeeDirectory.MAX_AGE)));
+
+    @Test
+    void findsByAccentInsensitiveWordPrefixes() {
+        assertThat(ids(DIRECTORY.findByName("ayse"))).containsExactly(0, 2);
+        assertThat(ids(DIRECTORY.findByName("AYŞE yil"))).containsExactly(0);
+        assertThat(ids(DIRECTORY.findByName("yılmaz"))).containsExactly(0, 3);
+        assertThat(DIRECTORY.findByName("ayse").fuzzy()).isFalse();
+    }
+
+    @Test
+    void fallsBackToFuzzyMatchForLongTerms() {
+        EmployeeDirectory.NameMatch match = DIRECTORY.findByName("Ozturq");
+
+        assertThat(match.fuzzy()).isTrue();
+        assertThat(ids(match)).containsExactly(1);
+        assertThat(DIRECTORY.findByName("xyz").total()).isZero();
+        assertThat(DIRECTORY.findByName("   ").total()).isZero();
+    }
+
+    @Test
+    void selectsAgeRangesInclusively() {
+        assertThat(ages(30, 30)).containsExactly(30, 30);
+        assertThat(ages(0, 45)).containsExactly(0, 30, 30, 45);
+        assertThat(ages(46, EmployeeDirectory.MAX_AGE)).containsExactly(EmployeeDirectory.MAX_AGE);
+        assertThat(ages(31, 44)).isEmpty();
+        assertThat(ages(50, 40)).isEmpty();
+    }
+
+    @Test
+    void clampsUnboundedAgeLimits() {
+        assertThat(ages(Integer.MIN_VALUE, Integer.MAX_VALUE)).hasSize(DIRECTORY.size());
+        assertThat(ages(EmployeeDirectory.MAX_AGE + 1, Integer.MAX_VALUE)).isEmpty();
+        assertThat(ages(0, -1)).isEmpty();
+        assertThat(ages(0, Integer.MIN_VALUE)).isEmpty();
+    }
+
+    @Test
+    void loadsCsvWithOptionalHeader(@TempDir Path dir) throws IOException {
+        Path withHeader = Files.writeString(dir.resolve("a.csv"), "name, age\n Ayşe Yılmaz , 30 \n\nAli, Veli,41\n");
+        Path withoutHeader = Files.writeString(dir.resolve("b.csv"), "Ayşe Yılmaz,30\n");
+
+        EmployeeDirectory directory = EmployeeDirectory.load(withHeader);
+        assertThat(directory.size()).isEqualTo(2);
+        assertThat(directory.get(0)).isEqualTo(new Employee("Ayşe Yılmaz", 30));
+        assertThat(directory.get(1)).isEqualTo(new Employee("Ali, Veli", 41));
+        assertThat(EmployeeDirectory.load(withoutHeader).size()).isEqualTo(1);
+    }
+
+    @Test
+    void rejectsInvalidCsvRecords(@TempDir Path dir) throws IOException {
+        Path badAge = Files.writeString(dir.resolve("a.csv"), "name,age\nAyşe,30\nAli,otuz\n");
+        Path outOfRange = Files.writeString(dir.resolve("b.csv"), "Ayşe,151\n");
+        Path noComma = Files.writeString(dir.resolve("c.csv"), "Ayşe 30\n");
+
+        assertThatThrownBy(() -> EmployeeDirectory.load(badAge))
+                .isInstanceOf(IllegalStateException.class)
+                .hasMessageContaining("satır 3");
+        assertThatThrownBy(() -> EmployeeDirectory.load(outOfRange)).isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> EmployeeDirectory.load(noComma)).isInstanceOf(IllegalStateException.class);
+    }
+
+    @Test
+    void loadsJsonLines(@TempDir Path dir) throws IOException {
+        Path file = Files.writeString(dir.resolve("e.jsonl"), "{\"name\":\"Ayşe\",\"age\":30,\"team\":\"x\"}\n");
+
+        assertThat(EmployeeDirectory.load(file).get(0)).isEqualTo(new Employee("Ayşe", 30));
+    }
+
+    private static List<Integer> ids(EmployeeDirectory.NameMatch match) {
+        return match.ids().stream().boxed().toList();
+    }
+
+    private static List<Integer> ages(int minAge, int maxAge) {
+        List<Integer> ages = new ArrayList<>();
+        for (int p = DIRECTORY.ageRangeBegin(minAge); p < DIRECTORY.ageRangeEnd(maxAge); p++) {
+            ages.add(DIRECTORY.get(DIRECTORY.idAtAgePosition(p)).age());
+        }
+        return ages;
+    }
+}
@@ -0,0 +1,200 @@
+package com.nasan.springaimcpserver.service;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class FlightDeltaIngestorTest {
+
+    private static ReferenceData data;
+    private static int day;
+    private static String flight;
+    private static String otherFlight;
+
+    @TempDir
+    Path spool;
+
+    private ReferenceDataManager datasets;
+    private SimpleMeterRegistry registry;
+    private FlightDeltaIngestor ingestor;
+
+    @BeforeAll
+    static void generate() {
+        data = ReferenceData.generate(LocalDate.now(), 3);
+        FlightInventory flights = data.flights();
+        day = flights.firstEpochDay() + 1;
+        FlightInventory.DaySchedule schedule = flights.day(day);
+        flight = code(flights, schedule, 0);
+        otherFlight = code(flights, schedule, schedule.size() - 1);
+    }
+
+    private static String code(FlightInventory flights, FlightInventory.DaySchedule schedule, int row) {
+        return flights.airline(schedule.airline(row)).code() + schedule.flightNumber(row);
+    }
+
+    @BeforeEach
+    void setUp() {
+        datasets = ReferenceDataManager.of(data);
+        registry = new SimpleMeterRegistry();
+        ingestor = new FlightDeltaIngestor(datasets, spool, registry);
+    }
+
+    @Test
+    void readsOnlyCompletedLines() throws IOException {
+        Path file = Files.writeString(spool.resolve("a.delta"), "bir\niki\nüç");
+        List<FlightDeltaIngestor.Line> lines = new ArrayList<>();
+
+        int consumed = FlightDeltaIngestor.readLines(file, 0, (int) Files.size(file), 4, lines);
+
+        assertThat(consumed).isEqualTo(8);
+        assertThat(lines).containsExactly(new FlightDeltaIngestor.Line("bir", true),
+                new FlightDeltaIngestor.Line("iki", false));
+    }
+
+    @Test
+    void appliesDeltasAndAdvancesOffsets() throws IOException {
+        append("a.delta", price(flight, 4321) + "\n# yorum\n\n" + cancel(otherFlight) + "\n"
+                + stamp() + ",REFUND," + date() + "," + flight + "\n");
+        append("b.delta", price(flight, 4400).substring(0, 10));
+
+        assertThat(ingestor.poll()).isFalse();
+
+        assertThat(price(flight)).isEqualTo(4321);
+        assertThat(row(otherFlight)).isEqualTo(-1);
+        assertThat(records("price", "applied")).isEqualTo(1);
+        assertThat(records("cancel", "applied")).isEqualTo(1);
+        assertThat(records("unknown", "rejected")).isEqualTo(1);
+        assertThat(registry.get("flight.delta.lag").timer().count()).isEqualTo(2);
+        // Yarım satır okunmamış bayt olarak bekler; tarama yarıda kalmadığından poll() false döner
+        assertThat(registry.get("flight.delta.backlog").gauge().value()).isEqualTo(10);
+
+        long version = datasets.version().number();
+        assertThat(ingestor.poll()).isFalse();
+        assertThat(datasets.version().number()).isEqualTo(version);
+
+        append("b.delta", price(flight, 4400).substring(10) + "\n");
+        ingestor.poll();
+        assertThat(price(flight)).isEqualTo(4400);
+        assertThat(records("price", "applied")).isEqualTo(2);
+    }
+
+    @Test
+    void failingListenerDoesNotTriggerReplay() throws IOException {
+        AtomicBoolean fail = new AtomicBoolean(true);
+        datasets.addListener(change -> {
+            if (fail.getAndSet(false)) {
+                throw new IllegalStateException("dinleyici başarısız");
+            }
+        });
+        append("a.delta", price(flight, 1234) + "\n");
+
+        ingestor.poll();
+        assertThat(price(flight)).isEqualTo(1234);
+        assertThat(records("price", "applied")).isEqualTo(1);
+
+        // Kendi yayımladığı sürüm yeniden yükleme sayılmaz; satırlar ikinci kez uygulanmaz
+        append("a.delta", cancel(otherFlight) + "\n");
+        ingestor.poll();
+        assertThat(records("price", "applied")).isEqualTo(1);
+        assertThat(records("cancel", "applied")).isEqualTo(1);
+        assertThat(registry.get("flight.delta.lag").timer().count()).isEqualTo(2);
+    }
+
+    @Test
+    void skipsLinesLongerThanTheBatchLimit() throws IOException {
+        append("a.delta", "x".repeat(FlightDeltaIngestor.MAX_BATCH_BYTES + 10));
+
+        assertThat(ingestor.poll()).isTrue();
+        assertThat(records("unknown", "rejected")).isEqualTo(1);
+
+        append("a.delta", "x".repeat(10) + "\n" + price(flight, 3333) + "\n");
+        assertThat(ingestor.poll()).isFalse();
+
+        assertThat(price(flight)).isEqualTo(3333);
+        assertThat(records("price", "applied")).isEqualTo(1);
+        assertThat(records("unknown", "rejected")).isEqualTo(1);
+        assertThat(registry.get("flight.delta.backlog").gauge().value()).isZero();
+    }
+
+    @Test
+    void reportsUnreadableFiles() {
+        assertThatThrownBy(() -> FlightDeltaIngestor.readLines(spool.resolve("yok.delta"), 0, 10, 0, new ArrayList<>()))
+                .isInstanceOf(UncheckedIOException.class);
+    }
+
+    @Test
+    void replaysPublishedLinesAfterFullReload() throws IOException {
+        append("a.delta", price(flight, 2222) + "\n");
+        ingestor.poll();
+        assertThat(price(flight)).isEqualTo(2222);
+
+        datasets.reload();
+        assertThat(price(flight)).isNotEqualTo(2222);
+        append("a.delta", cancel(otherFlight) + "\n");
+        ingestor.poll();
+
+        assertThat(price(flight)).isEqualTo(2222);
+        assertThat(row(otherFlight)).isEqualTo(-1);
+        assertThat(records("price", "applied")).isEqualTo(2);
+        // Yeniden uygulanan satırın gecikmesi ikinci kez ölçülmez
+        assertThat(registry.get("flight.delta.lag").timer().count()).isEqualTo(2);
+    }
+
+    private void append(String file, String text) throws IOException {
+        Files.writeString(spool.resolve(file), text, StandardCharsets.UTF_8,
+                StandardOpenOption.CREATE, StandardOpenOption.APPEND);
+    }
+
+    private static String stamp() {
+        return Instant.now().minusSeconds(5).toString();
+    }
+
+    private static String date() {
+        return LocalDate.ofEpochDay(day).toString();
+    }
+
+    private static String price(String code, int price) {
+        return stamp() + ",PRICE," + date() + "," + code + "," + price;
+    }
+
+    private static String cancel(String code) {
+        return stamp() + ",CANCEL," + date() + "," + code;
+    }
+
+    private int row(String code) {
+        FlightInventory flights = datasets.current().flights();
+        for (int a = 0; a < flights.airlineCount(); a++) {
+            String prefix = flights.airline(a).code();
+            if (code.startsWith(prefix) && code.substring(prefix.length()).chars().allMatch(Character::isDigit)) {
+                return flights.day(day).find(a, Integer.parseInt(code.substring(prefix.length())));
+            }
+        }
+        throw new IllegalArgumentException(code);
+    }
+
+    private int price(String code) {
+        return datasets.current().flights().day(day).price(row(code));
+    }
+
+    private double records(String op, String outcome) {
+        var counter = registry.find("flight.delta.records").tag("op", op).tag("outcome", outcome).counter();
+        return counter == null ? 0 : counter.count();
+    }
+}
@@ -0,0 +1,126 @@
+package com.nasan.springaimcpserver.service;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class FlightInventoryTest {
+
+    private static final LocalDate FIRST = LocalDate.of(2026, 1, 1);
+    private static final int DAY0 = (int) FIRST.toEpochDay();
+    private static final int IST = 0;
+    private static final int ANK = 1;
+    private static final int IZM = 2;
+    private static final int TK = 0;
+    private static final int PC = 1;
+
+    private static FlightInventory inventory() {
+        return FlightInventory.builder(List.of("İstanbul", "Ankara", "İzmir"),
+                        List.of(new FlightInventory.Airline("TK", "Turkish Airlines", "Türk Hava Yolları"),
+                                new FlightInventory.Airline("PC", "Pegasus", "Pegasus")),
+                        List.of("A320"), FIRST, 3)
+                .add(FIRST, IST, ANK, TK, 2, 18 * 60, 70, 1500, 0)
+                .add(FIRST, IST, ANK, PC, 1, 6 * 60, 65, 900, 0)
+                .add(FIRST, ANK, IZM, TK, 3, 9 * 60, 80, 1200, 0)
+                .add(FIRST, IST, IZM, PC, 4, 12 * 60, 75, 1100, 0)
+                .add(FIRST.plusDays(1), IST, ANK, TK, 2, 18 * 60, 70, 1600, 0)
+                .build();
+    }
+
+    @Test
+    void encodesRouteRowsInDepartureOrder() {
+        FlightInventory inventory = inventory();
+        FlightInventory.DaySchedule day = inventory.day(DAY0);
+
+        assertThat(inventory.size()).isEqualTo(5);
+        assertThat(day.size()).isEqualTo(4);
+        int route = inventory.route(IST, ANK);
+        int begin = day.routeBegin(route);
+        assertThat(day.routeEnd(route) - begin).isEqualTo(2);
+        assertThat(day.departure(begin)).isEqualTo(6 * 60);
+        assertThat(day.airline(begin)).isEqualTo(PC);
+        assertThat(day.price(begin)).isEqualTo(900);
+        assertThat(day.arrival(begin)).isEqualTo(6 * 60 + 65);
+        assertThat(day.departure(begin + 1)).isEqualTo(18 * 60);
+        assertThat(day.fromCity(begin + 1)).isEqualTo(IST);
+        assertThat(day.toCity(begin + 1)).isEqualTo(ANK);
+        assertThat(day.routeBegin(inventory.route(ANK, IST))).isEqualTo(-1);
+
+        assertThat(day.find(TK, 3)).isGreaterThanOrEqualTo(0);
+        assertThat(day.find(TK, 99)).isEqualTo(-1);
+        assertThat(day.airlineEnd(TK) - day.airlineBegin(TK)).isEqualTo(2);
+    }
+
+    @Test
+    void indexesDeparturesByOriginCity() {
+        FlightInventory.DaySchedule day = inventory().day(DAY0);
+
+        int begin = day.departuresBegin(IST);
+        int end = day.departuresEnd(IST);
+        assertThat(end - begin).isEqualTo(3);
+        for (int i = begin + 1; i < end; i++) {
+            assertThat(day.departure(day.departureRow(i))).isGreaterThanOrEqualTo(day.departure(day.departureRow(i - 1)));
+        }
+        int noon = day.firstDepartureAtOrAfter(begin, end, 12 * 60);
+        assertThat(day.departure(day.departureRow(noon))).isEqualTo(12 * 60);
+        assertThat(day.firstDepartureAtOrAfter(begin, end, 20 * 60)).isEqualTo(end);
+    }
+
+    @Test
+    void rejectsDatesOutsideRange() {
+        FlightInventory inventory = inventory();
+
+        assertThat(inventory.day(DAY0 - 1)).isNull();
+        assertThat(inventory.day(DAY0 + 3)).isNull();
+        assertThat(inventory.lastEpochDay()).isEqualTo(DAY0 + 2);
+        assertThatThrownBy(() -> FlightInventory.builder(List.of("A", "B"), List.of(), List.of(), FIRST, 1)
+                .add(FIRST.plusDays(1), 0, 1, 0, 1, 0, 60, 100, 0))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    void patchReencodesOnlyChangedDays() {
+        FlightInventory original = inventory();
+        FlightInventory.Patch patch = original.patch();
+
+        assertThat(patch.setPrice(DAY0, TK, 2, 1999)).isTrue();
+        assertThat(patch.cancel(DAY0, PC, 4)).isTrue();
+        assertThat(patch.setPrice(DAY0 + 1, TK, 99, 1)).isFalse();
+        assertThat(patch.changedDays()).isEqualTo(1);
+        FlightInventory patched = patch.apply();
+
+        assertThat(patched.day(DAY0 + 1)).isSameAs(original.day(DAY0 + 1));
+        assertThat(patched.day(DAY0)).isNotSameAs(original.day(DAY0));
+        assertThat(patched.size()).isEqualTo(4);
+        FlightInventory.DaySchedule day = patched.day(DAY0);
+        assertThat(day.price(day.find(TK, 2))).isEqualTo(1999);
+        assertThat(day.find(PC, 4)).isEqualTo(-1);
+
+        FlightInventory.DaySchedule before = original.day(DAY0);
+        assertThat(before.price(before.find(TK, 2))).isEqualTo(1500);
+        assertThat(before.find(PC, 4)).isGreaterThanOrEqualTo(0);
+    }
+
+    @Test
+    void patchPutReplacesSameFlightNumber() {
+        FlightInventory original = inventory();
+
+        FlightInventory patched = original.patch()
+                .put(DAY0, IST, ANK, TK, 2, 7 * 60, 70, 1300, 0)
+                .apply();
+
+        FlightInventory.DaySchedule day = patched.day(DAY0);
+        assertThat(day.size()).isEqualTo(4);
+        int route = patched.route(IST, ANK);
+        int begin = day.routeBegin(route);
+        assertThat(day.airline(begin + 1)).isEqualTo(TK);
+        assertThat(day.departure(begin + 1)).isEqualTo(7 * 60);
+        assertThat(original.patch().apply()).isSameAs(original);
+        assertThatThrownBy(() -> original.patch().put(DAY0, IST, IST, TK, 9, 0, 60, 100, 0))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+}
@@ -0,0 +1,88 @@
+package com.nasan.springaimcpserver.service;
+
+import com.nasan.springaimcpserver.service.FlightResponses.Flight;
+import com.nasan.springaimcpserver.service.FlightResponses.FlightList;
+import com.nasan.springaimcpserver.tool.PageItem;
+import com.nasan.springaimcpserver.tool.ToolException;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Function;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class FlightSearchToolTest {
+
+    private static ReferenceData data;
+
+    // İstanbul-Ankara rotasında günde altı uçuş var; iki haftalık tarife birden fazla sayfa üretir
+    @BeforeAll
+    static void generate() {
+        data = ReferenceData.generate(LocalDate.now(), 14);
+    }
+
+    @Test
+    void pagesSearchByCityWithoutGapsOrDuplicates() {
+        FlightSearchTool tool = new FlightSearchTool(ReferenceDataManager.of(data));
+
+        List<FlightList> pages = pages(cursor -> tool.searchFlightsByCity("İstanbul", "Ankara", cursor));
+        List<Flight> flights = pages.stream().flatMap(page -> page.flights().stream()).toList();
+
+        assertThat(pages).hasSizeGreaterThan(1);
+        assertThat(pages.subList(0, pages.size() - 1)).allSatisfy(page -> assertThat(page.count()).isEqualTo(FlightSearchTool.MAX_RESULTS));
+        assertThat(flights).extracting(flight -> flight.flightNumber() + flight.date()).doesNotHaveDuplicates();
+        assertThat(flights).extracting(Flight::date).isSorted();
+        assertThat(flights).allSatisfy(flight -> {
+            assertThat(flight.from()).isEqualTo("İstanbul");
+            assertThat(flight.to()).isEqualTo("Ankara");
+        });
+    }
+
+    @Test
+    void streamsTheSameFlightsAndCursorsAsSyncPages() {
+        FlightSearchTool tool = new FlightSearchTool(ReferenceDataManager.of(data));
+
+        List<FlightList> pages = pages(cursor -> tool.searchFlightsByCity("İstanbul", "Ankara", cursor));
+        List<PageItem<Flight>> stream = tool.streamFlightsByCity("İstanbul", "Ankara", null).collectList().block();
+        String cursor = pages.get(0).nextCursor();
+        List<PageItem<Flight>> resumed = tool.streamFlightsByCity("İstanbul", "Ankara", cursor).collectList().block();
+
+        assertThat(stream).extracting(PageItem::value)
+                .isEqualTo(pages.stream().flatMap(page -> page.flights().stream()).toList());
+        assertThat(stream.get(FlightSearchTool.MAX_RESULTS).cursor()).isEqualTo(cursor);
+        assertThat(resumed).isEqualTo(stream.subList(FlightSearchTool.MAX_RESULTS, stream.size()));
+    }
+
+    @Test
+    void rejectsCursorsOfOtherQueriesAndReplacedInventories() {
+        ReferenceDataManager datasets = ReferenceDataManager.of(data);
+        FlightSearchTool tool = new FlightSearchTool(datasets);
+        String cursor = tool.searchFlightsByCity("İstanbul", "Ankara", null).nextCursor();
+        String date = LocalDate.now().toString();
+
+        assertThatThrownBy(() -> tool.searchFlightsByCity("Ankara", "İstanbul", cursor)).isInstanceOf(ToolException.class);
+        assertThatThrownBy(() -> tool.searchFlightsByDate(date, cursor)).isInstanceOf(ToolException.class);
+        assertThatThrownBy(() -> tool.searchFlightsByCity("İstanbul", "Ankara", "bozuk")).isInstanceOf(ToolException.class);
+
+        datasets.update(current -> new ReferenceData(current.cities(), current.hotels(),
+                ReferenceData.generate(LocalDate.now(), 14).flights()));
+        assertThatThrownBy(() -> tool.searchFlightsByCity("İstanbul", "Ankara", cursor)).isInstanceOf(ToolException.class);
+        assertThatThrownBy(() -> tool.streamFlightsByCity("İstanbul", "Ankara", cursor).blockFirst())
+                .isInstanceOf(ToolException.class);
+    }
+
+    private static List<FlightList> pages(Function<String, FlightList> search) {
+        List<FlightList> pages = new ArrayList<>();
+        String cursor = null;
+        do {
+            FlightList page = search.apply(cursor);
+            pages.add(page);
+            cursor = page.nextCursor();
+        } while (cursor != null);
+        return pages;
+    }
+}
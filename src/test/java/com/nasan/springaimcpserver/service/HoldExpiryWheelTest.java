@@ -0,0 +1,53 @@
+package com.nasan.springaimcpserver.service;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class HoldExpiryWheelTest {
+
+    @Test
+    void expiresEntriesNoEarlierThanTheirDeadline() throws Exception {
+        Map<String, Long> expiredAt = new ConcurrentHashMap<>();
+        CountDownLatch expired = new CountDownLatch(3);
+        try (HoldExpiryWheel<String> wheel = new HoldExpiryWheel<>(10, 8, value -> {
+            expiredAt.put(value, System.nanoTime());
+            expired.countDown();
+        })) {
+            long now = System.nanoTime();
+            long soon = now + TimeUnit.MILLISECONDS.toNanos(30);
+            // Çark turu 80 ms; daha uzak son tarih birden çok tur yeniden kuyruğa alınır
+            long later = now + TimeUnit.MILLISECONDS.toNanos(250);
+            wheel.schedule("soon", soon);
+            wheel.schedule("later", later);
+            wheel.schedule("past", now - 1);
+
+            assertThat(expired.await(5, TimeUnit.SECONDS)).isTrue();
+            assertThat(expiredAt.get("soon")).isGreaterThanOrEqualTo(soon);
+            assertThat(expiredAt.get("later")).isGreaterThanOrEqualTo(later);
+            assertThat(expiredAt.get("past")).isLessThan(expiredAt.get("later"));
+        }
+    }
+
+    @Test
+    void keepsTickingWhenAnEntryFails() throws Exception {
+        CountDownLatch expired = new CountDownLatch(1);
+        try (HoldExpiryWheel<String> wheel = new HoldExpiryWheel<>(10, 4, value -> {
+            if (value.equals("bad")) {
+                throw new IllegalStateException(value);
+            }
+            expired.countDown();
+        })) {
+            long now = System.nanoTime();
+            wheel.schedule("bad", now);
+            wheel.schedule("good", now + TimeUnit.MILLISECONDS.toNanos(40));
+
+            assertThat(expired.await(5, TimeUnit.SECONDS)).isTrue();
+        }
+    }
+}
@@ -0,0 +1,126 @@
+package com.nasan.springaimcpserver.service;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class HotelAvailabilityTest {
+
+    private static final Hotel HOTEL = new Hotel("Test Otel", "Ankara", "Boutique Hotel", 4.5, 1000, 4,
+            List.of("WiFi"), 1.0);
+
+    @Test
+    void checksNightsAcrossBitsetWords() {
+        int[] free = new int[130];
+        Arrays.fill(free, 2);
+        free[64] = 0;
+        free[128] = 0;
+        HotelAvailability.RoomInventory inventory = new HotelAvailability.RoomInventory(free);
+
+        assertThat(inventory.allNightsAvailable(0, 64)).isTrue();
+        assertThat(inventory.allNightsAvailable(0, 65)).isFalse();
+        assertThat(inventory.allNightsAvailable(65, 128)).isTrue();
+        assertThat(inventory.allNightsAvailable(100, 129)).isFalse();
+        assertThat(inventory.allNightsAvailable(129, 130)).isTrue();
+    }
+
+    @Test
+    void holdClearsAndReleaseRestoresAvailability() {
+        int[] free = {1, 1, 2};
+        HotelAvailability.RoomInventory inventory = new HotelAvailability.RoomInventory(free);
+
+        assertThat(inventory.take(0, 3)).isTrue();
+        assertThat(inventory.allNightsAvailable(0, 1)).isFalse();
+        assertThat(inventory.allNightsAvailable(2, 3)).isTrue();
+        assertThat(inventory.take(1, 3)).isFalse();
+        assertThat(inventory.take(2, 3)).isTrue();
+        assertThat(inventory.allNightsAvailable(2, 3)).isFalse();
+
+        inventory.give(0, 3);
+        assertThat(inventory.allNightsAvailable(0, 3)).isTrue();
+    }
+
+    @Test
+    void concurrentHoldsNeverOversell() throws Exception {
+        int rooms = 7;
+        int[] free = new int[10];
+        Arrays.fill(free, rooms);
+        HotelAvailability.RoomInventory inventory = new HotelAvailability.RoomInventory(free);
+        CountDownLatch start = new CountDownLatch(1);
+
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+        try {
+            List<Future<Boolean>> holds = IntStream.range(0, 64)
+                    .mapToObj(i -> executor.submit(() -> {
+                        start.await();
+                        return inventory.take(2, 8);
+                    }))
+                    .toList();
+            start.countDown();
+            int granted = 0;
+            for (Future<Boolean> hold : holds) {
+                granted += hold.get(5, TimeUnit.SECONDS) ? 1 : 0;
+            }
+            assertThat(granted).isEqualTo(rooms);
+        } finally {
+            executor.shutdownNow();
+        }
+        assertThat(inventory.allNightsAvailable(2, 3)).isFalse();
+        assertThat(inventory.allNightsAvailable(0, 2)).isTrue();
+        assertThat(inventory.allNightsAvailable(8, 10)).isTrue();
+    }
+
+    @Test
+    void registeredHotelKeepsHoldsAcrossRegistration() {
+        HotelAvailability availability = new HotelAvailability();
+        HotelCatalog catalog = HotelCatalog.of(List.of(HOTEL));
+        availability.register(catalog);
+        LocalDate checkIn = firstAvailableNight(availability);
+        LocalDate checkOut = checkIn.plusDays(1);
+
+        int held = 0;
+        while (availability.hold(HOTEL.name(), RoomType.STANDARD, checkIn, checkOut)) {
+            held++;
+        }
+        assertThat(held).isBetween(1, 15);
+        assertThat(availability.isAvailable(HOTEL.name(), RoomType.STANDARD, checkIn, checkOut)).isFalse();
+
+        availability.register(catalog);
+        assertThat(availability.isAvailable(HOTEL.name(), RoomType.STANDARD, checkIn, checkOut)).isFalse();
+        availability.release(HOTEL.name(), RoomType.STANDARD, checkIn, checkOut);
+        assertThat(availability.isAvailable(HOTEL.name(), RoomType.STANDARD, checkIn, checkOut)).isTrue();
+    }
+
+    @Test
+    void rejectsUnknownRoomsAndDatesOutsideHorizon() {
+        HotelAvailability availability = new HotelAvailability();
+        availability.register(HotelCatalog.of(List.of(HOTEL)));
+        LocalDate today = LocalDate.now();
+
+        assertThat(availability.hold(HOTEL.name(), RoomType.PRESIDENTIAL_SUITE, today, today.plusDays(1))).isFalse();
+        assertThat(availability.hold("Yok Otel", RoomType.STANDARD, today, today.plusDays(1))).isFalse();
+        assertThat(availability.covers(today.minusDays(1), today)).isFalse();
+        assertThat(availability.covers(today, today)).isFalse();
+        assertThat(availability.covers(today, today.plusDays(HotelAvailability.HORIZON_DAYS + 1))).isFalse();
+        assertThat(availability.availableRoomTypes(HOTEL.name(), today.plusDays(HotelAvailability.HORIZON_DAYS),
+                today.plusDays(HotelAvailability.HORIZON_DAYS + 1))).isEmpty();
+    }
+
+    private static LocalDate firstAvailableNight(HotelAvailability availability) {
+        LocalDate night = LocalDate.now();
+        while (!availability.isAvailable(HOTEL.name(), RoomType.STANDARD, night, night.plusDays(1))) {
+            night = night.plusDays(1);
+        }
+        return night;
+    }
+}
@@ -0,0 +1,65 @@
+package com.nasan.springaimcpserver.service;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class HotelCatalogTest {
+
+    private static final HotelCatalog CATALOG = HotelCatalog.of(List.of(
+            hotel("A", "Ankara", 4.5, 900),
+            hotel("B", "Ankara", 3.8, 400),
+            hotel("C", "Ankara", 4.5, 650),
+            hotel("D", "Ankara", 4.9, 400),
+            hotel("E", "İzmir", 4.0, 500)));
+
+    private static Hotel hotel(String name, String city, double rating, int price) {
+        return new Hotel(name, city, "Otel", rating, price, 4, List.of("WiFi"), 1.5);
+    }
+
+    @Test
+    void selectsMinimumRatingInDescendingOrder() {
+        assertThat(names(CATALOG.byMinRating("Ankara", 4.5, 0, 10))).containsExactly("D", "C", "A");
+        assertThat(names(CATALOG.byMinRating("Ankara", 0, 0, 2))).containsExactly("D", "C");
+        assertThat(CATALOG.byMinRating("Ankara", 5.0, 0, 10)).isEmpty();
+        assertThat(CATALOG.byMinRating("Ankara", 4.0, 0, 0)).isEmpty();
+        assertThat(CATALOG.byMinRating("Ankara", 4.0, 0, -1)).isEmpty();
+        assertThat(CATALOG.byMinRating("Bursa", 4.0, 0, 10)).isEmpty();
+    }
+
+    @Test
+    void selectsInclusivePriceRangeInAscendingOrder() {
+        assertThat(names(CATALOG.byPriceRange("Ankara", 400, 650, 0, 10))).containsExactly("B", "D", "C");
+        assertThat(names(CATALOG.byPriceRange("Ankara", 0, Integer.MAX_VALUE, 0, 10))).containsExactly("B", "D", "C", "A");
+        assertThat(names(CATALOG.byPriceRange("Ankara", 401, 899, 0, 10))).containsExactly("C");
+        assertThat(CATALOG.byPriceRange("Ankara", 700, 600, 0, 10)).isEmpty();
+        assertThat(CATALOG.byPriceRange("Ankara", 0, 1000, 0, -1)).isEmpty();
+        assertThat(CATALOG.byPriceRange("Bursa", 0, 1000, 0, 10)).isEmpty();
+    }
+
+    @Test
+    void skipsOffsetWithinResultOrder() {
+        assertThat(names(CATALOG.byMinRating("Ankara", 4.0, 1, 10))).containsExactly("C", "A");
+        assertThat(names(CATALOG.byMinRating("Ankara", 0, 2, 1))).containsExactly("A");
+        assertThat(CATALOG.byMinRating("Ankara", 4.5, 3, 10)).isEmpty();
+        assertThat(CATALOG.byMinRating("Ankara", 4.5, Integer.MAX_VALUE, 10)).isEmpty();
+        assertThat(names(CATALOG.byPriceRange("Ankara", 400, 900, 2, 10))).containsExactly("C", "A");
+        assertThat(names(CATALOG.byPriceRange("Ankara", 0, Integer.MAX_VALUE, 1, 2))).containsExactly("D", "C");
+        assertThat(CATALOG.byPriceRange("Ankara", 400, 650, 3, 10)).isEmpty();
+        assertThat(CATALOG.byPriceRange("Ankara", 400, 650, Integer.MAX_VALUE, 10)).isEmpty();
+    }
+
+    @Test
+    void keepsCatalogOrderPerCity() {
+        assertThat(names(CATALOG.hotels("Ankara"))).containsExactly("A", "B", "C", "D");
+        assertThat(CATALOG.hasCity("İzmir")).isTrue();
+        assertThat(CATALOG.find("Ankara", "c").name()).isEqualTo("C");
+        assertThat(CATALOG.find("İzmir", "C")).isNull();
+    }
+
+    private static List<String> names(List<Hotel> hotels) {
+        return hotels.stream().map(Hotel::name).toList();
+    }
+}
@@ -0,0 +1,78 @@
+package com.nasan.springaimcpserver.service;
+
+import com.nasan.springaimcpserver.service.HotelResponses.HotelInfo;
+import com.nasan.springaimcpserver.service.HotelResponses.HotelList;
+import com.nasan.springaimcpserver.tool.ToolException;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Function;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class HotelSearchToolTest {
+
+    private static ReferenceData data;
+    private static String city;
+
+    // Sayfalamanın birden fazla sayfa üretmesi için şehre sayfa boyutunun iki katından fazla otel eklenir
+    @BeforeAll
+    static void generate() {
+        ReferenceData generated = ReferenceData.generate(LocalDate.now(), 3);
+        city = generated.hotels().cities().iterator().next();
+        List<Hotel> hotels = new ArrayList<>();
+        for (int i = 0; i < 2 * HotelSearchTool.MAX_RESULTS + 7; i++) {
+            hotels.add(new Hotel("Otel " + i, city, "Otel", 3.0 + i % 20 / 10.0, 300 + i * 37 % 900, 4,
+                    List.of("WiFi"), 1.0));
+        }
+        data = new ReferenceData(generated.cities(), HotelCatalog.of(hotels), generated.flights());
+    }
+
+    @Test
+    void pagesRatingAndPriceRangeResults() {
+        HotelSearchTool tool = new HotelSearchTool(ReferenceDataManager.of(data), new HotelAvailability());
+        int size = data.hotels().hotels(city).size();
+
+        List<HotelInfo> byRating = pages(cursor -> tool.searchHotelsByRating(city, 0, cursor));
+        List<HotelInfo> byPrice = pages(cursor -> tool.searchHotelsByPriceRange(city, 0, Integer.MAX_VALUE, cursor));
+
+        assertThat(byRating).hasSize(size).isSortedAccordingTo((a, b) -> Double.compare(b.rating(), a.rating()));
+        assertThat(byPrice).hasSize(size).isSortedAccordingTo((a, b) -> Integer.compare(a.pricePerNight(), b.pricePerNight()));
+        assertThat(byRating).extracting(HotelInfo::name).doesNotHaveDuplicates();
+        assertThat(byPrice).extracting(HotelInfo::name).doesNotHaveDuplicates();
+    }
+
+    @Test
+    void rejectsCursorsOfOtherQueriesAndDatasets() {
+        ReferenceDataManager datasets = ReferenceDataManager.of(data);
+        HotelSearchTool tool = new HotelSearchTool(datasets, new HotelAvailability());
+        String cursor = tool.searchHotelsByRating(city, 0, null).nextCursor();
+
+        assertThat(tool.searchHotelsByRating(city, 0, cursor).hotels()).isNotEmpty();
+        assertThatThrownBy(() -> tool.searchHotelsByRating(city, 4.5, cursor))
+                .isInstanceOf(ToolException.class);
+        assertThatThrownBy(() -> tool.searchHotelsByPriceRange(city, 0, Integer.MAX_VALUE, cursor))
+                .isInstanceOf(ToolException.class);
+
+        datasets.update(current -> new ReferenceData(current.cities(),
+                HotelCatalog.of(current.hotels().hotels(city).subList(0, 10)), current.flights()));
+        assertThatThrownBy(() -> tool.searchHotelsByRating(city, 0, cursor))
+                .isInstanceOf(ToolException.class);
+    }
+
+    private static List<HotelInfo> pages(Function<String, HotelList> search) {
+        List<HotelInfo> hotels = new ArrayList<>();
+        String cursor = null;
+        do {
+            HotelList page = search.apply(cursor);
+            assertThat(page.hotels()).hasSizeLessThanOrEqualTo(HotelSearchTool.MAX_RESULTS);
+            hotels.addAll(page.hotels());
+            cursor = page.nextCursor();
+        } while (cursor != null);
+        return hotels;
+    }
+}
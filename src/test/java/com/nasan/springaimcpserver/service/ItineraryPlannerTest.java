@@ -0,0 +1,73 @@
+package com.nasan.springaimcpserver.service;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ItineraryPlannerTest {
+
+    private static final LocalDate FIRST = LocalDate.of(2026, 3, 1);
+    private static final int DAY0 = (int) FIRST.toEpochDay();
+    private static final int IST = 0;
+    private static final int ANK = 1;
+    private static final int IZM = 2;
+    private static final int ANT = 3;
+
+    private static FlightInventory inventory() {
+        return FlightInventory.builder(List.of("İstanbul", "Ankara", "İzmir", "Antalya"),
+                        List.of(new FlightInventory.Airline("TK", "Turkish Airlines", "Türk Hava Yolları")),
+                        List.of("A320"), FIRST, 2)
+                // Doğrudan ama uzun uçuş
+                .add(FIRST, IST, ANT, 0, 1, 8 * 60, 600, 900, 0)
+                // İstanbul - Ankara - Antalya: 60 dk aktarma
+                .add(FIRST, IST, ANK, 0, 2, 8 * 60, 60, 500, 0)
+                .add(FIRST, ANK, ANT, 0, 3, 10 * 60, 60, 500, 0)
+                // Aktarma süresi yetmeyen bağlantı
+                .add(FIRST, ANK, ANT, 0, 4, 9 * 60 + 10, 30, 100, 0)
+                // İstanbul - İzmir, ertesi gün İzmir - Antalya (gece yarısını aşan bekleme)
+                .add(FIRST, IST, IZM, 0, 5, 22 * 60, 60, 300, 0)
+                .add(FIRST.plusDays(1), IZM, ANT, 0, 6, 60, 60, 300, 0)
+                .build();
+    }
+
+    @Test
+    void ranksItinerariesByTotalTravelTime() {
+        FlightInventory inventory = inventory();
+
+        List<ItineraryPlanner.Itinerary> result = ItineraryPlanner.search(inventory, IST, ANT, DAY0, 1, 10, 45, 6 * 60);
+
+        assertThat(result).extracting(ItineraryPlanner.Itinerary::totalMinutes).containsExactly(180, 240, 600);
+        ItineraryPlanner.Itinerary best = result.get(0);
+        assertThat(best.stops()).isEqualTo(1);
+        assertThat(best.totalPrice()).isEqualTo(1000);
+        FlightInventory.DaySchedule day = inventory.day(DAY0);
+        assertThat(day.flightNumber((int) (best.legs()[1] & 0xFFFFFF))).isEqualTo(3);
+
+        ItineraryPlanner.Itinerary overnight = result.get(1);
+        assertThat(overnight.legs()[1] >>> 24).isEqualTo(1);
+        assertThat(overnight.arrivalMinute()).isEqualTo(FlightInventory.MINUTES_PER_DAY + 2 * 60);
+    }
+
+    @Test
+    void honoursStopAndResultLimits() {
+        FlightInventory inventory = inventory();
+
+        assertThat(ItineraryPlanner.search(inventory, IST, ANT, DAY0, 0, 10, 45, 6 * 60))
+                .singleElement().satisfies(it -> assertThat(it.stops()).isZero());
+        assertThat(ItineraryPlanner.search(inventory, IST, ANT, DAY0, 1, 1, 45, 6 * 60))
+                .singleElement().satisfies(it -> assertThat(it.totalMinutes()).isEqualTo(180));
+        assertThat(ItineraryPlanner.search(inventory, IST, ANT, DAY0, 1, 10, 45, 60))
+                .extracting(ItineraryPlanner.Itinerary::totalMinutes).containsExactly(180, 600);
+    }
+
+    @Test
+    void returnsNothingOutsideInventoryOrForSameCity() {
+        FlightInventory inventory = inventory();
+
+        assertThat(ItineraryPlanner.search(inventory, IST, ANT, DAY0 + 5, 2, 10, 45, 6 * 60)).isEmpty();
+        assertThat(ItineraryPlanner.search(inventory, IST, IST, DAY0, 2, 10, 45, 6 * 60)).isEmpty();
+    }
+}
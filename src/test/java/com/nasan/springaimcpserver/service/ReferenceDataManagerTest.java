@@ -0,0 +1,134 @@
+package com.nasan.springaimcpserver.service;
+
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class ReferenceDataManagerTest {
+
+    private static ReferenceData data;
+    private static ReferenceData newFlights;
+
+    // İkinci veri kümesi şehir ve otelleri paylaşır, yalnızca uçuşları farklıdır
+    @BeforeAll
+    static void generate() {
+        data = ReferenceData.generate(LocalDate.now(), 1);
+        newFlights = new ReferenceData(data.cities(), data.hotels(), ReferenceData.generate(LocalDate.now(), 1).flights());
+    }
+
+    @Test
+    void publishesReloadsAndReportsChangedDatasets() {
+        AtomicReference<ReferenceData> source = new AtomicReference<>(data);
+        ReferenceDataManager datasets = new ReferenceDataManager(source::get);
+        List<ReferenceDataManager.Change> changes = new ArrayList<>();
+        datasets.addListener(changes::add);
+
+        source.set(newFlights);
+        ReferenceDataManager.Version version = datasets.reload();
+
+        assertThat(version.number()).isEqualTo(2);
+        assertThat(datasets.version()).isSameAs(version);
+        assertThat(datasets.current()).isSameAs(newFlights);
+        assertThat(changes).singleElement().satisfies(change -> {
+            assertThat(change.flightsChanged()).isTrue();
+            assertThat(change.citiesChanged()).isFalse();
+            assertThat(change.hotelsChanged()).isFalse();
+        });
+    }
+
+    @Test
+    void keepsPublishedVersionWhenReloadFails() {
+        AtomicReference<RuntimeException> failure = new AtomicReference<>();
+        ReferenceDataManager datasets = new ReferenceDataManager(() -> {
+            RuntimeException e = failure.get();
+            if (e != null) {
+                throw e;
+            }
+            return data;
+        });
+        ReferenceDataManager.Version published = datasets.version();
+
+        failure.set(new IllegalStateException("bozuk anlık görüntü"));
+        assertThatThrownBy(datasets::reload).hasMessage("bozuk anlık görüntü");
+        assertThat(datasets.version()).isSameAs(published);
+        assertThat(datasets.lastError()).isEqualTo("bozuk anlık görüntü");
+
+        failure.set(null);
+        assertThat(datasets.reload().number()).isEqualTo(2);
+        assertThat(datasets.lastError()).isNull();
+    }
+
+    @Test
+    void isolatesFailingListeners() {
+        ReferenceDataManager datasets = ReferenceDataManager.of(data);
+        List<Long> seen = new ArrayList<>();
+        datasets.addListener(change -> {
+            throw new IllegalStateException("dinleyici başarısız");
+        });
+        datasets.addListener(change -> seen.add(datasets.version().number()));
+
+        datasets.update(current -> newFlights);
+
+        assertThat(seen).containsExactly(2L);
+        assertThat(datasets.current()).isSameAs(newFlights);
+    }
+
+    @Test
+    void skipsUpdatesThatReturnTheSameData() {
+        ReferenceDataManager datasets = ReferenceDataManager.of(data);
+
+        ReferenceDataManager.Version version = datasets.update(current -> current);
+
+        assertThat(version.number()).isEqualTo(1);
+        assertThat(datasets.version()).isSameAs(version);
+    }
+
+    @Test
+    void pinsTheThreadToAVersion() {
+        ReferenceDataManager datasets = ReferenceDataManager.of(data);
+        ReferenceDataManager.Version first = datasets.version();
+        datasets.update(current -> newFlights);
+        ReferenceDataManager.Version second = datasets.version();
+
+        datasets.withVersion(first, () -> {
+            assertThat(datasets.current()).isSameAs(data);
+            assertThat(datasets.pinnedToOlderVersion()).isTrue();
+            datasets.withVersion(second, () -> {
+                assertThat(datasets.current()).isSameAs(newFlights);
+                assertThat(datasets.pinnedToOlderVersion()).isFalse();
+                return null;
+            });
+            assertThat(datasets.version()).isSameAs(first);
+            return null;
+        });
+
+        assertThat(datasets.version()).isSameAs(second);
+        assertThat(datasets.pinnedToOlderVersion()).isFalse();
+    }
+
+    @Test
+    void reloadsWhenTheWatchedFileChanges(@TempDir Path dir) throws IOException, InterruptedException {
+        Path file = dir.resolve("reference.snapshot");
+        try (ReferenceDataManager datasets = ReferenceDataManager.of(data)) {
+            datasets.watch(file);
+            Files.writeString(dir.resolve("other.txt"), "x");
+            Files.writeString(file, "x");
+
+            for (int i = 0; i < 100 && datasets.version().number() == 1; i++) {
+                Thread.sleep(100);
+            }
+            assertThat(datasets.version().number()).isGreaterThan(1);
+        }
+    }
+}
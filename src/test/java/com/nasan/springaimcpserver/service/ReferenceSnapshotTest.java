@@ -0,0 +1,77 @@
+package com.nasan.springaimcpserver.service;
+
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDate;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class ReferenceSnapshotTest {
+
+    private static ReferenceData data;
+
+    @BeforeAll
+    static void generate() {
+        data = ReferenceData.generate(LocalDate.of(2026, 5, 1), 3);
+    }
+
+    @Test
+    void roundTripsReferenceData(@TempDir Path dir) {
+        Path file = dir.resolve("reference.snapshot");
+        ReferenceSnapshot.write(file, data);
+
+        ReferenceData read = ReferenceSnapshot.read(file);
+
+        assertThat(read.cities().all()).isEqualTo(data.cities().all());
+        assertThat(read.hotels().cities()).isEqualTo(data.hotels().cities());
+        for (String city : data.hotels().cities()) {
+            assertThat(read.hotels().hotels(city)).isEqualTo(data.hotels().hotels(city));
+        }
+
+        FlightInventory expected = data.flights();
+        FlightInventory actual = read.flights();
+        assertThat(actual.size()).isEqualTo(expected.size());
+        assertThat(actual.firstEpochDay()).isEqualTo(expected.firstEpochDay());
+        assertThat(actual.cityNames()).isEqualTo(expected.cityNames());
+        assertThat(actual.airlines()).isEqualTo(expected.airlines());
+        assertThat(actual.aircraftTypes()).isEqualTo(expected.aircraftTypes());
+        for (int d = 0; d < expected.dayCount(); d++) {
+            assertThat(actual.dayBlock(d)).isEqualTo(expected.dayBlock(d));
+        }
+    }
+
+    @Test
+    void openOrCreateReusesExistingFile(@TempDir Path dir) {
+        Path file = dir.resolve("reference.snapshot");
+
+        ReferenceData created = ReferenceSnapshot.openOrCreate(file, () -> data);
+        ReferenceData reopened = ReferenceSnapshot.openOrCreate(file, () -> {
+            throw new AssertionError("Mevcut dosya yeniden üretilmemeli");
+        });
+
+        assertThat(reopened.flights().size()).isEqualTo(created.flights().size());
+    }
+
+    @Test
+    void rejectsOtherVersionsAndForeignFiles(@TempDir Path dir) throws IOException {
+        Path file = dir.resolve("reference.snapshot");
+        ReferenceSnapshot.write(file, data);
+        byte[] bytes = Files.readAllBytes(file);
+        ByteBuffer.wrap(bytes).order(ByteOrder.LITTLE_ENDIAN).putInt(4, ReferenceSnapshot.VERSION - 1);
+        Path oldVersion = Files.write(dir.resolve("old.snapshot"), bytes);
+        Path foreign = Files.writeString(dir.resolve("foreign.snapshot"), "name,age\nAyşe,30\n");
+
+        assertThatThrownBy(() -> ReferenceSnapshot.read(oldVersion))
+                .isInstanceOf(IllegalStateException.class)
+                .hasMessageContaining("sürüm");
+        assertThatThrownBy(() -> ReferenceSnapshot.read(foreign)).isInstanceOf(IllegalStateException.class);
+    }
+}
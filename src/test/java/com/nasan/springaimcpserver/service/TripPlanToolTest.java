@@ -0,0 +1,173 @@
+package com.nasan.springaimcpserver.service;
+
+import com.nasan.springaimcpserver.service.TravelResponses.BranchError;
+import com.nasan.springaimcpserver.service.TravelResponses.TripPlan;
+import com.nasan.springaimcpserver.tool.ToolException;
+import io.micrometer.tracing.Tracer;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.ai.tool.ToolCallback;
+import org.springframework.ai.tool.ToolCallbackProvider;
+import org.springframework.ai.tool.definition.ToolDefinition;
+import org.springframework.ai.tool.execution.ToolExecutionException;
+import org.springframework.ai.tool.method.MethodToolCallbackProvider;
+import org.springframework.beans.factory.support.StaticListableBeanFactory;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.function.BiFunction;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class TripPlanToolTest {
+
+    private static ReferenceData data;
+    private static String checkIn;
+    private static String checkOut;
+
+    private ReferenceDataManager datasets;
+    private ToolCallback[] callbacks;
+    private TripPlanTool tool;
+
+    @BeforeAll
+    static void generate() {
+        LocalDate today = LocalDate.now();
+        data = ReferenceData.generate(today, 3);
+        checkIn = today.plusDays(1).toString();
+        checkOut = today.plusDays(2).toString();
+    }
+
+    @BeforeEach
+    void setUp() {
+        datasets = ReferenceDataManager.of(data);
+        HotelAvailability availability = new HotelAvailability();
+        availability.register(data.hotels());
+        callbacks = MethodToolCallbackProvider.builder()
+                .toolObjects(new FlightSearchTool(datasets), new HotelSearchTool(datasets, availability),
+                        new TravelDataTool(datasets, ClimateStore.loadDefault()))
+                .build()
+                .getToolCallbacks();
+    }
+
+    @AfterEach
+    void tearDown() {
+        if (tool != null) {
+            tool.shutdown();
+        }
+    }
+
+    @Test
+    void plansAllBranchesThroughRegisteredCallbacks() {
+        Set<String> called = ConcurrentHashMap.newKeySet();
+        tool = tool(Duration.ofSeconds(10), (callback, input) -> {
+            called.add(callback.getToolDefinition().name());
+            return callback.call(input);
+        });
+
+        TripPlan plan = tool.planTrip("İstanbul", "Ankara", checkIn, checkOut, null);
+
+        assertThat(called).containsExactlyInAnyOrder("flight.search", "hotel.searchByDate",
+                "travel.getWeatherForecast", "travel.getBudgetEstimate");
+        assertThat(plan.errors()).isEmpty();
+        assertThat(plan.flights().sortBy()).isEqualTo("price");
+        assertThat(plan.hotels().checkOutDate()).isEqualTo(checkOut);
+        assertThat(plan.weather().date()).isEqualTo(checkIn);
+        assertThat(plan.budget().type()).isEqualTo("mid-range");
+    }
+
+    @Test
+    void reportsSlowBranchAsTimeoutAndInterruptsItWhileWaiting() throws InterruptedException {
+        CountDownLatch interrupted = new CountDownLatch(1);
+        tool = tool(Duration.ofMillis(200), (callback, input) -> {
+            if (callback.getToolDefinition().name().equals("travel.getWeatherForecast")) {
+                try {
+                    new CountDownLatch(1).await();
+                } catch (InterruptedException e) {
+                    interrupted.countDown();
+                }
+            }
+            return callback.call(input);
+        });
+
+        long start = System.nanoTime();
+        TripPlan plan = tool.planTrip("İstanbul", "Ankara", checkIn, checkOut, "luxury");
+
+        assertThat(Duration.ofNanos(System.nanoTime() - start)).isLessThan(Duration.ofSeconds(5));
+        assertThat(plan.weather()).isNull();
+        assertThat(plan.errors()).containsExactly(new BranchError("weather", ToolException.Code.UNAVAILABLE, "Zaman aşımı"));
+        assertThat(plan.budget().type()).isEqualTo("luxury");
+        assertThat(interrupted.await(5, TimeUnit.SECONDS)).isTrue();
+    }
+
+    @Test
+    void keepsAllBranchesOnTheVersionReadAtCallStart() {
+        CountDownLatch published = new CountDownLatch(1);
+        Map<String, Long> versions = new ConcurrentHashMap<>();
+        tool = tool(Duration.ofSeconds(10), (callback, input) -> {
+            String name = callback.getToolDefinition().name();
+            if (name.equals("flight.search")) {
+                datasets.update(current -> new ReferenceData(current.cities(), current.hotels(), current.flights()));
+                published.countDown();
+            } else {
+                try {
+                    published.await();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+            }
+            versions.put(name, datasets.version().number());
+            return callback.call(input);
+        });
+
+        TripPlan plan = tool.planTrip("İstanbul", "Ankara", checkIn, checkOut, null);
+
+        assertThat(plan.errors()).isEmpty();
+        assertThat(versions).hasSize(4).allSatisfy((name, version) -> assertThat(version).isEqualTo(1));
+        assertThat(datasets.version().number()).isEqualTo(2);
+        assertThat(datasets.pinnedToOlderVersion()).isFalse();
+    }
+
+    @Test
+    void failsWithFirstErrorWhenNoBranchSucceeds() {
+        tool = tool(Duration.ofSeconds(10), (callback, input) -> {
+            throw new ToolExecutionException(callback.getToolDefinition(), ToolException.notFound("Kayıt yok"));
+        });
+
+        assertThatThrownBy(() -> tool.planTrip("İstanbul", "Ankara", checkIn, checkOut, null))
+                .isInstanceOfSatisfying(ToolException.class, e -> {
+                    assertThat(e.error().code()).isEqualTo(ToolException.Code.NOT_FOUND);
+                    assertThat(e.error().message()).isEqualTo("Kayıt yok");
+                });
+    }
+
+    // Her geri çağrı, testin davranışını ekleyen bir sarmalayıcıyla kayıt edilir
+    private TripPlanTool tool(Duration branchTimeout, BiFunction<ToolCallback, String, String> body) {
+        List<ToolCallback> wrapped = Arrays.stream(callbacks)
+                .<ToolCallback>map(callback -> new ToolCallback() {
+                    @Override
+                    public ToolDefinition getToolDefinition() {
+                        return callback.getToolDefinition();
+                    }
+
+                    @Override
+                    public String call(String toolInput) {
+                        return body.apply(callback, toolInput);
+                    }
+                })
+                .toList();
+        StaticListableBeanFactory beans = new StaticListableBeanFactory(
+                Map.of("toolCallbacks", ToolCallbackProvider.from(wrapped)));
+        return new TripPlanTool(datasets, beans.getBeanProvider(ToolCallbackProvider.class), branchTimeout,
+                beans.getBeanProvider(Tracer.class));
+    }
+}
@@ -0,0 +1,106 @@
+package com.nasan.springaimcpserver.tool;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import org.junit.jupiter.api.Test;
+import org.springframework.ai.tool.ToolCallback;
+import org.springframework.ai.tool.definition.ToolDefinition;
+import org.springframework.ai.tool.execution.ToolExecutionException;
+import org.springframework.ai.util.json.JsonParser;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class BatchToolCallbackTest {
+
+    @Test
+    void runsCallsInParallelAndEmbedsResultsInOrder() throws Exception {
+        // İki echo çağrısı birbirini bekler; sırayla yürütülselerdi hata dönerlerdi
+        CountDownLatch both = new CountDownLatch(2);
+        ToolCallback[] callbacks = BatchToolCallback.append(new ToolCallback[] {
+                tool("test.echo", input -> {
+                    both.countDown();
+                    if (!await(both)) {
+                        throw new IllegalStateException("Çağrılar sırayla yürütüldü");
+                    }
+                    return input;
+                }),
+                tool("test.fail", input -> {
+                    throw new ToolExecutionException(definition("test.fail"), ToolException.notFound("Kayıt yok"));
+                }),
+                tool("test.crash", input -> {
+                    throw new IllegalStateException("bozuldu");
+                })});
+        ToolCallback batch = callbacks[callbacks.length - 1];
+
+        JsonNode results = parse(batch.call("""
+                {"calls": [
+                  {"tool": "test.echo", "arguments": {"a": 1}},
+                  {"tool": "test.fail"},
+                  {"tool": "test.missing"},
+                  {"tool": "test.crash"},
+                  {"tool": "batch.invoke", "arguments": {"calls": []}},
+                  {"tool": "test.echo", "arguments": 5}
+                ]}
+                """)).path("results");
+
+        assertThat(batch.getToolDefinition().name()).isEqualTo(BatchToolCallback.NAME);
+        assertThat(results).hasSize(6);
+        assertThat(results.get(0).path("tool").asText()).isEqualTo("test.echo");
+        assertThat(results.get(0).path("result")).isEqualTo(parse("{\"a\":1}"));
+        assertThat(results.get(1).path("error")).isEqualTo(parse("{\"code\":\"NOT_FOUND\",\"message\":\"Kayıt yok\"}"));
+        assertThat(results.get(2).path("error").path("message").asText()).isEqualTo("Araç bulunamadı: test.missing");
+        assertThat(results.get(3).path("error")).isEqualTo(parse("{\"code\":\"UNAVAILABLE\",\"message\":\"bozuldu\"}"));
+        assertThat(results.get(4).path("error").path("code").asText()).isEqualTo("NOT_FOUND");
+        assertThat(results.get(5).path("result")).isEqualTo(parse("{}"));
+    }
+
+    @Test
+    void rejectsEmptyOversizedAndMalformedRequests() {
+        ToolCallback[] callbacks = BatchToolCallback.append(new ToolCallback[] {tool("test.echo", input -> input)});
+        ToolCallback batch = callbacks[1];
+        String oversized = "{\"calls\":[" + "{\"tool\":\"test.echo\"},".repeat(BatchToolCallback.MAX_CALLS)
+                + "{\"tool\":\"test.echo\"}]}";
+
+        for (String input : new String[] {"{}", "{\"calls\":[]}", "{\"calls\":{}}", oversized, "calls"}) {
+            assertThatThrownBy(() -> batch.call(input))
+                    .isInstanceOfSatisfying(ToolException.class,
+                            e -> assertThat(e.error().code()).isEqualTo(ToolException.Code.INVALID_ARGUMENT));
+        }
+    }
+
+    private static JsonNode parse(String json) throws Exception {
+        return JsonParser.getObjectMapper().readTree(json);
+    }
+
+    private static boolean await(CountDownLatch latch) {
+        try {
+            return latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+
+    private static ToolDefinition definition(String name) {
+        return ToolDefinition.builder().name(name).description("test").inputSchema("{}").build();
+    }
+
+    private static ToolCallback tool(String name, Function<String, String> body) {
+        ToolDefinition definition = definition(name);
+        return new ToolCallback() {
+            @Override
+            public ToolDefinition getToolDefinition() {
+                return definition;
+            }
+
+            @Override
+            public String call(String toolInput) {
+                return body.apply(toolInput);
+            }
+        };
+    }
+}
@@ -0,0 +1,107 @@
+package com.nasan.springaimcpserver.tool;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.ai.tool.ToolCallback;
+import org.springframework.ai.tool.definition.ToolDefinition;
+import org.springframework.util.unit.DataSize;
+
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Function;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class CachingToolCallbackTest {
+
+    private static final ToolCacheProperties.Spec SPEC = new ToolCacheProperties.Spec(Duration.ofHours(1), DataSize.ofMegabytes(1));
+
+    @Test
+    void servesCachedResponseUntilInvalidated() {
+        AtomicReference<String> data = new AtomicReference<>("v1");
+        AtomicInteger calls = new AtomicInteger();
+        ToolCallback caching = new CachingToolCallback(tool(input -> {
+            calls.incrementAndGet();
+            return data.get();
+        }), SPEC);
+
+        assertThat(caching.call("{\"a\":1}")).isEqualTo("v1");
+        data.set("v2");
+        assertThat(caching.call(" {\"a\":1} ")).isEqualTo("v1");
+        assertThat(calls).hasValue(1);
+
+        CachingToolCallback.invalidateAll(new ToolCallback[] {caching}, name -> true);
+        assertThat(caching.call("{\"a\":1}")).isEqualTo("v2");
+        assertThat(calls).hasValue(2);
+    }
+
+    @Test
+    void dropsEntryComputedAgainstDataReplacedDuringInvalidation() throws Exception {
+        AtomicReference<String> data = new AtomicReference<>("old");
+        CountDownLatch readOld = new CountDownLatch(1);
+        CountDownLatch invalidated = new CountDownLatch(1);
+        ToolCallback caching = new CachingToolCallback(tool(input -> {
+            String snapshot = data.get();
+            if (snapshot.equals("old")) {
+                // Eski veriyi okuyan hesaplama, geçersizleştirme bitene kadar bekletilir
+                readOld.countDown();
+                await(invalidated);
+            }
+            return snapshot;
+        }), SPEC);
+
+        CompletableFuture<String> slow = CompletableFuture.supplyAsync(() -> caching.call("{}"));
+        assertThat(readOld.await(5, TimeUnit.SECONDS)).isTrue();
+        data.set("new");
+        CachingToolCallback.invalidateAll(new ToolCallback[] {caching}, name -> true);
+        invalidated.countDown();
+
+        assertThat(slow.get(5, TimeUnit.SECONDS)).isEqualTo("old");
+        assertThat(caching.call("{}")).isEqualTo("new");
+        assertThat(caching.call("{}")).isEqualTo("new");
+    }
+
+    @Test
+    void bypassesCacheWhileSupplierIsTrue() {
+        AtomicInteger calls = new AtomicInteger();
+        AtomicBoolean bypass = new AtomicBoolean(true);
+        CachingToolCallback caching = new CachingToolCallback(tool(input -> "v" + calls.incrementAndGet()), SPEC,
+                bypass::get);
+
+        assertThat(caching.call("{}")).isEqualTo("v1");
+        assertThat(caching.callReactive("{}").block()).isEqualTo("v2");
+        bypass.set(false);
+        assertThat(caching.call("{}")).isEqualTo("v3");
+        bypass.set(true);
+        assertThat(caching.call("{}")).isEqualTo("v4");
+        bypass.set(false);
+        assertThat(caching.callReactive("{}").block()).isEqualTo("v3");
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private static ToolCallback tool(Function<String, String> body) {
+        ToolDefinition definition = ToolDefinition.builder().name("test.tool").description("test").inputSchema("{}").build();
+        return new ToolCallback() {
+            @Override
+            public ToolDefinition getToolDefinition() {
+                return definition;
+            }
+
+            @Override
+            public String call(String toolInput) {
+                return body.apply(toolInput);
+            }
+        };
+    }
+}
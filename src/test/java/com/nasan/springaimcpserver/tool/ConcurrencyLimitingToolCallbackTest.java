@@ -0,0 +1,158 @@
+package com.nasan.springaimcpserver.tool;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.ai.tool.ToolCallback;
+import org.springframework.ai.tool.definition.ToolDefinition;
+import reactor.core.Disposable;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Function;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class ConcurrencyLimitingToolCallbackTest {
+
+    private static final long TIMEOUT = TimeUnit.MILLISECONDS.toNanos(100);
+    private static final ToolDefinition DEFINITION = ToolDefinition.builder()
+            .name("test.tool").description("test").inputSchema("{}").build();
+
+    @Test
+    void rejectsCallsBeyondTheLimitAfterTheTimeout() throws Exception {
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        ToolCallback limited = new ConcurrencyLimitingToolCallback(tool(input -> {
+            if (input.equals("slow")) {
+                started.countDown();
+                await(release);
+            }
+            return "ok";
+        }), 1, TIMEOUT);
+
+        CompletableFuture<String> slow = CompletableFuture.supplyAsync(() -> limited.call("slow"));
+        assertThat(started.await(5, TimeUnit.SECONDS)).isTrue();
+        assertThatThrownBy(() -> limited.call("fast"))
+                .isInstanceOfSatisfying(ToolException.class,
+                        e -> assertThat(e.error().code()).isEqualTo(ToolException.Code.UNAVAILABLE));
+
+        release.countDown();
+        assertThat(slow.get(5, TimeUnit.SECONDS)).isEqualTo("ok");
+        assertThat(limited.call("fast")).isEqualTo("ok");
+    }
+
+    @Test
+    void failsInterruptedWaitsAndKeepsTheInterruptFlag() throws Exception {
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        ToolCallback limited = new ConcurrencyLimitingToolCallback(tool(input -> {
+            started.countDown();
+            await(release);
+            return "ok";
+        }), 1, TimeUnit.SECONDS.toNanos(30));
+        Thread.ofVirtual().start(() -> limited.call("{}"));
+        assertThat(started.await(5, TimeUnit.SECONDS)).isTrue();
+
+        AtomicReference<Throwable> failure = new AtomicReference<>();
+        AtomicReference<Boolean> interrupted = new AtomicReference<>();
+        Thread waiting = Thread.ofVirtual().start(() -> {
+            try {
+                limited.call("{}");
+            } catch (ToolException e) {
+                failure.set(e);
+                interrupted.set(Thread.currentThread().isInterrupted());
+            }
+        });
+        Thread.sleep(50);
+        waiting.interrupt();
+        waiting.join(5000);
+        release.countDown();
+
+        assertThat(failure.get()).isInstanceOf(ToolException.class).hasMessageContaining("kesildi");
+        assertThat(interrupted.get()).isTrue();
+    }
+
+    @Test
+    void releasesReactivePermitsOnSuccessErrorAndCancel() throws InterruptedException {
+        AtomicReference<Mono<String>> next = new AtomicReference<>();
+        ReactiveToolCallback delegate = reactiveTool(input -> next.get());
+        ConcurrencyLimitingToolCallback limited = new ConcurrencyLimitingToolCallback(delegate, 1, TIMEOUT);
+
+        next.set(Mono.just("ok"));
+        assertThat(limited.callReactive("{}").block()).isEqualTo("ok");
+
+        next.set(Mono.error(ToolException.notFound("yok")));
+        assertThatThrownBy(() -> limited.callReactive("{}").block()).isInstanceOf(ToolException.class);
+
+        CountDownLatch subscribed = new CountDownLatch(1);
+        next.set(Mono.<String>never().doOnSubscribe(subscription -> subscribed.countDown()));
+        Disposable pending = limited.callReactive("{}").subscribe();
+        assertThat(subscribed.await(5, TimeUnit.SECONDS)).isTrue();
+        next.set(Mono.just("ok"));
+        assertThatThrownBy(() -> limited.callReactive("{}").block(Duration.ofSeconds(5))).isInstanceOf(ToolException.class);
+        pending.dispose();
+
+        assertThat(limited.callReactive("{}").block(Duration.ofSeconds(5))).isEqualTo("ok");
+    }
+
+    @Test
+    void wrapsAllButStaticTools() {
+        ToolCallback plain = tool(input -> "ok");
+        ToolCallback fixed = new StaticToolCallback(tool(input -> "[]"));
+        ToolCallback[] callbacks = {plain, fixed};
+
+        ToolCallback[] wrapped = ConcurrencyLimitingToolCallback.wrap(callbacks,
+                new ToolConcurrencyProperties(true, 4, Duration.ofSeconds(1), Map.of("test.tool", 1)));
+
+        assertThat(wrapped[0]).isInstanceOf(ConcurrencyLimitingToolCallback.class);
+        assertThat(wrapped[1]).isSameAs(fixed);
+        assertThat(ConcurrencyLimitingToolCallback.wrap(callbacks,
+                new ToolConcurrencyProperties(false, 4, Duration.ofSeconds(1), null))).isSameAs(callbacks);
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private static ToolCallback tool(Function<String, String> body) {
+        return new ToolCallback() {
+            @Override
+            public ToolDefinition getToolDefinition() {
+                return DEFINITION;
+            }
+
+            @Override
+            public String call(String toolInput) {
+                return body.apply(toolInput);
+            }
+        };
+    }
+
+    private static ReactiveToolCallback reactiveTool(Function<String, Mono<String>> body) {
+        return new ReactiveToolCallback() {
+            @Override
+            public ToolDefinition getToolDefinition() {
+                return DEFINITION;
+            }
+
+            @Override
+            public String call(String toolInput) {
+                return body.apply(toolInput).block();
+            }
+
+            @Override
+            public Mono<String> callReactive(String toolInput) {
+                return body.apply(toolInput);
+            }
+        };
+    }
+}
@@ -0,0 +1,122 @@
+package com.nasan.springaimcpserver.tool;
+
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import io.micrometer.tracing.Tracer;
+import org.junit.jupiter.api.Test;
+import org.springframework.ai.tool.ToolCallback;
+import org.springframework.ai.tool.definition.ToolDefinition;
+import org.springframework.ai.tool.execution.ToolExecutionException;
+import reactor.core.Disposable;
+import reactor.core.publisher.Mono;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class InstrumentedToolCallbackTest {
+
+    private static final ToolDefinition DEFINITION = ToolDefinition.builder()
+            .name("test.tool").description("test").inputSchema("{}").build();
+
+    private final SimpleMeterRegistry registry = new SimpleMeterRegistry();
+    private final AtomicReference<Mono<String>> next = new AtomicReference<>();
+
+    @Test
+    void recordsSuccessesAndErrorCodes() {
+        InstrumentedToolCallback instrumented = new InstrumentedToolCallback(tool(), registry, Tracer.NOOP);
+
+        next.set(Mono.just("yanıt"));
+        assertThat(instrumented.call("{\"a\":1}")).isEqualTo("yanıt");
+        next.set(Mono.error(new ToolExecutionException(DEFINITION, ToolException.notFound("yok"))));
+        assertThatThrownBy(() -> instrumented.call("{}")).isInstanceOf(ToolExecutionException.class);
+        next.set(Mono.error(new IllegalStateException("bozuldu")));
+        assertThatThrownBy(() -> instrumented.call("{}")).isInstanceOf(IllegalStateException.class);
+
+        assertThat(calls("success", "none")).isEqualTo(1);
+        assertThat(calls("error", "NOT_FOUND")).isEqualTo(1);
+        assertThat(calls("error", "INTERNAL")).isEqualTo(1);
+        assertThat(registry.get("mcp.tool.arguments.size").summary().totalAmount()).isEqualTo(11);
+        assertThat(registry.get("mcp.tool.response.size").summary().totalAmount()).isEqualTo(5);
+        assertThat(registry.get("mcp.tool.active").gauge().value()).isZero();
+    }
+
+    @Test
+    void countsCallsInProgress() throws Exception {
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        InstrumentedToolCallback instrumented = new InstrumentedToolCallback(tool(), registry, Tracer.NOOP);
+        next.set(Mono.fromCallable(() -> {
+            started.countDown();
+            release.await(5, TimeUnit.SECONDS);
+            return "yanıt";
+        }));
+
+        CompletableFuture<String> call = CompletableFuture.supplyAsync(() -> instrumented.call("{}"));
+        assertThat(started.await(5, TimeUnit.SECONDS)).isTrue();
+        assertThat(registry.get("mcp.tool.active").gauge().value()).isEqualTo(1);
+
+        release.countDown();
+        call.get(5, TimeUnit.SECONDS);
+        assertThat(registry.get("mcp.tool.active").gauge().value()).isZero();
+    }
+
+    @Test
+    void recordsReactiveOutcomesIncludingCancellation() {
+        InstrumentedToolCallback instrumented = new InstrumentedToolCallback(tool(), registry, Tracer.NOOP);
+
+        next.set(Mono.just("yanıt"));
+        assertThat(instrumented.callReactive("{}").block()).isEqualTo("yanıt");
+        next.set(Mono.error(ToolException.invalidArgument("hatalı")));
+        assertThatThrownBy(() -> instrumented.callReactive("{}").block()).isInstanceOf(ToolException.class);
+        next.set(Mono.never());
+        Disposable pending = instrumented.callReactive("{}").subscribe();
+        assertThat(registry.get("mcp.tool.active").gauge().value()).isEqualTo(1);
+        pending.dispose();
+
+        assertThat(calls("success", "none")).isEqualTo(1);
+        assertThat(calls("error", "INVALID_ARGUMENT")).isEqualTo(1);
+        assertThat(calls("error", "CANCELLED")).isEqualTo(1);
+        assertThat(registry.get("mcp.tool.response.size").summary().count()).isEqualTo(1);
+        assertThat(registry.get("mcp.tool.active").gauge().value()).isZero();
+    }
+
+    @Test
+    void wrapsEachToolOnce() {
+        ToolCallback[] once = InstrumentedToolCallback.wrap(new ToolCallback[] {tool()}, registry, Tracer.NOOP);
+        ToolCallback[] twice = InstrumentedToolCallback.wrap(once, registry, Tracer.NOOP);
+
+        assertThat(once[0]).isInstanceOf(InstrumentedToolCallback.class);
+        assertThat(twice[0]).isSameAs(once[0]);
+    }
+
+    private double calls(String outcome, String errorCode) {
+        Timer timer = registry.find(InstrumentedToolCallback.CALLS).tag("tool", "test.tool")
+                .tag("outcome", outcome).tag("error.code", errorCode).timer();
+        return timer == null ? 0 : timer.count();
+    }
+
+    // Senkron ve reaktif çağrılar aynı sonucu next üzerinden üretir
+    private ReactiveToolCallback tool() {
+        return new ReactiveToolCallback() {
+            @Override
+            public ToolDefinition getToolDefinition() {
+                return DEFINITION;
+            }
+
+            @Override
+            public String call(String toolInput) {
+                return next.get().block();
+            }
+
+            @Override
+            public Mono<String> callReactive(String toolInput) {
+                return next.get();
+            }
+        };
+    }
+}
@@ -0,0 +1,72 @@
+package com.nasan.springaimcpserver.tool;
+
+import org.junit.jupiter.api.Test;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class PageCursorTest {
+
+    private static final int SCOPE = PageCursor.scope("İstanbul", 42);
+
+    @Test
+    void roundTripsPositions() {
+        for (long position : new long[] {0, 1, 49, 1L << 24 | 7, (long) 20_500 << 24 | 0xFFFFFF, Long.MAX_VALUE}) {
+            assertThat(PageCursor.decode(PageCursor.encode("fc", SCOPE, position), "fc", SCOPE)).isEqualTo(position);
+        }
+    }
+
+    @Test
+    void treatsBlankCursorAsFirstPage() {
+        assertThat(PageCursor.decode(null, "hd", SCOPE)).isZero();
+        assertThat(PageCursor.decode("  ", "hd", SCOPE)).isZero();
+    }
+
+    @Test
+    void rejectsCursorOfAnotherKind() {
+        String cursor = PageCursor.encode("hc", SCOPE, 5);
+
+        assertInvalid(cursor, "hd");
+        assertInvalid(cursor, "h");
+    }
+
+    @Test
+    void rejectsCursorOfAnotherQuery() {
+        String cursor = PageCursor.encode("sp", SCOPE, 5);
+
+        assertInvalid(cursor, "sp", PageCursor.scope("Ankara", 42));
+        assertInvalid(cursor, "sp", PageCursor.scope("İstanbul", 43));
+        assertThat(PageCursor.decode(cursor, "sp", PageCursor.scope("İstanbul", 42))).isEqualTo(5);
+    }
+
+    @Test
+    void rejectsTamperedCursors() {
+        String scope = Integer.toHexString(SCOPE);
+        assertInvalid("bad", "sp");
+        assertInvalid("!!!", "sp");
+        assertInvalid(raw("sp:"), "sp");
+        assertInvalid(raw("sp:5"), "sp");
+        assertInvalid(raw("sp:" + scope + ":"), "sp");
+        assertInvalid(raw("sp:" + scope + ":xyz"), "sp");
+        assertInvalid(raw("sp:" + scope + ":-5"), "sp");
+        assertInvalid(raw("sp:" + scope + ":ffffffffffffffff"), "sp");
+        assertInvalid(raw("sp:xyz:5"), "sp");
+    }
+
+    private static String raw(String text) {
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(text.getBytes(StandardCharsets.US_ASCII));
+    }
+
+    private static void assertInvalid(String cursor, String kind) {
+        assertInvalid(cursor, kind, SCOPE);
+    }
+
+    private static void assertInvalid(String cursor, String kind, int scope) {
+        assertThatThrownBy(() -> PageCursor.decode(cursor, kind, scope))
+                .isInstanceOfSatisfying(ToolException.class,
+                        e -> assertThat(e.error().code()).isEqualTo(ToolException.Code.INVALID_ARGUMENT));
+    }
+}
@@ -0,0 +1,90 @@
+package com.nasan.springaimcpserver.tool;
+
+import io.modelcontextprotocol.server.McpServerFeatures.AsyncToolSpecification;
+import io.modelcontextprotocol.spec.McpSchema;
+import org.junit.jupiter.api.Test;
+import org.springframework.ai.tool.ToolCallback;
+import org.springframework.ai.tool.definition.ToolDefinition;
+import org.springframework.util.unit.DataSize;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ReactiveToolSpecificationTest {
+
+    record Page(List<Integer> items, String nextCursor) {
+    }
+
+    private static final ToolCallback[] METHODS = {tool("test.page"), tool("test.value")};
+
+    @Test
+    void pagesStreamsAndKeepsSyncCallsOnTheMethodCallback() {
+        ToolCallback page = ReactiveToolSpecification.ofPage(METHODS, "test.page", 10,
+                args -> Flux.range((Integer) args.get("from"), 100).map(i -> new PageItem<>(i, "c" + i)),
+                (args, items, nextCursor) -> new Page(items, nextCursor));
+
+        assertThat(((ReactiveToolCallback) page).callReactive("{\"from\":5}").block())
+                .isEqualTo("{\"items\":[5,6,7,8,9,10,11,12,13,14],\"nextCursor\":\"c15\"}");
+        assertThat(page.call("{\"from\":5}")).isEqualTo("sync test.page");
+        assertThat(ReactiveToolSpecification.merge(METHODS, List.of(page))).containsExactly(page, METHODS[1]);
+    }
+
+    @Test
+    void routesAsyncCallsThroughTheWrapperChain() {
+        AtomicInteger calls = new AtomicInteger();
+        ToolCallback value = ReactiveToolSpecification.ofMono(METHODS, "test.value",
+                args -> Mono.fromSupplier(() -> Map.of("n", calls.incrementAndGet())));
+        ToolCallback caching = new CachingToolCallback(value,
+                new ToolCacheProperties.Spec(Duration.ofHours(1), DataSize.ofMegabytes(1)));
+        AsyncToolSpecification spec = ReactiveToolSpecification.of(new ToolCallback[] {caching}).get(0);
+
+        assertThat(spec.tool().name()).isEqualTo("test.value");
+        assertThat(text(spec.callHandler().apply(null, request("test.value")).block())).isEqualTo("{\"n\":1}");
+        assertThat(text(spec.callHandler().apply(null, request("test.value")).block())).isEqualTo("{\"n\":1}");
+        assertThat(calls).hasValue(1);
+    }
+
+    @Test
+    void reportsFailuresAsErrorResults() {
+        ToolCallback failing = ReactiveToolSpecification.ofMono(METHODS, "test.value",
+                args -> Mono.error(ToolException.notFound("yok")));
+        ToolCallback blocking = tool("test.page");
+        List<AsyncToolSpecification> specs = ReactiveToolSpecification.of(new ToolCallback[] {failing, blocking});
+
+        McpSchema.CallToolResult error = specs.get(0).callHandler().apply(null, request("test.value")).block();
+        assertThat(error.isError()).isTrue();
+        assertThat(text(error)).isEqualTo("{\"code\":\"NOT_FOUND\",\"message\":\"yok\"}");
+        McpSchema.CallToolResult result = specs.get(1).callHandler().apply(null, request("test.page")).block();
+        assertThat(result.isError()).isFalse();
+        assertThat(text(result)).isEqualTo("sync test.page");
+    }
+
+    private static String text(McpSchema.CallToolResult result) {
+        return ((McpSchema.TextContent) result.content().get(0)).text();
+    }
+
+    private static McpSchema.CallToolRequest request(String name) {
+        return new McpSchema.CallToolRequest(name, Map.of());
+    }
+
+    private static ToolCallback tool(String name) {
+        ToolDefinition definition = ToolDefinition.builder().name(name).description("test").inputSchema("{}").build();
+        return new ToolCallback() {
+            @Override
+            public ToolDefinition getToolDefinition() {
+                return definition;
+            }
+
+            @Override
+            public String call(String toolInput) {
+                return "sync " + name;
+            }
+        };
+    }
+}
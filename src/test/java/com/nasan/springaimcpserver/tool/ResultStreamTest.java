@@ -0,0 +1,98 @@
+package com.nasan.springaimcpserver.tool;
+
+import io.modelcontextprotocol.spec.McpSchema;
+import org.junit.jupiter.api.Test;
+import org.springframework.ai.tool.ToolCallback;
+import org.springframework.ai.tool.definition.ToolDefinition;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.util.context.Context;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.Function;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ResultStreamTest {
+
+    private final List<McpSchema.ProgressNotification> sent = new CopyOnWriteArrayList<>();
+
+    private Context progress(boolean chunks) {
+        Function<McpSchema.ProgressNotification, Mono<Void>> sender = notification -> Mono.fromRunnable(() -> sent.add(notification));
+        return ResultStream.progressContext(sender, "t", chunks);
+    }
+
+    @Test
+    void notifiesEveryChunkAndTheRemainder() {
+        List<Integer> page = ResultStream.withProgress(progress(true), () -> fill(25, 30));
+
+        assertThat(page).hasSize(25);
+        assertThat(sent).extracting(McpSchema.ProgressNotification::progress).containsExactly(10.0, 20.0, 25.0);
+        assertThat(sent).extracting(McpSchema.ProgressNotification::progressToken).containsOnly("t");
+        assertThat(sent.get(2).meta()).isEqualTo(Map.of("results", List.of(20, 21, 22, 23, 24)));
+    }
+
+    @Test
+    void reportsOnlyTheFirstStreamOfACall() {
+        ResultStream.withProgress(progress(false), () -> {
+            fill(10, 10);
+            return fill(10, 10);
+        });
+
+        assertThat(sent).hasSize(1);
+        assertThat(sent.get(0).meta()).isNull();
+        assertThat(fill(10, 10)).hasSize(10);
+        assertThat(sent).hasSize(1);
+    }
+
+    @Test
+    void nestedCallsOnOtherThreadsDoNotReport() throws InterruptedException {
+        Thread[] nested = new Thread[1];
+        ResultStream.withProgress(progress(false), () -> {
+            nested[0] = Thread.ofVirtual().start(() -> fill(20, 20));
+            return null;
+        });
+        nested[0].join();
+
+        assertThat(sent).isEmpty();
+    }
+
+    @Test
+    void reportsReactiveStreamsFromContext() {
+        List<Integer> items = ResultStream.progress(Flux.range(0, 25)).collectList().contextWrite(progress(false)).block();
+
+        assertThat(items).hasSize(25).startsWith(0, 1, 2).endsWith(24);
+        assertThat(sent).extracting(McpSchema.ProgressNotification::progress).containsExactly(10.0, 20.0, 25.0);
+        assertThat(ResultStream.progress(Flux.range(0, 25)).collectList().block()).hasSize(25);
+        assertThat(sent).hasSize(3);
+    }
+
+    @Test
+    void carriesContextIntoBlockingCallbacks() {
+        ToolDefinition definition = ToolDefinition.builder().name("test.tool").description("test").inputSchema("{}").build();
+        ToolCallback callback = new ToolCallback() {
+            @Override
+            public ToolDefinition getToolDefinition() {
+                return definition;
+            }
+
+            @Override
+            public String call(String toolInput) {
+                return String.valueOf(fill(12, 50).size());
+            }
+        };
+
+        assertThat(ReactiveToolCallback.call(callback, "{}").contextWrite(progress(false)).block()).isEqualTo("12");
+        assertThat(sent).extracting(McpSchema.ProgressNotification::progress).containsExactly(10.0, 12.0);
+    }
+
+    private static List<Integer> fill(int count, int pageSize) {
+        ResultStream<Integer> stream = ResultStream.open(pageSize);
+        for (int i = 0; i < count && !stream.isFull(); i++) {
+            stream.add(i);
+        }
+        return stream.finish();
+    }
+}
@@ -0,0 +1,85 @@
+package com.nasan.springaimcpserver.tool;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.ai.tool.ToolCallback;
+import org.springframework.ai.tool.annotation.Tool;
+import org.springframework.ai.tool.method.MethodToolCallbackProvider;
+
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class StaticToolCallbackTest {
+
+    static class Tools {
+
+        final AtomicInteger calls = new AtomicInteger();
+
+        @StaticResult
+        @Tool(name = "test.static", description = "test")
+        public List<Integer> fixed() {
+            return List.of(calls.incrementAndGet());
+        }
+
+        @Tool(name = "test.dynamic", description = "test")
+        public int dynamic() {
+            return calls.incrementAndGet();
+        }
+    }
+
+    static class InvalidTools {
+
+        @StaticResult
+        @Tool(name = "test.invalid", description = "test")
+        public int invalid(int value) {
+            return value;
+        }
+    }
+
+    @Test
+    void servesThePayloadSerializedAtStartup() {
+        Tools tools = new Tools();
+        ToolCallback[] callbacks = wrap(tools);
+
+        assertThat(callbacks[0]).isInstanceOf(StaticToolCallback.class);
+        assertThat(callbacks[1]).isNotInstanceOf(StaticToolCallback.class);
+        String first = callbacks[0].call("{}");
+        assertThat(first).isEqualTo("[1]");
+        assertThat(callbacks[0].call("{\"ignored\":true}")).isSameAs(first);
+        assertThat(((StaticToolCallback) callbacks[0]).callReactive("{}").block()).isSameAs(first);
+        assertThat(tools.calls).hasValue(1);
+    }
+
+    @Test
+    void refreshesOnlySelectedTools() {
+        Tools tools = new Tools();
+        ToolCallback[] callbacks = wrap(tools);
+
+        StaticToolCallback.refresh(callbacks, name -> name.startsWith("other."));
+        assertThat(callbacks[0].call("{}")).isEqualTo("[1]");
+
+        StaticToolCallback.refresh(callbacks, name -> name.startsWith("test."));
+        assertThat(callbacks[0].call("{}")).isEqualTo("[2]");
+        assertThat(tools.calls).hasValue(2);
+    }
+
+    @Test
+    void rejectsToolsWithParameters() {
+        InvalidTools tools = new InvalidTools();
+
+        assertThatThrownBy(() -> wrap(tools))
+                .isInstanceOf(IllegalStateException.class)
+                .hasMessageContaining("parametresiz");
+    }
+
+    private static ToolCallback[] wrap(Object tools) {
+        ToolCallback[] callbacks = MethodToolCallbackProvider.builder().toolObjects(tools).build().getToolCallbacks();
+        // Sabit araç önde olacak şekilde ada göre sıralanır
+        Arrays.sort(callbacks, Comparator.comparing(callback -> callback.getToolDefinition().name(), Comparator.reverseOrder()));
+        return StaticToolCallback.wrap(callbacks, tools);
+    }
+}
@@ -0,0 +1,87 @@
+package com.nasan.springaimcpserver.tool;
+
+import io.modelcontextprotocol.server.McpServerFeatures.SyncToolSpecification;
+import io.modelcontextprotocol.spec.McpSchema;
+import org.junit.jupiter.api.Test;
+import org.springframework.ai.tool.annotation.Tool;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ToolOutputSchemaPostProcessorTest {
+
+    record Answer(String text, int count) {
+    }
+
+    static class Tools {
+
+        @Tool(name = "test.answer", description = "test")
+        public Answer answer() {
+            return new Answer("a", 1);
+        }
+
+        @Tool(name = "test.count", description = "test")
+        public int count() {
+            return 1;
+        }
+    }
+
+    @Test
+    void publishesSchemasForObjectResultsOnly() {
+        ToolOutputSchemaPostProcessor processor = new ToolOutputSchemaPostProcessor();
+        processor.postProcessAfterInitialization(new Tools(), "tools");
+
+        assertThat(processor.schema("test.answer")).containsKey("properties");
+        assertThat(processor.schema("test.count")).isNull();
+    }
+
+    @Test
+    void parsesEachPayloadInstanceOnce() {
+        AtomicReference<McpSchema.CallToolResult> next = new AtomicReference<>();
+        SyncToolSpecification spec = structured(next);
+
+        String payload = "{\"text\":\"a\",\"count\":1}";
+        next.set(text(payload));
+        Object first = spec.callHandler().apply(null, request()).structuredContent();
+        Object second = spec.callHandler().apply(null, request()).structuredContent();
+        next.set(text(new String(payload)));
+        Object copy = spec.callHandler().apply(null, request()).structuredContent();
+
+        assertThat(first).isEqualTo(Map.of("text", "a", "count", 1));
+        assertThat(second).isSameAs(first);
+        assertThat(copy).isEqualTo(first).isNotSameAs(first);
+    }
+
+    @Test
+    void passesErrorsAndEmptyContentThrough() {
+        AtomicReference<McpSchema.CallToolResult> next = new AtomicReference<>();
+        SyncToolSpecification spec = structured(next);
+
+        next.set(new McpSchema.CallToolResult(List.of(), false));
+        assertThat(spec.callHandler().apply(null, request()).structuredContent()).isNull();
+        next.set(new McpSchema.CallToolResult(List.of(new McpSchema.TextContent("{\"code\":\"NOT_FOUND\"}")), true));
+        assertThat(spec.callHandler().apply(null, request()).structuredContent()).isNull();
+    }
+
+    @SuppressWarnings("unchecked")
+    private static SyncToolSpecification structured(AtomicReference<McpSchema.CallToolResult> next) {
+        ToolOutputSchemaPostProcessor processor = new ToolOutputSchemaPostProcessor();
+        processor.postProcessAfterInitialization(new Tools(), "tools");
+        McpSchema.Tool tool = McpSchema.Tool.builder().name("test.answer").description("test").inputSchema("{}").build();
+        List<SyncToolSpecification> specs = (List<SyncToolSpecification>) processor.postProcessAfterInitialization(
+                List.of(new SyncToolSpecification(tool, null, (exchange, request) -> next.get())), "syncTools");
+        assertThat(specs.get(0).tool().outputSchema()).isNotNull();
+        return specs.get(0);
+    }
+
+    private static McpSchema.CallToolResult text(String json) {
+        return new McpSchema.CallToolResult(List.of(new McpSchema.TextContent(json)), false);
+    }
+
+    private static McpSchema.CallToolRequest request() {
+        return new McpSchema.CallToolRequest("test.answer", Map.of());
+    }
+}